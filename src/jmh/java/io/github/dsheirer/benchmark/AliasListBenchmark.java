@@ -0,0 +1,223 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.alias.Alias;
+import io.github.dsheirer.alias.AliasList;
+import io.github.dsheirer.alias.id.radio.Radio;
+import io.github.dsheirer.alias.id.radio.RadioRange;
+import io.github.dsheirer.alias.id.talkgroup.Talkgroup;
+import io.github.dsheirer.alias.id.talkgroup.TalkgroupRange;
+import io.github.dsheirer.identifier.Identifier;
+import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
+import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25Talkgroup;
+import io.github.dsheirer.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of alias list identifier lookups against a large imported alias list: exact talkgroup and radio
+ * aliases plus talkgroup and radio range aliases.  The lookup benchmarks measure the indexed lookup throughput for an
+ * equal mix of exact matches, range matches and misses, a linear scan over the same talkgroup ranges for comparison,
+ * and the cached lookup throughput for a small set of active identifiers.  The update benchmarks measure a range
+ * alias update and the removal of every range alias from the list.
+ *
+ * Run with: ./gradlew jmh -Pbenchmark=AliasListBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "--enable-preview"})
+@State(Scope.Benchmark)
+public class AliasListBenchmark
+{
+    private static final int ALIAS_COUNT = 50_000;
+    private static final int RANGE_COUNT = 2_000;
+    private static final int RANGE_START = 1_000_000;
+    private static final int RANGE_SPACING = 100;
+    private static final int RANGE_WIDTH = 50;
+    private static final int IDENTIFIER_COUNT = 100_000;
+    private static final int ACTIVE_IDENTIFIER_COUNT = 500;
+
+    private final Random mRandom = new Random(0);
+    private AliasList mAliasList;
+    private List<TalkgroupRange> mTalkgroupRanges;
+    private List<Alias> mRangeAliases;
+    private Identifier[] mIdentifiers;
+    private Identifier[] mActiveIdentifiers;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        mTalkgroupRanges = new ArrayList<>();
+        mRangeAliases = new ArrayList<>();
+        mAliasList = createAliasList(mTalkgroupRanges, mRangeAliases);
+
+        //Equal mix of exact matches, range matches and misses
+        mIdentifiers = new Identifier[IDENTIFIER_COUNT];
+        int rangeSpan = RANGE_COUNT * RANGE_SPACING;
+
+        for(int x = 0; x < IDENTIFIER_COUNT; x++)
+        {
+            int value = switch(x % 3)
+            {
+                case 0 -> mRandom.nextInt(ALIAS_COUNT) * 2;
+                case 1 -> RANGE_START + (mRandom.nextInt(RANGE_COUNT) * RANGE_SPACING) + mRandom.nextInt(RANGE_WIDTH);
+                default -> RANGE_START + rangeSpan + mRandom.nextInt(rangeSpan);
+            };
+
+            mIdentifiers[x] = (x & 1) == 0 ? APCO25Talkgroup.create(value) : APCO25RadioIdentifier.createFrom(value);
+        }
+
+        //Small set of active identifiers, as seen on a busy trunked system, that is served from the lookup cache
+        mActiveIdentifiers = new Identifier[ACTIVE_IDENTIFIER_COUNT];
+        System.arraycopy(mIdentifiers, 0, mActiveIdentifiers, 0, ACTIVE_IDENTIFIER_COUNT);
+    }
+
+    /**
+     * Creates the alias list with exact aliases and range aliases.
+     * @param talkgroupRanges to receive the talkgroup ranges, or null
+     * @param rangeAliases to receive the range aliases
+     */
+    private static AliasList createAliasList(List<TalkgroupRange> talkgroupRanges, List<Alias> rangeAliases)
+    {
+        AliasList aliasList = new AliasList("Benchmark");
+
+        for(int x = 0; x < ALIAS_COUNT; x++)
+        {
+            Alias alias = new Alias("Alias " + x);
+            alias.addAliasID(new Talkgroup(Protocol.APCO25, x * 2));
+            alias.addAliasID(new Radio(Protocol.APCO25, x * 2));
+            aliasList.addAlias(alias);
+        }
+
+        for(int x = 0; x < RANGE_COUNT; x++)
+        {
+            int min = RANGE_START + (x * RANGE_SPACING);
+            TalkgroupRange talkgroupRange = new TalkgroupRange(Protocol.APCO25, min, min + RANGE_WIDTH);
+
+            if(talkgroupRanges != null)
+            {
+                talkgroupRanges.add(talkgroupRange);
+            }
+
+            Alias alias = new Alias("Range " + x);
+            alias.addAliasID(talkgroupRange);
+            alias.addAliasID(new RadioRange(Protocol.APCO25, min, min + RANGE_WIDTH));
+            aliasList.addAlias(alias);
+            rangeAliases.add(alias);
+        }
+
+        return aliasList;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDENTIFIER_COUNT)
+    public void indexedLookup(Blackhole blackhole)
+    {
+        for(Identifier identifier: mIdentifiers)
+        {
+            blackhole.consume(mAliasList.getAliases(identifier));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDENTIFIER_COUNT)
+    public void linearRangeScan(Blackhole blackhole)
+    {
+        for(Identifier identifier: mIdentifiers)
+        {
+            int value = (Integer)identifier.getValue();
+            TalkgroupRange match = null;
+
+            for(TalkgroupRange range: mTalkgroupRanges)
+            {
+                if(range.contains(value))
+                {
+                    match = range;
+                    break;
+                }
+            }
+
+            blackhole.consume(match);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACTIVE_IDENTIFIER_COUNT)
+    public void cachedActiveLookup(Blackhole blackhole)
+    {
+        for(Identifier identifier: mActiveIdentifiers)
+        {
+            blackhole.consume(mAliasList.getAliases(identifier));
+        }
+    }
+
+    @Benchmark
+    public void rangeAliasUpdate()
+    {
+        mAliasList.updateAlias(mRangeAliases.get(mRandom.nextInt(RANGE_COUNT)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public AliasList removeAllRangeAliases(RemovalState state)
+    {
+        for(Alias alias: state.mRangeAliases)
+        {
+            state.mAliasList.removeAlias(alias);
+        }
+
+        return state.mAliasList;
+    }
+
+    /**
+     * Alias list that is rebuilt before each removal benchmark invocation.
+     */
+    @State(Scope.Thread)
+    public static class RemovalState
+    {
+        private AliasList mAliasList;
+        private List<Alias> mRangeAliases;
+
+        @Setup(Level.Invocation)
+        public void setup()
+        {
+            mRangeAliases = new ArrayList<>();
+            mAliasList = createAliasList(null, mRangeAliases);
+        }
+    }
+}
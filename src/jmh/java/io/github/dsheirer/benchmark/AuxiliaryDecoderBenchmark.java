@@ -0,0 +1,152 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.dsp.afsk.AFSK1200Decoder;
+import io.github.dsheirer.module.decode.afsk.SharedAFSK1200DecoderModule;
+import io.github.dsheirer.module.decode.fleetsync2.Fleetsync2Decoder;
+import io.github.dsheirer.module.decode.lj1200.LJ1200Decoder;
+import io.github.dsheirer.module.decode.mdc1200.MDCDecoder;
+import io.github.dsheirer.sample.Broadcaster;
+import io.github.dsheirer.sample.real.IRealBufferListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the Fleetsync II, MDC-1200 and LJ-1200 auxiliary decoders across many conventional channels.
+ * Compares each decoder using its own AFSK 1200 decoder (resampler and correlators) against the three decoders sharing
+ * one AFSK 1200 decoder per channel.  Each operation delivers one 8 kHz demodulated audio buffer to every channel,
+ * through a buffer broadcaster in the same manner as the processing chain.
+ *
+ * Run with: ./gradlew jmh -Pbenchmark=AuxiliaryDecoderBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "--enable-preview"})
+@State(Scope.Benchmark)
+public class AuxiliaryDecoderBenchmark
+{
+    private static final double AUDIO_SAMPLE_RATE = 8000.0;
+    private static final int AUDIO_BUFFER_SIZE = 2048;
+    private static final int AUDIO_BUFFER_COUNT = 16;
+    private static final double BAUD_RATE = 1200.0;
+
+    @Param({"100", "500"})
+    public int channels;
+
+    @Param({"true", "false"})
+    public boolean shared;
+
+    private final List<Broadcaster<float[]>> mChannels = new ArrayList<>();
+    private float[][] mAudioBuffers;
+    private int mAudioBufferPointer;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        mAudioBuffers = generateAudio(new Random(0));
+
+        for(int x = 0; x < channels; x++)
+        {
+            List<IRealBufferListener> decoders = new ArrayList<>();
+
+            if(shared)
+            {
+                AFSK1200Decoder sharedDecoder = new AFSK1200Decoder(AFSK1200Decoder.Output.NORMAL);
+                decoders.add(new Fleetsync2Decoder(sharedDecoder));
+                decoders.add(new MDCDecoder(sharedDecoder));
+                decoders.add(new LJ1200Decoder(sharedDecoder));
+                decoders.add(new SharedAFSK1200DecoderModule(sharedDecoder));
+            }
+            else
+            {
+                decoders.add(new Fleetsync2Decoder());
+                decoders.add(new MDCDecoder());
+                decoders.add(new LJ1200Decoder());
+            }
+
+            Broadcaster<float[]> broadcaster = new Broadcaster<>();
+
+            for(IRealBufferListener decoder: decoders)
+            {
+                broadcaster.addListener(decoder.getBufferListener());
+            }
+
+            mChannels.add(broadcaster);
+        }
+    }
+
+    @Benchmark
+    public void decode()
+    {
+        float[] audio = mAudioBuffers[mAudioBufferPointer];
+        mAudioBufferPointer = (mAudioBufferPointer + 1) % AUDIO_BUFFER_COUNT;
+
+        for(Broadcaster<float[]> channel: mChannels)
+        {
+            channel.broadcast(audio);
+        }
+    }
+
+    /**
+     * Generates phase continuous 1200/1800 Hz AFSK audio for random symbols.
+     */
+    private static float[][] generateAudio(Random random)
+    {
+        float[][] buffers = new float[AUDIO_BUFFER_COUNT][AUDIO_BUFFER_SIZE];
+        double samplesPerSymbol = AUDIO_SAMPLE_RATE / BAUD_RATE;
+        double phase = 0.0;
+        double symbolPosition = 0.0;
+        double frequency = AFSK1200Decoder.MARK;
+
+        for(float[] buffer: buffers)
+        {
+            for(int x = 0; x < buffer.length; x++)
+            {
+                if(symbolPosition <= 0.0)
+                {
+                    frequency = random.nextBoolean() ? AFSK1200Decoder.MARK : AFSK1200Decoder.SPACE;
+                    symbolPosition += samplesPerSymbol;
+                }
+
+                buffer[x] = (float)Math.sin(phase) * 0.5f;
+                phase += 2.0 * Math.PI * frequency / AUDIO_SAMPLE_RATE;
+                symbolPosition -= 1.0;
+            }
+        }
+
+        return buffers;
+    }
+}
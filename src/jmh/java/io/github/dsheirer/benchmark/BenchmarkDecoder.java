@@ -0,0 +1,139 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.message.IMessage;
+import io.github.dsheirer.module.decode.dmr.DMRDecoder;
+import io.github.dsheirer.module.decode.dmr.DecodeConfigDMR;
+import io.github.dsheirer.module.decode.nxdn.DecodeConfigNXDN;
+import io.github.dsheirer.module.decode.nxdn.NXDNDecoder;
+import io.github.dsheirer.module.decode.nxdn.layer3.type.TransmissionMode;
+import io.github.dsheirer.module.decode.p25.phase1.P25P1DecoderC4FM;
+import io.github.dsheirer.module.decode.p25.phase2.DecodeConfigP25Phase2;
+import io.github.dsheirer.module.decode.p25.phase2.P25P2DecoderHDQPSK;
+import io.github.dsheirer.module.decode.p25.phase2.enumeration.ScrambleParameters;
+import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import java.util.Properties;
+
+/**
+ * Decoders that are exercised by the decoder benchmarks.  Each decoder's baseband recordings are located in the
+ * corpus sub-directory named for the decoder.
+ *
+ * Recordings that need decoder configuration can have a parameters file (recording.wav.properties) alongside the
+ * recording with the following optional keys:
+ *
+ * p25p2: wacn, system and nac scramble parameters, decimal or hex (0x) values
+ * dmr: traffic (true/false) to decode the recording as a traffic channel
+ * nxdn: transmission.mode (M4800, M9600 or TYPE_D)
+ */
+public enum BenchmarkDecoder
+{
+    P25_PHASE1("p25p1"),
+    P25_PHASE2("p25p2"),
+    DMR("dmr"),
+    NXDN("nxdn");
+
+    private final String mDirectory;
+
+    BenchmarkDecoder(String directory)
+    {
+        mDirectory = directory;
+    }
+
+    /**
+     * Name of the corpus sub-directory that contains the recordings for this decoder.
+     */
+    public String getDirectory()
+    {
+        return mDirectory;
+    }
+
+    /**
+     * Creates a started decoder.
+     * @param parameters for the recording, optional keys as described in the class comment
+     * @param sampleRate of the recording
+     * @param messageListener to receive decoded messages
+     * @return decoder to receive the complex samples from the recording
+     */
+    public Listener<ComplexSamples> create(Properties parameters, double sampleRate, Listener<IMessage> messageListener)
+    {
+        return switch(this)
+        {
+            case P25_PHASE1 -> {
+                P25P1DecoderC4FM decoder = new P25P1DecoderC4FM();
+                decoder.setMessageListener(messageListener);
+                decoder.setSampleRate(sampleRate);
+                decoder.start();
+                yield decoder;
+            }
+            case P25_PHASE2 -> {
+                DecodeConfigP25Phase2 config = new DecodeConfigP25Phase2();
+
+                if(parameters.containsKey("wacn"))
+                {
+                    config.setScrambleParameters(new ScrambleParameters(Integer.decode(parameters.getProperty("wacn")),
+                        Integer.decode(parameters.getProperty("system", "0")),
+                        Integer.decode(parameters.getProperty("nac", "0"))));
+                }
+
+                P25P2DecoderHDQPSK decoder = new P25P2DecoderHDQPSK(config);
+                decoder.setMessageListener(messageListener);
+                decoder.setSampleRate(sampleRate);
+                decoder.start();
+                yield decoder;
+            }
+            case DMR -> {
+                DMRDecoder decoder = new DMRDecoder(new DecodeConfigDMR(),
+                    Boolean.parseBoolean(parameters.getProperty("traffic", "false")));
+                decoder.setMessageListener(messageListener);
+                decoder.setSampleRate(sampleRate);
+                decoder.start();
+                yield decoder;
+            }
+            case NXDN -> {
+                NXDNDecoder decoder = new NXDNDecoder(new DecodeConfigNXDN(TransmissionMode
+                    .valueOf(parameters.getProperty("transmission.mode", TransmissionMode.M4800.name()))));
+                decoder.setMessageListener(messageListener);
+                decoder.setSampleRate(sampleRate);
+                decoder.start();
+                yield decoder;
+            }
+        };
+    }
+
+    /**
+     * Lookup the decoder from the corpus sub-directory name.
+     * @param directory name
+     * @return decoder
+     * @throws IllegalArgumentException if the directory name is not recognized
+     */
+    public static BenchmarkDecoder fromDirectory(String directory)
+    {
+        for(BenchmarkDecoder decoder: values())
+        {
+            if(decoder.getDirectory().equalsIgnoreCase(directory))
+            {
+                return decoder;
+            }
+        }
+
+        throw new IllegalArgumentException("Unrecognized benchmark decoder [" + directory + "]");
+    }
+}
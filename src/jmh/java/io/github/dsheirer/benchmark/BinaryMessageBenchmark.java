@@ -0,0 +1,232 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.FragmentedIntField;
+import io.github.dsheirer.bits.IntField;
+import io.github.dsheirer.bits.LongField;
+import io.github.dsheirer.module.decode.dmr.message.data.csbk.CSBKMessageFactory;
+import io.github.dsheirer.module.decode.dmr.sync.DMRSyncPattern;
+import io.github.dsheirer.module.decode.p25.phase1.P25P1DataUnitID;
+import io.github.dsheirer.module.decode.p25.phase1.message.tsbk.TSBKMessageFactory;
+import io.github.dsheirer.module.decode.p25.reference.Direction;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of binary message field extraction.  Measures the word-level field extraction throughput against a
+ * bit at a time reference extraction for a mix of integer, long and fragmented fields, and the parsing throughput of
+ * P25 TSBK and DMR CSBK control channel messages, including rendering each parsed message to a string.
+ *
+ * Each message is copied before use, as a message framer would assemble a new message, so that the packed message
+ * bits are not reused across invocations.  Equivalence of the word-level and bit at a time extraction is verified by
+ * the BinaryMessageTest unit tests.
+ *
+ * Run with: ./gradlew jmh -Pbenchmark=BinaryMessageBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "--enable-preview"})
+@State(Scope.Benchmark)
+public class BinaryMessageBenchmark
+{
+    private static final int MESSAGE_LENGTH = 196;
+    private static final int CONTROL_MESSAGE_LENGTH = 96;
+    private static final int MESSAGE_COUNT = 1000;
+
+    private static final IntField[] INT_FIELDS = {IntField.length4(0), IntField.length8(4), IntField.length12(12),
+        IntField.length16(40), IntField.length24(61), IntField.length32(100), IntField.length3(150)};
+    private static final LongField[] LONG_FIELDS = {LongField.length24(20), LongField.length56(70),
+        LongField.length64(128)};
+    private static final FragmentedIntField[] FRAGMENTED_FIELDS = {FragmentedIntField.of(0, 1, 2, 3, 60, 61, 62, 63,
+        64, 65, 66, 67), FragmentedIntField.of(10, 12, 14, 16, 18, 20, 22, 24)};
+
+    private CorrectedBinaryMessage[] mMessages;
+    private CorrectedBinaryMessage[] mControlMessages;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Random random = new Random(0);
+        mMessages = createMessages(random, MESSAGE_LENGTH);
+        mControlMessages = createMessages(random, CONTROL_MESSAGE_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void fieldExtraction(Blackhole blackhole)
+    {
+        for(CorrectedBinaryMessage message: mMessages)
+        {
+            blackhole.consume(extractFields(new CorrectedBinaryMessage(message)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void fieldExtractionReference(Blackhole blackhole)
+    {
+        for(CorrectedBinaryMessage message: mMessages)
+        {
+            blackhole.consume(extractFieldsReference(new CorrectedBinaryMessage(message)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void tsbkParse(Blackhole blackhole)
+    {
+        for(CorrectedBinaryMessage message: mControlMessages)
+        {
+            blackhole.consume(TSBKMessageFactory.createFromDecoded(Direction.OUTBOUND,
+                P25P1DataUnitID.TRUNKING_SIGNALING_BLOCK_1, new CorrectedBinaryMessage(message), 0x293, 0)
+                .toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void csbkParse(Blackhole blackhole)
+    {
+        for(CorrectedBinaryMessage message: mControlMessages)
+        {
+            blackhole.consume(CSBKMessageFactory.create(DMRSyncPattern.BASE_STATION_DATA,
+                new CorrectedBinaryMessage(message), null, null, 0, 1).toString());
+        }
+    }
+
+    /**
+     * Creates messages with random content
+     */
+    private static CorrectedBinaryMessage[] createMessages(Random random, int length)
+    {
+        CorrectedBinaryMessage[] messages = new CorrectedBinaryMessage[MESSAGE_COUNT];
+
+        for(int x = 0; x < MESSAGE_COUNT; x++)
+        {
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(length);
+
+            for(int y = 0; y < length; y++)
+            {
+                if(random.nextBoolean())
+                {
+                    message.set(y);
+                }
+            }
+
+            messages[x] = message;
+        }
+
+        return messages;
+    }
+
+    /**
+     * Extracts each of the benchmark fields from the message
+     */
+    private static long extractFields(CorrectedBinaryMessage message)
+    {
+        long sum = 0;
+
+        for(IntField field: INT_FIELDS)
+        {
+            sum += message.getInt(field);
+        }
+
+        for(LongField field: LONG_FIELDS)
+        {
+            sum += message.getLong(field);
+        }
+
+        for(FragmentedIntField field: FRAGMENTED_FIELDS)
+        {
+            sum += message.getInt(field);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Extracts each of the benchmark fields from the message one bit at a time
+     */
+    private static long extractFieldsReference(CorrectedBinaryMessage message)
+    {
+        long sum = 0;
+
+        for(IntField field: INT_FIELDS)
+        {
+            sum += (int)extractReference(message, field.start(), field.end());
+        }
+
+        for(LongField field: LONG_FIELDS)
+        {
+            sum += extractReference(message, field.start(), field.end());
+        }
+
+        for(FragmentedIntField field: FRAGMENTED_FIELDS)
+        {
+            long value = 0;
+
+            for(int index: field.indices())
+            {
+                value = (value << 1) | (message.get(index) ? 1 : 0);
+            }
+
+            sum += (int)value;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Bit at a time extraction of a contiguous field
+     */
+    private static long extractReference(BinaryMessage message, int start, int end)
+    {
+        long value = 0;
+
+        for(int index = start; index <= end; index++)
+        {
+            value = Long.rotateLeft(value, 1);
+
+            if(message.get(index))
+            {
+                value++;
+            }
+        }
+
+        return value;
+    }
+}
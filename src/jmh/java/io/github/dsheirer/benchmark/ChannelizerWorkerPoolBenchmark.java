@@ -0,0 +1,146 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.dsp.filter.channelizer.ChannelResultsBuffer;
+import io.github.dsheirer.dsp.filter.channelizer.ChannelResultsBufferPool;
+import io.github.dsheirer.dsp.filter.channelizer.ChannelizerWorkerPool;
+import io.github.dsheirer.dsp.filter.channelizer.ComplexPolyphaseChannelizerM2;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the striped polyphase channelizer IFFT stage for common tuner sample rates against the channelizer
+ * worker count, using the same channel results buffer sizing as the channelizer.  Each operation processes one full
+ * channel results buffer.  The samples auxiliary counter reports the equivalent baseband sample throughput, which can
+ * be compared to the sample rate to get the real-time factor.
+ *
+ * Run with: ./gradlew jmh -Pbenchmark=ChannelizerWorkerPoolBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "--enable-preview"})
+@State(Scope.Benchmark)
+public class ChannelizerWorkerPoolBenchmark
+{
+    private static final int BUFFER_CAPACITY = 1024;
+
+    @Param({"2400000", "6000000", "10000000", "20000000"})
+    public double sampleRate;
+
+    @Param({"1", "2", "4", "8"})
+    public int workers;
+
+    private int mChannelCount;
+    private ChannelizerWorkerPool mWorkerPool;
+    private ChannelizerWorkerPool.StripedTask<ComplexPolyphaseChannelizerM2.IFFTStripe> mTask;
+    private ChannelResultsBuffer mBuffer;
+    private float[][] mSource;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Random random = new Random(0);
+        mChannelCount = ComplexPolyphaseChannelizerM2.getChannelCount(sampleRate);
+        ChannelResultsBufferPool bufferPool = new ChannelResultsBufferPool(1, BUFFER_CAPACITY, mChannelCount * 2);
+        mBuffer = bufferPool.getBuffer();
+        mSource = new float[BUFFER_CAPACITY][mChannelCount * 2];
+
+        for(float[] channelResults: mSource)
+        {
+            for(int x = 0; x < channelResults.length; x++)
+            {
+                channelResults[x] = random.nextFloat() * 2.0f - 1.0f;
+            }
+
+            mBuffer.next();
+        }
+
+        mWorkerPool = new ChannelizerWorkerPool(workers);
+        ComplexPolyphaseChannelizerM2.IFFTStripe[] stripes = new ComplexPolyphaseChannelizerM2.IFFTStripe[workers];
+
+        for(int x = 0; x < workers; x++)
+        {
+            stripes[x] = new ComplexPolyphaseChannelizerM2.IFFTStripe(mChannelCount, x, workers);
+        }
+
+        mTask = mWorkerPool.createTask(stripes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        mWorkerPool.shutdown();
+    }
+
+    /**
+     * Reloads the buffer from the source arrays, since the in-place scaled IFFT would otherwise drive the sample values
+     * toward denormal values, and processes it across the worker stripes.
+     */
+    @Benchmark
+    public void ifft(SampleCounters counters)
+    {
+        for(int x = 0; x < mSource.length; x++)
+        {
+            System.arraycopy(mSource[x], 0, mBuffer.get(x), 0, mSource[x].length);
+        }
+
+        for(ComplexPolyphaseChannelizerM2.IFFTStripe stripe: mTask.getStripes())
+        {
+            stripe.setBuffer(mBuffer);
+        }
+
+        mTask.execute();
+
+        //Each channel results array is produced from a block of (channel count / 2) complex baseband samples
+        counters.samples += (long)BUFFER_CAPACITY * (mChannelCount / 2);
+    }
+
+    /**
+     * Auxiliary counters reported alongside the benchmark score.  JMH requires public fields.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class SampleCounters
+    {
+        public long samples;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            samples = 0;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.message.IMessage;
+import io.github.dsheirer.message.SyncLossMessage;
+import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import io.github.dsheirer.source.wave.ComplexWaveSource;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Baseband recording from the benchmark corpus.
+ *
+ * Corpus layout: each decoder has a sub-directory (e.g. corpus/p25p1) containing complex baseband .wav recordings.
+ * Each recording can have an optional decoder parameters file (recording.wav.properties) and a golden file
+ * (recording.wav.golden) that contains the expected decode counts for the recording.
+ *
+ * @param decoder for the recording
+ * @param file for the recording
+ * @param parameters for the decoder
+ */
+public record CorpusRecording(BenchmarkDecoder decoder, File file, Properties parameters)
+{
+    private static final String PARAMETERS_EXTENSION = ".properties";
+    private static final String GOLDEN_EXTENSION = ".golden";
+    private static final int BUFFER_FRAMES = 2048;
+
+    /**
+     * Discovers the recordings for the decoder in the corpus directory.
+     * @param corpus directory
+     * @param decoder to discover
+     * @return recordings sorted by file name, or an empty list if there are no recordings for the decoder.
+     * @throws IOException if a parameters file can't be read
+     */
+    public static List<CorpusRecording> discover(File corpus, BenchmarkDecoder decoder) throws IOException
+    {
+        List<CorpusRecording> recordings = new ArrayList<>();
+        File[] files = new File(corpus, decoder.getDirectory()).listFiles(file -> file.isFile() &&
+            file.getName().toLowerCase().endsWith(".wav"));
+
+        if(files != null)
+        {
+            Arrays.sort(files, Comparator.comparing(File::getName));
+
+            for(File file: files)
+            {
+                recordings.add(new CorpusRecording(decoder, file,
+                    load(new File(file.getPath() + PARAMETERS_EXTENSION))));
+            }
+        }
+
+        return recordings;
+    }
+
+    /**
+     * Golden file for this recording.
+     */
+    public File getGoldenFile()
+    {
+        return new File(file.getPath() + GOLDEN_EXTENSION);
+    }
+
+    /**
+     * Indicates if this recording has a golden file.
+     */
+    public boolean hasGolden()
+    {
+        return getGoldenFile().exists();
+    }
+
+    /**
+     * Compares the decode result to the golden file for this recording.
+     * @param result to compare
+     * @return description of each mismatch or an empty list if the result matches or there is no golden file.
+     * @throws IOException if the golden file can't be read
+     */
+    public List<String> verify(DecodeResult result) throws IOException
+    {
+        return result.compare(load(getGoldenFile()));
+    }
+
+    /**
+     * Writes the decode counts from the result to the golden file for this recording.
+     * @param result to write
+     * @throws IOException if the golden file can't be written
+     */
+    public void writeGolden(DecodeResult result) throws IOException
+    {
+        try(Writer writer = new FileWriter(getGoldenFile()))
+        {
+            result.toGolden().store(writer, "Expected decode counts for " + file.getName());
+        }
+    }
+
+    /**
+     * Decodes the full recording on the calling thread, as fast as possible.
+     * @return decode result
+     * @throws IOException if the recording can't be read
+     */
+    public DecodeResult decode() throws IOException
+    {
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+        try(ComplexWaveSource source = new ComplexWaveSource(file, false))
+        {
+            source.open();
+
+            DecodeCounter counter = new DecodeCounter();
+            Listener<ComplexSamples> receiver = decoder.create(parameters, source.getSampleRate(), counter);
+
+            source.setListener(buffer -> {
+                Iterator<ComplexSamples> it = buffer.iterator();
+
+                while(it.hasNext())
+                {
+                    ComplexSamples samples = it.next();
+                    counter.mSamples += samples.i().length;
+                    receiver.receive(samples);
+                }
+            });
+
+            long frames = source.getFrameCount();
+            long allocatedStart = threadMXBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+
+            for(long frame = 0; frame < frames; frame += BUFFER_FRAMES)
+            {
+                source.next((int)Math.min(BUFFER_FRAMES, frames - frame), true);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedStart;
+
+            return new DecodeResult(counter.mSamples, counter.mMessages, counter.mInvalidMessages,
+                counter.mSyncLosses, elapsed, allocated);
+        }
+        catch(UnsupportedAudioFileException e)
+        {
+            throw new IOException("Unsupported recording format [" + file + "]", e);
+        }
+    }
+
+    /**
+     * Loads the properties file.
+     * @return properties or empty properties if the file doesn't exist.
+     */
+    private static Properties load(File file) throws IOException
+    {
+        Properties properties = new Properties();
+
+        if(file.exists())
+        {
+            try(Reader reader = new FileReader(file))
+            {
+                properties.load(reader);
+            }
+        }
+
+        return properties;
+    }
+
+    @Override
+    public String toString()
+    {
+        return decoder.getDirectory() + "/" + file.getName();
+    }
+
+    /**
+     * Counts the samples and decoded messages.
+     */
+    private static class DecodeCounter implements Listener<IMessage>
+    {
+        private long mSamples;
+        private long mMessages;
+        private long mInvalidMessages;
+        private long mSyncLosses;
+
+        @Override
+        public void receive(IMessage message)
+        {
+            if(message instanceof SyncLossMessage)
+            {
+                mSyncLosses++;
+            }
+            else if(message.isValid())
+            {
+                mMessages++;
+            }
+            else
+            {
+                mInvalidMessages++;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Results from decoding a baseband recording.
+ * @param samples count of complex samples processed
+ * @param messages count of valid decoded messages
+ * @param invalidMessages count of decoded messages that failed error detection
+ * @param syncLosses count of sync loss messages
+ * @param elapsedNanos to decode the recording
+ * @param allocatedBytes allocated by the decoding thread while decoding the recording
+ */
+public record DecodeResult(long samples, long messages, long invalidMessages, long syncLosses, long elapsedNanos,
+                           long allocatedBytes)
+{
+    private static final String KEY_SAMPLES = "samples";
+    private static final String KEY_MESSAGES = "messages";
+    private static final String KEY_INVALID_MESSAGES = "invalid.messages";
+    private static final String KEY_SYNC_LOSSES = "sync.losses";
+
+    /**
+     * Decoding throughput
+     * @return complex samples per second
+     */
+    public double samplesPerSecond()
+    {
+        return elapsedNanos > 0 ? samples / (elapsedNanos / 1E9) : 0.0;
+    }
+
+    /**
+     * Allocation rate of the decoding thread
+     * @return bytes allocated per second
+     */
+    public double allocationRate()
+    {
+        return elapsedNanos > 0 ? allocatedBytes / (elapsedNanos / 1E9) : 0.0;
+    }
+
+    /**
+     * Creates golden file content from this result.  Only the deterministic decode counts are included.
+     */
+    public Properties toGolden()
+    {
+        Properties golden = new Properties();
+        golden.setProperty(KEY_SAMPLES, String.valueOf(samples));
+        golden.setProperty(KEY_MESSAGES, String.valueOf(messages));
+        golden.setProperty(KEY_INVALID_MESSAGES, String.valueOf(invalidMessages));
+        golden.setProperty(KEY_SYNC_LOSSES, String.valueOf(syncLosses));
+        return golden;
+    }
+
+    /**
+     * Compares the decode counts from this result to the golden file content.
+     * @param golden content
+     * @return description of each count that differs from the golden value, or an empty list if all counts match.
+     */
+    public List<String> compare(Properties golden)
+    {
+        List<String> mismatches = new ArrayList<>();
+        compare(golden, KEY_SAMPLES, samples, mismatches);
+        compare(golden, KEY_MESSAGES, messages, mismatches);
+        compare(golden, KEY_INVALID_MESSAGES, invalidMessages, mismatches);
+        compare(golden, KEY_SYNC_LOSSES, syncLosses, mismatches);
+        return mismatches;
+    }
+
+    /**
+     * Compares the value to the golden value for the key, when the golden content contains the key.
+     */
+    private static void compare(Properties golden, String key, long value, List<String> mismatches)
+    {
+        String expected = golden.getProperty(key);
+
+        if(expected != null && Long.parseLong(expected.trim()) != value)
+        {
+            mismatches.add(key + " expected [" + expected.trim() + "] actual [" + value + "]");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes each recording in the benchmark corpus once and compares the decode counts to the recording's golden file.
+ * Reports the throughput, decode counts and allocation rate for each recording.  Exits with a non-zero status when
+ * any recording doesn't match its golden file.
+ *
+ * Usage: DecoderRegressionCheck corpus_directory [--update-golden]
+ *
+ * The --update-golden option (re)writes the golden file for each recording from the current decode results, for use
+ * when a DSP change is expected to change the decode counts.
+ *
+ * Run with: ./gradlew decoderRegression -PbenchmarkCorpus=/path/to/corpus [-PupdateGolden]
+ */
+public class DecoderRegressionCheck
+{
+    private static final Logger mLog = LoggerFactory.getLogger(DecoderRegressionCheck.class);
+    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.000");
+    private static final String UPDATE_GOLDEN = "--update-golden";
+
+    private final File mCorpus;
+    private final boolean mUpdateGolden;
+
+    /**
+     * Constructs an instance
+     * @param corpus directory
+     * @param updateGolden to rewrite the golden files instead of comparing to them.
+     */
+    public DecoderRegressionCheck(File corpus, boolean updateGolden)
+    {
+        mCorpus = corpus;
+        mUpdateGolden = updateGolden;
+    }
+
+    /**
+     * Decodes each recording in the corpus.
+     * @return count of recordings that don't match their golden file
+     * @throws IOException if a recording or golden file can't be read or written
+     */
+    public int run() throws IOException
+    {
+        int recordingCount = 0;
+        int failures = 0;
+
+        for(BenchmarkDecoder decoder: BenchmarkDecoder.values())
+        {
+            for(CorpusRecording recording: CorpusRecording.discover(mCorpus, decoder))
+            {
+                recordingCount++;
+                DecodeResult result = recording.decode();
+
+                mLog.info(recording + " - THROUGHPUT [" + DECIMAL_FORMAT.format(result.samplesPerSecond() / 1E6) +
+                    " M samples/sec] MESSAGES [" + result.messages() + "] INVALID [" + result.invalidMessages() +
+                    "] SYNC LOSSES [" + result.syncLosses() + "] ALLOCATION [" +
+                    DECIMAL_FORMAT.format(result.allocationRate() / 1E6) + " MB/sec]");
+
+                if(mUpdateGolden)
+                {
+                    recording.writeGolden(result);
+                }
+                else if(!recording.hasGolden())
+                {
+                    mLog.warn(recording + " - no golden file - use " + UPDATE_GOLDEN + " to create it");
+                }
+                else
+                {
+                    List<String> mismatches = recording.verify(result);
+
+                    if(!mismatches.isEmpty())
+                    {
+                        failures++;
+                        mLog.error(recording + " - DECODE REGRESSION " + mismatches);
+                    }
+                }
+            }
+        }
+
+        mLog.info("Decoded [" + recordingCount + "] recordings from corpus [" + mCorpus + "] - failures [" +
+            failures + "]" + (mUpdateGolden ? " - golden files updated" : ""));
+
+        return failures;
+    }
+
+    public static void main(String[] args)
+    {
+        if(args.length < 1)
+        {
+            mLog.error("Usage: DecoderRegressionCheck corpus_directory [" + UPDATE_GOLDEN + "]");
+            System.exit(2);
+        }
+
+        boolean updateGolden = args.length > 1 && UPDATE_GOLDEN.equals(args[1]);
+
+        try
+        {
+            int failures = new DecoderRegressionCheck(new File(args[0]), updateGolden).run();
+            System.exit(failures > 0 ? 1 : 0);
+        }
+        catch(IOException ioe)
+        {
+            mLog.error("Error running decoder regression check", ioe);
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH decoder throughput benchmark.  Each benchmark operation decodes every recording in the corpus for the decoder.
+ * The samples, messages and sync losses auxiliary counters are reported as per-second rates, and the allocation rate
+ * is reported by the JMH GC profiler (-prof gc) that is enabled by the gradle jmh task.
+ *
+ * Decode counts are verified against the golden files before measurement so that a decode regression fails the
+ * benchmark instead of reporting a misleading throughput.
+ *
+ * Run with: ./gradlew jmh -PbenchmarkCorpus=/path/to/corpus
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "--enable-preview"})
+@State(Scope.Benchmark)
+public class DecoderThroughputBenchmark
+{
+    @Param({"p25p1", "p25p2", "dmr", "nxdn"})
+    public String decoder;
+
+    @Param({"corpus"})
+    public String corpus;
+
+    private List<CorpusRecording> mRecordings;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException
+    {
+        mRecordings = CorpusRecording.discover(new File(corpus), BenchmarkDecoder.fromDirectory(decoder));
+
+        if(mRecordings.isEmpty())
+        {
+            throw new IllegalStateException("No [" + decoder + "] recordings in corpus directory [" + corpus + "]");
+        }
+
+        for(CorpusRecording recording: mRecordings)
+        {
+            List<String> mismatches = recording.verify(recording.decode());
+
+            if(!mismatches.isEmpty())
+            {
+                throw new IllegalStateException("Decode regression for recording [" + recording + "] " + mismatches);
+            }
+        }
+    }
+
+    @Benchmark
+    public void decode(DecodeCounters counters) throws IOException
+    {
+        for(CorpusRecording recording: mRecordings)
+        {
+            DecodeResult result = recording.decode();
+            counters.samples += result.samples();
+            counters.messages += result.messages();
+            counters.syncLosses += result.syncLosses();
+        }
+    }
+
+    /**
+     * Auxiliary counters reported alongside the benchmark score.  JMH requires public fields.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class DecodeCounters
+    {
+        public long samples;
+        public long messages;
+        public long syncLosses;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            samples = 0;
+            messages = 0;
+            syncLosses = 0;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.identifier.Form;
+import io.github.dsheirer.identifier.Identifier;
+import io.github.dsheirer.identifier.IdentifierClass;
+import io.github.dsheirer.identifier.IdentifierCollection;
+import io.github.dsheirer.identifier.MutableIdentifierCollection;
+import io.github.dsheirer.identifier.Role;
+import io.github.dsheirer.identifier.configuration.AliasListConfigurationIdentifier;
+import io.github.dsheirer.identifier.configuration.ChannelNameConfigurationIdentifier;
+import io.github.dsheirer.identifier.configuration.DecoderTypeConfigurationIdentifier;
+import io.github.dsheirer.identifier.configuration.FrequencyConfigurationIdentifier;
+import io.github.dsheirer.identifier.configuration.SiteConfigurationIdentifier;
+import io.github.dsheirer.identifier.configuration.SystemConfigurationIdentifier;
+import io.github.dsheirer.identifier.encryption.EncryptionKeyIdentifier;
+import io.github.dsheirer.module.decode.DecoderType;
+import io.github.dsheirer.module.decode.p25.identifier.APCO25Nac;
+import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
+import io.github.dsheirer.module.decode.p25.identifier.APCO25Site;
+import io.github.dsheirer.module.decode.p25.identifier.APCO25System;
+import io.github.dsheirer.module.decode.p25.identifier.APCO25Wacn;
+import io.github.dsheirer.module.decode.p25.identifier.encryption.APCO25EncryptionKey;
+import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
+import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25Talkgroup;
+import io.github.dsheirer.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of identifier collection lookups and updates for a representative APCO25 call: channel configuration
+ * identifiers, network identifiers (NAC, WACN, system, RFSS and site), the called talkgroup, the calling radio and an
+ * encryption key.
+ *
+ * The lookup benchmarks perform the set of lookups that a call event passes through (decoder state, duplicate call
+ * detection, alias list streaming/recording checks and the broadcast metadata updaters) against the indexed collection
+ * and, for comparison, against a linear scan of the same identifiers.  The update benchmark measures the cost of
+ * publishing a new snapshot when the calling radio changes and copying the collection for a decode event.
+ *
+ * Run with: ./gradlew jmh -Pbenchmark=IdentifierCollectionBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "--enable-preview"})
+@State(Scope.Benchmark)
+public class IdentifierCollectionBenchmark
+{
+    private static final Identifier RADIO_A = APCO25RadioIdentifier.createFrom(1234567);
+    private static final Identifier RADIO_B = APCO25RadioIdentifier.createFrom(7654321);
+
+    private MutableIdentifierCollection mCollection;
+    private List<Identifier> mIdentifiers;
+    private boolean mToggle;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        mCollection = new MutableIdentifierCollection();
+        mCollection.update(AliasListConfigurationIdentifier.create("Benchmark Aliases"));
+        mCollection.update(SystemConfigurationIdentifier.create("Benchmark System"));
+        mCollection.update(SiteConfigurationIdentifier.create("Benchmark Site"));
+        mCollection.update(ChannelNameConfigurationIdentifier.create("Control"));
+        mCollection.update(DecoderTypeConfigurationIdentifier.create(DecoderType.P25_PHASE1));
+        mCollection.update(FrequencyConfigurationIdentifier.create(851_012_500L));
+        mCollection.update(APCO25Nac.create(0x293));
+        mCollection.update(APCO25Wacn.create(0xBEE00));
+        mCollection.update(APCO25System.create(0x3A1));
+        mCollection.update(APCO25Rfss.create(1));
+        mCollection.update(APCO25Site.create(7));
+        mCollection.update(APCO25Talkgroup.create(12345));
+        mCollection.update(RADIO_A);
+        mCollection.update(EncryptionKeyIdentifier.create(Protocol.APCO25, APCO25EncryptionKey.create(0x84, 1)));
+        mIdentifiers = new ArrayList<>(mCollection.getIdentifiers());
+    }
+
+    @Benchmark
+    public void indexedLookup(Blackhole blackhole)
+    {
+        IdentifierCollection collection = mCollection;
+        blackhole.consume(collection.getFromIdentifier());
+        blackhole.consume(collection.getToIdentifier());
+        blackhole.consume(collection.getEncryptionIdentifier());
+        blackhole.consume(collection.getIdentifiers(Role.TO));
+        blackhole.consume(collection.getIdentifiers(Role.FROM));
+        blackhole.consume(collection.getIdentifiers(IdentifierClass.USER));
+        blackhole.consume(collection.getIdentifiers(IdentifierClass.CONFIGURATION, Form.DECODER_TYPE));
+        blackhole.consume(collection.getIdentifiers(IdentifierClass.NETWORK, Role.BROADCAST));
+    }
+
+    @Benchmark
+    public void linearLookup(Blackhole blackhole)
+    {
+        blackhole.consume(find(IdentifierClass.USER, Form.RADIO, Role.FROM));
+        blackhole.consume(find(IdentifierClass.USER, Form.TALKGROUP, Role.TO));
+        blackhole.consume(find(IdentifierClass.USER, Form.ENCRYPTION_KEY, Role.ANY));
+        blackhole.consume(scan(null, null, Role.TO));
+        blackhole.consume(scan(null, null, Role.FROM));
+        blackhole.consume(scan(IdentifierClass.USER, null, null));
+        blackhole.consume(scan(IdentifierClass.CONFIGURATION, Form.DECODER_TYPE, null));
+        blackhole.consume(scan(IdentifierClass.NETWORK, null, Role.BROADCAST));
+    }
+
+    @Benchmark
+    public IdentifierCollection updateAndCopy()
+    {
+        mToggle = !mToggle;
+        mCollection.update(mToggle ? RADIO_B : RADIO_A);
+        return mCollection.copyOf();
+    }
+
+    /**
+     * Linear scan for the first identifier that matches the class, form and role.
+     */
+    private Identifier find(IdentifierClass identifierClass, Form form, Role role)
+    {
+        for(Identifier identifier: mIdentifiers)
+        {
+            if(identifier.getIdentifierClass() == identifierClass && identifier.getForm() == form &&
+                identifier.getRole() == role)
+            {
+                return identifier;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Linear scan for all identifiers that match each of the non-null class, form and role arguments.
+     */
+    private List<Identifier> scan(IdentifierClass identifierClass, Form form, Role role)
+    {
+        List<Identifier> identifiers = new ArrayList<>();
+
+        for(Identifier identifier: mIdentifiers)
+        {
+            if((identifierClass == null || identifier.getIdentifierClass() == identifierClass) &&
+                (form == null || identifier.getForm() == form) && (role == null || identifier.getRole() == role))
+            {
+                identifiers.add(identifier);
+            }
+        }
+
+        return identifiers;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.benchmark;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.edac.trellis.DMR_3_4_Node;
+import io.github.dsheirer.edac.trellis.P25_1_2_Node;
+import io.github.dsheirer.edac.trellis.P25_3_4_Node;
+import io.github.dsheirer.edac.trellis.ViterbiDecoder_1_2_P25;
+import io.github.dsheirer.edac.trellis.ViterbiDecoder_3_4_DMR;
+import io.github.dsheirer.edac.trellis.ViterbiDecoder_3_4_P25;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark comparing the decode throughput of the path-based Viterbi decoders against the table-driven trellis
+ * decoder for P25 1/2 rate, P25 3/4 rate and DMR 3/4 rate messages containing random bit errors.  Equivalence of the
+ * two decoders is verified by the TrellisDecoderTest unit tests.
+ *
+ * Run with: ./gradlew jmh -Pbenchmark=ViterbiDecoderBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "--enable-preview"})
+@State(Scope.Benchmark)
+public class ViterbiDecoderBenchmark
+{
+    private static final int MESSAGE_LENGTH = 196;
+    private static final int MESSAGE_COUNT = 1000;
+    private static final int MAXIMUM_BIT_ERRORS = 8;
+
+    @Param({"P25_1_2", "P25_3_4", "DMR_3_4"})
+    public String code;
+
+    private CorrectedBinaryMessage[] mMessages;
+    private IDecoder mPathDecoder;
+    private IDecoder mTrellisDecoder;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Random random = new Random(0);
+
+        switch(code)
+        {
+            case "P25_1_2" ->
+            {
+                ViterbiDecoder_1_2_P25 decoder = new ViterbiDecoder_1_2_P25();
+                mMessages = createMessages(random, P25_1_2_Node.TRANSITION_MATRIX);
+                mPathDecoder = decoder::decodeWithPaths;
+                mTrellisDecoder = decoder::decode;
+            }
+            case "P25_3_4" ->
+            {
+                ViterbiDecoder_3_4_P25 decoder = new ViterbiDecoder_3_4_P25();
+                mMessages = createMessages(random, P25_3_4_Node.TRANSITION_MATRIX);
+                mPathDecoder = decoder::decodeWithPaths;
+                mTrellisDecoder = decoder::decode;
+            }
+            case "DMR_3_4" ->
+            {
+                ViterbiDecoder_3_4_DMR decoder = new ViterbiDecoder_3_4_DMR();
+                mMessages = createMessages(random, DMR_3_4_Node.DMR_TRANSITION_MATRIX);
+                mPathDecoder = decoder::decodeWithPaths;
+                mTrellisDecoder = decoder::decode;
+            }
+            default -> throw new IllegalArgumentException("Unrecognized code [" + code + "]");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void paths(Blackhole blackhole)
+    {
+        decode(mPathDecoder, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void trellis(Blackhole blackhole)
+    {
+        decode(mTrellisDecoder, blackhole);
+    }
+
+    /**
+     * Decodes each of the messages
+     */
+    private void decode(IDecoder decoder, Blackhole blackhole)
+    {
+        for(CorrectedBinaryMessage message: mMessages)
+        {
+            blackhole.consume(decoder.decode(message));
+        }
+    }
+
+    /**
+     * Creates trellis encoded messages from random input values with a random number of bit errors.
+     */
+    private static CorrectedBinaryMessage[] createMessages(Random random, int[][] transitionMatrix)
+    {
+        CorrectedBinaryMessage[] messages = new CorrectedBinaryMessage[MESSAGE_COUNT];
+        int symbolCount = MESSAGE_LENGTH / 4;
+
+        for(int x = 0; x < MESSAGE_COUNT; x++)
+        {
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(MESSAGE_LENGTH);
+            int state = 0;
+
+            for(int y = 0; y < symbolCount; y++)
+            {
+                //Final symbol flushes the encoder with an input of zero
+                int input = y < symbolCount - 1 ? random.nextInt(transitionMatrix.length) : 0;
+                int symbol = transitionMatrix[state][input];
+                state = input;
+
+                for(int bit = 0; bit < 4; bit++)
+                {
+                    if((symbol & (8 >> bit)) != 0)
+                    {
+                        message.set(y * 4 + bit);
+                    }
+                }
+            }
+
+            int errors = random.nextInt(MAXIMUM_BIT_ERRORS + 1);
+
+            for(int y = 0; y < errors; y++)
+            {
+                message.flip(random.nextInt(MESSAGE_LENGTH));
+            }
+
+            messages[x] = message;
+        }
+
+        return messages;
+    }
+
+    /**
+     * Message decoder under test
+     */
+    private interface IDecoder
+    {
+        CorrectedBinaryMessage decode(CorrectedBinaryMessage message);
+    }
+}
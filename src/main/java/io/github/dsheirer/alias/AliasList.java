@@ -33,6 +33,9 @@ import io.github.dsheirer.alias.id.talkgroup.P25FullyQualifiedTalkgroup;
 import io.github.dsheirer.alias.id.talkgroup.Talkgroup;
 import io.github.dsheirer.alias.id.talkgroup.TalkgroupRange;
 import io.github.dsheirer.alias.id.tone.TonesID;
+import io.github.dsheirer.alias.index.AliasLookupCache;
+import io.github.dsheirer.alias.index.IntAliasMap;
+import io.github.dsheirer.alias.index.RangeAliasIndex;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.IdentifierCollection;
 import io.github.dsheirer.identifier.dcs.DCSIdentifier;
@@ -58,8 +61,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,6 +84,7 @@ public class AliasList
     private boolean mHasAliasActions = false;
     private String mName;
     private ObservableList<Alias> mAliases = FXCollections.observableArrayList(Alias.extractor());
+    private AliasLookupCache mLookupCache = new AliasLookupCache();
 
     /**
      * List of aliases where all aliases share the same list name.  Contains
@@ -91,6 +95,9 @@ public class AliasList
     public AliasList(String name)
     {
         mName = name;
+
+        //Any alias addition, removal, or change to an alias property or identifier invalidates cached lookups
+        mAliases.addListener((ListChangeListener<Alias>)change -> mLookupCache.invalidate());
     }
 
     /**
@@ -120,6 +127,8 @@ public class AliasList
         {
             mAliases.add(alias);
         }
+
+        mLookupCache.invalidate();
     }
 
     /**
@@ -316,6 +325,7 @@ public class AliasList
         mToneSequenceMap.values().removeAll(collection);
 
         validate();
+        mLookupCache.invalidate();
     }
 
     /**
@@ -396,12 +406,30 @@ public class AliasList
         }
     }
 
+    /**
+     * Alias lookup result cache for this list, with hit and miss metrics.
+     */
+    public AliasLookupCache getLookupCache()
+    {
+        return mLookupCache;
+    }
+
     /**
      * Returns an optional alias that is associated with the identifier
       * @param identifier to alias
-     * @return list of alias or empty list
+     * @return immutable list of alias or empty list
      */
     public List<Alias> getAliases(Identifier identifier)
+    {
+        return mLookupCache.get(identifier, this::lookupAliases);
+    }
+
+    /**
+     * Resolves the aliases for the identifier against the alias mappings, bypassing the lookup cache.
+     * @param identifier to alias
+     * @return immutable list of alias or empty list
+     */
+    private List<Alias> lookupAliases(Identifier identifier)
     {
         if(identifier != null)
         {
@@ -463,7 +491,7 @@ public class AliasList
                         }
                     }
 
-                    return aliases;
+                    return Collections.unmodifiableList(aliases);
                 case RADIO:
                     RadioIdentifier radio = (RadioIdentifier)identifier;
 
@@ -654,8 +682,9 @@ public class AliasList
     public class TalkgroupAliasList
     {
         private Map<String,Alias> mFullyQualifiedTalkgroupAliasMap = new HashMap<>();
-        private Map<Integer,Alias> mTalkgroupAliasMap = new TreeMap<>();
+        private IntAliasMap mTalkgroupAliasMap = new IntAliasMap();
         private Map<TalkgroupRange, Alias> mTalkgroupRangeAliasMap = new HashMap<>();
+        private RangeAliasIndex mTalkgroupRangeIndex = new RangeAliasIndex();
 
         public TalkgroupAliasList()
         {
@@ -679,15 +708,7 @@ public class AliasList
             }
 
             //Alternatively, match the talkgroup to any talkgroup ranges
-            for(Map.Entry<TalkgroupRange, Alias> entry : mTalkgroupRangeAliasMap.entrySet())
-            {
-                if(entry.getKey().contains(value))
-                {
-                    return entry.getValue();
-                }
-            }
-
-            return null;
+            return mTalkgroupRangeIndex.get(value);
         }
 
         public void add(Talkgroup talkgroup, Alias alias)
@@ -755,16 +776,22 @@ public class AliasList
                 }
             }
 
-            mTalkgroupRangeAliasMap.put(talkgroupRange, alias);
+            //Alias validation re-adds aliases, so only index a range the first time that it's added
+            if(mTalkgroupRangeAliasMap.put(talkgroupRange, alias) == null)
+            {
+                mTalkgroupRangeIndex.add(talkgroupRange.getMinTalkgroup(), talkgroupRange.getMaxTalkgroup(), alias);
+            }
         }
 
         /**
-         * Removes the alias from both the talkgroup and the talkgroup range maps.
+         * Removes the alias from the fully qualified talkgroup, talkgroup and talkgroup range maps.
          */
         public void remove(Alias alias)
         {
-            mTalkgroupAliasMap.values().removeAll(Collections.singleton(alias));
+            mFullyQualifiedTalkgroupAliasMap.values().removeAll(Collections.singleton(alias));
+            mTalkgroupAliasMap.removeValue(alias);
             mTalkgroupRangeAliasMap.values().removeAll(Collections.singleton(alias));
+            mTalkgroupRangeIndex.remove(alias);
         }
     }
 
@@ -774,8 +801,9 @@ public class AliasList
     public class RadioAliasList
     {
         private Map<String,Alias> mFullyQualifiedRadioAliasMap = new HashMap<>();
-        private Map<Integer,Alias> mRadioAliasMap = new TreeMap<>();
+        private IntAliasMap mRadioAliasMap = new IntAliasMap();
         private Map<RadioRange, Alias> mRadioRangeAliasMap = new HashMap<>();
+        private RangeAliasIndex mRadioRangeIndex = new RangeAliasIndex();
 
         public RadioAliasList()
         {
@@ -799,15 +827,7 @@ public class AliasList
             }
 
             //Alternatively, attempt to match the radio address against any radio ranges.
-            for(Map.Entry<RadioRange, Alias> entry : mRadioRangeAliasMap.entrySet())
-            {
-                if(entry.getKey().contains(value))
-                {
-                    return entry.getValue();
-                }
-            }
-
-            return null;
+            return mRadioRangeIndex.get(value);
         }
 
         public void add(Radio radio, Alias alias)
@@ -875,16 +895,22 @@ public class AliasList
                 }
             }
 
-            mRadioRangeAliasMap.put(radioRange, alias);
+            //Alias validation re-adds aliases, so only index a range the first time that it's added
+            if(mRadioRangeAliasMap.put(radioRange, alias) == null)
+            {
+                mRadioRangeIndex.add(radioRange.getMinRadio(), radioRange.getMaxRadio(), alias);
+            }
         }
 
         /**
-         * Removes the alias from both the radio and the radio range maps.
+         * Removes the alias from the fully qualified radio, radio and radio range maps.
          */
         public void remove(Alias alias)
         {
-            mRadioAliasMap.values().removeAll(Collections.singleton(alias));
+            mFullyQualifiedRadioAliasMap.values().removeAll(Collections.singleton(alias));
+            mRadioAliasMap.removeValue(alias);
             mRadioRangeAliasMap.values().removeAll(Collections.singleton(alias));
+            mRadioRangeIndex.remove(alias);
         }
     }
 }
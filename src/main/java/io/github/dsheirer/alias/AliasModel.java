@@ -25,9 +25,9 @@ import io.github.dsheirer.identifier.IdentifierCollection;
 import io.github.dsheirer.identifier.configuration.AliasListConfigurationIdentifier;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -45,7 +45,7 @@ public class AliasModel
     public static final String NO_ALIAS_LIST = "(No Alias List)";
     private ObservableList<Alias> mAliases = FXCollections.observableArrayList(Alias.extractor());
     private ObservableList<String> mAliasListNames = FXCollections.observableArrayList();
-    private Map<String,AliasList> mAliasListMap = new HashMap<>();
+    private Map<String,AliasList> mAliasListMap = new ConcurrentHashMap<>();
 
     public AliasModel()
     {
@@ -263,6 +263,24 @@ public class AliasModel
         mAliases.add(alias);
     }
 
+    /**
+     * Diagnostic report listing the lookup cache metrics for each alias list in use.
+     */
+    public String getDiagnosticReport()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Alias Lists\n");
+
+        for(Map.Entry<String,AliasList> entry: mAliasListMap.entrySet())
+        {
+            sb.append("\t").append(entry.getKey()).append(" - Aliases [")
+                .append(entry.getValue().aliases().size()).append("] ")
+                .append(entry.getValue().getLookupCache()).append("\n");
+        }
+
+        return sb.toString();
+    }
+
     private boolean hasAliasList(String aliasListName)
     {
         return aliasListName != null && mAliasListMap.containsKey(aliasListName);
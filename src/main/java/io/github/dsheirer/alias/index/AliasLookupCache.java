@@ -0,0 +1,239 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.alias.index;
+
+import io.github.dsheirer.alias.Alias;
+import io.github.dsheirer.identifier.Form;
+import io.github.dsheirer.identifier.Identifier;
+import io.github.dsheirer.identifier.radio.FullyQualifiedRadioIdentifier;
+import io.github.dsheirer.identifier.radio.RadioIdentifier;
+import io.github.dsheirer.identifier.talkgroup.FullyQualifiedTalkgroupIdentifier;
+import io.github.dsheirer.identifier.talkgroup.TalkgroupIdentifier;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
+import io.github.dsheirer.protocol.Protocol;
+import java.text.DecimalFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, concurrent cache of identifier to alias lookup results for an alias list.  The same talkgroup and radio
+ * identifiers are looked up several times for each call (audio segment aliasing, recording, streaming, playback
+ * priority and broadcast channel checks), so the resolved immutable alias list is cached by protocol, form and value.
+ * Empty (no alias) results are cached as well, since most identifiers on a busy trunked system are not aliased.
+ *
+ * The cache is invalidated whenever the alias list contents or any alias change.  A generation counter prevents a
+ * lookup that started before an invalidation from caching a result computed from the outdated alias mappings.  When
+ * the cache reaches the maximum size it is cleared and refilled with the currently active identifiers.
+ *
+ * Hits, misses and invalidations are counted per cache and also in application-wide counters that are exported by
+ * the metrics registry.
+ */
+public class AliasLookupCache
+{
+    private static final DecimalFormat PERCENT_FORMAT = new DecimalFormat("0.0");
+    public static final int DEFAULT_MAXIMUM_SIZE = 8192;
+    private static final Counter HIT_COUNTER = MetricsRegistry.getInstance().counter(
+        "sdrtrunk_alias_cache_hits_total", "Alias lookups satisfied from an alias list lookup cache");
+    private static final Counter MISS_COUNTER = MetricsRegistry.getInstance().counter(
+        "sdrtrunk_alias_cache_misses_total", "Alias lookups resolved against the alias list mappings");
+    private static final Counter INVALIDATION_COUNTER = MetricsRegistry.getInstance().counter(
+        "sdrtrunk_alias_cache_invalidations_total", "Alias list lookup cache invalidations due to alias changes");
+    private final Map<Key,List<Alias>> mCache = new ConcurrentHashMap<>();
+    private final AtomicLong mGeneration = new AtomicLong();
+    private final LongAdder mHitCount = new LongAdder();
+    private final LongAdder mMissCount = new LongAdder();
+    private final LongAdder mInvalidationCount = new LongAdder();
+    private final int mMaximumSize;
+
+    /**
+     * Constructs an instance
+     * @param maximumSize of cached identifiers
+     */
+    public AliasLookupCache(int maximumSize)
+    {
+        mMaximumSize = Math.max(1, maximumSize);
+    }
+
+    /**
+     * Constructs an instance with the default maximum size
+     */
+    public AliasLookupCache()
+    {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Cached aliases for the identifier, or the result of the lookup function when the identifier is not cached.
+     * Identifiers that are not cacheable are passed directly to the lookup function.
+     * @param identifier to alias
+     * @param lookup function to resolve the aliases for the identifier, returning an immutable list
+     * @return list of aliases or an empty list
+     */
+    public List<Alias> get(Identifier identifier, Function<Identifier,List<Alias>> lookup)
+    {
+        Key key = createKey(identifier);
+
+        if(key == null)
+        {
+            return lookup.apply(identifier);
+        }
+
+        List<Alias> aliases = mCache.get(key);
+
+        if(aliases != null)
+        {
+            mHitCount.increment();
+            HIT_COUNTER.increment();
+            return aliases;
+        }
+
+        mMissCount.increment();
+        MISS_COUNTER.increment();
+        long generation = mGeneration.get();
+        aliases = lookup.apply(identifier);
+
+        if(mCache.size() >= mMaximumSize)
+        {
+            mCache.clear();
+        }
+
+        mCache.put(key, aliases);
+
+        //Discard the result if the cache was invalidated while we were resolving the aliases
+        if(mGeneration.get() != generation)
+        {
+            mCache.remove(key);
+        }
+
+        return aliases;
+    }
+
+    /**
+     * Removes all cached lookup results.  Invoked when the alias list or any of its aliases are changed.
+     */
+    public void invalidate()
+    {
+        mGeneration.incrementAndGet();
+        mCache.clear();
+        mInvalidationCount.increment();
+        INVALIDATION_COUNTER.increment();
+    }
+
+    /**
+     * Number of lookups satisfied from the cache
+     */
+    public long getHitCount()
+    {
+        return mHitCount.sum();
+    }
+
+    /**
+     * Number of lookups that were resolved against the alias mappings
+     */
+    public long getMissCount()
+    {
+        return mMissCount.sum();
+    }
+
+    /**
+     * Number of times the cache was invalidated
+     */
+    public long getInvalidationCount()
+    {
+        return mInvalidationCount.sum();
+    }
+
+    /**
+     * Ratio of cache hits to total cached lookups, or 0.0 when there have been no lookups
+     */
+    public double getHitRatio()
+    {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total > 0 ? (double)hits / total : 0.0;
+    }
+
+    /**
+     * Number of cached identifiers
+     */
+    public int size()
+    {
+        return mCache.size();
+    }
+
+    /**
+     * Resets the hit, miss and invalidation counts
+     */
+    public void resetMetrics()
+    {
+        mHitCount.reset();
+        mMissCount.reset();
+        mInvalidationCount.reset();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Alias Lookup Cache - Size [" + size() + "] Hits [" + getHitCount() + "] Misses [" + getMissCount() +
+            "] Hit Ratio [" + PERCENT_FORMAT.format(getHitRatio() * 100.0) + "%] Invalidations [" +
+            getInvalidationCount() + "]";
+    }
+
+    /**
+     * Creates a cache key for the identifier.  Only talkgroup and radio identifiers, which are looked up on every call,
+     * are cached.
+     * @return key or null if the identifier is not cacheable
+     */
+    private static Key createKey(Identifier identifier)
+    {
+        if(identifier == null || !(identifier.getValue() instanceof Integer value))
+        {
+            return null;
+        }
+
+        if(identifier instanceof TalkgroupIdentifier talkgroup && identifier.getForm() == Form.TALKGROUP)
+        {
+            String fullyQualified = talkgroup instanceof FullyQualifiedTalkgroupIdentifier fqti ?
+                fqti.getFullyQualifiedTalkgroupAddress() : null;
+            return new Key(identifier.getProtocol(), Form.TALKGROUP, value, fullyQualified);
+        }
+
+        if(identifier instanceof RadioIdentifier radio && identifier.getForm() == Form.RADIO)
+        {
+            String fullyQualified = radio instanceof FullyQualifiedRadioIdentifier fqri ?
+                fqri.getFullyQualifiedRadioAddress() : null;
+            return new Key(identifier.getProtocol(), Form.RADIO, value, fullyQualified);
+        }
+
+        return null;
+    }
+
+    /**
+     * Cache key.  The fully qualified address is included so that a fully qualified identifier doesn't share a cache
+     * entry with a local identifier that has the same value.
+     */
+    private record Key(Protocol protocol, Form form, int value, String fullyQualifiedAddress)
+    {
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.alias.index;
+
+import io.github.dsheirer.alias.Alias;
+
+/**
+ * Open addressing (linear probe) hash map of primitive integer identifier values to aliases.  Avoids the Integer
+ * boxing and tree/node traversal of a Map&lt;Integer,Alias&gt; for the exact-match lookups that are performed for
+ * every identifier that is aliased.
+ *
+ * Resizing and alias removal build a replacement table that is published in a single write so that a lookup never
+ * observes a partially built table.
+ */
+public class IntAliasMap
+{
+    private static final int MINIMUM_CAPACITY = 16;
+    private volatile Table mTable = new Table(MINIMUM_CAPACITY);
+    private int mSize;
+
+    /**
+     * Constructs an instance
+     */
+    public IntAliasMap()
+    {
+    }
+
+    /**
+     * Alias for the identifier value
+     * @param key identifier value
+     * @return alias or null
+     */
+    public Alias get(int key)
+    {
+        Table table = mTable;
+        int index = table.index(key);
+
+        while(true)
+        {
+            Alias alias = table.mValues[index];
+
+            if(alias == null)
+            {
+                return null;
+            }
+
+            if(table.mKeys[index] == key)
+            {
+                return alias;
+            }
+
+            index = (index + 1) & table.mMask;
+        }
+    }
+
+    /**
+     * Indicates if there is an alias for the identifier value
+     */
+    public boolean containsKey(int key)
+    {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the identifier value to the alias, replacing any existing mapping.
+     * @param key identifier value
+     * @param alias to map, non-null
+     * @return previously mapped alias or null
+     */
+    public synchronized Alias put(int key, Alias alias)
+    {
+        if(alias == null)
+        {
+            throw new IllegalArgumentException("Alias cannot be null");
+        }
+
+        Table table = mTable;
+        int index = table.index(key);
+
+        while(table.mValues[index] != null)
+        {
+            if(table.mKeys[index] == key)
+            {
+                Alias previous = table.mValues[index];
+                table.mValues[index] = alias;
+                return previous;
+            }
+
+            index = (index + 1) & table.mMask;
+        }
+
+        //Keep the load factor at or below 50% so probe sequences stay short
+        if((mSize + 1) * 2 > table.mKeys.length)
+        {
+            table = resize(table, table.mKeys.length * 2);
+            mSize++;
+            table.insert(key, alias);
+            mTable = table;
+            return null;
+        }
+
+        table.mKeys[index] = key;
+        table.mValues[index] = alias;
+        mSize++;
+        return null;
+    }
+
+    /**
+     * Removes all mappings to the alias.
+     * @param alias to remove
+     * @return true if any mappings were removed
+     */
+    public synchronized boolean removeValue(Alias alias)
+    {
+        Table table = mTable;
+        Table replacement = new Table(table.mKeys.length);
+        int size = 0;
+
+        for(int x = 0; x < table.mKeys.length; x++)
+        {
+            Alias existing = table.mValues[x];
+
+            if(existing != null && !existing.equals(alias))
+            {
+                replacement.insert(table.mKeys[x], existing);
+                size++;
+            }
+        }
+
+        if(size != mSize)
+        {
+            mSize = size;
+            mTable = replacement;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public synchronized void clear()
+    {
+        mTable = new Table(MINIMUM_CAPACITY);
+        mSize = 0;
+    }
+
+    /**
+     * Number of mapped identifier values
+     */
+    public synchronized int size()
+    {
+        return mSize;
+    }
+
+    /**
+     * Creates a copy of the table with the new capacity.
+     */
+    private static Table resize(Table table, int capacity)
+    {
+        Table resized = new Table(capacity);
+
+        for(int x = 0; x < table.mKeys.length; x++)
+        {
+            if(table.mValues[x] != null)
+            {
+                resized.insert(table.mKeys[x], table.mValues[x]);
+            }
+        }
+
+        return resized;
+    }
+
+    /**
+     * Hash table storage with a power of two capacity.
+     */
+    private static class Table
+    {
+        private final int[] mKeys;
+        private final Alias[] mValues;
+        private final int mMask;
+
+        Table(int capacity)
+        {
+            mKeys = new int[capacity];
+            mValues = new Alias[capacity];
+            mMask = capacity - 1;
+        }
+
+        /**
+         * Initial probe index for the key.  Multiplicative hashing spreads sequential identifier values, which are
+         * common in imported alias lists, across the table.
+         */
+        int index(int key)
+        {
+            int hash = key * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mMask;
+        }
+
+        /**
+         * Inserts a key that is known not to be present in the table.
+         */
+        void insert(int key, Alias alias)
+        {
+            int index = index(key);
+
+            while(mValues[index] != null)
+            {
+                index = (index + 1) & mMask;
+            }
+
+            mKeys[index] = key;
+            mValues[index] = alias;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.alias.index;
+
+import io.github.dsheirer.alias.Alias;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorted boundary index of identifier value ranges (e.g. talkgroup or radio ranges) to aliases.  The ranges are
+ * flattened into a sorted array of non-overlapping segments so that a lookup is a binary search over the segment start
+ * values instead of a linear scan over every range.
+ *
+ * Where ranges overlap, the range that was added first owns the overlapping values.  Adding a range merges it into
+ * the existing segments in a single pass.  Removing an alias only reassigns the values of the segments that it owned
+ * to the remaining ranges that overlap those values, so removing many aliases does not rebuild every segment each
+ * time.  Each change publishes a new immutable set of segments so that lookups never observe a partial update.
+ */
+public class RangeAliasIndex
+{
+    private final List<Range> mRanges = new ArrayList<>();
+    private volatile Segments mSegments = new Segments(new int[0], new int[0], new Alias[0]);
+
+    /**
+     * Constructs an instance
+     */
+    public RangeAliasIndex()
+    {
+    }
+
+    /**
+     * Alias for the range that contains the identifier value
+     * @param value to lookup
+     * @return alias or null if no range contains the value
+     */
+    public Alias get(int value)
+    {
+        Segments segments = mSegments;
+        int low = 0;
+        int high = segments.mStarts.length - 1;
+
+        //Find the last segment that starts at or below the value
+        while(low <= high)
+        {
+            int middle = (low + high) >>> 1;
+
+            if(segments.mStarts[middle] <= value)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+
+        if(high >= 0 && value <= segments.mEnds[high])
+        {
+            return segments.mAliases[high];
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds the range to the index.
+     * @param min value of the range, inclusive
+     * @param max value of the range, inclusive
+     * @param alias for the range
+     */
+    public synchronized void add(int min, int max, Alias alias)
+    {
+        if(min > max || alias == null)
+        {
+            return;
+        }
+
+        mRanges.add(new Range(min, max, alias));
+        mSegments = merge(mSegments, min, max, alias);
+    }
+
+    /**
+     * Removes all ranges for the alias from the index.
+     * @param alias to remove
+     * @return true if any ranges were removed
+     */
+    public synchronized boolean remove(Alias alias)
+    {
+        if(!mRanges.removeIf(range -> range.alias().equals(alias)))
+        {
+            return false;
+        }
+
+        Segments existing = mSegments;
+        int count = existing.mStarts.length;
+
+        //Split the segments into the values freed by the alias and the segments that are retained
+        SegmentBuilder freed = new SegmentBuilder(count);
+        SegmentBuilder retained = new SegmentBuilder(count);
+
+        for(int x = 0; x < count; x++)
+        {
+            if(alias.equals(existing.mAliases[x]))
+            {
+                freed.add(existing.mStarts[x], existing.mEnds[x], alias);
+            }
+            else
+            {
+                retained.add(existing.mStarts[x], existing.mEnds[x], existing.mAliases[x]);
+            }
+        }
+
+        Segments freedSegments = freed.build();
+
+        //Reassign the freed values to the remaining ranges that overlap them, in the order added
+        Segments reassigned = new Segments(new int[0], new int[0], new Alias[0]);
+
+        for(Range range: mRanges)
+        {
+            for(int x = firstEndingAtOrAbove(freedSegments, range.min());
+                x < freedSegments.mStarts.length && freedSegments.mStarts[x] <= range.max(); x++)
+            {
+                reassigned = merge(reassigned, Math.max(range.min(), freedSegments.mStarts[x]),
+                    Math.min(range.max(), freedSegments.mEnds[x]), range.alias());
+            }
+        }
+
+        mSegments = union(retained.build(), reassigned);
+        return true;
+    }
+
+    /**
+     * Index of the first segment that ends at or above the value
+     * @return index or the segment count if no segment ends at or above the value
+     */
+    private static int firstEndingAtOrAbove(Segments segments, int value)
+    {
+        int low = 0;
+        int high = segments.mEnds.length;
+
+        while(low < high)
+        {
+            int middle = (low + high) >>> 1;
+
+            if(segments.mEnds[middle] < value)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Combines two sets of segments that do not overlap each other into a single sorted set of segments.
+     */
+    private static Segments union(Segments a, Segments b)
+    {
+        SegmentBuilder builder = new SegmentBuilder(a.mStarts.length + b.mStarts.length);
+        int x = 0;
+        int y = 0;
+
+        while(x < a.mStarts.length || y < b.mStarts.length)
+        {
+            if(y >= b.mStarts.length || (x < a.mStarts.length && a.mStarts[x] < b.mStarts[y]))
+            {
+                builder.add(a.mStarts[x], a.mEnds[x], a.mAliases[x]);
+                x++;
+            }
+            else
+            {
+                builder.add(b.mStarts[y], b.mEnds[y], b.mAliases[y]);
+                y++;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Number of ranges in this index
+     */
+    public synchronized int getRangeCount()
+    {
+        return mRanges.size();
+    }
+
+    /**
+     * Number of non-overlapping segments that the ranges are flattened into
+     */
+    public int getSegmentCount()
+    {
+        return mSegments.mStarts.length;
+    }
+
+    /**
+     * Merges the range into the existing segments, assigning the alias only to the values within the range that are
+     * not already covered by an existing segment.
+     * @return new segments
+     */
+    private static Segments merge(Segments existing, int min, int max, Alias alias)
+    {
+        int count = existing.mStarts.length;
+        SegmentBuilder builder = new SegmentBuilder(count * 2 + 1);
+
+        //Next value in the range that is not covered by an existing segment.  Long avoids overflow at MAX_VALUE.
+        long cursor = min;
+
+        for(int x = 0; x < count; x++)
+        {
+            int start = existing.mStarts[x];
+            int end = existing.mEnds[x];
+
+            if(cursor <= max && start > cursor)
+            {
+                long gapEnd = Math.min((long)start - 1, max);
+                builder.add((int)cursor, (int)gapEnd, alias);
+                cursor = gapEnd + 1;
+            }
+
+            builder.add(start, end, existing.mAliases[x]);
+
+            if(end >= cursor)
+            {
+                cursor = (long)end + 1;
+            }
+        }
+
+        if(cursor <= max)
+        {
+            builder.add((int)cursor, max, alias);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Range value and alias, in the order added
+     */
+    private record Range(int min, int max, Alias alias)
+    {
+    }
+
+    /**
+     * Immutable sorted, non-overlapping segments
+     */
+    private static class Segments
+    {
+        private final int[] mStarts;
+        private final int[] mEnds;
+        private final Alias[] mAliases;
+
+        Segments(int[] starts, int[] ends, Alias[] aliases)
+        {
+            mStarts = starts;
+            mEnds = ends;
+            mAliases = aliases;
+        }
+    }
+
+    /**
+     * Accumulates segments in sorted order, coalescing adjacent segments that share the same alias.
+     */
+    private static class SegmentBuilder
+    {
+        private final int[] mStarts;
+        private final int[] mEnds;
+        private final Alias[] mAliases;
+        private int mCount;
+
+        SegmentBuilder(int capacity)
+        {
+            mStarts = new int[capacity];
+            mEnds = new int[capacity];
+            mAliases = new Alias[capacity];
+        }
+
+        void add(int start, int end, Alias alias)
+        {
+            if(mCount > 0 && mAliases[mCount - 1] == alias && (long)mEnds[mCount - 1] + 1 == start)
+            {
+                mEnds[mCount - 1] = end;
+                return;
+            }
+
+            mStarts[mCount] = start;
+            mEnds[mCount] = end;
+            mAliases[mCount] = alias;
+            mCount++;
+        }
+
+        Segments build()
+        {
+            int[] starts = new int[mCount];
+            int[] ends = new int[mCount];
+            Alias[] aliases = new Alias[mCount];
+            System.arraycopy(mStarts, 0, starts, 0, mCount);
+            System.arraycopy(mEnds, 0, ends, 0, mCount);
+            System.arraycopy(mAliases, 0, aliases, 0, mCount);
+            return new Segments(starts, ends, aliases);
+        }
+    }
+}
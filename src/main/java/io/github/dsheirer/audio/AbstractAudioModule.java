@@ -24,6 +24,8 @@ import io.github.dsheirer.identifier.IdentifierUpdateListener;
 import io.github.dsheirer.identifier.IdentifierUpdateNotification;
 import io.github.dsheirer.identifier.MutableIdentifierCollection;
 import io.github.dsheirer.module.Module;
+import io.github.dsheirer.monitor.LatencyMonitor;
+import io.github.dsheirer.monitor.metrics.Histogram;
 import io.github.dsheirer.sample.Broadcaster;
 import io.github.dsheirer.sample.Listener;
 import org.slf4j.Logger;
@@ -46,6 +48,8 @@ public abstract class AbstractAudioModule extends Module implements IAudioSegmen
     private int mAudioSampleCount = 0;
     private boolean mRecordAudioOverride;
     private int mTimeslot;
+    private Histogram mAudioLatencyHistogram = LatencyMonitor.getInstance()
+        .getHistogram(LatencyMonitor.END_TO_END_AUDIO);
 
     /**
      * Constructs an abstract audio module
@@ -136,6 +140,13 @@ public abstract class AbstractAudioModule extends Module implements IAudioSegmen
 
     public void addAudio(float[] audioBuffer)
     {
+        long sampleTimestamp = getSampleTimestamp();
+
+        if(sampleTimestamp > 0)
+        {
+            LatencyMonitor.recordSince(mAudioLatencyHistogram, sampleTimestamp);
+        }
+
         AudioSegment audioSegment = getAudioSegment();
 
         //If the current segment exceeds the max samples length, close it so that a new segment gets generated
@@ -150,7 +161,7 @@ public abstract class AbstractAudioModule extends Module implements IAudioSegmen
 
         try
         {
-            audioSegment.addAudio(audioBuffer);
+            audioSegment.addAudio(audioBuffer, getChannelTimestamp());
             mAudioSampleCount += audioBuffer.length;
         }
         catch(Exception e)
@@ -23,6 +23,10 @@ import io.github.dsheirer.alias.Alias;
 import io.github.dsheirer.alias.AliasList;
 import io.github.dsheirer.alias.id.broadcast.BroadcastChannel;
 import io.github.dsheirer.alias.id.priority.Priority;
+import io.github.dsheirer.audio.buffer.AudioBlockPool;
+import io.github.dsheirer.audio.buffer.AudioBufferView;
+import io.github.dsheirer.audio.buffer.AudioSampleStore;
+import io.github.dsheirer.audio.convert.MP3EncodingService;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.IdentifierCollection;
 import io.github.dsheirer.identifier.IdentifierUpdateNotification;
@@ -36,7 +40,6 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -59,6 +62,9 @@ import org.slf4j.LoggerFactory;
  * Accurate accounting of consumer count via the increment/decrementConsumerCount() methods is essential for good
  * memory management.
  *
+ * Audio is stored in fixed-size blocks borrowed from the shared audio block pool, optionally as 16-bit samples.  The
+ * blocks are returned to the pool when the consumer count returns to zero.
+ *
  * Producers will add audio buffers and update identifiers throughout the life-cycle of an audio segment.  The producer
  * will signal the completion of an audio segment by setting the complete property to true.  This allows consumers the
  * option to process the audio buffers throughout the life-cycle of the segment, or to process all the buffers once
@@ -75,11 +81,10 @@ public class AudioSegment implements Listener<IdentifierUpdateNotification>
     private ObservableSet<BroadcastChannel> mBroadcastChannels = FXCollections.observableSet(new HashSet<>());
     private MutableIdentifierCollection mIdentifierCollection = new MutableIdentifierCollection();
     private Broadcaster<IdentifierUpdateNotification> mIdentifierUpdateNotificationBroadcaster = new Broadcaster<>();
-    private List<float[]> mAudioBuffers = new CopyOnWriteArrayList();
+    private AudioSampleStore mAudioSampleStore = new AudioSampleStore(AudioBlockPool.getInstance());
     private AtomicInteger mConsumerCount = new AtomicInteger();
     private AliasList mAliasList;
     private long mStartTimestamp = System.currentTimeMillis();
-    private long mSampleCount = 0;
     private boolean mDisposing = false;
     private AudioSegment mLinkedAudioSegment;
     private int mTimeslot;
@@ -128,7 +133,7 @@ public class AudioSegment implements Listener<IdentifierUpdateNotification>
      */
     public long getDuration()
     {
-        return (mSampleCount / 8); //8 kHz audio generates 8 samples per millisecond
+        return (mAudioSampleStore.getSampleCount() / 8); //8 kHz audio generates 8 samples per millisecond
     }
 
     /**
@@ -303,13 +308,22 @@ public class AudioSegment implements Listener<IdentifierUpdateNotification>
     }
 
     /**
-     * Unmodifiable copy of the list of audio buffers for this segment.
+     * Unmodifiable list of copies of the audio buffers for this segment.  Each invocation copies every buffer, so
+     * consumers should prefer the zero-copy getAudioBufferView() method.
      *
      * @return list of audio buffers
      */
     public List<float[]> getAudioBuffers()
     {
-        return Collections.unmodifiableList(mAudioBuffers);
+        return mAudioSampleStore.getBuffers();
+    }
+
+    /**
+     * Total number of audio samples contained in this segment.
+     */
+    public int getSampleCount()
+    {
+        return mAudioSampleStore.getSampleCount();
     }
 
     /**
@@ -319,25 +333,32 @@ public class AudioSegment implements Listener<IdentifierUpdateNotification>
      */
     public int getAudioBufferCount()
     {
-        return mAudioBuffers.size();
+        return mAudioSampleStore.getBufferCount();
     }
 
     /**
-     * Gets the audio buffer at the specified index
+     * Gets a copy of the audio buffer at the specified index
      * @param index of the buffer to fetch
      * @return audio buffer
      * @throws IllegalArgumentException if requested index is not valid
      */
     public float[] getAudioBuffer(int index)
     {
-        if(0 <= index && index < getAudioBufferCount())
-        {
-            return mAudioBuffers.get(index);
-        }
-        else
-        {
-            throw new IllegalArgumentException("Requested audio buffer at index [" + index + "] does not exist");
-        }
+        return mAudioSampleStore.getBuffer(index);
+    }
+
+    /**
+     * Gets a zero-copy view of the audio buffer at the specified index.  The view is only valid while the caller
+     * holds a consumer count on this audio segment.  Reading a view after the audio segment storage has been released
+     * throws an IllegalStateException.
+     * @param index of the buffer to fetch
+     * @return audio buffer view
+     * @throws IllegalArgumentException if requested index is not valid
+     * @throws IllegalStateException if the audio segment storage has been released
+     */
+    public AudioBufferView getAudioBufferView(int index)
+    {
+        return mAudioSampleStore.getView(index);
     }
 
     /**
@@ -345,19 +366,20 @@ public class AudioSegment implements Listener<IdentifierUpdateNotification>
      */
     public boolean hasAudio()
     {
-        return !mAudioBuffers.isEmpty();
+        return mAudioSampleStore.getBufferCount() > 0;
     }
 
     /**
-     * Removes all audio buffers and decrements the user count on each so that the audio buffer can be reclaimed.
+     * Releases the audio storage back to the pool and releases any shared encodings of the audio.
      */
     private void dispose()
     {
         mDisposing = true;
-        mAudioBuffers.clear();
+        mAudioSampleStore.release();
         mIdentifierCollection.clear();
         mIdentifierUpdateNotificationBroadcaster.clear();
         mLinkedAudioSegment = null;
+        MP3EncodingService.getInstance().release(this);
     }
 
     /**
@@ -389,13 +411,25 @@ public class AudioSegment implements Listener<IdentifierUpdateNotification>
     }
 
     /**
-     * Adds an audio buffer to this segment.  Note the producer of the audio buffer should increment the user count
-     * of the buffer prior to adding it to this segment.  This segment will decrement the audio buffer user count once
-     * all consumers of this audio segment have de-registered via the decrementConsumerCount() method.
+     * Adds an audio buffer to this segment.  The samples are copied into pooled storage that is returned to the pool
+     * once all consumers of this audio segment have de-registered via the decrementConsumerCount() method, so the
+     * producer retains ownership of the audio buffer.
      *
      * @param audioBuffer to add to this segment
      */
     public void addAudio(float[] audioBuffer)
+    {
+        addAudio(audioBuffer, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds an audio buffer to this segment, using the timestamp to set the start time of the segment when this is the
+     * first audio buffer.  The samples are copied into pooled storage, as described in addAudio(float[]).
+     *
+     * @param audioBuffer to add to this segment
+     * @param timestamp in milliseconds of the end of the audio buffer
+     */
+    public void addAudio(float[] audioBuffer, long timestamp)
     {
         if(audioBuffer == null)
         {
@@ -407,13 +441,12 @@ public class AudioSegment implements Listener<IdentifierUpdateNotification>
             throw new IllegalStateException("Can't add audio to an audio segment that is being disposed");
         }
 
-        if(mAudioBuffers.isEmpty())
+        if(!hasAudio())
         {
-            mStartTimestamp = System.currentTimeMillis() - 20;
+            mStartTimestamp = timestamp - 20;
         }
 
-        mAudioBuffers.add(audioBuffer);
-        mSampleCount += audioBuffer.length;
+        mAudioSampleStore.append(audioBuffer);
     }
 
     /**
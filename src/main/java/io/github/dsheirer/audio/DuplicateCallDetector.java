@@ -32,6 +32,7 @@ import io.github.dsheirer.preference.duplicate.ICallManagementProvider;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.util.ThreadPool;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +57,7 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
     private ICallManagementProvider mCallManagementProvider;
     private Map<String,SystemDuplicateCallDetector> mDetectorMap = new HashMap();
     protected Listener<AudioSegment> mDuplicateCallDetectionListener;
+    private final LongSupplier mNanoClock;
 
     /**
      * Constructs an instance.
@@ -70,8 +73,19 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
      * @param callManagementProvider to provide call management preferences.
      */
     public DuplicateCallDetector(ICallManagementProvider callManagementProvider)
+    {
+        this(callManagementProvider, System::nanoTime);
+    }
+
+    /**
+     * Constructs an instance with a specific time source, for testing.
+     * @param callManagementProvider to provide call management preferences.
+     * @param nanoClock providing the current time in nanoseconds, in the manner of System.nanoTime()
+     */
+    DuplicateCallDetector(ICallManagementProvider callManagementProvider, LongSupplier nanoClock)
     {
         mCallManagementProvider = callManagementProvider;
+        mNanoClock = nanoClock;
     }
 
     /**
@@ -115,15 +129,29 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
      * System level duplicate call detector.  Uses a scheduled executor to run every 25 ms to compare all ongoing call
      * audio segments to detect duplicates.
      *
-     * All audio segments remain in the queue until they are flagged as complete.  While in the queue, each call is
-     * compared against the others to detect duplicates.  Once all calls are either flagged as complete or flagged as
-     * duplicate and removed, the queue is empty and the monitoring is shutdown until a new audio segment arrives and
-     * then the monitoring starts again.
+     * All audio segments remain monitored until they are flagged as complete.  On each pass, the talkgroup and radio
+     * identifiers of each monitored call are reduced to signatures and looked up in a hash index of the signatures of
+     * the calls, in arrival order, that have audio and are not duplicates.  A call that shares a signature with an
+     * earlier call is flagged as duplicate.  This replaces a pairwise comparison of the identifier lists of all calls.
+     *
+     * Monitored calls are scheduled on a time wheel and a call that receives no new audio for the idle timeout period
+     * is removed from monitoring, so that a call that is never flagged as complete can't keep the monitoring running.
+     *
+     * Once all calls are either flagged as complete, duplicate or idle and removed, monitoring is shutdown until a new
+     * audio segment arrives and then the monitoring starts again.
      */
     public class SystemDuplicateCallDetector
     {
-        private final LinkedTransferQueue<AudioSegment> mAudioSegmentQueue = new LinkedTransferQueue<>();
-        private final List<AudioSegment> mAudioSegments = new ArrayList<>();
+        private static final long TICK_NANOSECONDS = TimeUnit.SECONDS.toNanos(1);
+        private static final int IDLE_TIMEOUT_TICKS = 60;
+        private static final int WHEEL_SIZE = 64;
+        private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+        private final LinkedTransferQueue<MonitoredSegment> mAudioSegmentQueue = new LinkedTransferQueue<>();
+        private final List<MonitoredSegment> mAudioSegments = new ArrayList<>();
+        private final List<List<MonitoredSegment>> mTimeWheel = new ArrayList<>();
+        private final SignatureIndex mSignatureIndex = new SignatureIndex();
+        private final long mWheelStartNanoseconds = mNanoClock.getAsLong();
+        private long mWheelTick = 0;
         private ScheduledFuture<?> mProcessorFuture;
         private Lock mLock = new ReentrantLock();
         private boolean mMonitoring = false;
@@ -138,6 +166,11 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
         {
             mCallManagementProvider = callManagementProvider;
             mSystem = system;
+
+            for(int x = 0; x < WHEEL_SIZE; x++)
+            {
+                mTimeWheel.add(new ArrayList<>());
+            }
         }
 
         /**
@@ -150,7 +183,7 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
 
             try
             {
-                mAudioSegmentQueue.add(audioSegment);
+                mAudioSegmentQueue.add(new MonitoredSegment(audioSegment, mNanoClock.getAsLong()));
                 startMonitoring();
             }
             finally
@@ -189,7 +222,7 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
             {
                 //Recheck the audio segments queue to make sure we didn't slip in another audio segment before we can
                 //shut down the scheduled monitoring thread.
-                if(mMonitoring && mAudioSegments.isEmpty())
+                if(mMonitoring && mAudioSegments.isEmpty() && mAudioSegmentQueue.isEmpty())
                 {
                     if(mProcessorFuture != null)
                     {
@@ -198,6 +231,12 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
                     }
 
                     mMonitoring = false;
+
+                    //Release any removed segments that are still waiting for their idle check
+                    for(List<MonitoredSegment> slot: mTimeWheel)
+                    {
+                        slot.clear();
+                    }
                 }
             }
             finally
@@ -206,38 +245,6 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
             }
         }
 
-        /**
-         * Checks if either the TO or FROM integer identifiers for the audio segments are the same
-         * @param segment1 to compare
-         * @param segment2 to compare
-         * @return true if integer identifiers are the same
-         */
-        private boolean isDuplicate(AudioSegment segment1, AudioSegment segment2)
-        {
-            if(mCallManagementProvider.isDuplicateCallDetectionByTalkgroupEnabled())
-            {
-                //Step 1 check for duplicate TO values
-                List<Identifier> to1 = segment1.getIdentifierCollection().getIdentifiers(Role.TO);
-                List<Identifier> to2 = segment2.getIdentifierCollection().getIdentifiers(Role.TO);
-
-                if(isDuplicate(to1, to2))
-                {
-                    return true;
-                }
-            }
-
-            if(mCallManagementProvider.isDuplicateCallDetectionByRadioEnabled())
-            {
-                //Step 2 check for duplicate FROM values
-                List<Identifier> from1 = segment1.getIdentifierCollection().getIdentifiers(Role.FROM);
-                List<Identifier> from2 = segment2.getIdentifierCollection().getIdentifiers(Role.FROM);
-
-                return isDuplicate(from1, from2);
-            }
-
-            return false;
-        }
-
         /**
          * Checks both lists of identifiers to determine if there are talkgroups or radio identifiers that are
          * the same in both lists.  Note: talkgroup check compares both talkgroups and patch groups.
@@ -250,55 +257,83 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
         {
             for(Identifier identifier1: identifiers1)
             {
-                if(identifier1 instanceof TalkgroupIdentifier tgId1)
-                {
-                    int tg1 = tgId1.getValue();
+                long signature1 = getSignature(identifier1);
 
+                if(signature1 != NO_SIGNATURE)
+                {
                     for(Identifier identifier2: identifiers2)
                     {
-                        if(identifier2 instanceof TalkgroupIdentifier tgId2 && tgId2.getValue() == tg1)
-                        {
-                            return true;
-                        }
-                        else if(identifier2 instanceof PatchGroupIdentifier pgId2 &&
-                                pgId2.getValue().getPatchGroup().getValue() == tg1)
+                        if(getSignature(identifier2) == signature1)
                         {
                             return true;
                         }
                     }
                 }
-                else if(identifier1 instanceof PatchGroupIdentifier pgId1)
+            }
+
+            return false;
+        }
+
+        /**
+         * Schedules the monitored segment on the time wheel to be checked for idle once the idle timeout elapses.
+         */
+        private void schedule(MonitoredSegment monitoredSegment)
+        {
+            monitoredSegment.mIdleCheckTick = mWheelTick + IDLE_TIMEOUT_TICKS;
+            monitoredSegment.mIdleCheckSampleCount = monitoredSegment.mAudioSegment.getSampleCount();
+            mTimeWheel.get((int)(monitoredSegment.mIdleCheckTick & WHEEL_MASK)).add(monitoredSegment);
+        }
+
+        /**
+         * Advances the time wheel to the current time and removes any monitored segments that have not received new
+         * audio since they were scheduled.  Segments that received audio are rescheduled.  Segments that are not yet
+         * due are returned to their slot.
+         */
+        private void advanceTimeWheel()
+        {
+            long currentTick = (mNanoClock.getAsLong() - mWheelStartNanoseconds) / TICK_NANOSECONDS;
+
+            //After a gap longer than the wheel (e.g. while monitoring was stopped), one revolution visits every slot
+            if(currentTick - mWheelTick > WHEEL_SIZE)
+            {
+                mWheelTick = currentTick - WHEEL_SIZE;
+            }
+
+            while(mWheelTick < currentTick)
+            {
+                mWheelTick++;
+                List<MonitoredSegment> slot = mTimeWheel.get((int)(mWheelTick & WHEEL_MASK));
+
+                if(!slot.isEmpty())
                 {
-                    int talkgroup1 = pgId1.getValue().getPatchGroup().getValue();
+                    List<MonitoredSegment> due = new ArrayList<>(slot);
+                    slot.clear();
 
-                    for(Identifier identifier2: identifiers2)
+                    for(MonitoredSegment monitoredSegment: due)
                     {
-                        if(identifier2 instanceof TalkgroupIdentifier tgId2 && tgId2.getValue() == talkgroup1)
+                        if(monitoredSegment.mRemoved)
                         {
-                            return true;
+                            continue;
                         }
-                        else if(identifier2 instanceof PatchGroupIdentifier pgId2 &&
-                                pgId2.getValue().getPatchGroup().getValue() == talkgroup1)
+
+                        if(monitoredSegment.mIdleCheckTick > mWheelTick)
                         {
-                            return true;
+                            slot.add(monitoredSegment);
                         }
-                    }
-                }
-                else if(identifier1 instanceof RadioIdentifier raId1)
-                {
-                    int radio1 = raId1.getValue();
-
-                    for(Identifier identifier2: identifiers2)
-                    {
-                        if(identifier2 instanceof RadioIdentifier raId2 && raId2.getValue() == radio1)
+                        else if(monitoredSegment.mAudioSegment.getSampleCount() !=
+                            monitoredSegment.mIdleCheckSampleCount)
                         {
-                            return true;
+                            schedule(monitoredSegment);
+                        }
+                        else
+                        {
+                            monitoredSegment.mRemoved = true;
+                            monitoredSegment.mAudioSegment.decrementConsumerCount();
+                            DuplicateCallMetrics.getInstance().expired();
                         }
                     }
                 }
             }
-
-            return false;
         }
 
         /**
@@ -310,76 +345,38 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
 
             try
             {
-                //Transfer in newly arrived audio segments
-                mAudioSegmentQueue.drainTo(mAudioSegments);
-
-                //Remove any completed audio segments.
-                mAudioSegments.removeIf(audioSegment -> {
-                    boolean complete = audioSegment.completeProperty().get();
+                //Catch the wheel up to the current time before scheduling arrivals, so that newly arrived audio
+                //segments are scheduled from the current tick
+                advanceTimeWheel();
 
-                    if(complete)
-                    {
-                        audioSegment.decrementConsumerCount();
-                    }
+                //Transfer in newly arrived audio segments
+                MonitoredSegment arrived;
 
-                    return complete;
-                });
+                while((arrived = mAudioSegmentQueue.poll()) != null)
+                {
+                    mAudioSegments.add(arrived);
+                    schedule(arrived);
+                }
 
-                //Remove any encrypted audio segments.
-                mAudioSegments.removeIf(audioSegment -> {
-                    boolean encrypted = audioSegment.isEncrypted();
+                //Remove any completed or encrypted audio segments.
+                for(MonitoredSegment monitoredSegment: mAudioSegments)
+                {
+                    AudioSegment audioSegment = monitoredSegment.mAudioSegment;
 
-                    if(encrypted)
+                    if(!monitoredSegment.mRemoved && (audioSegment.completeProperty().get() || audioSegment.isEncrypted()))
                     {
+                        monitoredSegment.mRemoved = true;
                         audioSegment.decrementConsumerCount();
                     }
+                }
 
-
-                    return encrypted;
-                });
+                mAudioSegments.removeIf(monitoredSegment -> monitoredSegment.mRemoved);
 
                 //Only check for duplicates if there is more than one call
                 if(mAudioSegments.size() > 1)
                 {
-                    List<AudioSegment> duplicates = new ArrayList<>();
-
-                    int currentIndex = 0;
-                    while(currentIndex < mAudioSegments.size() - 1)
-                    {
-                        AudioSegment current = mAudioSegments.get(currentIndex);
-
-                        if(current.hasAudio() && !current.isDuplicate())
-                        {
-                            int checkIndex = currentIndex + 1;
-
-                            while(checkIndex < mAudioSegments.size())
-                            {
-                                AudioSegment toCheck = mAudioSegments.get(checkIndex);
-
-                                if(!toCheck.isDuplicate())
-                                {
-                                    if(isDuplicate(current, toCheck))
-                                    {
-                                        toCheck.setDuplicate(true);
-                                        toCheck.decrementConsumerCount();
-                                        duplicates.add(toCheck);
-
-                                        //Notify optional listener that we flagged the call as duplicate.
-                                        if(mDuplicateCallDetectionListener != null)
-                                        {
-                                            mDuplicateCallDetectionListener.receive(toCheck);
-                                        }
-                                    }
-                                }
-
-                                checkIndex++;
-                            }
-                        }
-
-                        currentIndex++;
-                    }
-
-                    mAudioSegments.removeAll(duplicates);
+                    detectDuplicates();
+                    mAudioSegments.removeIf(monitoredSegment -> monitoredSegment.mRemoved);
                 }
 
                 //Finally, if the audio segment queue is now empty, shutdown monitoring until a new segment arrives.
@@ -400,5 +397,241 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
                 mLock.unlock();
             }
         }
+
+        /**
+         * Flags each audio segment that shares a signature with an earlier audio segment, in arrival order, that has
+         * audio and is not a duplicate.
+         *
+         * Note: this method should only be called from a thread with the lock acquired.
+         */
+        private void detectDuplicates()
+        {
+            boolean byTalkgroup = mCallManagementProvider.isDuplicateCallDetectionByTalkgroupEnabled();
+            boolean byRadio = mCallManagementProvider.isDuplicateCallDetectionByRadioEnabled();
+            long comparisons = 0;
+
+            mSignatureIndex.clear();
+
+            for(MonitoredSegment monitoredSegment: mAudioSegments)
+            {
+                AudioSegment audioSegment = monitoredSegment.mAudioSegment;
+
+                if(audioSegment.isDuplicate())
+                {
+                    continue;
+                }
+
+                monitoredSegment.updateSignatures(byTalkgroup, byRadio);
+                boolean duplicate = false;
+
+                for(int x = 0; x < monitoredSegment.mSignatureCount && !duplicate; x++)
+                {
+                    comparisons++;
+                    duplicate = mSignatureIndex.contains(monitoredSegment.mSignatures[x]);
+                }
+
+                if(duplicate)
+                {
+                    audioSegment.setDuplicate(true);
+                    audioSegment.decrementConsumerCount();
+                    monitoredSegment.mRemoved = true;
+                    DuplicateCallMetrics.getInstance().detected(mNanoClock.getAsLong() -
+                        monitoredSegment.mReceivedNanoseconds);
+
+                    //Notify optional listener that we flagged the call as duplicate.
+                    if(mDuplicateCallDetectionListener != null)
+                    {
+                        mDuplicateCallDetectionListener.receive(audioSegment);
+                    }
+                }
+                else if(audioSegment.hasAudio())
+                {
+                    for(int x = 0; x < monitoredSegment.mSignatureCount; x++)
+                    {
+                        mSignatureIndex.add(monitoredSegment.mSignatures[x]);
+                    }
+                }
+            }
+
+            DuplicateCallMetrics.getInstance().comparisons(comparisons);
+        }
+    }
+
+    /**
+     * Signature value for an identifier that is not used for duplicate call detection.
+     */
+    private static final long NO_SIGNATURE = -1;
+    private static final long SIGNATURE_TYPE_RADIO = 1L << 32;
+    private static final long SIGNATURE_ROLE_FROM = 1L << 33;
+
+    /**
+     * Creates a duplicate detection signature for the identifier value.  Talkgroups and patch groups share the same
+     * signature for the same talkgroup value, so that a talkgroup call and a patch group call for that talkgroup are
+     * duplicates.  Radio identifiers have a separate signature space.
+     * @param identifier to create a signature for
+     * @return signature or NO_SIGNATURE
+     */
+    private static long getSignature(Identifier identifier)
+    {
+        if(identifier instanceof TalkgroupIdentifier talkgroup)
+        {
+            return talkgroup.getValue() & 0xFFFFFFFFL;
+        }
+        else if(identifier instanceof PatchGroupIdentifier patchGroup)
+        {
+            return patchGroup.getValue().getPatchGroup().getValue() & 0xFFFFFFFFL;
+        }
+        else if(identifier instanceof RadioIdentifier radio)
+        {
+            return SIGNATURE_TYPE_RADIO | (radio.getValue() & 0xFFFFFFFFL);
+        }
+
+        return NO_SIGNATURE;
+    }
+
+    /**
+     * Audio segment being monitored for duplicates, with its identifier signatures and time wheel state.
+     */
+    private static class MonitoredSegment
+    {
+        private final AudioSegment mAudioSegment;
+        private final long mReceivedNanoseconds;
+        private long[] mSignatures = new long[4];
+        private int mSignatureCount;
+        private long mIdleCheckTick;
+        private int mIdleCheckSampleCount;
+        private boolean mRemoved;
+
+        MonitoredSegment(AudioSegment audioSegment, long receivedNanoseconds)
+        {
+            mAudioSegment = audioSegment;
+            mReceivedNanoseconds = receivedNanoseconds;
+        }
+
+        /**
+         * Updates the signatures from the current TO identifiers when detecting by talkgroup and from the current
+         * FROM identifiers when detecting by radio.  TO and FROM signatures are kept distinct so that they only match
+         * identifiers with the same role.
+         */
+        void updateSignatures(boolean byTalkgroup, boolean byRadio)
+        {
+            mSignatureCount = 0;
+
+            for(Identifier identifier: mAudioSegment.getIdentifierCollection().getIdentifiers())
+            {
+                Role role = identifier.getRole();
+
+                if((byTalkgroup && role == Role.TO) || (byRadio && role == Role.FROM))
+                {
+                    long signature = getSignature(identifier);
+
+                    if(signature != NO_SIGNATURE)
+                    {
+                        if(mSignatureCount == mSignatures.length)
+                        {
+                            mSignatures = Arrays.copyOf(mSignatures, mSignatureCount * 2);
+                        }
+
+                        mSignatures[mSignatureCount++] = role == Role.FROM ? signature | SIGNATURE_ROLE_FROM :
+                            signature;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Open addressing (linear probe) hash set of primitive signature values that is cleared and reused on each
+     * detection pass.
+     */
+    private static class SignatureIndex
+    {
+        private static final int MINIMUM_CAPACITY = 64;
+        private long[] mKeys = new long[MINIMUM_CAPACITY];
+        private boolean[] mUsed = new boolean[MINIMUM_CAPACITY];
+        private int mMask = MINIMUM_CAPACITY - 1;
+        private int mSize;
+
+        /**
+         * Removes all signatures from the index
+         */
+        void clear()
+        {
+            if(mSize > 0)
+            {
+                Arrays.fill(mUsed, false);
+                mSize = 0;
+            }
+        }
+
+        /**
+         * Indicates if the signature is in the index
+         */
+        boolean contains(long signature)
+        {
+            int index = index(signature);
+
+            while(mUsed[index])
+            {
+                if(mKeys[index] == signature)
+                {
+                    return true;
+                }
+
+                index = (index + 1) & mMask;
+            }
+
+            return false;
+        }
+
+        /**
+         * Adds the signature to the index
+         */
+        void add(long signature)
+        {
+            int index = index(signature);
+
+            while(mUsed[index])
+            {
+                if(mKeys[index] == signature)
+                {
+                    return;
+                }
+
+                index = (index + 1) & mMask;
+            }
+
+            mKeys[index] = signature;
+            mUsed[index] = true;
+            mSize++;
+
+            //Keep the load factor at or below 50% so probe sequences stay short
+            if(mSize * 2 > mKeys.length)
+            {
+                long[] keys = mKeys;
+                boolean[] used = mUsed;
+                mKeys = new long[keys.length * 2];
+                mUsed = new boolean[keys.length * 2];
+                mMask = mKeys.length - 1;
+                mSize = 0;
+
+                for(int x = 0; x < keys.length; x++)
+                {
+                    if(used[x])
+                    {
+                        add(keys[x]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Initial probe index for the signature
+         */
+        private int index(long signature)
+        {
+            long hash = signature * 0x9E3779B97F4A7C15L;
+            return (int)(hash ^ (hash >>> 32)) & mMask;
+        }
     }
 }
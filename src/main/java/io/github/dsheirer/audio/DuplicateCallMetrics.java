@@ -0,0 +1,139 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.audio;
+
+import java.text.DecimalFormat;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application-wide duplicate call detection metrics, aggregated across all systems.  Tracks the number of signature
+ * comparisons performed by the duplicate call detectors, the number of duplicate calls detected and the detection
+ * latency, measured from when the detector receives the duplicate audio segment until it is flagged as duplicate.
+ */
+public class DuplicateCallMetrics
+{
+    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.000");
+    private static DuplicateCallMetrics sInstance;
+    private final LongAdder mComparisons = new LongAdder();
+    private final LongAdder mDetections = new LongAdder();
+    private final LongAdder mDetectionLatencyNanoseconds = new LongAdder();
+    private final LongAccumulator mMaximumDetectionLatencyNanoseconds = new LongAccumulator(Long::max, 0);
+    private final LongAdder mExpired = new LongAdder();
+    private long mLastReportComparisons;
+    private long mLastReportNanoseconds = System.nanoTime();
+
+    /**
+     * Private constructor for singleton access
+     */
+    private DuplicateCallMetrics()
+    {
+    }
+
+    /**
+     * Singleton instance
+     */
+    public static synchronized DuplicateCallMetrics getInstance()
+    {
+        if(sInstance == null)
+        {
+            sInstance = new DuplicateCallMetrics();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Records signature comparisons performed during a detection pass.
+     * @param count of comparisons
+     */
+    public void comparisons(long count)
+    {
+        mComparisons.add(count);
+    }
+
+    /**
+     * Records a duplicate call detection.
+     * @param latencyNanoseconds from when the detector received the audio segment until it was flagged as duplicate.
+     */
+    public void detected(long latencyNanoseconds)
+    {
+        mDetections.increment();
+        mDetectionLatencyNanoseconds.add(latencyNanoseconds);
+        mMaximumDetectionLatencyNanoseconds.accumulate(latencyNanoseconds);
+    }
+
+    /**
+     * Records an audio segment that was removed from monitoring after receiving no audio for the idle timeout period.
+     */
+    public void expired()
+    {
+        mExpired.increment();
+    }
+
+    /**
+     * Total signature comparisons performed.
+     */
+    public long getComparisonCount()
+    {
+        return mComparisons.sum();
+    }
+
+    /**
+     * Total duplicate calls detected.
+     */
+    public long getDetectionCount()
+    {
+        return mDetections.sum();
+    }
+
+    /**
+     * Average duplicate call detection latency in milliseconds
+     */
+    public double getAverageDetectionLatencyMilliseconds()
+    {
+        long count = mDetections.sum();
+        return count > 0 ? mDetectionLatencyNanoseconds.sum() / 1E6 / count : 0.0;
+    }
+
+    /**
+     * Diagnostic report of duplicate call detection metrics.  The comparison rate is calculated over the interval since
+     * the previous report.
+     */
+    public synchronized String getDiagnosticReport()
+    {
+        long now = System.nanoTime();
+        long comparisons = mComparisons.sum();
+        double seconds = Math.max(now - mLastReportNanoseconds, 1) / 1E9;
+        double rate = (comparisons - mLastReportComparisons) / seconds;
+        mLastReportComparisons = comparisons;
+        mLastReportNanoseconds = now;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Duplicate Call Detection\n");
+        sb.append("\tComparisons: ").append(comparisons).append(" (").append(DECIMAL_FORMAT.format(rate))
+            .append(" per second since last report)\n");
+        sb.append("\tDuplicates Detected: ").append(getDetectionCount()).append("\n");
+        sb.append("\tDetection Latency: ").append(DECIMAL_FORMAT.format(getAverageDetectionLatencyMilliseconds()))
+            .append(" ms average, ").append(DECIMAL_FORMAT.format(mMaximumDetectionLatencyNanoseconds.get() / 1E6))
+            .append(" ms maximum\n");
+        sb.append("\tExpired Idle Segments: ").append(mExpired.sum()).append("\n");
+        return sb.toString();
+    }
+}
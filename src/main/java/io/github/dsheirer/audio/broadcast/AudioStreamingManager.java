@@ -220,14 +220,7 @@ public class AudioStreamingManager implements Listener<AudioSegment>
                                      Set<BroadcastChannel> broadcastChannels)
     {
         Path path = getTemporaryRecordingPath();
-        long length = 0;
-
-        for(float[] audioBuffer: audioSegment.getAudioBuffers())
-        {
-            length += audioBuffer.length;
-        }
-
-        length /= 8; //Sample rate is 8000 samples per second, or 8 samples per millisecond.
+        long length = audioSegment.getDuration();
 
         try
         {
@@ -21,6 +21,8 @@ package io.github.dsheirer.audio.broadcast;
 import io.github.dsheirer.alias.AliasModel;
 import io.github.dsheirer.alias.id.broadcast.BroadcastChannel;
 import io.github.dsheirer.icon.IconModel;
+import io.github.dsheirer.monitor.metrics.Gauge;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.properties.SystemProperties;
 import io.github.dsheirer.sample.Broadcaster;
@@ -72,6 +74,7 @@ public class BroadcastModel extends AbstractTableModel implements Listener<Audio
         FXCollections.observableArrayList(ConfiguredBroadcast.extractor());
     private List<AudioRecording> mRecordingQueue = new CopyOnWriteArrayList<>();
     private Map<Integer,AbstractAudioBroadcaster> mBroadcasterMap = new HashMap<>();
+    private Map<Integer,Gauge> mQueueDepthGauges = new HashMap<>();
     private IconModel mIconModel;
     private AliasModel mAliasModel;
     private Broadcaster<BroadcastEvent> mBroadcastEventBroadcaster = new Broadcaster<>();
@@ -280,6 +283,7 @@ public class BroadcastModel extends AbstractTableModel implements Listener<Audio
             if(configuredBroadcast.hasAudioBroadcaster())
             {
                 mBroadcasterMap.remove(broadcastConfiguration.getId());
+                MetricsRegistry.getInstance().remove(mQueueDepthGauges.remove(broadcastConfiguration.getId()));
                 configuredBroadcast.getAudioBroadcaster().stop();;
                 configuredBroadcast.setAudioBroadcaster(null);
             }
@@ -352,6 +356,10 @@ public class BroadcastModel extends AbstractTableModel implements Listener<Audio
                 configuredBroadcast.setAudioBroadcaster(audioBroadcaster);
                 audioBroadcaster.setListener(mBroadcastEventListener);
                 mBroadcasterMap.put(audioBroadcaster.getBroadcastConfiguration().getId(), audioBroadcaster);
+                mQueueDepthGauges.put(audioBroadcaster.getBroadcastConfiguration().getId(),
+                    MetricsRegistry.getInstance().gauge("sdrtrunk_broadcaster_queue_depth",
+                        "Audio recordings awaiting streaming", audioBroadcaster::getAudioQueueSize, "stream",
+                        broadcastConfiguration.getName()));
 
                 int index = mConfiguredBroadcasts.indexOf(configuredBroadcast);
 
@@ -374,6 +382,8 @@ public class BroadcastModel extends AbstractTableModel implements Listener<Audio
         if(configuredBroadcast != null && configuredBroadcast.hasAudioBroadcaster())
         {
             mBroadcasterMap.remove(configuredBroadcast.getBroadcastConfiguration().getId());
+            MetricsRegistry.getInstance().remove(mQueueDepthGauges.remove(configuredBroadcast
+                .getBroadcastConfiguration().getId()));
 
             AbstractAudioBroadcaster broadcaster = configuredBroadcast.getAudioBroadcaster();
             configuredBroadcast.setAudioBroadcaster(null);
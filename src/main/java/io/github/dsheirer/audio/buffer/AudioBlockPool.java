@@ -0,0 +1,182 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.audio.buffer;
+
+import io.github.dsheirer.properties.SystemProperties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of fixed-size audio sample blocks used by audio sample stores to hold audio segment audio.  Blocks are
+ * returned to the pool when an audio sample store is released so that steady-state call audio does not allocate new
+ * arrays.  Blocks that are returned when the pool is already full are released to the garbage collector.
+ *
+ * The sample format for new audio sample stores is set by the system property AUDIO_SEGMENT_16_BIT_STORAGE.  When
+ * enabled, audio is stored as 16-bit samples at half the heap cost of 32-bit float samples.  All recordings and
+ * streams are encoded with 16-bit samples unless a 32-bit MP3 input audio format is selected.
+ */
+public class AudioBlockPool
+{
+    private static final Logger mLog = LoggerFactory.getLogger(AudioBlockPool.class);
+    public static final String AUDIO_SEGMENT_16_BIT_STORAGE = "audio.segment.16.bit.storage";
+    public static final int BLOCK_SHIFT = 11;
+    public static final int BLOCK_SIZE = 1 << BLOCK_SHIFT; //2048 samples, 256 ms @ 8 kHz
+    public static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    private static final int DEFAULT_POOL_SIZE = 512;
+    private static AudioBlockPool sInstance;
+
+    private final ArrayBlockingQueue<float[]> mFloatBlocks;
+    private final ArrayBlockingQueue<short[]> mShortBlocks;
+    private final SampleFormat mSampleFormat;
+    private final int mPoolSize;
+    private final LongAdder mAllocatedCount = new LongAdder();
+    private final LongAdder mReusedCount = new LongAdder();
+    private final LongAdder mDiscardedCount = new LongAdder();
+
+    /**
+     * Constructs an instance
+     * @param poolSize maximum number of blocks of each sample format to retain for reuse
+     * @param sampleFormat for new audio sample stores
+     */
+    public AudioBlockPool(int poolSize, SampleFormat sampleFormat)
+    {
+        mPoolSize = poolSize;
+        mSampleFormat = sampleFormat;
+        mFloatBlocks = new ArrayBlockingQueue<>(poolSize);
+        mShortBlocks = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Singleton instance of the audio block pool shared by all audio segments.
+     */
+    public static synchronized AudioBlockPool getInstance()
+    {
+        if(sInstance == null)
+        {
+            SampleFormat sampleFormat = SampleFormat.FLOAT_32;
+
+            try
+            {
+                if(SystemProperties.getInstance().get(AUDIO_SEGMENT_16_BIT_STORAGE, false))
+                {
+                    sampleFormat = SampleFormat.PCM_16;
+                }
+            }
+            catch(Exception e)
+            {
+                mLog.warn("Unable to read audio segment storage setting - using 32-bit float storage", e);
+            }
+
+            sInstance = new AudioBlockPool(DEFAULT_POOL_SIZE, sampleFormat);
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Sample format for new audio sample stores
+     */
+    public SampleFormat getSampleFormat()
+    {
+        return mSampleFormat;
+    }
+
+    /**
+     * Provides a float sample block from the pool, or allocates a new block when the pool is empty.
+     */
+    public float[] getFloatBlock()
+    {
+        float[] block = mFloatBlocks.poll();
+
+        if(block != null)
+        {
+            mReusedCount.increment();
+            return block;
+        }
+
+        mAllocatedCount.increment();
+        return new float[BLOCK_SIZE];
+    }
+
+    /**
+     * Provides a 16-bit sample block from the pool, or allocates a new block when the pool is empty.
+     */
+    public short[] getShortBlock()
+    {
+        short[] block = mShortBlocks.poll();
+
+        if(block != null)
+        {
+            mReusedCount.increment();
+            return block;
+        }
+
+        mAllocatedCount.increment();
+        return new short[BLOCK_SIZE];
+    }
+
+    /**
+     * Returns the block to the pool.  Block contents are not cleared since stores only read samples they've written.
+     */
+    public void recycle(float[] block)
+    {
+        if(!mFloatBlocks.offer(block))
+        {
+            mDiscardedCount.increment();
+        }
+    }
+
+    /**
+     * Returns the block to the pool.  Block contents are not cleared since stores only read samples they've written.
+     */
+    public void recycle(short[] block)
+    {
+        if(!mShortBlocks.offer(block))
+        {
+            mDiscardedCount.increment();
+        }
+    }
+
+    /**
+     * Diagnostic report of the pool statistics.
+     */
+    public String getDiagnosticReport()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Audio Block Pool\n");
+        sb.append("\tSample Format: ").append(mSampleFormat).append(" Block Size: ").append(BLOCK_SIZE)
+            .append(" samples\n");
+        sb.append("\tPooled Blocks: ").append(mFloatBlocks.size() + mShortBlocks.size()).append(" of ")
+            .append(mPoolSize).append(" per format\n");
+        sb.append("\tAllocated: ").append(mAllocatedCount.sum()).append(" Reused: ").append(mReusedCount.sum())
+            .append(" Discarded: ").append(mDiscardedCount.sum()).append("\n");
+        return sb.toString();
+    }
+
+    /**
+     * Audio sample storage format
+     */
+    public enum SampleFormat
+    {
+        FLOAT_32,
+        PCM_16;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.audio.buffer;
+
+/**
+ * Zero-copy, read-only view of an audio buffer held in an audio sample store.  The view is only valid until the store
+ * is released, after which any read throws an IllegalStateException.
+ */
+public class AudioBufferView
+{
+    private final AudioSampleStore mStore;
+    private final int mStart;
+    private final int mLength;
+
+    /**
+     * Constructs an instance
+     * @param store containing the samples
+     * @param start index of the buffer in the store's sample stream
+     * @param length of the buffer in samples
+     */
+    AudioBufferView(AudioSampleStore store, int start, int length)
+    {
+        mStore = store;
+        mStart = start;
+        mLength = length;
+    }
+
+    /**
+     * Number of samples in the buffer
+     */
+    public int length()
+    {
+        return mLength;
+    }
+
+    /**
+     * Sample at the index
+     * @param index of the sample in the buffer
+     * @return sample value
+     * @throws IndexOutOfBoundsException if the index is not valid
+     * @throws IllegalStateException if the store has been released
+     */
+    public float get(int index)
+    {
+        if(index < 0 || index >= mLength)
+        {
+            throw new IndexOutOfBoundsException("Index [" + index + "] is outside of buffer length [" + mLength + "]");
+        }
+
+        return mStore.getSample(mStart + index);
+    }
+
+    /**
+     * Copies the buffer samples to the destination array
+     * @param destination array with space for the buffer length
+     * @param offset into the destination array
+     * @throws IllegalStateException if the store has been released
+     */
+    public void copyTo(float[] destination, int offset)
+    {
+        mStore.copy(mStart, mLength, destination, offset);
+    }
+
+    /**
+     * Copy of the buffer samples
+     */
+    public float[] toArray()
+    {
+        float[] samples = new float[mLength];
+        copyTo(samples, 0);
+        return samples;
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.audio.buffer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only audio sample store built from fixed-size blocks borrowed from an audio block pool.  Each appended audio
+ * buffer is stored contiguously in the sample stream and may span blocks, so no block space is wasted between
+ * buffers.  Buffer boundaries are retained so that readers can access the audio as the original sequence of buffers.
+ *
+ * A single producer thread appends audio without locking.  Each append is published to concurrent readers by the
+ * volatile buffer count write that follows it, so readers only observe fully written buffers.  Readers access buffers
+ * through zero-copy views, or as copies when a float array is required.
+ *
+ * Releasing the store returns all blocks to the pool.  An append that is in progress when the store is released
+ * completes before the blocks are returned, and subsequent appends are rejected.  Reads are checked against the
+ * release state both before and after the samples are accessed, so a read that overlaps or follows the release throws
+ * an exception instead of returning samples from a block that may have been recycled to another store.
+ */
+public class AudioSampleStore
+{
+    private static final int RELEASED = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final float[][] NO_FLOAT_BLOCKS = new float[0][];
+    private static final short[][] NO_SHORT_BLOCKS = new short[0][];
+
+    private final AudioBlockPool mPool;
+    private final boolean m16Bit;
+    private volatile float[][] mFloatBlocks = NO_FLOAT_BLOCKS;
+    private volatile short[][] mShortBlocks = NO_SHORT_BLOCKS;
+    private volatile int[] mBufferOffsets = new int[INITIAL_CAPACITY + 1];
+    private volatile int mBufferCount;
+    private int mBlockCount;
+
+    //Active appender count, with the sign bit set once the store is released
+    private final AtomicInteger mState = new AtomicInteger();
+
+    /**
+     * Constructs an instance using the pool's sample format.
+     * @param pool to borrow blocks from
+     */
+    public AudioSampleStore(AudioBlockPool pool)
+    {
+        this(pool, pool.getSampleFormat());
+    }
+
+    /**
+     * Constructs an instance
+     * @param pool to borrow blocks from
+     * @param sampleFormat for storing samples
+     */
+    public AudioSampleStore(AudioBlockPool pool, AudioBlockPool.SampleFormat sampleFormat)
+    {
+        mPool = pool;
+        m16Bit = sampleFormat == AudioBlockPool.SampleFormat.PCM_16;
+    }
+
+    /**
+     * Appends the audio buffer to this store.  Samples are copied, so the caller retains ownership of the buffer.
+     *
+     * Note: this method should only be invoked by the single producer thread.
+     *
+     * @param samples to append
+     * @throws IllegalStateException if the store has been released
+     */
+    public void append(float[] samples)
+    {
+        int state;
+
+        do
+        {
+            state = mState.get();
+
+            if(state < 0)
+            {
+                throw new IllegalStateException("Can't add audio to a released audio sample store");
+            }
+        }
+        while(!mState.compareAndSet(state, state + 1));
+
+        try
+        {
+            int count = mBufferCount;
+            int[] offsets = mBufferOffsets;
+            int start = offsets[count];
+            int end = start + samples.length;
+
+            ensureBlockCapacity(end);
+            write(samples, start);
+
+            if(count + 2 > offsets.length)
+            {
+                int[] resized = new int[offsets.length * 2];
+                System.arraycopy(offsets, 0, resized, 0, count + 1);
+                offsets = resized;
+            }
+
+            offsets[count + 1] = end;
+            mBufferOffsets = offsets;
+
+            //Publishes the buffer to readers
+            mBufferCount = count + 1;
+        }
+        finally
+        {
+            if(mState.decrementAndGet() == RELEASED)
+            {
+                recycle();
+            }
+        }
+    }
+
+    /**
+     * Releases this store and returns the blocks to the pool.  Subsequent appends are rejected.
+     */
+    public void release()
+    {
+        int state;
+
+        do
+        {
+            state = mState.get();
+
+            if(state < 0)
+            {
+                return;
+            }
+        }
+        while(!mState.compareAndSet(state, state | RELEASED));
+
+        //Otherwise, the active appender recycles the blocks when it completes
+        if(state == 0)
+        {
+            recycle();
+        }
+    }
+
+    /**
+     * Indicates if this store has been released.
+     */
+    public boolean isReleased()
+    {
+        return mState.get() < 0;
+    }
+
+    /**
+     * Number of audio buffers in this store
+     */
+    public int getBufferCount()
+    {
+        return mBufferCount;
+    }
+
+    /**
+     * Total number of audio samples in this store
+     */
+    public int getSampleCount()
+    {
+        int count = mBufferCount;
+        return mBufferOffsets[count];
+    }
+
+    /**
+     * Zero-copy view of the audio buffer at the index.
+     * @param index of the buffer
+     * @return view of the buffer samples
+     * @throws IllegalArgumentException if the index is not valid
+     * @throws IllegalStateException if the store has been released
+     */
+    public AudioBufferView getView(int index)
+    {
+        checkNotReleased();
+        int count = mBufferCount;
+
+        if(index < 0 || index >= count)
+        {
+            throw new IllegalArgumentException("Requested audio buffer at index [" + index + "] does not exist");
+        }
+
+        int[] offsets = mBufferOffsets;
+        return new AudioBufferView(this, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    /**
+     * Copy of the audio buffer at the index.
+     * @param index of the buffer
+     * @return audio buffer samples
+     * @throws IllegalArgumentException if the index is not valid
+     */
+    public float[] getBuffer(int index)
+    {
+        return getView(index).toArray();
+    }
+
+    /**
+     * Copies of all audio buffers currently in this store.
+     */
+    public List<float[]> getBuffers()
+    {
+        int count = mBufferCount;
+        List<float[]> buffers = new ArrayList<>(count);
+
+        for(int x = 0; x < count; x++)
+        {
+            buffers.add(getBuffer(x));
+        }
+
+        return Collections.unmodifiableList(buffers);
+    }
+
+    /**
+     * Sample at the sample stream index
+     * @throws IllegalStateException if the store has been released
+     */
+    float getSample(int index)
+    {
+        //Block references are captured before the release check, so the check that follows the read detects any
+        //release, and block recycling, that could have overlapped the read
+        float[][] floatBlocks = mFloatBlocks;
+        short[][] shortBlocks = mShortBlocks;
+        checkNotReleased();
+
+        float sample;
+
+        if(m16Bit)
+        {
+            sample = shortBlocks[index >> AudioBlockPool.BLOCK_SHIFT][index & AudioBlockPool.BLOCK_MASK] /
+                (float)Short.MAX_VALUE;
+        }
+        else
+        {
+            sample = floatBlocks[index >> AudioBlockPool.BLOCK_SHIFT][index & AudioBlockPool.BLOCK_MASK];
+        }
+
+        checkNotReleased();
+        return sample;
+    }
+
+    /**
+     * Copies samples from the sample stream to the destination array.
+     * @param start index in the sample stream
+     * @param length number of samples to copy
+     * @param destination array
+     * @param offset into the destination array
+     * @throws IllegalStateException if the store has been released
+     */
+    void copy(int start, int length, float[] destination, int offset)
+    {
+        float[][] floatBlocks = mFloatBlocks;
+        short[][] shortBlocks = mShortBlocks;
+        checkNotReleased();
+
+        while(length > 0)
+        {
+            int block = start >> AudioBlockPool.BLOCK_SHIFT;
+            int blockOffset = start & AudioBlockPool.BLOCK_MASK;
+            int chunk = Math.min(length, AudioBlockPool.BLOCK_SIZE - blockOffset);
+
+            if(m16Bit)
+            {
+                short[] samples = shortBlocks[block];
+
+                for(int x = 0; x < chunk; x++)
+                {
+                    destination[offset + x] = samples[blockOffset + x] / (float)Short.MAX_VALUE;
+                }
+            }
+            else
+            {
+                System.arraycopy(floatBlocks[block], blockOffset, destination, offset, chunk);
+            }
+
+            start += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+
+        checkNotReleased();
+    }
+
+    /**
+     * Verifies that this store has not been released
+     * @throws IllegalStateException if the store has been released
+     */
+    private void checkNotReleased()
+    {
+        if(isReleased())
+        {
+            throw new IllegalStateException("Can't read audio from a released audio sample store");
+        }
+    }
+
+    /**
+     * Writes the samples to the sample stream starting at the index.
+     */
+    private void write(float[] samples, int start)
+    {
+        int position = 0;
+
+        while(position < samples.length)
+        {
+            int block = start >> AudioBlockPool.BLOCK_SHIFT;
+            int blockOffset = start & AudioBlockPool.BLOCK_MASK;
+            int chunk = Math.min(samples.length - position, AudioBlockPool.BLOCK_SIZE - blockOffset);
+
+            if(m16Bit)
+            {
+                short[] destination = mShortBlocks[block];
+
+                for(int x = 0; x < chunk; x++)
+                {
+                    float sample = samples[position + x];
+
+                    if(sample > 1.0f)
+                    {
+                        destination[blockOffset + x] = Short.MAX_VALUE;
+                    }
+                    else if(sample < -1.0f)
+                    {
+                        destination[blockOffset + x] = -Short.MAX_VALUE;
+                    }
+                    else
+                    {
+                        destination[blockOffset + x] = (short)(sample * Short.MAX_VALUE);
+                    }
+                }
+            }
+            else
+            {
+                System.arraycopy(samples, position, mFloatBlocks[block], blockOffset, chunk);
+            }
+
+            start += chunk;
+            position += chunk;
+        }
+    }
+
+    /**
+     * Borrows blocks from the pool until the store can hold the sample count.
+     */
+    private void ensureBlockCapacity(int sampleCount)
+    {
+        int required = (sampleCount + AudioBlockPool.BLOCK_MASK) >> AudioBlockPool.BLOCK_SHIFT;
+
+        if(required <= mBlockCount)
+        {
+            return;
+        }
+
+        if(m16Bit)
+        {
+            short[][] blocks = mShortBlocks;
+
+            if(required > blocks.length)
+            {
+                short[][] resized = new short[Math.max(required, blocks.length * 2)][];
+                System.arraycopy(blocks, 0, resized, 0, mBlockCount);
+                blocks = resized;
+            }
+
+            for(int x = mBlockCount; x < required; x++)
+            {
+                blocks[x] = mPool.getShortBlock();
+            }
+
+            mShortBlocks = blocks;
+        }
+        else
+        {
+            float[][] blocks = mFloatBlocks;
+
+            if(required > blocks.length)
+            {
+                float[][] resized = new float[Math.max(required, blocks.length * 2)][];
+                System.arraycopy(blocks, 0, resized, 0, mBlockCount);
+                blocks = resized;
+            }
+
+            for(int x = mBlockCount; x < required; x++)
+            {
+                blocks[x] = mPool.getFloatBlock();
+            }
+
+            mFloatBlocks = blocks;
+        }
+
+        mBlockCount = required;
+    }
+
+    /**
+     * Returns all blocks to the pool.  Invoked once, after the store is released and no append is in progress.
+     */
+    private void recycle()
+    {
+        float[][] floatBlocks = mFloatBlocks;
+        short[][] shortBlocks = mShortBlocks;
+        int blockCount = mBlockCount;
+
+        mBufferCount = 0;
+        mFloatBlocks = NO_FLOAT_BLOCKS;
+        mShortBlocks = NO_SHORT_BLOCKS;
+        mBlockCount = 0;
+
+        for(int x = 0; x < blockCount; x++)
+        {
+            if(m16Bit)
+            {
+                mPool.recycle(shortBlocks[x]);
+            }
+            else
+            {
+                mPool.recycle(floatBlocks[x]);
+            }
+        }
+    }
+}
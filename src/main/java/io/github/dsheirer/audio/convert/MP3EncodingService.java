@@ -0,0 +1,331 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.audio.convert;
+
+import io.github.dsheirer.audio.AudioSegment;
+import io.github.dsheirer.audio.buffer.AudioBufferView;
+import io.github.dsheirer.controller.NamingThreadFactory;
+import io.github.dsheirer.monitor.metrics.Histogram;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Central MP3 encoding service that encodes the audio of each completed audio segment once per distinct encoder
+ * configuration (input audio format, MP3 setting and audio normalization) and shares the encoded MP3 frames with every
+ * consumer of the audio segment (e.g. the audio recording manager and the audio streaming manager for each broadcast
+ * format and each decomposed patch group talkgroup).
+ *
+ * Encoding is performed on a bounded pool of worker threads.  When the encoding queue is full, the requesting thread
+ * performs the encoding itself.  Encoded frames are held until the audio segment's consumer count returns to zero and
+ * the audio segment releases them via release(), so the audio segment consumer count is the reference count for the
+ * shared encodings.  Encoded frames do not include ID3 metadata, since each consumer may apply different identifiers.
+ */
+public class MP3EncodingService
+{
+    private static final Logger mLog = LoggerFactory.getLogger(MP3EncodingService.class);
+    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.0");
+    private static final int MAXIMUM_QUEUE_SIZE = 256;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 30;
+    private static MP3EncodingService sInstance;
+
+    private final Map<AudioSegment,Map<EncoderConfiguration,FutureTask<List<byte[]>>>> mEncodings =
+        new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor mExecutor;
+    private final int mWorkerCount;
+    private final LongAdder mEncodeCount = new LongAdder();
+    private final LongAdder mSharedCount = new LongAdder();
+    private final LongAdder mEncodeNanoseconds = new LongAdder();
+    private final AtomicLong mCachedBytes = new AtomicLong();
+    private final AtomicLong mPeakQueueDepth = new AtomicLong();
+    private final Histogram mEncodeTimeHistogram = MetricsRegistry.getInstance().histogram(
+        "sdrtrunk_audio_encode_seconds", "MP3 encoding time per audio segment", 1E-9);
+
+    /**
+     * Constructs an instance
+     * @param workerCount number of encoding worker threads
+     */
+    MP3EncodingService(int workerCount)
+    {
+        mWorkerCount = Math.max(1, workerCount);
+        mExecutor = new ThreadPoolExecutor(mWorkerCount, mWorkerCount, WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(MAXIMUM_QUEUE_SIZE), new NamingThreadFactory("sdrtrunk mp3 encoder"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        mExecutor.allowCoreThreadTimeOut(true);
+        MetricsRegistry.getInstance().gauge("sdrtrunk_audio_encode_queue_depth",
+            "Audio segments awaiting MP3 encoding", this::getQueueDepth);
+    }
+
+    /**
+     * Singleton instance of the encoding service, using half of the available processor cores for encoding.
+     */
+    public static synchronized MP3EncodingService getInstance()
+    {
+        if(sInstance == null)
+        {
+            sInstance = new MP3EncodingService(Runtime.getRuntime().availableProcessors() / 2);
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Provides the MP3 encoded audio for the completed audio segment, encoding the audio if it has not already been
+     * encoded with the same configuration, or waiting for an encoding already in progress.  The caller must hold a
+     * consumer count on the audio segment until this method returns.
+     *
+     * @param audioSegment that is complete
+     * @param inputAudioFormat for the encoder
+     * @param mp3Setting for the encoder
+     * @param normalizeAudio to normalize the audio prior to encoding
+     * @return shared, unmodifiable list of MP3 frames.  Callers must not modify the frame arrays.
+     * @throws IOException if the audio cannot be encoded
+     */
+    public List<byte[]> getEncodedAudio(AudioSegment audioSegment, InputAudioFormat inputAudioFormat,
+                                        MP3Setting mp3Setting, boolean normalizeAudio) throws IOException
+    {
+        EncoderConfiguration configuration = new EncoderConfiguration(inputAudioFormat, mp3Setting, normalizeAudio);
+        Map<EncoderConfiguration,FutureTask<List<byte[]>>> encodings =
+            mEncodings.computeIfAbsent(audioSegment, segment -> new ConcurrentHashMap<>());
+
+        FutureTask<List<byte[]>> task = new FutureTask<>(() -> encode(audioSegment, configuration));
+        FutureTask<List<byte[]>> existing = encodings.putIfAbsent(configuration, task);
+
+        if(existing == null)
+        {
+            mExecutor.execute(task);
+            updatePeakQueueDepth();
+        }
+        else
+        {
+            mSharedCount.increment();
+            task = existing;
+        }
+
+        try
+        {
+            return task.get();
+        }
+        catch(ExecutionException ee)
+        {
+            //Don't retain the failed encoding so that a subsequent request can retry
+            encodings.remove(configuration, task);
+            throw new IOException("Error encoding audio segment to MP3", ee.getCause());
+        }
+        catch(InterruptedException ie)
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for MP3 encoding", ie);
+        }
+    }
+
+    /**
+     * Releases the encoded audio for the audio segment.  Invoked by the audio segment once all consumers have
+     * finished with the segment.
+     * @param audioSegment to release
+     */
+    public void release(AudioSegment audioSegment)
+    {
+        Map<EncoderConfiguration,FutureTask<List<byte[]>>> encodings = mEncodings.remove(audioSegment);
+
+        if(encodings != null)
+        {
+            for(FutureTask<List<byte[]>> task: encodings.values())
+            {
+                if(task.isDone() && !task.isCancelled())
+                {
+                    try
+                    {
+                        mCachedBytes.addAndGet(-getByteCount(task.get()));
+                    }
+                    catch(ExecutionException | InterruptedException e)
+                    {
+                        //Failed encodings are not counted in the cached byte total
+                    }
+                }
+                else
+                {
+                    //Encoding is no longer needed if it hasn't started yet
+                    mExecutor.remove(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes the audio segment buffers and records the encoding time.
+     */
+    private List<byte[]> encode(AudioSegment audioSegment, EncoderConfiguration configuration)
+    {
+        long start = System.nanoTime();
+
+        MP3AudioConverter converter = new MP3AudioConverter(configuration.inputAudioFormat(),
+            configuration.mp3Setting(), configuration.normalizeAudio());
+        List<byte[]> frames = new ArrayList<>(converter.convert(getAudio(audioSegment)));
+        frames.addAll(converter.flush());
+
+        long elapsed = System.nanoTime() - start;
+        mEncodeNanoseconds.add(elapsed);
+        mEncodeTimeHistogram.record(elapsed);
+        mEncodeCount.increment();
+        mCachedBytes.addAndGet(getByteCount(frames));
+
+        return Collections.unmodifiableList(frames);
+    }
+
+    /**
+     * Copies the audio segment buffers into a single contiguous array.  The converter streams the audio through the
+     * resampler and the encoder, so encoding the buffers as one array produces the same frames as encoding them one
+     * at a time.
+     * @param audioSegment that is complete
+     * @return list containing the audio samples array, or an empty list if the segment has no audio
+     */
+    private static List<float[]> getAudio(AudioSegment audioSegment)
+    {
+        AudioBufferView[] views = new AudioBufferView[audioSegment.getAudioBufferCount()];
+        int length = 0;
+
+        for(int x = 0; x < views.length; x++)
+        {
+            views[x] = audioSegment.getAudioBufferView(x);
+            length += views[x].length();
+        }
+
+        if(length == 0)
+        {
+            return Collections.emptyList();
+        }
+
+        float[] samples = new float[length];
+        int offset = 0;
+
+        for(AudioBufferView view: views)
+        {
+            view.copyTo(samples, offset);
+            offset += view.length();
+        }
+
+        return List.of(samples);
+    }
+
+    /**
+     * Total byte count of the frames
+     */
+    private static long getByteCount(List<byte[]> frames)
+    {
+        long count = 0;
+
+        for(byte[] frame: frames)
+        {
+            count += frame.length;
+        }
+
+        return count;
+    }
+
+    /**
+     * Tracks the peak encoding queue depth
+     */
+    private void updatePeakQueueDepth()
+    {
+        long depth = getQueueDepth();
+        long peak = mPeakQueueDepth.get();
+
+        while(depth > peak && !mPeakQueueDepth.compareAndSet(peak, depth))
+        {
+            peak = mPeakQueueDepth.get();
+        }
+    }
+
+    /**
+     * Number of encodings waiting for a worker thread
+     */
+    public int getQueueDepth()
+    {
+        return mExecutor.getQueue().size();
+    }
+
+    /**
+     * Number of audio segment encodings performed
+     */
+    public long getEncodeCount()
+    {
+        return mEncodeCount.sum();
+    }
+
+    /**
+     * Number of requests that were served from an existing or in-progress encoding
+     */
+    public long getSharedCount()
+    {
+        return mSharedCount.sum();
+    }
+
+    /**
+     * Average encoding time per audio segment, in milliseconds
+     */
+    public double getAverageEncodeTimeMilliseconds()
+    {
+        long count = getEncodeCount();
+        return count > 0 ? mEncodeNanoseconds.sum() / 1E6 / count : 0.0;
+    }
+
+    /**
+     * Diagnostic report of the encoding service statistics
+     */
+    public String getDiagnosticReport()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("MP3 Encoding Service\n");
+        sb.append("\tWorkers: ").append(mWorkerCount).append(" (").append(mExecutor.getActiveCount())
+            .append(" active)\n");
+        sb.append("\tQueue Depth: ").append(getQueueDepth()).append(" (peak ").append(mPeakQueueDepth.get())
+            .append(")\n");
+        sb.append("\tEncoded Segments: ").append(getEncodeCount()).append("\n");
+        sb.append("\tShared Encodings: ").append(getSharedCount()).append("\n");
+        sb.append("\tEncode Time: ").append(DECIMAL_FORMAT.format(mEncodeNanoseconds.sum() / 1E6))
+            .append(" ms total, ").append(DECIMAL_FORMAT.format(getAverageEncodeTimeMilliseconds()))
+            .append(" ms average\n");
+        sb.append("\tCached Segments: ").append(mEncodings.size()).append(" (").append(mCachedBytes.get())
+            .append(" bytes)\n");
+        return sb.toString();
+    }
+
+    /**
+     * Encoder configuration that distinguishes encodings of the same audio segment
+     */
+    private record EncoderConfiguration(InputAudioFormat inputAudioFormat, MP3Setting mp3Setting,
+                                        boolean normalizeAudio)
+    {
+    }
+}
@@ -22,6 +22,7 @@ package io.github.dsheirer.audio.playback;
 import com.google.common.eventbus.Subscribe;
 import io.github.dsheirer.audio.AudioEvent;
 import io.github.dsheirer.audio.AudioSegment;
+import io.github.dsheirer.audio.buffer.AudioBufferView;
 import io.github.dsheirer.eventbus.MyEventBus;
 import io.github.dsheirer.identifier.IdentifierCollection;
 import io.github.dsheirer.identifier.IdentifierUpdateNotification;
@@ -211,14 +212,14 @@ public class AudioChannel implements Listener<IdentifierUpdateNotification>
             if(mCurrentBufferIndex < 0)
             {
                 mAudioBuffer.add(mAudioSegmentStartTone);
-                mAudioBuffer.add(mCurrentAudioSegment.getAudioBuffer(0));
+                mAudioBuffer.add(mCurrentAudioSegment.getAudioBufferView(0));
                 mCurrentBufferIndex = 1;
                 broadcast(mCurrentAudioSegment.getIdentifierCollection());
                 mMetadataSent = true;
             }
             else
             {
-                mAudioBuffer.add(mCurrentAudioSegment.getAudioBuffer(mCurrentBufferIndex++));
+                mAudioBuffer.add(mCurrentAudioSegment.getAudioBufferView(mCurrentBufferIndex++));
             }
 
             mNoAudioFromSegmentIntervalCount = 0;
@@ -523,6 +524,26 @@ public class AudioChannel implements Listener<IdentifierUpdateNotification>
             }
         }
 
+        /**
+         * Appends the audio segment buffer samples to the buffer, copying directly from the audio segment storage.
+         * @param view of the audio segment buffer to add
+         */
+        public void add(AudioBufferView view)
+        {
+            mLock.lock();
+
+            try
+            {
+                float[] combined = Arrays.copyOf(mBuffer, mBuffer.length + view.length());
+                view.copyTo(combined, mBuffer.length);
+                mBuffer = combined;
+            }
+            finally
+            {
+                mLock.unlock();
+            }
+        }
+
         /**
          * Inserts the audio to the front of the buffer.  This can be used to insert test audio ahead of any queued audio.
          * @param audio to insert
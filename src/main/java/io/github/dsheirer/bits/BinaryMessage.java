@@ -18,6 +18,7 @@
  */
 package io.github.dsheirer.bits;
 
+import io.github.dsheirer.dsp.symbol.Dibit;
 import io.github.dsheirer.edac.CRC;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
@@ -55,6 +56,13 @@ public class BinaryMessage extends BitSet
      */
     private CRC mCRC;
 
+    /**
+     * Packed copy of the message bits, in BitSet.toLongArray() word order, for word-level shift-and-mask field
+     * extraction.  Every mutator discards the copy and it is recreated on the next field read, so that a message that
+     * is assembled once and then parsed many times only packs its bits once.
+     */
+    private transient volatile long[] mWords;
+
     /**
      * Constructs a bitset that buffers bits added one at a time, up to the size
      * of the this bitset.
@@ -269,6 +277,192 @@ public class BinaryMessage extends BitSet
         mPointer = 0;
     }
 
+    @Override
+    public void set(int bitIndex)
+    {
+        super.set(bitIndex);
+        invalidateWords();
+    }
+
+    @Override
+    public void set(int bitIndex, boolean value)
+    {
+        super.set(bitIndex, value);
+        invalidateWords();
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex)
+    {
+        super.set(fromIndex, toIndex);
+        invalidateWords();
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex, boolean value)
+    {
+        super.set(fromIndex, toIndex, value);
+        invalidateWords();
+    }
+
+    @Override
+    public void clear(int bitIndex)
+    {
+        super.clear(bitIndex);
+        invalidateWords();
+    }
+
+    @Override
+    public void clear(int fromIndex, int toIndex)
+    {
+        super.clear(fromIndex, toIndex);
+        invalidateWords();
+    }
+
+    @Override
+    public void flip(int bitIndex)
+    {
+        super.flip(bitIndex);
+        invalidateWords();
+    }
+
+    @Override
+    public void flip(int fromIndex, int toIndex)
+    {
+        super.flip(fromIndex, toIndex);
+        invalidateWords();
+    }
+
+    @Override
+    public void and(BitSet set)
+    {
+        super.and(set);
+        invalidateWords();
+    }
+
+    @Override
+    public void or(BitSet set)
+    {
+        super.or(set);
+        invalidateWords();
+    }
+
+    @Override
+    public void xor(BitSet set)
+    {
+        super.xor(set);
+        invalidateWords();
+    }
+
+    @Override
+    public void andNot(BitSet set)
+    {
+        super.andNot(set);
+        invalidateWords();
+    }
+
+    /**
+     * Discards the packed copy of the message bits after a change to the message.
+     */
+    private void invalidateWords()
+    {
+        if(mWords != null)
+        {
+            mWords = null;
+        }
+    }
+
+    /**
+     * Packed copy of the message bits, created on first use after a change to the message.
+     */
+    private long[] getWords()
+    {
+        long[] words = mWords;
+
+        if(words == null)
+        {
+            words = toLongArray();
+            mWords = words;
+        }
+
+        return words;
+    }
+
+    /**
+     * Extracts a contiguous field using word-level shift-and-mask operations.
+     * @param start index of the most significant bit of the field
+     * @param width of the field, 1 to 64 bits
+     * @return field value, right-aligned
+     */
+    private long extract(int start, int width)
+    {
+        long[] words = getWords();
+        int wordIndex = start >>> 6;
+        int bitOffset = start & 63;
+
+        //Message bits are stored least significant bit first within each word
+        long bits = wordIndex < words.length ? words[wordIndex] >>> bitOffset : 0;
+
+        if(bitOffset + width > 64 && wordIndex + 1 < words.length)
+        {
+            bits |= words[wordIndex + 1] << (64 - bitOffset);
+        }
+
+        //Reverse so that the first message bit is the most significant bit of the value
+        return Long.reverse(bits) >>> (64 - width);
+    }
+
+    /**
+     * Extracts a field from the bit indices, where the first index is the most significant bit of the value.  Runs of
+     * consecutive indices are extracted together with word-level operations.
+     * @param indices of the field bits, up to 64
+     * @param offset to apply to each index
+     * @return field value, right-aligned
+     */
+    private long extract(int[] indices, int offset)
+    {
+        long value = 0;
+        int x = 0;
+
+        while(x < indices.length)
+        {
+            int start = indices[x];
+            int width = 1;
+
+            while(x + width < indices.length && indices[x + width] == start + width)
+            {
+                width++;
+            }
+
+            //A shift of 64 is a no-op in Java, but then the value is necessarily still zero
+            value = (width == 64 ? 0 : value << width) | extract(start + offset, width);
+            x += width;
+        }
+
+        return value;
+    }
+
+    /**
+     * Adds the bits from the range of dibits to this message, starting at the current pointer.
+     *
+     * Note: this method does not provide overfill protection.
+     *
+     * @param dibits to add
+     * @param from index of the first dibit, inclusive
+     * @param to index of the last dibit, exclusive
+     */
+    public void add(Dibit[] dibits, int from, int to)
+    {
+        for(int x = from; x < to; x++)
+        {
+            Dibit dibit = dibits[x];
+            super.set(mPointer++, dibit.getBit1());
+            super.set(mPointer++, dibit.getBit2());
+        }
+
+        invalidateWords();
+    }
+
     /**
      * Adds a the bit parameters to this bitset, placing it in the index
      * specified by mPointer, and incrementing mPointer to prepare for the next
@@ -467,25 +661,7 @@ public class BinaryMessage extends BitSet
      */
     public int getInt(int[] bits)
     {
-        if(bits.length > 32)
-        {
-            throw new IllegalArgumentException("Overflow - must be 32 bits "
-                    + "or less to fit into a primitive integer value");
-        }
-
-        int value = 0;
-
-        for(int index : bits)
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return getInt(bits, 0);
     }
 
     /**
@@ -495,19 +671,7 @@ public class BinaryMessage extends BitSet
      */
     public int getInt(IntField intField)
     {
-        int value = 0;
-
-        for(int index = intField.start(); index <= intField.end(); index++)
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return getInt(intField, 0);
     }
 
     /**
@@ -517,19 +681,7 @@ public class BinaryMessage extends BitSet
      */
     public int getInt(FragmentedIntField fragmentedField)
     {
-        int value = 0;
-
-        for(int index: fragmentedField.indices())
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return (int)extract(fragmentedField.indices(), 0);
     }
 
     /**
@@ -569,6 +721,11 @@ public class BinaryMessage extends BitSet
      */
     public int getInt(IntField intField, int offset)
     {
+        if(intField.width() <= Integer.SIZE)
+        {
+            return (int)extract(intField.start() + offset, intField.width());
+        }
+
         int value = 0;
 
         for(int index = intField.start() + offset; index <= intField.end() + offset; index++)
@@ -593,19 +750,7 @@ public class BinaryMessage extends BitSet
      */
     public int getInt(FragmentedIntField fragmentedField, int offset)
     {
-        int value = 0;
-
-        for(int index: fragmentedField.indices())
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index + offset))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return (int)extract(fragmentedField.indices(), offset);
     }
 
     /**
@@ -645,19 +790,7 @@ public class BinaryMessage extends BitSet
      */
     public long getLong(LongField intField)
     {
-        long value = 0;
-
-        for(int index = intField.start(); index <= intField.end(); index++)
-        {
-            value = Long.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return getLong(intField, 0);
     }
 
     /**
@@ -669,6 +802,11 @@ public class BinaryMessage extends BitSet
      */
     public long getLong(LongField intField, int offset)
     {
+        if(intField.width() <= Long.SIZE)
+        {
+            return extract(intField.start() + offset, intField.width());
+        }
+
         long value = 0;
 
         for(int index = intField.start() + offset; index <= intField.end() + offset; index++)
@@ -702,19 +840,7 @@ public class BinaryMessage extends BitSet
                     + "or less to fit into a primitive integer value");
         }
 
-        int value = 0;
-
-        for(int index : bits)
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index + offset))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return (int)extract(bits, offset);
     }
 
     public void setInt(int value, int[] indices)
@@ -828,6 +954,11 @@ public class BinaryMessage extends BitSet
      */
     public byte getByte(int startIndex)
     {
+        if(startIndex + 8 <= size())
+        {
+            return (byte)extract(startIndex, 8);
+        }
+
         int value = 0;
 
         for(int x = 0; x < 8; x++)
@@ -872,6 +1003,11 @@ public class BinaryMessage extends BitSet
      */
     public int getNibble(int startIndex)
     {
+        if(startIndex + 4 <= size())
+        {
+            return (int)extract(startIndex, 4);
+        }
+
         int value = 0;
 
         for(int x = 0; x < 4; x++)
@@ -926,25 +1062,7 @@ public class BinaryMessage extends BitSet
      */
     public long getLong(int[] bits)
     {
-        if(bits.length > 64)
-        {
-            throw new IllegalArgumentException("Overflow - must be 64 bits "
-                    + "or less to fit into a primitive long value");
-        }
-
-        long value = 0;
-
-        for(int index : bits)
-        {
-            value = Long.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return getLong(bits, 0);
     }
 
     /**
@@ -964,19 +1082,7 @@ public class BinaryMessage extends BitSet
                     + "or less to fit into a primitive long value");
         }
 
-        long value = 0;
-
-        for(int index : bits)
-        {
-            value = Long.rotateLeft(value, 1);
-
-            if(get(index + offset))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return extract(bits, offset);
     }
 
     /**
@@ -1085,6 +1191,11 @@ public class BinaryMessage extends BitSet
                     + "or less to fit into a primitive integer value");
         }
 
+        if(start < end && (end - start) < Integer.SIZE)
+        {
+            return (int)extract(start, end - start + 1);
+        }
+
         int value = 0;
 
         if(start < end)
@@ -1160,6 +1271,11 @@ public class BinaryMessage extends BitSet
                     + "or less to fit into a primitive long value");
         }
 
+        if(start < end && (end - start) < Long.SIZE)
+        {
+            return extract(start, end - start + 1);
+        }
+
         long value = 0;
 
         if(start < end)
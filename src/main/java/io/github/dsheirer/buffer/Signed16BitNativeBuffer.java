@@ -0,0 +1,217 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.buffer;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Native buffer that wraps a memory segment (e.g. a region of a memory-mapped baseband recording) containing
+ * little-endian, signed 16-bit interleaved I/Q samples.  The buffer is a zero-copy view of the underlying memory and
+ * the samples are only converted to float as each fragment is iterated.
+ *
+ * Conversion uses the scalar vs vector SIMD implementation selected by the sample buffer iterator calibrations, the
+ * same as the sample native buffer.
+ */
+public class Signed16BitNativeBuffer extends AbstractNativeBuffer
+{
+    private static final ValueLayout.OfShort SAMPLE_LAYOUT =
+        ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final float SCALE_SIGNED_16_BIT_TO_FLOAT = 1.0f / Short.MAX_VALUE;
+    private static final int BYTES_PER_COMPLEX_SAMPLE = 4;
+    private static final int FRAGMENT_SIZE = 2048;
+    private final MemorySegment mSamples;
+    private final int mSampleCount;
+    private final Implementation mInterleavedImplementation;
+    private final Implementation mNonInterleavedImplementation;
+
+    /**
+     * Constructs an instance
+     * @param samples memory segment containing signed 16-bit little-endian interleaved complex samples
+     * @param timestamp for the start of the buffer
+     * @param interleavedImplementation optimal, scalar vs vector SIMD
+     * @param nonInterleavedImplementation optimal, scalar vs vector SIMD
+     * @param samplesPerMillisecond to calculate sub-buffer fragment timestamps
+     */
+    public Signed16BitNativeBuffer(MemorySegment samples, long timestamp, Implementation interleavedImplementation,
+                                   Implementation nonInterleavedImplementation, float samplesPerMillisecond)
+    {
+        super(timestamp, samplesPerMillisecond);
+        mSamples = samples;
+        mSampleCount = (int)(samples.byteSize() / BYTES_PER_COMPLEX_SAMPLE);
+        mInterleavedImplementation = interleavedImplementation;
+        mNonInterleavedImplementation = nonInterleavedImplementation;
+    }
+
+    @Override
+    public int sampleCount()
+    {
+        return mSampleCount;
+    }
+
+    @Override
+    public Iterator<ComplexSamples> iterator()
+    {
+        return new ComplexSamplesIterator(getSpecies(mNonInterleavedImplementation));
+    }
+
+    @Override
+    public Iterator<InterleavedComplexSamples> iteratorInterleaved()
+    {
+        return new InterleavedComplexSamplesIterator(getSpecies(mInterleavedImplementation));
+    }
+
+    /**
+     * Float vector species for the implementation.
+     * @return species or null for the scalar implementation.
+     */
+    private static VectorSpecies<Float> getSpecies(Implementation implementation)
+    {
+        return switch(implementation)
+        {
+            case VECTOR_SIMD_512 -> FloatVector.SPECIES_512;
+            case VECTOR_SIMD_256 -> FloatVector.SPECIES_256;
+            case VECTOR_SIMD_128 -> FloatVector.SPECIES_128;
+            case VECTOR_SIMD_64 -> FloatVector.SPECIES_64;
+            default -> null;
+        };
+    }
+
+    /**
+     * Converts a fragment of interleaved 16-bit samples to interleaved float samples.
+     * @param samplePointer to the first complex sample in the fragment
+     * @param samples array to fill with converted interleaved samples
+     * @param species for vector conversion, or null for scalar conversion
+     */
+    private void convert(int samplePointer, float[] samples, VectorSpecies<Float> species)
+    {
+        long byteOffset = (long)samplePointer * BYTES_PER_COMPLEX_SAMPLE;
+        int offset = 0;
+
+        if(species != null)
+        {
+            //Each short vector converts into two float vectors of the same shape
+            VectorSpecies<Short> shortSpecies = VectorSpecies.of(short.class, species.vectorShape());
+
+            for(; offset < shortSpecies.loopBound(samples.length); offset += shortSpecies.length())
+            {
+                ShortVector vector = ShortVector.fromMemorySegment(shortSpecies, mSamples,
+                    byteOffset + offset * 2L, ByteOrder.LITTLE_ENDIAN);
+                ((FloatVector)vector.convertShape(VectorOperators.S2F, species, 0))
+                    .mul(SCALE_SIGNED_16_BIT_TO_FLOAT).intoArray(samples, offset);
+                ((FloatVector)vector.convertShape(VectorOperators.S2F, species, 1))
+                    .mul(SCALE_SIGNED_16_BIT_TO_FLOAT).intoArray(samples, offset + species.length());
+            }
+        }
+
+        for(; offset < samples.length; offset++)
+        {
+            samples[offset] = mSamples.get(SAMPLE_LAYOUT, byteOffset + offset * 2L) * SCALE_SIGNED_16_BIT_TO_FLOAT;
+        }
+    }
+
+    private class ComplexSamplesIterator implements Iterator<ComplexSamples>
+    {
+        private final VectorSpecies<Float> mSpecies;
+        private final float[] mInterleaved = new float[FRAGMENT_SIZE * 2];
+        private int mSamplePointer = 0;
+
+        public ComplexSamplesIterator(VectorSpecies<Float> species)
+        {
+            mSpecies = species;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return mSamplePointer < mSampleCount;
+        }
+
+        @Override
+        public ComplexSamples next()
+        {
+            if(!hasNext())
+            {
+                throw new IllegalStateException("No more samples");
+            }
+
+            int length = Math.min(FRAGMENT_SIZE, mSampleCount - mSamplePointer);
+            float[] interleaved = length == FRAGMENT_SIZE ? mInterleaved : new float[length * 2];
+            convert(mSamplePointer, interleaved, mSpecies);
+
+            float[] i = new float[length];
+            float[] q = new float[length];
+
+            for(int x = 0; x < length; x++)
+            {
+                i[x] = interleaved[2 * x];
+                q[x] = interleaved[2 * x + 1];
+            }
+
+            long timestamp = getFragmentTimestamp(mSamplePointer * 2);
+            mSamplePointer += length;
+
+            return new ComplexSamples(i, q, timestamp);
+        }
+    }
+
+    private class InterleavedComplexSamplesIterator implements Iterator<InterleavedComplexSamples>
+    {
+        private final VectorSpecies<Float> mSpecies;
+        private int mSamplePointer = 0;
+
+        public InterleavedComplexSamplesIterator(VectorSpecies<Float> species)
+        {
+            mSpecies = species;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return mSamplePointer < mSampleCount;
+        }
+
+        @Override
+        public InterleavedComplexSamples next()
+        {
+            if(!hasNext())
+            {
+                throw new IllegalStateException("No more samples");
+            }
+
+            int length = Math.min(FRAGMENT_SIZE, mSampleCount - mSamplePointer);
+            float[] samples = new float[length * 2];
+            convert(mSamplePointer, samples, mSpecies);
+
+            long timestamp = getFragmentTimestamp(mSamplePointer * 2);
+            mSamplePointer += length;
+
+            return new InterleavedComplexSamples(samples, timestamp);
+        }
+    }
+}
@@ -107,7 +107,7 @@ public abstract class AbstractDecoderState extends Module implements ActivitySum
      */
     protected void broadcast(IDecodeEvent event)
     {
-        if(!mDuplicateEventDetector.isDuplicate(event, System.currentTimeMillis()))
+        if(!mDuplicateEventDetector.isDuplicate(event, getChannelTimestamp()))
         {
             mDecodeEventBroadcaster.broadcast(event);
         }
@@ -21,6 +21,7 @@ package io.github.dsheirer.controller.channel;
 import com.google.common.eventbus.Subscribe;
 import io.github.dsheirer.alias.AliasModel;
 import io.github.dsheirer.audio.AudioSegment;
+import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.channel.metadata.ChannelAndMetadata;
 import io.github.dsheirer.channel.metadata.ChannelMetadata;
 import io.github.dsheirer.channel.metadata.ChannelMetadataModel;
@@ -38,6 +39,7 @@ import io.github.dsheirer.module.Module;
 import io.github.dsheirer.module.ProcessingChain;
 import io.github.dsheirer.module.decode.DecoderFactory;
 import io.github.dsheirer.module.decode.event.IDecodeEvent;
+import io.github.dsheirer.module.decode.traffic.TrafficChannelManager;
 import io.github.dsheirer.module.log.EventLogManager;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.record.RecorderFactory;
@@ -60,6 +62,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import javafx.application.Platform;
@@ -93,6 +96,9 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
     private UserPreferences mUserPreferences;
     private List<Long> mLoggedFrequencies = new ArrayList<>();
     private List<ScheduledFuture<?>> mDelayedChannelStartTasks = new ArrayList<>();
+    private TrafficChannelProcessingChainPool mTrafficChannelProcessingChainPool =
+        new TrafficChannelProcessingChainPool();
+    private Map<TrafficChannelManager,AtomicBoolean> mPrewarmInProgressMap = new ConcurrentHashMap<>();
 
     /**
      * Constructs the channel processing manager
@@ -112,6 +118,7 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
         mAliasModel = aliasModel;
         mUserPreferences = userPreferences;
         mChannelMetadataModel = new ChannelMetadataModel();
+        mTrafficChannelProcessingChainPool.start();
     }
 
     /**
@@ -418,7 +425,35 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
             throw new ChannelException("No Tuner Available");
         }
 
-        ProcessingChain processingChain = new ProcessingChain(channel, mAliasModel);
+        ProcessingChain processingChain = null;
+        TrafficChannelManager trafficChannelManager = request.getTrafficChannelManager();
+
+        //Reuse an idle processing chain from a previous grant on this traffic channel when available
+        if(channel.isTrafficChannel() && trafficChannelManager != null)
+        {
+            processingChain = mTrafficChannelProcessingChainPool.acquire(channel, trafficChannelManager);
+
+            if(processingChain != null && !DecoderFactory.updateTrafficChannel(channel,
+                processingChain.getDecoderStates(), request.getChannelDescriptor()))
+            {
+                mTrafficChannelProcessingChainPool.discard(processingChain);
+                processingChain.dispose();
+                processingChain = null;
+            }
+
+            //Replenish the idle processing chains for the next traffic channels to be allocated
+            requestPrewarm(trafficChannelManager);
+        }
+
+        if(processingChain == null)
+        {
+            processingChain = createProcessingChain(channel, trafficChannelManager, request.getChannelDescriptor());
+        }
+
+        if(channel.isTrafficChannel())
+        {
+            processingChain.setGrantTimestamp(request.getTimestamp());
+        }
 
         //Certain decoders aggregate the decode events in the parent channel that also includes any events produced
         //by the traffic channels.  Establish listener registration depending on if this channel is a traffic channel
@@ -438,33 +473,9 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
 
         mChannelEventBroadcaster.addListener(processingChain);
 
-        /* Register global listeners */
-        for(Listener<AudioSegment> listener : mAudioSegmentListeners)
-        {
-            processingChain.addAudioSegmentListener(listener);
-        }
-
-        for(Listener<IDecodeEvent> listener : mDecodeEventListeners)
-        {
-            processingChain.addDecodeEventListener(listener);
-        }
-
-        //Add a listener to detect source error state that indicates the channel should be shutdown.
-        //Note: processing chain will only add this once.
-        processingChain.addSourceEventListener(mSourceErrorListener);
-
-        //Register this manager to receive channel events from traffic channel manager modules within
-        //the processing chain
-        processingChain.addChannelEventListener(this);
-
         //Register channel to receive frequency correction events to show in the spectral display (hack!)
         processingChain.addFrequencyChangeListener(channel);
 
-        /* Processing Modules */
-        List<Module> modules = DecoderFactory.getModules(mChannelMapModel, channel, mAliasModel, mUserPreferences,
-            request.getTrafficChannelManager(), request.getChannelDescriptor());
-        processingChain.addModules(modules);
-
         //Post preload data from the request to the event bus.  Modules that can handle preload data will annotate
         //their processor method with @Subscribe to receive each specific preload data content class.
         for(PreloadDataContent preloadDataContent: request.getPreloadDataContents())
@@ -553,6 +564,19 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
             }
 
             mChannelEventBroadcaster.broadcast(new ChannelEvent(channel, ChannelEvent.Event.NOTIFICATION_PROCESSING_START));
+
+            //Construct idle processing chains for the first traffic channels of a control channel's traffic channel
+            //manager ahead of the first channel grant
+            if(!channel.isTrafficChannel())
+            {
+                for(Module module: processingChain.getModules())
+                {
+                    if(module instanceof TrafficChannelManager manager)
+                    {
+                        requestPrewarm(manager);
+                    }
+                }
+            }
         }
         else
         {
@@ -564,10 +588,94 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
             mChannelEventBroadcaster.broadcast(new ChannelEvent(channel, ChannelEvent.Event.NOTIFICATION_PROCESSING_STOP));
             mChannelEventBroadcaster.removeListener(processingChain);
             processingChain.getEventBus().unregister(ChannelProcessingManager.this);
+            mTrafficChannelProcessingChainPool.discard(processingChain);
             processingChain.dispose();
         }
     }
 
+    /**
+     * Constructs a processing chain with the decoder modules for the channel and registers the global listeners.  A
+     * traffic channel processing chain is registered with the traffic channel processing chain pool so that it can be
+     * reused for a subsequent channel grant on the same traffic channel.
+     * @param channel for the processing chain
+     * @param trafficChannelManager (optional) that owns the traffic channel
+     * @param channelDescriptor (optional) for the channel
+     * @return processing chain
+     */
+    private ProcessingChain createProcessingChain(Channel channel, TrafficChannelManager trafficChannelManager,
+                                                  IChannelDescriptor channelDescriptor)
+    {
+        ProcessingChain processingChain = new ProcessingChain(channel, mAliasModel);
+
+        /* Register global listeners */
+        for(Listener<AudioSegment> listener : mAudioSegmentListeners)
+        {
+            processingChain.addAudioSegmentListener(listener);
+        }
+
+        for(Listener<IDecodeEvent> listener : mDecodeEventListeners)
+        {
+            processingChain.addDecodeEventListener(listener);
+        }
+
+        //Add a listener to detect source error state that indicates the channel should be shutdown.
+        //Note: processing chain will only add this once.
+        processingChain.addSourceEventListener(mSourceErrorListener);
+
+        //Register this manager to receive channel events from traffic channel manager modules within
+        //the processing chain
+        processingChain.addChannelEventListener(this);
+
+        /* Processing Modules */
+        List<Module> modules = DecoderFactory.getModules(mChannelMapModel, channel, mAliasModel, mUserPreferences,
+            trafficChannelManager, channelDescriptor);
+        processingChain.addModules(modules);
+
+        if(channel.isTrafficChannel() && trafficChannelManager != null)
+        {
+            mTrafficChannelProcessingChainPool.register(processingChain, trafficChannelManager);
+        }
+
+        return processingChain;
+    }
+
+    /**
+     * Schedules construction of idle processing chains for the traffic channels that are next in line for allocation
+     * by the traffic channel manager.  Requests are coalesced so that there is at most one pre-warm task in progress
+     * for each traffic channel manager.
+     * @param trafficChannelManager for the traffic channels
+     */
+    private void requestPrewarm(TrafficChannelManager trafficChannelManager)
+    {
+        AtomicBoolean inProgress = mPrewarmInProgressMap.computeIfAbsent(trafficChannelManager,
+            manager -> new AtomicBoolean());
+
+        if(inProgress.compareAndSet(false, true))
+        {
+            ThreadPool.CACHED.execute(() -> {
+                try
+                {
+                    prewarm(trafficChannelManager);
+                }
+                finally
+                {
+                    inProgress.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Constructs idle processing chains for the traffic channels that are next in line for allocation by the traffic
+     * channel manager.
+     * @param trafficChannelManager for the traffic channels
+     */
+    private void prewarm(TrafficChannelManager trafficChannelManager)
+    {
+        mTrafficChannelProcessingChainPool.prewarm(trafficChannelManager,
+            channel -> createProcessingChain(channel, trafficChannelManager, null));
+    }
+
     /**
      * Thread-safe add processing chain and add channel metadata to channel metadata model.
      * @param channel for the processing chain
@@ -687,7 +795,23 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
 
                 //Unregister for event bus requests and notifications
                 processingChain.getEventBus().unregister(ChannelProcessingManager.this);
-                processingChain.dispose();
+
+                if(!channel.isTrafficChannel())
+                {
+                    for(Module module: processingChain.getModules())
+                    {
+                        if(module instanceof TrafficChannelManager manager)
+                        {
+                            mPrewarmInProgressMap.remove(manager);
+                        }
+                    }
+                }
+
+                //Retain traffic channel processing chains for reuse by the next grant on the same traffic channel
+                if(!mTrafficChannelProcessingChainPool.release(channel, processingChain))
+                {
+                    processingChain.dispose();
+                }
             }
             catch(Exception e)
             {
@@ -722,6 +846,8 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
                 mLog.error("Error stopping channel [" + channel.getName() + "] - " + ce.getMessage());
             }
         }
+
+        mTrafficChannelProcessingChainPool.stop();
     }
 
     /**
@@ -903,6 +1029,7 @@ public class ChannelProcessingManager implements Listener<ChannelEvent>
     {
         StringBuilder sb = new StringBuilder();
         sb.append("Channel Processing Manager - Diagnostics Report\n\n");
+        sb.append(mTrafficChannelProcessingChainPool.getDiagnosticInformation()).append("\n");
         sb.append(DIVIDER);
         sb.append("\tChannel to Processing Chain Map Contents\n");
         Map<Channel,ProcessingChain> mapCopy = new HashMap<>(mProcessingChainsMap);
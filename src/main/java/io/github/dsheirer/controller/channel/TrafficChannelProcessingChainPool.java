@@ -0,0 +1,339 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.controller.channel;
+
+import io.github.dsheirer.module.ProcessingChain;
+import io.github.dsheirer.module.decode.traffic.TrafficChannelManager;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
+import io.github.dsheirer.util.ThreadPool;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of idle, pre-constructed processing chains for traffic channels.
+ *
+ * Traffic channel managers allocate traffic channels from a fixed set of traffic channel configurations.  Instead of
+ * disposing the processing chain when a traffic channel stops, the stopped (and reset) processing chain is retained
+ * in this pool and reused the next time that the same traffic channel is allocated for a channel grant, avoiding the
+ * cost of constructing the decoder, filter and audio modules while the start of the call is being received.  Chains
+ * can also be constructed ahead of the first channel grant (pre-warmed) for the traffic channels that are next in line
+ * for allocation.
+ *
+ * Idle chains that are not reused within the idle timeout are disposed.
+ */
+public class TrafficChannelProcessingChainPool
+{
+    private static final Logger mLog = LoggerFactory.getLogger(TrafficChannelProcessingChainPool.class);
+    private static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final int MAXIMUM_IDLE_CHAINS = 64;
+    public static final int PREWARM_COUNT = 2;
+    private static final String METRIC_NAME = "sdrtrunk_traffic_processing_chains_total";
+    private static final String METRIC_HELP = "Traffic channel processing chains by how they were obtained";
+
+    private final Map<ProcessingChain,TrafficChannelManager> mPoolableChains = new IdentityHashMap<>();
+    private final Map<Channel,IdleChain> mIdleChains = new LinkedHashMap<>();
+    private final Counter mBuiltCounter = MetricsRegistry.getInstance().counter(METRIC_NAME, METRIC_HELP,
+        "source", "built");
+    private final Counter mPrewarmedCounter = MetricsRegistry.getInstance().counter(METRIC_NAME, METRIC_HELP,
+        "source", "prewarmed");
+    private final Counter mReusedCounter = MetricsRegistry.getInstance().counter(METRIC_NAME, METRIC_HELP,
+        "source", "reused");
+    private ScheduledFuture<?> mExpirationFuture;
+
+    /**
+     * Constructs an instance
+     */
+    public TrafficChannelProcessingChainPool()
+    {
+    }
+
+    /**
+     * Starts the periodic disposal of idle processing chains that have exceeded the idle timeout.
+     */
+    public void start()
+    {
+        if(mExpirationFuture == null)
+        {
+            mExpirationFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(this::removeExpired, 1, 1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Stops the periodic disposal task and disposes all idle processing chains.
+     */
+    public void stop()
+    {
+        if(mExpirationFuture != null)
+        {
+            mExpirationFuture.cancel(true);
+            mExpirationFuture = null;
+        }
+
+        List<ProcessingChain> toDispose = new ArrayList<>();
+
+        synchronized(this)
+        {
+            for(IdleChain idleChain: mIdleChains.values())
+            {
+                toDispose.add(idleChain.processingChain());
+            }
+
+            mIdleChains.clear();
+            mPoolableChains.clear();
+        }
+
+        dispose(toDispose);
+    }
+
+    /**
+     * Registers a newly constructed traffic channel processing chain as eligible for reuse once it is stopped.
+     * @param processingChain that was constructed for a traffic channel
+     * @param trafficChannelManager that owns the traffic channel
+     */
+    public synchronized void register(ProcessingChain processingChain, TrafficChannelManager trafficChannelManager)
+    {
+        mPoolableChains.put(processingChain, trafficChannelManager);
+        mBuiltCounter.increment();
+    }
+
+    /**
+     * Removes the processing chain from this pool so that it is not reused.  Invoke this before disposing a
+     * registered processing chain.
+     * @param processingChain to remove
+     */
+    public synchronized void discard(ProcessingChain processingChain)
+    {
+        mPoolableChains.remove(processingChain);
+    }
+
+    /**
+     * Obtains the idle processing chain for the traffic channel.
+     * @param channel for the traffic channel
+     * @param trafficChannelManager that is requesting the traffic channel
+     * @return idle processing chain or null if there is no idle processing chain for the channel.
+     */
+    public ProcessingChain acquire(Channel channel, TrafficChannelManager trafficChannelManager)
+    {
+        IdleChain idleChain;
+
+        synchronized(this)
+        {
+            idleChain = mIdleChains.remove(channel);
+
+            if(idleChain == null)
+            {
+                return null;
+            }
+
+            //The chain's decoder states reference the traffic channel manager that the chain was constructed with
+            if(idleChain.trafficChannelManager() == trafficChannelManager)
+            {
+                mReusedCounter.increment();
+                return idleChain.processingChain();
+            }
+
+            mPoolableChains.remove(idleChain.processingChain());
+        }
+
+        dispose(List.of(idleChain.processingChain()));
+        return null;
+    }
+
+    /**
+     * Returns a stopped processing chain to the pool for reuse.
+     * @param channel for the processing chain
+     * @param processingChain that is stopped
+     * @return true if the processing chain was retained, or false if the processing chain is not eligible for reuse
+     * and should be disposed by the caller.
+     */
+    public boolean release(Channel channel, ProcessingChain processingChain)
+    {
+        List<ProcessingChain> toDispose = new ArrayList<>();
+
+        synchronized(this)
+        {
+            TrafficChannelManager trafficChannelManager = mPoolableChains.get(processingChain);
+
+            if(trafficChannelManager == null)
+            {
+                return false;
+            }
+
+            IdleChain replaced = mIdleChains.put(channel, new IdleChain(processingChain, trafficChannelManager,
+                System.currentTimeMillis()));
+
+            if(replaced != null && replaced.processingChain() != processingChain)
+            {
+                mPoolableChains.remove(replaced.processingChain());
+                toDispose.add(replaced.processingChain());
+            }
+
+            //Evict the longest idle chains when the pool is full
+            Iterator<Map.Entry<Channel,IdleChain>> it = mIdleChains.entrySet().iterator();
+
+            while(mIdleChains.size() > MAXIMUM_IDLE_CHAINS && it.hasNext())
+            {
+                IdleChain evicted = it.next().getValue();
+                it.remove();
+                mPoolableChains.remove(evicted.processingChain());
+                toDispose.add(evicted.processingChain());
+            }
+        }
+
+        dispose(toDispose);
+        return true;
+    }
+
+    /**
+     * Constructs idle processing chains for the traffic channels that are next in line for allocation by the
+     * traffic channel manager.  Channels that already have an idle processing chain are skipped.
+     * @param trafficChannelManager for the traffic channels
+     * @param factory to construct a processing chain for a traffic channel
+     */
+    public void prewarm(TrafficChannelManager trafficChannelManager, Function<Channel,ProcessingChain> factory)
+    {
+        for(Channel channel: trafficChannelManager.getNextAvailableTrafficChannels(PREWARM_COUNT))
+        {
+            synchronized(this)
+            {
+                if(mIdleChains.containsKey(channel))
+                {
+                    continue;
+                }
+            }
+
+            try
+            {
+                ProcessingChain processingChain = factory.apply(channel);
+
+                synchronized(this)
+                {
+                    mPoolableChains.put(processingChain, trafficChannelManager);
+                    mPrewarmedCounter.increment();
+                }
+
+                //A channel grant may have allocated the channel while the chain was constructed.  Only retain the
+                //pre-warmed chain when the channel doesn't have an idle chain by then.
+                boolean retained;
+
+                synchronized(this)
+                {
+                    retained = !mIdleChains.containsKey(channel);
+
+                    if(retained)
+                    {
+                        mIdleChains.put(channel, new IdleChain(processingChain, trafficChannelManager,
+                            System.currentTimeMillis()));
+                    }
+                    else
+                    {
+                        mPoolableChains.remove(processingChain);
+                    }
+                }
+
+                if(!retained)
+                {
+                    dispose(List.of(processingChain));
+                }
+            }
+            catch(Exception e)
+            {
+                mLog.error("Error constructing pre-warmed processing chain for traffic channel [" + channel.getName() +
+                    "]", e);
+            }
+        }
+    }
+
+    /**
+     * Disposes idle processing chains that have exceeded the idle timeout.
+     */
+    private void removeExpired()
+    {
+        List<ProcessingChain> toDispose = new ArrayList<>();
+        long threshold = System.currentTimeMillis() - IDLE_TIMEOUT_MS;
+
+        synchronized(this)
+        {
+            Iterator<IdleChain> it = mIdleChains.values().iterator();
+
+            while(it.hasNext())
+            {
+                IdleChain idleChain = it.next();
+
+                if(idleChain.released() < threshold)
+                {
+                    it.remove();
+                    mPoolableChains.remove(idleChain.processingChain());
+                    toDispose.add(idleChain.processingChain());
+                }
+            }
+        }
+
+        dispose(toDispose);
+    }
+
+    /**
+     * Disposes the processing chains
+     */
+    private static void dispose(List<ProcessingChain> processingChains)
+    {
+        for(ProcessingChain processingChain: processingChains)
+        {
+            try
+            {
+                processingChain.dispose();
+            }
+            catch(Exception e)
+            {
+                mLog.error("Error disposing idle traffic channel processing chain", e);
+            }
+        }
+    }
+
+    /**
+     * Diagnostic summary of this pool
+     */
+    public synchronized String getDiagnosticInformation()
+    {
+        return "Traffic Channel Processing Chain Pool - Idle [" + mIdleChains.size() + "] Registered [" +
+            mPoolableChains.size() + "] Built [" + mBuiltCounter.get() + "] Pre-Warmed [" + mPrewarmedCounter.get() +
+            "] Reused [" + mReusedCounter.get() + "]\n";
+    }
+
+    /**
+     * Idle processing chain
+     * @param processingChain that is stopped
+     * @param trafficChannelManager that owns the traffic channel
+     * @param released timestamp when the chain was returned to the pool
+     */
+    private record IdleChain(ProcessingChain processingChain, TrafficChannelManager trafficChannelManager,
+                             long released)
+    {
+    }
+}
@@ -39,6 +39,7 @@ public class ChannelStartProcessingRequest extends ModuleEventBusMessage
     private final IdentifierCollection mIdentifierCollection;
     private final TrafficChannelManager mTrafficChannelManager;
     private final List<PreloadDataContent<?>> mPreloadDataContents = new ArrayList<>();
+    private final long mTimestamp = System.currentTimeMillis();
     private DecodeEventHistory mParentDecodeEventHistory;
     private DecodeEventHistory mChildDecodeEventHistory;
     private boolean mPersistentAttempt;
@@ -109,6 +110,15 @@ public class ChannelStartProcessingRequest extends ModuleEventBusMessage
         return mPersistentAttempt;
     }
 
+    /**
+     * Timestamp when this request was created, for example when a traffic channel was granted.
+     * @return timestamp in milliseconds
+     */
+    public long getTimestamp()
+    {
+        return mTimestamp;
+    }
+
     /**
      * Channel to start processing
      * @return channel to start
@@ -19,12 +19,10 @@
 package io.github.dsheirer.dsp.afsk;
 
 import io.github.dsheirer.bits.IBinarySymbolProcessor;
-import io.github.dsheirer.buffer.FloatAveragingBuffer;
 import io.github.dsheirer.dsp.filter.resample.RealResampler;
-import io.github.dsheirer.dsp.oscillator.IRealOscillator;
-import io.github.dsheirer.dsp.oscillator.OscillatorFactory;
 import io.github.dsheirer.sample.Listener;
-import org.apache.commons.math3.util.FastMath;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,16 +54,18 @@ public class AFSK1200Decoder implements Listener<float[]>
     public static final double SPACE = 1800.0;
     public static final float TIMING_ERROR_GAIN = 1.0f / 3.0f; //Timing error adjustments over 3 symbol periods
 
-    private Correlator mCorrelatorMark = new Correlator(SAMPLE_RATE, MARK, AVERAGING_PERIOD, CORRELATION_PERIOD);
-    private Correlator mCorrelatorSpace = new Correlator(SAMPLE_RATE, SPACE, AVERAGING_PERIOD, CORRELATION_PERIOD);
-    private float[] mCorrelationValuesMark;
-    private float[] mCorrelationValuesSpace;
+    private static final int MARK_INDEX = 0;
+    private static final int SPACE_INDEX = 1;
+
+    private AFSKToneCorrelatorBank mCorrelatorBank = AFSKToneCorrelatorBankFactory.getCorrelatorBank(SAMPLE_RATE,
+        new double[]{MARK, SPACE}, AVERAGING_PERIOD, CORRELATION_PERIOD);
 
     protected boolean mNormalOutput;
     protected float mSymbolTimingGain = TIMING_ERROR_GAIN;
     protected AFSKSampleBuffer mSampleBuffer;
     protected AFSKTimingErrorDetector mTimingErrorDetector = new AFSKTimingErrorDetector(SAMPLES_PER_SYMBOL);
     protected IBinarySymbolProcessor mBinarySymbolProcessor;
+    private List<SymbolTap> mSymbolTaps = new CopyOnWriteArrayList<>();
     private boolean mSampleDecision;
 
     //Resample to an integral of the baud rate 1200 baud * 6 samples per symbol = 7200.0 Hertz
@@ -124,6 +124,11 @@ public class AFSK1200Decoder implements Listener<float[]>
         {
             mBinarySymbolProcessor.process(mNormalOutput ? symbol : !symbol);
         }
+
+        for(SymbolTap symbolTap: mSymbolTaps)
+        {
+            symbolTap.processor().process(symbolTap.normalOutput() ? symbol : !symbol);
+        }
     }
 
     /**
@@ -144,6 +149,35 @@ public class AFSK1200Decoder implements Listener<float[]>
         mBinarySymbolProcessor = null;
     }
 
+    /**
+     * Adds a symbol processor to receive the decoded symbols with the specified output, in addition to the symbol
+     * processor that is registered via setSymbolProcessor().  This allows several protocol decoders that use the same
+     * 1200/1800 Hz tone pair to share a single resampler and correlator bank for each channel.
+     *
+     * @param binarySymbolProcessor to receive symbols
+     * @param output NORMAL: 1200Hz = Mark(1) and 1800Hz = Space(0), or INVERTED (vice-versa)
+     */
+    public void addSymbolProcessor(IBinarySymbolProcessor binarySymbolProcessor, Output output)
+    {
+        mSymbolTaps.add(new SymbolTap(binarySymbolProcessor, output == Output.NORMAL));
+    }
+
+    /**
+     * Removes a symbol processor that was added via addSymbolProcessor().
+     * @param binarySymbolProcessor to remove
+     */
+    public void removeSymbolProcessor(IBinarySymbolProcessor binarySymbolProcessor)
+    {
+        mSymbolTaps.removeIf(symbolTap -> symbolTap.processor() == binarySymbolProcessor);
+    }
+
+    /**
+     * Symbol processor and output polarity
+     */
+    private record SymbolTap(IBinarySymbolProcessor processor, boolean normalOutput)
+    {
+    }
+
 
     public class Decoder implements Listener<float[]>
     {
@@ -151,13 +185,14 @@ public class AFSK1200Decoder implements Listener<float[]>
         public void receive(float[] buffer)
         {
             //Calculate correlation values against each 1200/1800 reference signal
-            mCorrelationValuesMark = mCorrelatorMark.process(buffer);
-            mCorrelationValuesSpace = mCorrelatorSpace.process(buffer);
+            float[][] correlationValues = mCorrelatorBank.process(buffer);
+            float[] mark = correlationValues[MARK_INDEX];
+            float[] space = correlationValues[SPACE_INDEX];
 
-            for(int x = 0; x < mCorrelationValuesMark.length; x++)
+            for(int x = 0; x < mark.length; x++)
             {
                 //1200 = Mark (1) and 1800 = Space (0)
-                mSampleDecision = mCorrelationValuesMark[x] > mCorrelationValuesSpace[x];
+                mSampleDecision = mark[x] > space[x];
                 mSampleBuffer.receive(mSampleDecision);
                 mTimingErrorDetector.receive(mSampleDecision);
 
@@ -169,83 +204,4 @@ public class AFSK1200Decoder implements Listener<float[]>
             }
         }
     }
-
-    /**
-     * Generates a correlation value for each FM demodulated sample against samples generated for an established
-     * reference frequency, correlated and averaged over separate periods relative to the samples per symbol period.
-     *
-     * The sample rate of the correlator should be an integral value of the target frequency for optimal performance,
-     * This correlator only works across integral sample periods and does not provide intra-sample interpolation.
-     *
-     * Correlation period (ie number of samples) should be relative to the samples per symbol.  You may have to
-     * experiment with various values of (samplesPerSymbol +/- 1, 2 or 3) to obtain the optimal decoder performance.
-     *
-     * Averaging period defines the number of correlation values to average before producing the final correlation
-     * value for each sample.
-     */
-    public class Correlator
-    {
-        private FloatAveragingBuffer mAveragingBuffer;
-        private float[] mReferenceSamples;
-        private float[] mDemodulatedSamples;
-        private float[] mCorrelationValues;
-        private float mCorrelationAccumulator;
-
-        /**
-         * Constructs a correlator instance,
-         *
-         * @param sampleRate of the incoming sample stream.  Note: this should be an integral of the symbol rate.
-         * @param frequency of the mark or space symbol to test for correlation
-         * @param averagingPeriod is the number of correlation values to average each period
-         * @param correlationPeriod is the number of samples to correlate each period
-         */
-        public Correlator(double sampleRate, double frequency, int averagingPeriod, int correlationPeriod)
-        {
-            mAveragingBuffer = new FloatAveragingBuffer(averagingPeriod);
-
-            IRealOscillator referenceSignalGenerator = OscillatorFactory.getRealOscillator(frequency, sampleRate);
-            mReferenceSamples = referenceSignalGenerator.generate(correlationPeriod);
-
-            mDemodulatedSamples = new float[correlationPeriod];
-        }
-
-        /**
-         * Processes each sample in the incoming sample buffer against a generated reference sample set for one symbol
-         * period to derive a correlation value that is in-turn averaged over one symbol period.
-         *
-         * @param samples containing FM demodulated samples
-         * @return a reusable array of correlation values for each sample
-         */
-        public float[] process(float[] samples)
-        {
-            if(mCorrelationValues == null || mCorrelationValues.length != samples.length)
-            {
-                mCorrelationValues = new float[samples.length];
-            }
-
-            int y;
-
-            for(int x = 0; x < samples.length; x++)
-            {
-                //Note: we're using array copy and dot product structures that the JRE can promote to SIMD intrinsics
-                //when the host processor supports SIMD instructions
-                System.arraycopy(mDemodulatedSamples, 1, mDemodulatedSamples, 0, mDemodulatedSamples.length - 1);
-                mDemodulatedSamples[mDemodulatedSamples.length - 1] = samples[x];
-
-                mCorrelationAccumulator = 0.0f;
-
-                for(y = 0; y < mDemodulatedSamples.length; y++)
-                {
-                    mCorrelationAccumulator += mDemodulatedSamples[y] * mReferenceSamples[y];
-                }
-
-                //Add the absolute value of correlation accumulator value to the averaging buffer and store the current
-                //average as the correlation value for this sample.  We use absolute value because we don't care if the
-                //signal is out of phase with the reference samples
-                mCorrelationValues[x] = mAveragingBuffer.get(FastMath.abs(mCorrelationAccumulator));
-            }
-
-            return mCorrelationValues;
-        }
-    }
 }
@@ -0,0 +1,132 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.afsk;
+
+import io.github.dsheirer.buffer.FloatAveragingBuffer;
+import io.github.dsheirer.dsp.oscillator.IRealOscillator;
+import io.github.dsheirer.dsp.oscillator.OscillatorFactory;
+
+/**
+ * Bank of tone correlators that generates a correlation value for each FM demodulated sample against reference samples
+ * generated for each of a set of tone frequencies, correlated and averaged over separate periods relative to the
+ * samples per symbol period.  All tones are correlated against the same sample buffer in a single pass so that
+ * decoders that need several tone pairs can share one resampled sample stream.
+ *
+ * The sample rate should be an integral value of the tone frequencies for optimal performance.  The correlator only
+ * works across integral sample periods and does not provide intra-sample interpolation.
+ *
+ * Correlation period (ie number of samples) should be relative to the samples per symbol.  Averaging period defines
+ * the number of correlation values to average before producing the final correlation value for each sample.
+ */
+public abstract class AFSKToneCorrelatorBank
+{
+    private final FloatAveragingBuffer[] mAveragingBuffers;
+    private final float[][] mReferenceSamples;
+    private final int mCorrelationPeriod;
+    private float[][] mCorrelationValues = new float[0][0];
+    private float[] mSamples;
+
+    /**
+     * Constructs an instance
+     *
+     * @param sampleRate of the incoming sample stream.  Note: this should be an integral of the symbol rate.
+     * @param frequencies of the tones to test for correlation
+     * @param averagingPeriod is the number of correlation values to average each period
+     * @param correlationPeriod is the number of samples to correlate each period
+     */
+    public AFSKToneCorrelatorBank(double sampleRate, double[] frequencies, int averagingPeriod, int correlationPeriod)
+    {
+        mCorrelationPeriod = correlationPeriod;
+        mAveragingBuffers = new FloatAveragingBuffer[frequencies.length];
+        mReferenceSamples = new float[frequencies.length][];
+
+        for(int tone = 0; tone < frequencies.length; tone++)
+        {
+            mAveragingBuffers[tone] = new FloatAveragingBuffer(averagingPeriod);
+            IRealOscillator oscillator = OscillatorFactory.getRealOscillator(frequencies[tone], sampleRate);
+            mReferenceSamples[tone] = oscillator.generate(correlationPeriod);
+        }
+
+        //Sample history from the previous buffer, followed by the current buffer
+        mSamples = new float[correlationPeriod - 1];
+    }
+
+    /**
+     * Number of tones in this bank
+     */
+    public int getToneCount()
+    {
+        return mReferenceSamples.length;
+    }
+
+    /**
+     * Processes each sample in the incoming sample buffer against the reference samples for each tone to derive a
+     * correlation value that is in-turn averaged over one symbol period.
+     *
+     * @param samples containing FM demodulated samples
+     * @return reusable arrays of correlation values for each sample, indexed by tone in the order of the frequencies
+     * provided to the constructor.
+     */
+    public float[][] process(float[] samples)
+    {
+        int history = mCorrelationPeriod - 1;
+
+        if(mCorrelationValues.length != mReferenceSamples.length || mCorrelationValues[0].length != samples.length)
+        {
+            mCorrelationValues = new float[mReferenceSamples.length][samples.length];
+            float[] resized = new float[samples.length + history];
+            System.arraycopy(mSamples, 0, resized, 0, history);
+            mSamples = resized;
+        }
+
+        System.arraycopy(samples, 0, mSamples, history, samples.length);
+
+        for(int tone = 0; tone < mReferenceSamples.length; tone++)
+        {
+            float[] correlationValues = mCorrelationValues[tone];
+            correlate(mSamples, mReferenceSamples[tone], correlationValues);
+
+            //Average the absolute value of each correlation value.  We use absolute value because we don't care if the
+            //signal is out of phase with the reference samples
+            FloatAveragingBuffer averagingBuffer = mAveragingBuffers[tone];
+
+            for(int x = 0; x < correlationValues.length; x++)
+            {
+                correlationValues[x] = averagingBuffer.get(Math.abs(correlationValues[x]));
+            }
+        }
+
+        //Retain the final samples as history for the next buffer
+        System.arraycopy(mSamples, samples.length, mSamples, 0, history);
+
+        return mCorrelationValues;
+    }
+
+    /**
+     * Correlates the samples against the reference samples.  Each output value is the dot product of the reference
+     * samples and the correlation period of samples that ends with the sample at the output index plus the
+     * correlation period minus one.
+     *
+     * @param samples containing the sample history followed by the current samples.  The length of this array is the
+     * length of the correlation values array plus the correlation period minus one.
+     * @param reference samples for the tone, correlation period in length
+     * @param correlationValues to receive the raw correlation values
+     */
+    protected abstract void correlate(float[] samples, float[] reference, float[] correlationValues);
+}
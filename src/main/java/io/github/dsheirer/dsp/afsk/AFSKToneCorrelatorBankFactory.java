@@ -0,0 +1,61 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.afsk;
+
+import io.github.dsheirer.vector.calibrate.CalibrationManager;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+
+/**
+ * Factory for creating AFSK tone correlator banks
+ */
+public class AFSKToneCorrelatorBankFactory
+{
+    /**
+     * Creates the implementation using calibration data to select the optimal implementation from scalar and vector
+     * options.
+     *
+     * @param sampleRate of the incoming sample stream.  Note: this should be an integral of the symbol rate.
+     * @param frequencies of the tones to test for correlation
+     * @param averagingPeriod is the number of correlation values to average each period
+     * @param correlationPeriod is the number of samples to correlate each period
+     * @return correlator bank instance
+     */
+    public static AFSKToneCorrelatorBank getCorrelatorBank(double sampleRate, double[] frequencies, int averagingPeriod,
+                                                           int correlationPeriod)
+    {
+        Implementation implementation = CalibrationManager.getInstance()
+            .getImplementation(CalibrationType.AFSK_TONE_CORRELATOR);
+
+        switch(implementation)
+        {
+            case VECTOR_SIMD_64:
+                return new AFSKToneCorrelatorBankVector64(sampleRate, frequencies, averagingPeriod, correlationPeriod);
+            case VECTOR_SIMD_128:
+                return new AFSKToneCorrelatorBankVector128(sampleRate, frequencies, averagingPeriod, correlationPeriod);
+            case VECTOR_SIMD_256:
+                return new AFSKToneCorrelatorBankVector256(sampleRate, frequencies, averagingPeriod, correlationPeriod);
+            case VECTOR_SIMD_512:
+                return new AFSKToneCorrelatorBankVector512(sampleRate, frequencies, averagingPeriod, correlationPeriod);
+            case SCALAR:
+            default:
+                return new AFSKToneCorrelatorBankScalar(sampleRate, frequencies, averagingPeriod, correlationPeriod);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.afsk;
+
+/**
+ * Scalar implementation of the AFSK tone correlator bank.
+ */
+public class AFSKToneCorrelatorBankScalar extends AFSKToneCorrelatorBank
+{
+    /**
+     * Constructs an instance
+     *
+     * @param sampleRate of the incoming sample stream.  Note: this should be an integral of the symbol rate.
+     * @param frequencies of the tones to test for correlation
+     * @param averagingPeriod is the number of correlation values to average each period
+     * @param correlationPeriod is the number of samples to correlate each period
+     */
+    public AFSKToneCorrelatorBankScalar(double sampleRate, double[] frequencies, int averagingPeriod,
+                                        int correlationPeriod)
+    {
+        super(sampleRate, frequencies, averagingPeriod, correlationPeriod);
+    }
+
+    @Override
+    protected void correlate(float[] samples, float[] reference, float[] correlationValues)
+    {
+        float accumulator;
+
+        for(int x = 0; x < correlationValues.length; x++)
+        {
+            accumulator = 0.0f;
+
+            for(int y = 0; y < reference.length; y++)
+            {
+                accumulator += samples[x + y] * reference[y];
+            }
+
+            correlationValues[x] = accumulator;
+        }
+    }
+}
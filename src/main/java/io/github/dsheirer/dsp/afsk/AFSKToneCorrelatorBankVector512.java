@@ -0,0 +1,81 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.afsk;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD Vector 512 implementation of the AFSK tone correlator bank.  Each vector lane produces the correlation value
+ * for a different sample, so that one vector operation per reference sample correlates a full lane width of samples.
+ */
+public class AFSKToneCorrelatorBankVector512 extends AFSKToneCorrelatorBank
+{
+    private static final VectorSpecies<Float> VECTOR_SPECIES = FloatVector.SPECIES_512;
+
+    /**
+     * Constructs an instance
+     *
+     * @param sampleRate of the incoming sample stream.  Note: this should be an integral of the symbol rate.
+     * @param frequencies of the tones to test for correlation
+     * @param averagingPeriod is the number of correlation values to average each period
+     * @param correlationPeriod is the number of samples to correlate each period
+     */
+    public AFSKToneCorrelatorBankVector512(double sampleRate, double[] frequencies, int averagingPeriod,
+                                           int correlationPeriod)
+    {
+        super(sampleRate, frequencies, averagingPeriod, correlationPeriod);
+    }
+
+    @Override
+    protected void correlate(float[] samples, float[] reference, float[] correlationValues)
+    {
+        int x = 0;
+        int bound = VECTOR_SPECIES.loopBound(correlationValues.length);
+        FloatVector accumulator;
+
+        for(; x < bound; x += VECTOR_SPECIES.length())
+        {
+            accumulator = FloatVector.zero(VECTOR_SPECIES);
+
+            for(int y = 0; y < reference.length; y++)
+            {
+                accumulator = FloatVector.fromArray(VECTOR_SPECIES, samples, x + y)
+                    .fma(FloatVector.broadcast(VECTOR_SPECIES, reference[y]), accumulator);
+            }
+
+            accumulator.intoArray(correlationValues, x);
+        }
+
+        //Scalar processing for the residual samples
+        float residual;
+
+        for(; x < correlationValues.length; x++)
+        {
+            residual = 0.0f;
+
+            for(int y = 0; y < reference.length; y++)
+            {
+                residual += samples[x + y] * reference[y];
+            }
+
+            correlationValues[x] = residual;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.afsk;
+
+import io.github.dsheirer.vector.calibrate.Calibration;
+import io.github.dsheirer.vector.calibrate.CalibrationException;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+
+/**
+ * Calibrates AFSK tone correlator bank options
+ */
+public class AFSKToneCorrelatorCalibration extends Calibration
+{
+    private static final int BUFFER_SIZE = 2048;
+    private static final int ITERATION_DURATION_MS = 1000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int TEST_ITERATIONS = 5;
+    private static final double[] TONES = new double[]{AFSK1200Decoder.MARK, AFSK1200Decoder.SPACE};
+
+    /**
+     * Constructs an instance
+     */
+    public AFSKToneCorrelatorCalibration()
+    {
+        super(CalibrationType.AFSK_TONE_CORRELATOR);
+    }
+
+    @Override public void calibrate() throws CalibrationException
+    {
+        float[] samples = getFloatSamples(BUFFER_SIZE);
+
+        Implementation[] implementations = new Implementation[]{Implementation.SCALAR, Implementation.VECTOR_SIMD_64,
+            Implementation.VECTOR_SIMD_128, Implementation.VECTOR_SIMD_256, Implementation.VECTOR_SIMD_512};
+        AFSKToneCorrelatorBank[] banks = new AFSKToneCorrelatorBank[]{
+            new AFSKToneCorrelatorBankScalar(AFSK1200Decoder.SAMPLE_RATE, TONES, AFSK1200Decoder.AVERAGING_PERIOD,
+                AFSK1200Decoder.CORRELATION_PERIOD),
+            new AFSKToneCorrelatorBankVector64(AFSK1200Decoder.SAMPLE_RATE, TONES, AFSK1200Decoder.AVERAGING_PERIOD,
+                AFSK1200Decoder.CORRELATION_PERIOD),
+            new AFSKToneCorrelatorBankVector128(AFSK1200Decoder.SAMPLE_RATE, TONES, AFSK1200Decoder.AVERAGING_PERIOD,
+                AFSK1200Decoder.CORRELATION_PERIOD),
+            new AFSKToneCorrelatorBankVector256(AFSK1200Decoder.SAMPLE_RATE, TONES, AFSK1200Decoder.AVERAGING_PERIOD,
+                AFSK1200Decoder.CORRELATION_PERIOD),
+            new AFSKToneCorrelatorBankVector512(AFSK1200Decoder.SAMPLE_RATE, TONES, AFSK1200Decoder.AVERAGING_PERIOD,
+                AFSK1200Decoder.CORRELATION_PERIOD)};
+
+        for(int x = 0; x < banks.length; x++)
+        {
+            Mean mean = new Mean();
+
+            for(int y = 0; y < WARMUP_ITERATIONS; y++)
+            {
+                mean.increment(test(banks[x], samples));
+            }
+
+            mLog.info("AFSK TONE CORRELATOR WARMUP - " + implementations[x] + ": " +
+                DECIMAL_FORMAT.format(mean.getResult()));
+        }
+
+        Implementation best = Implementation.SCALAR;
+        double bestScore = 0.0;
+
+        for(int x = 0; x < banks.length; x++)
+        {
+            Mean mean = new Mean();
+
+            for(int y = 0; y < TEST_ITERATIONS; y++)
+            {
+                mean.increment(test(banks[x], samples));
+            }
+
+            mLog.info("AFSK TONE CORRELATOR - " + implementations[x] + ": " + DECIMAL_FORMAT.format(mean.getResult()));
+
+            if(mean.getResult() > bestScore)
+            {
+                bestScore = mean.getResult();
+                best = implementations[x];
+            }
+        }
+
+        setImplementation(best);
+
+        mLog.info("AFSK TONE CORRELATOR - SET OPTIMAL IMPLEMENTATION TO:" + getImplementation());
+    }
+
+    /**
+     * Processes the sample buffer repeatedly for the iteration duration.
+     * @return count of buffers processed
+     */
+    private long test(AFSKToneCorrelatorBank bank, float[] samples)
+    {
+        long count = 0;
+        long start = System.currentTimeMillis();
+
+        while((System.currentTimeMillis() - start) < ITERATION_DURATION_MS)
+        {
+            bank.process(samples);
+            count++;
+        }
+
+        return count;
+    }
+}
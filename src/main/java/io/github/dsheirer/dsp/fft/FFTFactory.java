@@ -0,0 +1,62 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.fft;
+
+import io.github.dsheirer.vector.calibrate.CalibrationManager;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import jdk.incubator.vector.FloatVector;
+
+/**
+ * Factory for creating FFT engines
+ */
+public class FFTFactory
+{
+    /**
+     * Creates the FFT implementation using calibration data to select the optimal implementation from the JTransforms
+     * (scalar) and vector options.  Sizes that the vector implementation doesn't support (odd sizes and sizes with an
+     * odd factor larger than VectorFFT.MAXIMUM_ODD_FACTOR) always use the JTransforms implementation.
+     * @param size of the FFT in complex samples
+     * @return FFT instance
+     */
+    public static IFFT getFFT(int size)
+    {
+        if(!VectorFFT.isSupported(size))
+        {
+            return new JTransformsFFT(size);
+        }
+
+        Implementation implementation = CalibrationManager.getInstance().getImplementation(CalibrationType.FFT);
+
+        switch(implementation)
+        {
+            case VECTOR_SIMD_64:
+                return new VectorFFT(size, FloatVector.SPECIES_64);
+            case VECTOR_SIMD_128:
+                return new VectorFFT(size, FloatVector.SPECIES_128);
+            case VECTOR_SIMD_256:
+                return new VectorFFT(size, FloatVector.SPECIES_256);
+            case VECTOR_SIMD_512:
+                return new VectorFFT(size, FloatVector.SPECIES_512);
+            case SCALAR:
+            default:
+                return new JTransformsFFT(size);
+        }
+    }
+}
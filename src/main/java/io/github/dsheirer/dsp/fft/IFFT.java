@@ -0,0 +1,47 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.fft;
+
+/**
+ * Fast Fourier Transform engine operating in-place on interleaved complex sample arrays where each complex sample
+ * occupies two array elements (inphase, quadrature).  The sample array must be at least 2 x FFT size in length.
+ *
+ * Implementations are not thread-safe and may use internal scratch buffers, so each thread should use its own
+ * instance.
+ */
+public interface IFFT
+{
+    /**
+     * Size of the FFT, in complex samples
+     */
+    int getSize();
+
+    /**
+     * Calculates the forward DFT of the interleaved complex samples, in-place.
+     * @param samples interleaved complex samples with length of at least 2 x size
+     */
+    void complexForward(float[] samples);
+
+    /**
+     * Calculates the inverse DFT of the interleaved complex samples, in-place.
+     * @param samples interleaved complex samples with length of at least 2 x size
+     * @param scale true to scale the results by 1 / size
+     */
+    void complexInverse(float[] samples, boolean scale);
+}
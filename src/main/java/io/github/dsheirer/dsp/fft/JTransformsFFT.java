@@ -0,0 +1,58 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.fft;
+
+import org.jtransforms.fft.FloatFFT_1D;
+
+/**
+ * JTransforms FFT backend.  Supports any FFT size.
+ */
+public class JTransformsFFT implements IFFT
+{
+    private final FloatFFT_1D mFFT;
+    private final int mSize;
+
+    /**
+     * Constructs an instance
+     * @param size of the FFT in complex samples
+     */
+    public JTransformsFFT(int size)
+    {
+        mSize = size;
+        mFFT = new FloatFFT_1D(size);
+    }
+
+    @Override
+    public int getSize()
+    {
+        return mSize;
+    }
+
+    @Override
+    public void complexForward(float[] samples)
+    {
+        mFFT.complexForward(samples);
+    }
+
+    @Override
+    public void complexInverse(float[] samples, boolean scale)
+    {
+        mFFT.complexInverse(samples, scale);
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.fft;
+
+import io.github.dsheirer.vector.VectorUtilities;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector (SIMD) FFT backend for even sizes of the form P x M, where P is a power of two and M is an odd factor no
+ * larger than MAXIMUM_ODD_FACTOR.  This covers the polyphase channelizer channel counts for the common tuner sample
+ * rates (e.g. 96, 240, 400 and 800 channels for 2.4, 6, 10 and 20 MHz) as well as the power-of-two spectral display
+ * sizes.
+ *
+ * The transform is a two-factor Cooley-Tukey decomposition.  The input is gathered into M rows of P samples, in
+ * bit-reversed order, and each row is transformed with an iterative radix-2 decimation-in-time FFT.  The rows are then
+ * multiplied by the N-point twiddle factors and combined with an M-point DFT that is vectorized across the row
+ * elements, producing each output row contiguously.  Real and imaginary values are held in separate scratch arrays so
+ * that each stage operates on contiguous lanes, and all twiddle factors are stored contiguously so that they can be
+ * loaded directly into vectors.  Stages or rows shorter than the vector length are processed with scalar operations.
+ * All scratch storage is allocated once at construction.
+ */
+public class VectorFFT implements IFFT
+{
+    /**
+     * Largest odd factor supported.  The odd factor is combined with a direct DFT, costing M complex multiply-adds per
+     * output sample, so larger odd factors are left to the JTransforms implementation.
+     */
+    public static final int MAXIMUM_ODD_FACTOR = 25;
+
+    private final VectorSpecies<Float> mSpecies;
+    private final int mSize;
+    private final int mPowerOfTwo;
+    private final int mOddFactor;
+    private final int[] mBitReverse;
+    private final float[] mTwiddleReal;
+    private final float[] mTwiddleImaginaryForward;
+    private final float[] mTwiddleImaginaryInverse;
+    private final float[] mRowTwiddleReal;
+    private final float[] mRowTwiddleImaginaryForward;
+    private final float[] mRowTwiddleImaginaryInverse;
+    private final float[] mDftReal;
+    private final float[] mDftImaginaryForward;
+    private final float[] mDftImaginaryInverse;
+    private final float[] mReal;
+    private final float[] mImaginary;
+    private final float[] mOutputReal;
+    private final float[] mOutputImaginary;
+
+    /**
+     * Constructs an instance
+     * @param size of the FFT in complex samples.  See isSupported(size).
+     * @param species of vector to use for the butterfly operations
+     * @throws IllegalArgumentException if the size is not supported
+     */
+    public VectorFFT(int size, VectorSpecies<Float> species)
+    {
+        if(!isSupported(size))
+        {
+            throw new IllegalArgumentException("Vector FFT size must be an even number with an odd factor no larger " +
+                "than " + MAXIMUM_ODD_FACTOR + " - size:" + size);
+        }
+
+        VectorUtilities.checkSpecies(species);
+
+        mSpecies = species;
+        mSize = size;
+        mPowerOfTwo = Integer.lowestOneBit(size);
+        mOddFactor = size / mPowerOfTwo;
+        mReal = new float[size];
+        mImaginary = new float[size];
+        mBitReverse = new int[mPowerOfTwo];
+
+        int bits = Integer.numberOfTrailingZeros(mPowerOfTwo);
+
+        for(int x = 0; x < mPowerOfTwo; x++)
+        {
+            mBitReverse[x] = Integer.reverse(x) >>> (32 - bits);
+        }
+
+        //Radix-2 twiddles for the stage with a butterfly span of h are stored contiguously at offset h - 1
+        mTwiddleReal = new float[mPowerOfTwo - 1];
+        mTwiddleImaginaryForward = new float[mPowerOfTwo - 1];
+        mTwiddleImaginaryInverse = new float[mPowerOfTwo - 1];
+
+        for(int half = 1; half < mPowerOfTwo; half <<= 1)
+        {
+            for(int x = 0; x < half; x++)
+            {
+                double angle = -Math.PI * x / half;
+                mTwiddleReal[half - 1 + x] = (float)Math.cos(angle);
+                mTwiddleImaginaryForward[half - 1 + x] = (float)Math.sin(angle);
+                mTwiddleImaginaryInverse[half - 1 + x] = -mTwiddleImaginaryForward[half - 1 + x];
+            }
+        }
+
+        if(mOddFactor > 1)
+        {
+            //Twiddles applied to element k of row r are W(N)^(r * k), stored in row order
+            mRowTwiddleReal = new float[size];
+            mRowTwiddleImaginaryForward = new float[size];
+            mRowTwiddleImaginaryInverse = new float[size];
+
+            for(int row = 0; row < mOddFactor; row++)
+            {
+                for(int x = 0; x < mPowerOfTwo; x++)
+                {
+                    double angle = -2.0 * Math.PI * ((long)row * x % size) / size;
+                    int index = row * mPowerOfTwo + x;
+                    mRowTwiddleReal[index] = (float)Math.cos(angle);
+                    mRowTwiddleImaginaryForward[index] = (float)Math.sin(angle);
+                    mRowTwiddleImaginaryInverse[index] = -mRowTwiddleImaginaryForward[index];
+                }
+            }
+
+            //M-point DFT twiddles W(M)^j
+            mDftReal = new float[mOddFactor];
+            mDftImaginaryForward = new float[mOddFactor];
+            mDftImaginaryInverse = new float[mOddFactor];
+
+            for(int x = 0; x < mOddFactor; x++)
+            {
+                double angle = -2.0 * Math.PI * x / mOddFactor;
+                mDftReal[x] = (float)Math.cos(angle);
+                mDftImaginaryForward[x] = (float)Math.sin(angle);
+                mDftImaginaryInverse[x] = -mDftImaginaryForward[x];
+            }
+
+            mOutputReal = new float[size];
+            mOutputImaginary = new float[size];
+        }
+        else
+        {
+            mRowTwiddleReal = null;
+            mRowTwiddleImaginaryForward = null;
+            mRowTwiddleImaginaryInverse = null;
+            mDftReal = null;
+            mDftImaginaryForward = null;
+            mDftImaginaryInverse = null;
+            mOutputReal = mReal;
+            mOutputImaginary = mImaginary;
+        }
+    }
+
+    /**
+     * Indicates if the FFT size is supported by this implementation.
+     * @param size of the FFT in complex samples
+     * @return true if the size is even and the odd factor of the size is no larger than MAXIMUM_ODD_FACTOR.
+     */
+    public static boolean isSupported(int size)
+    {
+        return size > 1 && size % 2 == 0 && size / Integer.lowestOneBit(size) <= MAXIMUM_ODD_FACTOR;
+    }
+
+    @Override
+    public int getSize()
+    {
+        return mSize;
+    }
+
+    @Override
+    public void complexForward(float[] samples)
+    {
+        transform(samples, true, 1.0f);
+    }
+
+    @Override
+    public void complexInverse(float[] samples, boolean scale)
+    {
+        transform(samples, false, scale ? 1.0f / mSize : 1.0f);
+    }
+
+    /**
+     * Performs the transform in-place on the interleaved complex samples.
+     * @param samples to transform
+     * @param forward true for the forward transform or false for the inverse transform
+     * @param scale to apply to the results
+     */
+    private void transform(float[] samples, boolean forward, float scale)
+    {
+        final int rowLength = mPowerOfTwo;
+        final int rows = mOddFactor;
+        final float[] real = mReal;
+        final float[] imaginary = mImaginary;
+
+        //Row r holds input samples r, r + M, r + 2M, ... in bit-reversed order
+        for(int row = 0; row < rows; row++)
+        {
+            int offset = row * rowLength;
+
+            for(int x = 0; x < rowLength; x++)
+            {
+                int index = 2 * (x * rows + row);
+                int target = offset + mBitReverse[x];
+                real[target] = samples[index];
+                imaginary[target] = samples[index + 1];
+            }
+        }
+
+        float[] twiddleImaginary = forward ? mTwiddleImaginaryForward : mTwiddleImaginaryInverse;
+
+        for(int row = 0; row < rows; row++)
+        {
+            radix2(row * rowLength, twiddleImaginary);
+        }
+
+        if(rows > 1)
+        {
+            applyRowTwiddles(forward ? mRowTwiddleImaginaryForward : mRowTwiddleImaginaryInverse);
+            combineRows(forward ? mDftImaginaryForward : mDftImaginaryInverse);
+        }
+
+        final float[] outputReal = mOutputReal;
+        final float[] outputImaginary = mOutputImaginary;
+
+        if(scale == 1.0f)
+        {
+            for(int x = 0; x < mSize; x++)
+            {
+                samples[2 * x] = outputReal[x];
+                samples[2 * x + 1] = outputImaginary[x];
+            }
+        }
+        else
+        {
+            for(int x = 0; x < mSize; x++)
+            {
+                samples[2 * x] = outputReal[x] * scale;
+                samples[2 * x + 1] = outputImaginary[x] * scale;
+            }
+        }
+    }
+
+    /**
+     * Iterative radix-2 butterflies over one row of bit-reversed samples in the scratch arrays.
+     * @param offset to the start of the row
+     * @param twiddleImaginary forward or inverse imaginary twiddle factors
+     */
+    private void radix2(int offset, float[] twiddleImaginary)
+    {
+        final int size = mPowerOfTwo;
+        final float[] real = mReal;
+        final float[] imaginary = mImaginary;
+        final float[] twiddleReal = mTwiddleReal;
+        final int lanes = mSpecies.length();
+
+        for(int half = 1; half < size; half <<= 1)
+        {
+            final int twiddleOffset = half - 1;
+            final int span = half << 1;
+
+            if(half < lanes)
+            {
+                for(int start = offset; start < offset + size; start += span)
+                {
+                    for(int x = 0; x < half; x++)
+                    {
+                        int a = start + x;
+                        int b = a + half;
+                        float wr = twiddleReal[twiddleOffset + x];
+                        float wi = twiddleImaginary[twiddleOffset + x];
+                        float tr = real[b] * wr - imaginary[b] * wi;
+                        float ti = real[b] * wi + imaginary[b] * wr;
+                        real[b] = real[a] - tr;
+                        imaginary[b] = imaginary[a] - ti;
+                        real[a] += tr;
+                        imaginary[a] += ti;
+                    }
+                }
+            }
+            else
+            {
+                for(int start = offset; start < offset + size; start += span)
+                {
+                    for(int x = 0; x < half; x += lanes)
+                    {
+                        int a = start + x;
+                        int b = a + half;
+                        FloatVector wr = FloatVector.fromArray(mSpecies, twiddleReal, twiddleOffset + x);
+                        FloatVector wi = FloatVector.fromArray(mSpecies, twiddleImaginary, twiddleOffset + x);
+                        FloatVector ar = FloatVector.fromArray(mSpecies, real, a);
+                        FloatVector ai = FloatVector.fromArray(mSpecies, imaginary, a);
+                        FloatVector br = FloatVector.fromArray(mSpecies, real, b);
+                        FloatVector bi = FloatVector.fromArray(mSpecies, imaginary, b);
+                        FloatVector tr = br.mul(wr).sub(bi.mul(wi));
+                        FloatVector ti = br.mul(wi).add(bi.mul(wr));
+                        ar.sub(tr).intoArray(real, b);
+                        ai.sub(ti).intoArray(imaginary, b);
+                        ar.add(tr).intoArray(real, a);
+                        ai.add(ti).intoArray(imaginary, a);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies each transformed row element by the N-point twiddle factor for its row and element index.
+     * @param twiddleImaginary forward or inverse imaginary row twiddle factors
+     */
+    private void applyRowTwiddles(float[] twiddleImaginary)
+    {
+        final float[] real = mReal;
+        final float[] imaginary = mImaginary;
+        final float[] twiddleReal = mRowTwiddleReal;
+        final int bound = mSpecies.loopBound(mSize);
+        int x = 0;
+
+        for(; x < bound; x += mSpecies.length())
+        {
+            FloatVector wr = FloatVector.fromArray(mSpecies, twiddleReal, x);
+            FloatVector wi = FloatVector.fromArray(mSpecies, twiddleImaginary, x);
+            FloatVector r = FloatVector.fromArray(mSpecies, real, x);
+            FloatVector i = FloatVector.fromArray(mSpecies, imaginary, x);
+            r.mul(wr).sub(i.mul(wi)).intoArray(real, x);
+            r.mul(wi).add(i.mul(wr)).intoArray(imaginary, x);
+        }
+
+        for(; x < mSize; x++)
+        {
+            float r = real[x];
+            float i = imaginary[x];
+            real[x] = r * twiddleReal[x] - i * twiddleImaginary[x];
+            imaginary[x] = r * twiddleImaginary[x] + i * twiddleReal[x];
+        }
+    }
+
+    /**
+     * Combines the rows with an M-point DFT.  Output row k2 element k1 is the sum over the rows r of row r element k1
+     * multiplied by W(M)^(r * k2), which is output sample k1 + P * k2.  The sum is vectorized across the row elements.
+     * @param dftImaginary forward or inverse imaginary DFT twiddle factors
+     */
+    private void combineRows(float[] dftImaginary)
+    {
+        final int rowLength = mPowerOfTwo;
+        final int rows = mOddFactor;
+        final float[] real = mReal;
+        final float[] imaginary = mImaginary;
+        final float[] outputReal = mOutputReal;
+        final float[] outputImaginary = mOutputImaginary;
+        final int bound = mSpecies.loopBound(rowLength);
+
+        for(int k2 = 0; k2 < rows; k2++)
+        {
+            int outputOffset = k2 * rowLength;
+            int x = 0;
+
+            for(; x < bound; x += mSpecies.length())
+            {
+                FloatVector sumReal = FloatVector.zero(mSpecies);
+                FloatVector sumImaginary = FloatVector.zero(mSpecies);
+
+                for(int row = 0; row < rows; row++)
+                {
+                    int j = (row * k2) % rows;
+                    float wr = mDftReal[j];
+                    float wi = dftImaginary[j];
+                    FloatVector r = FloatVector.fromArray(mSpecies, real, row * rowLength + x);
+                    FloatVector i = FloatVector.fromArray(mSpecies, imaginary, row * rowLength + x);
+                    sumReal = sumReal.add(r.mul(wr).sub(i.mul(wi)));
+                    sumImaginary = sumImaginary.add(r.mul(wi).add(i.mul(wr)));
+                }
+
+                sumReal.intoArray(outputReal, outputOffset + x);
+                sumImaginary.intoArray(outputImaginary, outputOffset + x);
+            }
+
+            for(; x < rowLength; x++)
+            {
+                float sumReal = 0.0f;
+                float sumImaginary = 0.0f;
+
+                for(int row = 0; row < rows; row++)
+                {
+                    int j = (row * k2) % rows;
+                    float r = real[row * rowLength + x];
+                    float i = imaginary[row * rowLength + x];
+                    sumReal += r * mDftReal[j] - i * dftImaginary[j];
+                    sumImaginary += r * dftImaginary[j] + i * mDftReal[j];
+                }
+
+                outputReal[outputOffset + x] = sumReal;
+                outputImaginary[outputOffset + x] = sumImaginary;
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package io.github.dsheirer.dsp.filter;
 
 import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
+import io.github.dsheirer.dsp.filter.design.FilterDesignCache;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
 import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
@@ -246,6 +247,29 @@ public class FilterFactory
         return coefficients;
     }
 
+    /**
+     * Convolves two sets of filter coefficients to create a single filter with the combined frequency response of
+     * the two filters applied in series.  Both filters must be designed for the same sample rate.
+     *
+     * @param a first filter coefficients
+     * @param b second filter coefficients
+     * @return combined filter coefficients with a length of a.length + b.length - 1
+     */
+    public static float[] convolve(float[] a, float[] b)
+    {
+        float[] combined = new float[a.length + b.length - 1];
+
+        for(int x = 0; x < a.length; x++)
+        {
+            for(int y = 0; y < b.length; y++)
+            {
+                combined[x + y] += a[x] * b[y];
+            }
+        }
+
+        return combined;
+    }
+
     /**
      * Generates filter coefficients for a unity-gain, odd-length, windowed,
      * low pass filter with passband from 0-hertz to the cutoff frequency.
@@ -721,14 +745,16 @@ public class FilterFactory
      */
     public static float[] getTaps(FIRFilterSpecification specification) throws FilterDesignException
     {
-        RemezFIRFilterDesigner designer = new RemezFIRFilterDesigner(specification);
+        return FilterDesignCache.getInstance().get("remez:" + specification.getDesignKey(), () -> {
+            RemezFIRFilterDesigner designer = new RemezFIRFilterDesigner(specification);
 
-        if(designer.isValid())
-        {
-            return designer.getImpulseResponse();
-        }
+            if(designer.isValid())
+            {
+                return designer.getImpulseResponse();
+            }
 
-        return null;
+            return null;
+        });
     }
 
     /**
@@ -858,6 +884,17 @@ public class FilterFactory
      */
     public static float[] getSincM2Channelizer(double channelBandwidth, int channels, int tapsPerChannel,
                                                boolean logResults) throws FilterDesignException
+    {
+        String key = "sincM2Channelizer:" + channelBandwidth + "," + channels + "," + tapsPerChannel;
+        return FilterDesignCache.getInstance().get(key, () -> designSincM2Channelizer(channelBandwidth, channels,
+            tapsPerChannel, logResults));
+    }
+
+    /**
+     * Designs the polyphase M2 channelizer sync filter.  See getSincM2Channelizer().
+     */
+    private static float[] designSincM2Channelizer(double channelBandwidth, int channels, int tapsPerChannel,
+                                                   boolean logResults) throws FilterDesignException
     {
         int currentTapsPerChannel = tapsPerChannel;
         int filterLength = (channels * currentTapsPerChannel) - 1;
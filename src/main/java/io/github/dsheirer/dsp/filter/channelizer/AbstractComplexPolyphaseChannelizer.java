@@ -98,15 +98,20 @@ public abstract class AbstractComplexPolyphaseChannelizer implements Listener<In
     }
 
     /**
-     * Dispatches the processed channel samples to any registered polyphase channel outputs.
+     * Dispatches the processed channel samples to any registered polyphase channel outputs.  The consumer count of the
+     * buffer is incremented for each channel prior to dispatch and each channel is responsible for decrementing the
+     * consumer count once it is finished with the buffer.  The caller retains its own consumer count.
      *
-     * @param channelResultsList a list of arrays of I/Q samples per channel
+     * @param channelResultsBuffer containing arrays of I/Q samples per channel
      */
-    protected void dispatch(List<float[]> channelResultsList)
+    protected void dispatch(ChannelResultsBuffer channelResultsBuffer)
     {
+        channelResultsBuffer.setTimestamp(mCurrentSamplesTimestamp);
+
         for(PolyphaseChannelSource channel : mChannels)
         {
-            channel.receiveChannelResults(channelResultsList, mCurrentSamplesTimestamp);
+            channelResultsBuffer.incrementConsumerCount();
+            channel.receiveChannelResults(channelResultsBuffer, mCurrentSamplesTimestamp);
         }
     }
 
@@ -0,0 +1,158 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reusable batch of polyphase channelizer output arrays.  Each array contains one filtered (and after IFFT, phase
+ * aligned) sample for each polyphase channel, as I/Q pairs (I0,Q0,I1,Q1...In,Qn).
+ *
+ * Buffers are obtained from a ChannelResultsBufferPool and are shared between the channelizer filter stage, the IFFT
+ * processor thread and each of the channel output processor threads.  Accurate accounting of consumer count via the
+ * increment/decrementConsumerCount() methods is essential: once the consumer count returns to zero, the buffer is
+ * returned to the owning pool and the arrays are overwritten by the channelizer on a subsequent block.  Consumers must
+ * not retain references to the arrays after decrementing the consumer count.
+ */
+public class ChannelResultsBuffer
+{
+    private final ChannelResultsBufferPool mPool;
+    private final float[][] mChannelResults;
+    private final AtomicInteger mConsumerCount = new AtomicInteger();
+    private int mSize;
+    private long mTimestamp;
+
+    /**
+     * Constructs an instance
+     * @param pool that owns this buffer and receives it back once all consumers are finished.
+     * @param capacity or maximum number of channel results arrays for this buffer
+     * @param subChannelCount or length of each channel results array
+     */
+    ChannelResultsBuffer(ChannelResultsBufferPool pool, int capacity, int subChannelCount)
+    {
+        mPool = pool;
+        mChannelResults = new float[capacity][subChannelCount];
+    }
+
+    /**
+     * Prepares this buffer for reuse by the producer, with a consumer count of one that is held by the producer.
+     */
+    void reset()
+    {
+        mSize = 0;
+        mTimestamp = 0;
+        mConsumerCount.set(1);
+    }
+
+    /**
+     * Provides the next unused channel results array for the producer to fill and increments the size of this buffer.
+     * @return next channel results array.
+     * @throws IllegalStateException if the buffer is already full.
+     */
+    public float[] next()
+    {
+        if(mSize >= mChannelResults.length)
+        {
+            throw new IllegalStateException("Channel results buffer is full");
+        }
+
+        return mChannelResults[mSize++];
+    }
+
+    /**
+     * Indicates if this buffer has been filled to capacity.
+     */
+    public boolean isFull()
+    {
+        return mSize >= mChannelResults.length;
+    }
+
+    /**
+     * Indicates if this buffer does not contain any channel results arrays.
+     */
+    public boolean isEmpty()
+    {
+        return mSize == 0;
+    }
+
+    /**
+     * Number of channel results arrays contained in this buffer.
+     */
+    public int size()
+    {
+        return mSize;
+    }
+
+    /**
+     * Access the channel results array at the specified index.
+     * @param index of the array where index is less than size()
+     * @return channel results array
+     */
+    public float[] get(int index)
+    {
+        return mChannelResults[index];
+    }
+
+    /**
+     * Capture timestamp of the samples in this buffer.
+     * @return timestamp in milliseconds or 0 if not set
+     */
+    public long getTimestamp()
+    {
+        return mTimestamp;
+    }
+
+    /**
+     * Sets the capture timestamp of the samples in this buffer.  This should only be invoked by the producer.
+     * @param timestamp in milliseconds
+     */
+    public void setTimestamp(long timestamp)
+    {
+        mTimestamp = timestamp;
+    }
+
+    /**
+     * Length of each of the channel results arrays (ie 2 x channel count).
+     */
+    public int getSubChannelCount()
+    {
+        return mChannelResults[0].length;
+    }
+
+    /**
+     * Increments the consumer count to indicate that an additional consumer will process this buffer.  This should
+     * only be invoked by the producer or by a consumer that currently holds a count for this buffer.
+     */
+    public void incrementConsumerCount()
+    {
+        mConsumerCount.incrementAndGet();
+    }
+
+    /**
+     * Decrements the consumer count.  Consumers of this buffer must invoke this method once they are finished with
+     * the buffer.  When all consumers are finished, the buffer is returned to the pool for reuse.
+     */
+    public void decrementConsumerCount()
+    {
+        if(mConsumerCount.decrementAndGet() == 0)
+        {
+            mPool.recycle(this);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded ring of reusable channel results buffers shared between the polyphase channelizer filter stage (producer)
+ * and the IFFT and channel output processor threads (consumers).  Buffers are returned to the ring automatically when
+ * their consumer count returns to zero, so that steady-state channelization does not allocate any new arrays.
+ *
+ * When the ring is empty because all buffers are in use downstream, a new buffer is allocated and the exhausted
+ * counter is incremented.  Buffers that are returned when the ring is already full are released to the garbage
+ * collector.  A consistently increasing exhausted count indicates that the downstream consumers are not keeping up
+ * with the channelizer, or that buffers are being dropped (e.g. a channel stopped with queued buffers) and the pool is
+ * replenishing itself.
+ */
+public class ChannelResultsBufferPool
+{
+    private final ArrayBlockingQueue<ChannelResultsBuffer> mRecycledBuffers;
+    private final AtomicLong mExhaustedCount = new AtomicLong();
+    private final int mPoolSize;
+    private final int mBufferCapacity;
+    private final int mSubChannelCount;
+    private int mAllocatedCount;
+
+    /**
+     * Constructs an instance
+     * @param poolSize maximum number of buffers to retain for reuse
+     * @param bufferCapacity number of channel results arrays per buffer
+     * @param subChannelCount length of each channel results array (ie 2 x channel count)
+     */
+    public ChannelResultsBufferPool(int poolSize, int bufferCapacity, int subChannelCount)
+    {
+        mPoolSize = poolSize;
+        mBufferCapacity = bufferCapacity;
+        mSubChannelCount = subChannelCount;
+        mRecycledBuffers = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Provides an empty buffer from the pool, or allocates a new buffer when the pool is empty.  The returned buffer
+     * has a consumer count of one that is held by the caller.
+     *
+     * Note: this method should only be invoked by the single producer thread.
+     */
+    public ChannelResultsBuffer getBuffer()
+    {
+        ChannelResultsBuffer buffer = mRecycledBuffers.poll();
+
+        if(buffer == null)
+        {
+            //Allocations made while initially filling the pool up to the pool size are not counted as exhaustion
+            if(mAllocatedCount >= mPoolSize)
+            {
+                mExhaustedCount.incrementAndGet();
+            }
+            else
+            {
+                mAllocatedCount++;
+            }
+
+            buffer = new ChannelResultsBuffer(this, mBufferCapacity, mSubChannelCount);
+        }
+
+        buffer.reset();
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer to the pool for reuse.  Invoked by the buffer once the consumer count reaches zero.
+     * @param buffer to recycle
+     */
+    void recycle(ChannelResultsBuffer buffer)
+    {
+        //If the pool is full, the buffer is released for garbage collection
+        mRecycledBuffers.offer(buffer);
+    }
+
+    /**
+     * Number of times a buffer was requested while all pooled buffers were in use downstream.
+     */
+    public long getExhaustedCount()
+    {
+        return mExhaustedCount.get();
+    }
+
+    /**
+     * Number of buffers currently available in the pool.
+     */
+    public int getAvailableCount()
+    {
+        return mRecycledBuffers.size();
+    }
+
+    /**
+     * Maximum number of buffers retained by this pool.
+     */
+    public int getPoolSize()
+    {
+        return mPoolSize;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Channel Results Buffer Pool - Size [" + mPoolSize + "] Available [" + getAvailableCount() +
+            "] Exhausted Count [" + getExhaustedCount() + "]";
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.controller.NamingThreadFactory;
+import io.github.dsheirer.preference.UserPreferences;
+import io.github.dsheirer.preference.source.TunerPreference;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared worker thread pool for the polyphase channelizers.  Channelizers use this pool to partition the IFFT stage
+ * of each channel results buffer into interleaved stripes that are processed concurrently.  The calling thread always
+ * processes the first stripe and then waits for the remaining stripes, so that the channel results buffer is fully
+ * processed before it is dispatched to the channels and the per-channel sample order is preserved.
+ *
+ * Each channelizer creates a striped task once and reuses it for every buffer, so that no per-buffer task or future
+ * objects are allocated.  The wait for the worker stripes is a ForkJoinPool managed block so that a waiting dispatcher
+ * scheduler pool thread does not reduce the parallelism available to the other dispatchers.
+ *
+ * The worker count is read from the tuner preferences provided via getInstance(UserPreferences).  A worker count of 1
+ * disables striped processing and no worker threads are created.
+ */
+public class ChannelizerWorkerPool
+{
+    private static final Logger mLog = LoggerFactory.getLogger(ChannelizerWorkerPool.class);
+    private static ChannelizerWorkerPool sInstance;
+    private static TunerPreference sTunerPreference;
+    private final int mWorkerCount;
+    private ExecutorService mExecutorService;
+
+    /**
+     * Constructs an instance
+     * @param workerCount number of threads (including the calling thread) to use for each striped task.
+     */
+    public ChannelizerWorkerPool(int workerCount)
+    {
+        if(workerCount < 1)
+        {
+            throw new IllegalArgumentException("Worker count must be 1 or greater");
+        }
+
+        mWorkerCount = workerCount;
+
+        if(mWorkerCount > 1)
+        {
+            //The calling thread processes the first stripe.  The pool is sized to the full worker count so that the
+            //channelizers for multiple tuners can share the pool without starving each other.
+            mExecutorService = Executors.newFixedThreadPool(mWorkerCount,
+                new NamingThreadFactory("sdrtrunk polyphase worker"));
+        }
+    }
+
+    /**
+     * Access a singleton instance of this class, initializing the instance with the specified User Preferences
+     * instance, if it hasn't already been initialized.
+     *
+     * Note: invoke this method first with a preferences instance to ensure it is the one that is used.
+     */
+    public static synchronized ChannelizerWorkerPool getInstance(UserPreferences userPreferences)
+    {
+        if(sTunerPreference == null)
+        {
+            sTunerPreference = userPreferences.getTunerPreference();
+        }
+
+        return getInstance();
+    }
+
+    /**
+     * Access a singleton instance of this class.  The worker count is read from the tuner preferences that were
+     * provided via getInstance(UserPreferences), or is 1 when no preferences have been provided (e.g. command line
+     * tools and tests).
+     */
+    public static synchronized ChannelizerWorkerPool getInstance()
+    {
+        if(sInstance == null)
+        {
+            int workerCount = sTunerPreference != null ? sTunerPreference.getChannelizerWorkerCount() : 1;
+            sInstance = new ChannelizerWorkerPool(workerCount);
+            mLog.info("Polyphase channelizer worker pool created with [" + sInstance.getWorkerCount() + "] workers");
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Number of threads that process each striped task, including the calling thread.
+     */
+    public int getWorkerCount()
+    {
+        return mWorkerCount;
+    }
+
+    /**
+     * Indicates if this pool supports concurrent (striped) processing.
+     */
+    public boolean isMultiThreaded()
+    {
+        return mWorkerCount > 1;
+    }
+
+    /**
+     * Creates a reusable task that executes the stripes on this pool.  The task should be created once per channelizer
+     * and executed for each buffer, from a single thread at a time.
+     * @param stripes to execute, where the first stripe is executed on the calling thread.
+     * @return striped task
+     */
+    public <T extends Runnable> StripedTask<T> createTask(T[] stripes)
+    {
+        return new StripedTask<>(stripes);
+    }
+
+    /**
+     * Reusable task that executes each of its stripes concurrently and blocks until all stripes are complete.  The
+     * worker wrappers and the managed blocker are allocated once, when the task is created.
+     */
+    public class StripedTask<T extends Runnable> implements ForkJoinPool.ManagedBlocker
+    {
+        private final T[] mStripes;
+        private final Runnable[] mWorkers;
+        private final AtomicInteger mPending = new AtomicInteger();
+        private volatile Thread mWaitingThread;
+
+        /**
+         * Constructs an instance
+         * @param stripes to execute
+         */
+        private StripedTask(T[] stripes)
+        {
+            mStripes = stripes;
+            mWorkers = new Runnable[stripes.length];
+
+            for(int x = 1; x < stripes.length; x++)
+            {
+                Runnable stripe = stripes[x];
+
+                mWorkers[x] = () -> {
+                    try
+                    {
+                        stripe.run();
+                    }
+                    catch(Throwable t)
+                    {
+                        mLog.error("Error while executing polyphase channelizer worker stripe", t);
+                    }
+                    finally
+                    {
+                        if(mPending.decrementAndGet() == 0)
+                        {
+                            LockSupport.unpark(mWaitingThread);
+                        }
+                    }
+                };
+            }
+        }
+
+        /**
+         * Stripes executed by this task.
+         */
+        public T[] getStripes()
+        {
+            return mStripes;
+        }
+
+        /**
+         * Executes each of the stripes concurrently and blocks until all stripes are complete.  The first stripe is
+         * executed on the calling thread and the remaining stripes are executed on the pooled worker threads.
+         */
+        public void execute()
+        {
+            ExecutorService executorService = mExecutorService;
+
+            if(executorService == null || mStripes.length == 1)
+            {
+                for(Runnable stripe: mStripes)
+                {
+                    stripe.run();
+                }
+
+                return;
+            }
+
+            mWaitingThread = Thread.currentThread();
+            mPending.set(mStripes.length - 1);
+
+            for(int x = 1; x < mWorkers.length; x++)
+            {
+                try
+                {
+                    executorService.execute(mWorkers[x]);
+                }
+                catch(RejectedExecutionException ree)
+                {
+                    //The pool is shutting down - process the stripe on the calling thread
+                    mWorkers[x].run();
+                }
+            }
+
+            mStripes[0].run();
+
+            //The calling thread is normally a dispatcher scheduler pool thread.  Waiting as a managed blocker lets the
+            //pool activate a spare thread so that the other dispatchers are not starved while this thread waits.  The
+            //wait is not abandoned on interrupt, since the worker stripes are still processing the caller's buffer.
+            boolean interrupted = false;
+
+            while(!isReleasable())
+            {
+                try
+                {
+                    ForkJoinPool.managedBlock(this);
+                }
+                catch(InterruptedException ie)
+                {
+                    interrupted = true;
+                }
+            }
+
+            mWaitingThread = null;
+
+            if(interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean block() throws InterruptedException
+        {
+            while(!isReleasable())
+            {
+                LockSupport.park(this);
+
+                if(Thread.interrupted())
+                {
+                    throw new InterruptedException();
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable()
+        {
+            return mPending.get() == 0;
+        }
+    }
+
+    /**
+     * Shuts down the worker threads.
+     */
+    public void shutdown()
+    {
+        if(mExecutorService != null)
+        {
+            mExecutorService.shutdown();
+            mExecutorService = null;
+        }
+    }
+}
@@ -18,16 +18,16 @@
  */
 package io.github.dsheirer.dsp.filter.channelizer;
 
+import io.github.dsheirer.dsp.fft.FFTFactory;
+import io.github.dsheirer.dsp.fft.IFFT;
 import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulator;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorFactory;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
 import io.github.dsheirer.util.Dispatcher;
 import java.text.DecimalFormat;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import org.apache.commons.math3.util.FastMath;
-import org.jtransforms.fft.FloatFFT_1D;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,9 +68,18 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
      */
     private static final int PROCESSED_CHANNEL_RESULTS_THRESHOLD = 1024;
 
+    /**
+     * Number of channel results buffers retained for reuse.  Each buffer is held by the IFFT dispatcher (25 ms) and
+     * then by each of the channel output processor dispatchers (50 ms) so the pool is sized to cover several processing
+     * intervals of in-flight buffers.
+     */
+    private static final int CHANNEL_RESULTS_BUFFER_POOL_SIZE = 8;
+
     //Sized to process 40 times per second
     private IFFTProcessorDispatcher mIFFTProcessorDispatcher = new IFFTProcessorDispatcher(25);
-    private FloatFFT_1D mFFT;
+    private IFFT mFFT;
+    private ChannelizerWorkerPool mWorkerPool;
+    private volatile ChannelizerWorkerPool.StripedTask<IFFTStripe> mIFFTTask;
     private float[] mInlineSamples;
     private float[] mInlineFilter;
 
@@ -82,13 +91,15 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
      * init() alongside the other rate-dependent buffers.
      */
     private float[] mFilterAccumulator;
+    private final PolyphaseFilterAccumulator mFilterAccumulatorStage = PolyphaseFilterAccumulatorFactory.getAccumulator();
     private boolean mTopBlockIndicator = true;
     private int[] mTopBlockMap;
     private int[] mMiddleBlockMap;
     private int mSampleBufferPointer;
     private int mSamplesPerBlock;
     private int mTapsPerChannel;
-    private List<float[]> mProcessedChannelResultsList = new ArrayList<>();
+    private ChannelResultsBufferPool mChannelResultsBufferPool;
+    private ChannelResultsBuffer mChannelResultsBuffer;
 
     /**
      * Creates a NMDPFB channelizer instance.
@@ -123,10 +134,27 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
      * @param tapsPerChannel to use when designing the filter
      */
     public ComplexPolyphaseChannelizerM2(double sampleRate, int tapsPerChannel) throws FilterDesignException
+    {
+        this(sampleRate, tapsPerChannel, null);
+    }
+
+    /**
+     * Creates a NMDPFB channelizer instance and designs a Perfect Reconstruction prototype filter appropriate for
+     * the baseband sample rate and quantity of filter taps per polyphase sub-channel.  When the worker pool is
+     * multi-threaded, the IFFT for each channel results buffer is partitioned into interleaved stripes that are
+     * processed concurrently by the pool.
+     *
+     * @param sampleRate to be channelized.
+     * @param tapsPerChannel to use when designing the filter
+     * @param workerPool for striped IFFT processing, or null for single-threaded IFFT processing.
+     */
+    public ComplexPolyphaseChannelizerM2(double sampleRate, int tapsPerChannel, ChannelizerWorkerPool workerPool)
+        throws FilterDesignException
     {
         super(sampleRate, getChannelCount(sampleRate));
 
         mTapsPerChannel = tapsPerChannel;
+        mWorkerPool = workerPool;
 
         float[] filterTaps = FilterFactory.getSincM2Channelizer(getChannelSampleRate(), getChannelCount(),
             mTapsPerChannel, false);
@@ -150,6 +178,14 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
         mIFFTProcessorDispatcher.stop();
     }
 
+    /**
+     * Pool of reusable channel results buffers used by this channelizer.
+     */
+    public ChannelResultsBufferPool getChannelResultsBufferPool()
+    {
+        return mChannelResultsBufferPool;
+    }
+
     /**
      * Calculates the multiple of two number of channels that can be channelized from the specified sample rate so that
      * each channel has a minimum bandwidth of the default channel bandwidth (12.5 kHz).
@@ -228,12 +264,21 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
             if(mSampleBufferPointer >= mSamplesPerBlock)
             {
                 //Filter buffered samples and produce a single sample across each of the polyphase channels
-                mProcessedChannelResultsList.add(process());
+                process(mChannelResultsBuffer.next());
 
-                if(mProcessedChannelResultsList.size() >= PROCESSED_CHANNEL_RESULTS_THRESHOLD)
+                if(mChannelResultsBuffer.isFull())
                 {
-                    mIFFTProcessorDispatcher.receive(new ArrayList<>(mProcessedChannelResultsList));
-                    mProcessedChannelResultsList.clear();
+                    //Transfer our consumer count for the full buffer to the IFFT dispatcher
+                    if(mIFFTProcessorDispatcher.isRunning())
+                    {
+                        mIFFTProcessorDispatcher.receive(mChannelResultsBuffer);
+                    }
+                    else
+                    {
+                        mChannelResultsBuffer.decrementConsumerCount();
+                    }
+
+                    mChannelResultsBuffer = mChannelResultsBufferPool.getBuffer();
                 }
 
                 //Right-shift the samples in the buffer over to make room for a new block of samples
@@ -340,43 +385,24 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
 
 
     /**
-     * Processes the sample buffer for each new block of sample data that is loaded and distributes the results to any
-     * registered channel listeners.
+     * Processes the sample buffer for each new block of sample data that is loaded and writes the reordered sub-channel
+     * results to the processed array.
      *
      * Note: mInlineSamples and mInlineFilter are both exactly (subChannelCount * tapsPerChannel) in length (see init()
-     * and getAlignedFilter()), so the fused multiply-accumulate loop below indexes every element of each array exactly
-     * once.  The multiply and per-sub-channel accumulation are fused into a single pass, which removes the previous
-     * per-call interim product array entirely and preserves bit-for-bit identical output: for each sub-channel the
-     * tap products are summed in the same ascending tap order as before, and the JVM does not contract the separate
-     * float multiply/add into an FMA without an explicit Math.fma() call.
+     * and getAlignedFilter()).  The multiply and per-sub-channel accumulation is performed by the calibrated scalar or
+     * vector filter accumulator, and each implementation sums the tap products for each sub-channel in the same
+     * ascending tap order so that the output is bit-for-bit identical regardless of the implementation selected.
+     *
+     * @param processed array to receive the sub-channel results, obtained from the current pooled channel results
+     * buffer.  The array is fully overwritten.
      */
-    private float[] process()
+    private void process(float[] processed)
     {
         final int subChannelCount = getSubChannelCount();
-        final int tapsPerChannel = mTapsPerChannel;
-        final float[] inlineSamples = mInlineSamples;
-        final float[] inlineFilter = mInlineFilter;
         final float[] filterAccumulator = mFilterAccumulator;
 
-        //Reset the reused accumulator to zero before summing this block's tap products
-        Arrays.fill(filterAccumulator, 0.0f);
-
-        //Fused multiply-accumulate: multiply each sample by its corresponding filter tap and accumulate the product
-        //directly into the appropriate I/Q sub-channel accumulator.
-        for(int tap = 0; tap < tapsPerChannel; tap++)
-        {
-            final int tapOffset = tap * subChannelCount;
-
-            for(int channel = 0; channel < subChannelCount; channel++)
-            {
-                final int index = tapOffset + channel;
-                filterAccumulator[channel] += inlineSamples[index] * inlineFilter[index];
-            }
-        }
-
-        //This output array is handed off to the IFFT dispatcher thread and therefore must be freshly allocated
-        //per block (it escapes this method and cannot be reused).
-        final float[] processed = new float[subChannelCount];
+        mFilterAccumulatorStage.accumulate(mInlineSamples, mInlineFilter, filterAccumulator, subChannelCount,
+            mTapsPerChannel);
 
         //Rearrange the accumulated sub-channels into the order required by the IFFT, alternating between the
         //top-block and middle-block orderings on successive blocks.
@@ -388,8 +414,6 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
         }
 
         mTopBlockIndicator = !mTopBlockIndicator;
-
-        return processed;
     }
 
     /**
@@ -400,7 +424,24 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
     private void init(float[] coefficients)
     {
         int channelCount = getChannelCount();
-        mFFT = new FloatFFT_1D(channelCount);
+        mFFT = FFTFactory.getFFT(channelCount);
+
+        if(mWorkerPool != null && mWorkerPool.isMultiThreaded())
+        {
+            IFFTStripe[] stripes = new IFFTStripe[mWorkerPool.getWorkerCount()];
+
+            for(int x = 0; x < stripes.length; x++)
+            {
+                stripes[x] = new IFFTStripe(channelCount, x, stripes.length);
+            }
+
+            mIFFTTask = mWorkerPool.createTask(stripes);
+        }
+        else
+        {
+            mIFFTTask = null;
+        }
+
         int bufferLength = getSubChannelCount() * mTapsPerChannel;
         mSamplesPerBlock = channelCount; //Same as subChannelCount / 2
         mTopBlockMap = getTopBlockMap(channelCount);
@@ -408,45 +449,123 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
         mInlineFilter = getAlignedFilter(coefficients, channelCount, mTapsPerChannel);
         mInlineSamples = new float[bufferLength];
         mFilterAccumulator = new float[getSubChannelCount()];
+
+        //Create a new pool sized for the (possibly changed) sub-channel count.  Buffers from a previous pool that are
+        //still in-flight are returned to that pool and released for garbage collection.
+        mChannelResultsBufferPool = new ChannelResultsBufferPool(CHANNEL_RESULTS_BUFFER_POOL_SIZE,
+            PROCESSED_CHANNEL_RESULTS_THRESHOLD, getSubChannelCount());
+        mChannelResultsBuffer = mChannelResultsBufferPool.getBuffer();
+    }
+
+    /**
+     * Number of channel results buffers queued and awaiting the IFFT stage.
+     */
+    public int getBacklog()
+    {
+        return mIFFTProcessorDispatcher.getQueueSize();
     }
 
     /**
      * Separate threaded processor to receive and enqueue filtered channel results buffers, perform IFFT on each array
      * as required to align the phase of each polyphase channel, and then dispatch the results to any registered
-     * sample consumer channels.
+     * sample consumer channels.  The IFFT is performed in-place on the pooled arrays.
      */
-    public class IFFTProcessorDispatcher extends Dispatcher<List<float[]>>
+    public class IFFTProcessorDispatcher extends Dispatcher<ChannelResultsBuffer>
     {
         public IFFTProcessorDispatcher(long interval)
         {
             super("sdrtrunk polyphase ifft processor", interval);
 
+            //Release buffers that are cleared from the queue when this dispatcher stops, so they return to the pool
+            setDiscardListener(ChannelResultsBuffer::decrementConsumerCount);
+
             //We create a listener interface to receive the batched channel results arrays from the scheduled thread pool
             //dispatcher thread that is part of this continuous buffer processor.  We perform an IFFT on each
             //channel results array contained in each results buffer and then dispatch the buffer
             //so that it can be distributed to each channel listener.
-            setListener(list -> {
+            setListener(buffer -> {
                 try
                 {
-                    List<float[]> processedChannelResults = new ArrayList<>();
+                    ChannelizerWorkerPool.StripedTask<IFFTStripe> task = mIFFTTask;
 
-                    for(float[] channelResults: list)
+                    if(task != null)
                     {
-                        if(channelResults != null)
+                        //Partition the IFFT across the worker pool.  Returns once all stripes are complete.
+                        for(IFFTStripe stripe: task.getStripes())
+                        {
+                            stripe.setBuffer(buffer);
+                        }
+
+                        task.execute();
+                    }
+                    else
+                    {
+                        for(int x = 0; x < buffer.size(); x++)
                         {
                             //Rotate each of the channels to the correct phase using the IFFT
-                            mFFT.complexInverse(channelResults, true);
-                            processedChannelResults.add(channelResults);
+                            mFFT.complexInverse(buffer.get(x), true);
                         }
                     }
 
-                    dispatch(processedChannelResults);
+                    dispatch(buffer);
                 }
                 catch(Throwable t)
                 {
                     mLog.error("Error during IFFT and dispatch of processed channel results", t);
                 }
+                finally
+                {
+                    //Release the consumer count that was transferred to this dispatcher by the channelizer
+                    buffer.decrementConsumerCount();
+                }
             });
         }
     }
+
+    /**
+     * Worker task that performs the IFFT on an interleaved stripe of the channel results arrays in a buffer, where
+     * the stripe processes every Nth array starting at the stripe index.  Each stripe has its own FFT instance so that
+     * stripes can run concurrently.
+     */
+    public static class IFFTStripe implements Runnable
+    {
+        private final IFFT mStripeFFT;
+        private final int mStripeIndex;
+        private final int mStripeCount;
+        private ChannelResultsBuffer mBuffer;
+
+        /**
+         * Constructs an instance
+         * @param channelCount for the IFFT size
+         * @param stripeIndex of this stripe
+         * @param stripeCount total number of stripes
+         */
+        public IFFTStripe(int channelCount, int stripeIndex, int stripeCount)
+        {
+            mStripeFFT = FFTFactory.getFFT(channelCount);
+            mStripeIndex = stripeIndex;
+            mStripeCount = stripeCount;
+        }
+
+        /**
+         * Sets the buffer to process on the next run() invocation.
+         */
+        public void setBuffer(ChannelResultsBuffer buffer)
+        {
+            mBuffer = buffer;
+        }
+
+        @Override
+        public void run()
+        {
+            ChannelResultsBuffer buffer = mBuffer;
+
+            for(int x = mStripeIndex; x < buffer.size(); x += mStripeCount)
+            {
+                mStripeFFT.complexInverse(buffer.get(x), true);
+            }
+
+            mBuffer = null;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import io.github.dsheirer.controller.channel.event.ChannelStopProcessingRequest;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.eventbus.MyEventBus;
 import io.github.dsheirer.log.LoggingSuppressor;
+import io.github.dsheirer.monitor.LatencyMonitor;
 import io.github.dsheirer.sample.Broadcaster;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
@@ -70,6 +71,7 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
     private static final double MINIMUM_CHANNEL_BANDWIDTH = 25000.0;
     private static final double CHANNEL_OVERSAMPLING = 2.0;
     private static final int POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL = 9;
+    private static final long LOAD_INTERVAL_NANOS = 1_000_000_000L;
 
     private Broadcaster<SourceEvent> mSourceEventBroadcaster = new Broadcaster<>();
     private TunerController mTunerController;
@@ -79,9 +81,11 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
     private ComplexPolyphaseChannelizerM2 mPolyphaseChannelizer;
     private ChannelSourceEventListener mChannelSourceEventListener = new ChannelSourceEventListener();
     private NativeBufferReceiver mNativeBufferReceiver = new NativeBufferReceiver();
-    private Dispatcher mBufferDispatcher;
+    private Dispatcher<INativeBuffer> mBufferDispatcher;
     private Map<Integer,float[]> mOutputProcessorFilters = new HashMap<>();
     private boolean mRunning = true;
+    private volatile double mLoad;
+    private volatile long mLoadUpdated;
 
     /**
      * Creates a polyphase channel manager for the tuner controller
@@ -107,8 +111,12 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
 
         mChannelCalculator = new ChannelCalculator(tunerController.getSampleRate(), channelCount,
                 tunerController.getFrequency(), CHANNEL_OVERSAMPLING);
-        mBufferDispatcher = new Dispatcher("sdrtrunk polyphase buffer processor", 10);
+        mBufferDispatcher = new Dispatcher<>("sdrtrunk polyphase buffer processor", 10);
+        mBufferDispatcher.setLowLatency(true);
+        mBufferDispatcher.setLatencyHistogram(LatencyMonitor.getInstance()
+            .getHistogram(LatencyMonitor.STAGE_CHANNELIZER_INPUT), INativeBuffer::getTimestamp);
         mBufferDispatcher.setListener(mNativeBufferReceiver);
+        mTunerController.setChannelBacklogMonitor(this::getChannelBacklog);
     }
 
     /**
@@ -119,6 +127,10 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
         StringBuilder sb = new StringBuilder();
         sb.append("Polyphase Channel Manager Providing [").append(mChannelSources.size()).append("] Channels");
         sb.append("\n\t").append(mChannelCalculator);
+        if(mPolyphaseChannelizer != null)
+        {
+            sb.append("\n\t").append(mPolyphaseChannelizer.getChannelResultsBufferPool());
+        }
         for(PolyphaseChannelSource pcs: mChannelSources)
         {
             List<Integer> indexes = pcs.getOutputProcessorIndexes();
@@ -164,6 +176,38 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
         }
     }
 
+    /**
+     * Processing load of the channelizer measured over the most recent measurement interval, as the fraction of a
+     * single CPU core spent processing native buffers (e.g. 0.25 = 25% of one core).  The load is zero when the
+     * channelizer is stopped or when no buffers have been processed over the two most recent measurement intervals.
+     */
+    public double getLoad()
+    {
+        if(System.nanoTime() - mLoadUpdated > 2 * LOAD_INTERVAL_NANOS)
+        {
+            return 0.0;
+        }
+
+        return mLoad;
+    }
+
+    /**
+     * Largest number of channel results buffers queued and awaiting processing by the channelizer IFFT stage or by
+     * any of the channel output processors.
+     */
+    public int getChannelBacklog()
+    {
+        ComplexPolyphaseChannelizerM2 channelizer = mPolyphaseChannelizer;
+        int backlog = channelizer != null ? channelizer.getBacklog() : 0;
+
+        for(PolyphaseChannelSource channelSource: mChannelSources)
+        {
+            backlog = Math.max(backlog, channelSource.getBacklog());
+        }
+
+        return backlog;
+    }
+
     /**
      * Current channel bandwidth/spacing.
      */
@@ -253,6 +297,7 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
                 mTunerController.removeBufferListener(mBufferDispatcher);
                 mBufferDispatcher.stop();
                 mPolyphaseChannelizer.stop();
+                mLoad = 0.0;
             }
         }
 
@@ -333,7 +378,7 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
             try
             {
                 mPolyphaseChannelizer = new ComplexPolyphaseChannelizerM2(tunerSampleRate,
-                    POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL);
+                    POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL, ChannelizerWorkerPool.getInstance());
             }
             catch(IllegalArgumentException iae)
             {
@@ -467,6 +512,8 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
     public class NativeBufferReceiver implements Listener<INativeBuffer>
     {
         private boolean mOutputProcessorUpdateRequired = false;
+        private long mLoadIntervalStart;
+        private long mLoadProcessingNanos;
 
         /**
          * Processes tuner center frequency change source events to flag when output processors need updating.
@@ -492,6 +539,8 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
         @Override
         public void receive(INativeBuffer nativeBuffer)
         {
+            long start = System.nanoTime();
+
             if(mOutputProcessorUpdateRequired)
             {
                 try
@@ -521,6 +570,36 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
                     }
                 }
             }
+
+            updateLoad(start, System.nanoTime());
+        }
+
+        /**
+         * Accumulates the buffer processing time and updates the channelizer load once per measurement interval.
+         * @param start of buffer processing
+         * @param end of buffer processing
+         */
+        private void updateLoad(long start, long end)
+        {
+            //Start a new measurement interval on the first buffer and when buffers resume after being stopped so that
+            //the idle time while stopped isn't averaged into the load
+            if(mLoadIntervalStart == 0 || start - mLoadIntervalStart > 2 * LOAD_INTERVAL_NANOS)
+            {
+                mLoadIntervalStart = start;
+                mLoadProcessingNanos = 0;
+            }
+
+            mLoadProcessingNanos += (end - start);
+
+            long elapsed = end - mLoadIntervalStart;
+
+            if(elapsed >= LOAD_INTERVAL_NANOS)
+            {
+                mLoad = (double)mLoadProcessingNanos / elapsed;
+                mLoadUpdated = end;
+                mLoadIntervalStart = end;
+                mLoadProcessingNanos = 0;
+            }
         }
     }
 }
\ No newline at end of file
@@ -280,37 +280,60 @@ public class PolyphaseChannelSource extends TunerChannelSource implements Listen
      * queued for processing to extract the target channel samples, process them for frequency correction and/or
      * channel aggregation, and dispatch the results to the downstream sample listener/consumer.
      *
-     * @param channelResultsList containing a list of polyphase channelizer output arrays.
+     * Note: the caller increments the consumer count of the buffer prior to invoking this method and this source is
+     * responsible for decrementing the consumer count, either directly or via the output processor.
+     *
+     * @param channelResultsBuffer containing polyphase channelizer output arrays.
      * @param currentSamplesTimestamp for the samples
      */
-    public void receiveChannelResults(List<float[]> channelResultsList, long currentSamplesTimestamp)
+    public void receiveChannelResults(ChannelResultsBuffer channelResultsBuffer, long currentSamplesTimestamp)
     {
-        if(mPendingOutputProcessorUpdate != null)
-        {
-            ChannelCalculator channelCalculator = mPendingOutputProcessorUpdate.getChannelCalculator();
-            SynthesisFilterManager filterManager = mPendingOutputProcessorUpdate.getSynthesisFilterManager();
-            mPendingOutputProcessorUpdate = null;
-            doUpdateOutputProcessor(channelCalculator, filterManager);
-        }
-
-        //Apply channel decider requested frequency correction
-        if(mPendingFrequencyCorrectionUpdate)
-        {
-            mPolyphaseChannelOutputProcessor.setFrequencyOffset(getFrequencyOffset());
-            mPendingFrequencyCorrectionUpdate = false;
-        }
+        boolean transferred = false;
 
         try
         {
+            if(mPendingOutputProcessorUpdate != null)
+            {
+                ChannelCalculator channelCalculator = mPendingOutputProcessorUpdate.getChannelCalculator();
+                SynthesisFilterManager filterManager = mPendingOutputProcessorUpdate.getSynthesisFilterManager();
+                mPendingOutputProcessorUpdate = null;
+                doUpdateOutputProcessor(channelCalculator, filterManager);
+            }
+
+            //Apply channel decider requested frequency correction
+            if(mPendingFrequencyCorrectionUpdate)
+            {
+                mPolyphaseChannelOutputProcessor.setFrequencyOffset(getFrequencyOffset());
+                mPendingFrequencyCorrectionUpdate = false;
+            }
+
             if(mPolyphaseChannelOutputProcessor != null)
             {
-                mPolyphaseChannelOutputProcessor.receiveChannelResults(channelResultsList, currentSamplesTimestamp);
+                //The output processor takes over the consumer count once it accepts the buffer
+                mPolyphaseChannelOutputProcessor.receiveChannelResults(channelResultsBuffer, currentSamplesTimestamp);
+                transferred = true;
             }
         }
         catch(Exception e)
         {
             mLog.error("Error processing channel results", e);
         }
+        finally
+        {
+            if(!transferred)
+            {
+                channelResultsBuffer.decrementConsumerCount();
+            }
+        }
+    }
+
+    /**
+     * Number of channel results buffers queued and awaiting processing by this channel's output processor.
+     */
+    public int getBacklog()
+    {
+        IPolyphaseChannelOutputProcessor outputProcessor = mPolyphaseChannelOutputProcessor;
+        return outputProcessor != null ? outputProcessor.getBacklog() : 0;
     }
 
     /**
@@ -20,18 +20,16 @@
 package io.github.dsheirer.dsp.filter.channelizer;
 
 import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.design.FilterDesignCache;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
- * Creates and caches channel output processor synthesis filters.
+ * Creates and caches channel output processor synthesis filters.  Filters are cached in the filter design cache.
  */
 public class SynthesisFilterManager
 {
     private static final int POLYPHASE_SYNTHESIZER_TAPS_PER_CHANNEL = 9;
-    private static final String SEPARATOR = "-";
-    private Map<String,float[]> mFilterMap = new HashMap<>();
+    private static final String SEPARATOR = ",";
 
     /**
      * Design or retrieve a previously cached output processor synthesis filter.
@@ -43,16 +41,10 @@ public class SynthesisFilterManager
      */
     public float[] getFilter(double sampleRate, double channelBandwidth, int channelCount) throws FilterDesignException
     {
-        String key = sampleRate + SEPARATOR + channelBandwidth + SEPARATOR + channelCount;
+        String key = "sincM2Synthesizer:" + sampleRate + SEPARATOR + channelBandwidth + SEPARATOR + channelCount +
+            SEPARATOR + POLYPHASE_SYNTHESIZER_TAPS_PER_CHANNEL;
 
-        if(mFilterMap.containsKey(key))
-        {
-            return mFilterMap.get(key);
-        }
-
-        float[] taps = FilterFactory.getSincM2Synthesizer(sampleRate, channelBandwidth, channelCount,
-                POLYPHASE_SYNTHESIZER_TAPS_PER_CHANNEL);
-        mFilterMap.put(key, taps);
-        return taps;
+        return FilterDesignCache.getInstance().get(key, () -> FilterFactory.getSincM2Synthesizer(sampleRate,
+            channelBandwidth, channelCount, POLYPHASE_SYNTHESIZER_TAPS_PER_CHANNEL));
     }
 }
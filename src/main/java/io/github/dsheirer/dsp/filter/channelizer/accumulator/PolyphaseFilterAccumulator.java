@@ -0,0 +1,44 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer.accumulator;
+
+/**
+ * Polyphase channelizer filter stage that multiplies the inline sample buffer by the aligned prototype filter and
+ * accumulates the tap products for each I/Q sub-channel.
+ *
+ * The sample and filter arrays are arranged as tapsPerChannel contiguous blocks of subChannelCount elements, so that
+ * the accumulated value for sub-channel N is the sum of the products at indices N, N + subChannelCount,
+ * N + 2 * subChannelCount, etc.  Implementations sum the tap products for each sub-channel in ascending tap order
+ * using separate multiply and add operations so that all implementations produce bit-for-bit identical output.
+ */
+public abstract class PolyphaseFilterAccumulator
+{
+    /**
+     * Multiplies the samples by the filter and accumulates the products into the accumulator for each sub-channel.
+     * The accumulator is fully overwritten.
+     *
+     * @param samples inline sample buffer with length subChannelCount * tapsPerChannel
+     * @param filter aligned filter with length subChannelCount * tapsPerChannel
+     * @param accumulator to receive the accumulated sub-channel results with length subChannelCount
+     * @param subChannelCount number of I/Q sub-channels (2 x channel count)
+     * @param tapsPerChannel number of filter taps per polyphase channel
+     */
+    public abstract void accumulate(float[] samples, float[] filter, float[] accumulator, int subChannelCount,
+                                    int tapsPerChannel);
+}
@@ -0,0 +1,55 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer.accumulator;
+
+import io.github.dsheirer.vector.calibrate.CalibrationManager;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+
+/**
+ * Factory for creating polyphase channelizer filter accumulators
+ */
+public class PolyphaseFilterAccumulatorFactory
+{
+    /**
+     * Creates the implementation using calibration data to select the optimal implementation from scalar and vector
+     * options.
+     * @return accumulator instance
+     */
+    public static PolyphaseFilterAccumulator getAccumulator()
+    {
+        Implementation implementation = CalibrationManager.getInstance()
+            .getImplementation(CalibrationType.FILTER_POLYPHASE_CHANNELIZER);
+
+        switch(implementation)
+        {
+            case VECTOR_SIMD_64:
+                return new PolyphaseFilterAccumulatorVector64();
+            case VECTOR_SIMD_128:
+                return new PolyphaseFilterAccumulatorVector128();
+            case VECTOR_SIMD_256:
+                return new PolyphaseFilterAccumulatorVector256();
+            case VECTOR_SIMD_512:
+                return new PolyphaseFilterAccumulatorVector512();
+            case SCALAR:
+            default:
+                return new PolyphaseFilterAccumulatorScalar();
+        }
+    }
+}
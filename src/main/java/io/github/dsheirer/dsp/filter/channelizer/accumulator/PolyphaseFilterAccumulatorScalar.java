@@ -0,0 +1,49 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer.accumulator;
+
+/**
+ * Scalar implementation of the polyphase channelizer filter accumulator.
+ */
+public class PolyphaseFilterAccumulatorScalar extends PolyphaseFilterAccumulator
+{
+    @Override
+    public void accumulate(float[] samples, float[] filter, float[] accumulator, int subChannelCount,
+                           int tapsPerChannel)
+    {
+        //Initialize the accumulator with the products of the first tap
+        for(int channel = 0; channel < subChannelCount; channel++)
+        {
+            accumulator[channel] = 0.0f + samples[channel] * filter[channel];
+        }
+
+        //Fused multiply-accumulate: multiply each sample by its corresponding filter tap and accumulate the product
+        //directly into the appropriate I/Q sub-channel accumulator.
+        for(int tap = 1; tap < tapsPerChannel; tap++)
+        {
+            final int tapOffset = tap * subChannelCount;
+
+            for(int channel = 0; channel < subChannelCount; channel++)
+            {
+                final int index = tapOffset + channel;
+                accumulator[channel] += samples[index] * filter[index];
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer.accumulator;
+
+import io.github.dsheirer.vector.VectorUtilities;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD 512-bit vector implementation of the polyphase channelizer filter accumulator.  Each group of sub-channels is
+ * accumulated across all taps in a vector register before it is stored.  Any remaining sub-channels that don't fill
+ * a full vector are accumulated with scalar operations.
+ */
+public class PolyphaseFilterAccumulatorVector512 extends PolyphaseFilterAccumulator
+{
+    private static final VectorSpecies<Float> VECTOR_SPECIES = FloatVector.SPECIES_512;
+
+    /**
+     * Constructs an instance
+     */
+    public PolyphaseFilterAccumulatorVector512()
+    {
+        VectorUtilities.checkSpecies(VECTOR_SPECIES);
+    }
+
+    @Override
+    public void accumulate(float[] samples, float[] filter, float[] accumulator, int subChannelCount,
+                           int tapsPerChannel)
+    {
+        final int bufferLength = subChannelCount * tapsPerChannel;
+        final int loopBound = VECTOR_SPECIES.loopBound(subChannelCount);
+        int channel = 0;
+
+        for(; channel < loopBound; channel += VECTOR_SPECIES.length())
+        {
+            FloatVector sum = FloatVector.zero(VECTOR_SPECIES);
+
+            for(int index = channel; index < bufferLength; index += subChannelCount)
+            {
+                sum = sum.add(FloatVector.fromArray(VECTOR_SPECIES, samples, index)
+                    .mul(FloatVector.fromArray(VECTOR_SPECIES, filter, index)));
+            }
+
+            sum.intoArray(accumulator, channel);
+        }
+
+        for(; channel < subChannelCount; channel++)
+        {
+            float sum = 0.0f;
+
+            for(int index = channel; index < bufferLength; index += subChannelCount)
+            {
+                sum += samples[index] * filter[index];
+            }
+
+            accumulator[channel] = sum;
+        }
+    }
+}
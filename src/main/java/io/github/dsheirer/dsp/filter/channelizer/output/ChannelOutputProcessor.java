@@ -18,11 +18,12 @@
  */
 package io.github.dsheirer.dsp.filter.channelizer.output;
 
+import io.github.dsheirer.dsp.filter.channelizer.ChannelResultsBuffer;
+import io.github.dsheirer.monitor.LatencyMonitor;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.complex.ComplexSamples;
 import io.github.dsheirer.source.heartbeat.HeartbeatManager;
 import io.github.dsheirer.util.Dispatcher;
-import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,7 +31,7 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
 {
     private final static Logger mLog = LoggerFactory.getLogger(ChannelOutputProcessor.class);
 
-    private Dispatcher<List<float[]>> mChannelResultsDispatcher;
+    private Dispatcher<ChannelResultsBuffer> mChannelResultsDispatcher;
     private HeartbeatManager mHeartbeatManager;
     protected Listener<ComplexSamples> mComplexSamplesListener;
     private int mInputChannelCount;
@@ -50,15 +51,24 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
         //Process 1/10th of the sample rate per second at a rate of 20 times a second (200% of anticipated rate)
         mHeartbeatManager = heartbeatManager;
         mChannelResultsDispatcher = new Dispatcher(threadName,50, mHeartbeatManager);
-        mChannelResultsDispatcher.setListener(floats -> {
+        mChannelResultsDispatcher.setLowLatency(true);
+        mChannelResultsDispatcher.setLatencyHistogram(LatencyMonitor.getInstance()
+            .getHistogram(LatencyMonitor.STAGE_CHANNEL_OUTPUT), ChannelResultsBuffer::getTimestamp);
+        //Release buffers that are cleared from the queue when this processor stops, so they return to the pool
+        mChannelResultsDispatcher.setDiscardListener(ChannelResultsBuffer::decrementConsumerCount);
+        mChannelResultsDispatcher.setListener(channelResultsBuffer -> {
             try
             {
-                process(floats);
+                process(channelResultsBuffer);
             }
             catch(Throwable t)
             {
                 mLog.error("Error processing channel results", t);
             }
+            finally
+            {
+                channelResultsBuffer.decrementConsumerCount();
+            }
         });
     }
 
@@ -103,17 +113,32 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
     }
 
     @Override
-    public void receiveChannelResults(List<float[]> channelResultsList, long timestamp)
+    public int getBacklog()
     {
-        mChannelResultsDispatcher.receive(channelResultsList);
+        return mChannelResultsDispatcher.getQueueSize();
+    }
+
+    @Override
+    public void receiveChannelResults(ChannelResultsBuffer channelResultsBuffer, long timestamp)
+    {
+        if(mChannelResultsDispatcher.isRunning())
+        {
+            mChannelResultsDispatcher.receive(channelResultsBuffer);
+        }
+        else
+        {
+            channelResultsBuffer.decrementConsumerCount();
+        }
+
         mCurrentSampleTimestamp = timestamp;
     }
 
     /**
-     * Sub-class implementation to process one polyphase channelizer result array.
-     * @param channelResults to process
+     * Sub-class implementation to process one polyphase channelizer results buffer.  The buffer is only valid for
+     * the duration of this method call and the channel results arrays must not be retained.
+     * @param channelResultsBuffer to process
      */
-    public abstract void process(List<float[]> channelResults);
+    public abstract void process(ChannelResultsBuffer channelResultsBuffer);
 
     @Override
     public int getInputChannelCount()
@@ -0,0 +1,357 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.design;
+
+import io.github.dsheirer.properties.SystemProperties;
+import io.github.dsheirer.util.ThreadPool;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.DecimalFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread-safe cache of designed filter coefficients that is persisted to the application directory so that filter
+ * designs (e.g. remez exchange and iteratively optimized channelizer filters) are only calculated once across
+ * application runs.
+ *
+ * Filters are keyed by a design name plus the full set of design parameters (e.g. a FIR filter specification's design
+ * key).  Concurrent requests for the same filter share a single design calculation.  Newly designed filters are
+ * persisted in a compact binary format shortly after they are designed.  The file version should be incremented
+ * whenever a design algorithm changes so that previously cached designs are discarded.
+ */
+public class FilterDesignCache
+{
+    private static final Logger mLog = LoggerFactory.getLogger(FilterDesignCache.class);
+    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.0");
+    private static final String CACHE_DIRECTORY = "cache";
+    private static final String CACHE_FILE = "filter_designs.bin";
+    private static final int FILE_MAGIC = 0x53464443; //SFDC
+    private static final int FILE_VERSION = 1;
+    private static final int MAXIMUM_ENTRIES = 1024;
+    private static final int MAXIMUM_FILTER_LENGTH = 1 << 20;
+    private static final long SAVE_DELAY_SECONDS = 5;
+    private static FilterDesignCache sInstance;
+
+    private final Map<String,float[]> mFilters = new ConcurrentHashMap<>();
+    private final Map<String,FutureTask<float[]>> mPendingDesigns = new ConcurrentHashMap<>();
+    private final AtomicBoolean mSaveScheduled = new AtomicBoolean();
+    private final LongAdder mHitCount = new LongAdder();
+    private final LongAdder mDesignCount = new LongAdder();
+    private final LongAdder mDesignNanoseconds = new LongAdder();
+    private final Path mCachePath;
+    private int mLoadedCount;
+
+    /**
+     * Constructs an instance
+     * @param cachePath for the persisted cache file, or null to disable persistence
+     */
+    FilterDesignCache(Path cachePath)
+    {
+        mCachePath = cachePath;
+    }
+
+    /**
+     * Singleton instance of the filter design cache that is loaded from the application directory on first access.
+     */
+    public static synchronized FilterDesignCache getInstance()
+    {
+        if(sInstance == null)
+        {
+            Path cachePath = null;
+
+            try
+            {
+                cachePath = SystemProperties.getInstance().getApplicationFolder(CACHE_DIRECTORY).resolve(CACHE_FILE);
+            }
+            catch(Exception e)
+            {
+                mLog.error("Unable to resolve filter design cache directory - filter designs will not be persisted", e);
+            }
+
+            sInstance = new FilterDesignCache(cachePath);
+            sInstance.load();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Returns the cached filter for the key, or designs the filter and caches it.
+     * @param key that uniquely identifies the filter design and all of its design parameters
+     * @param designer to design the filter when it is not cached
+     * @return copy of the filter coefficients, or null if the designer was unable to produce a filter
+     * @throws FilterDesignException if the filter cannot be designed
+     */
+    public float[] get(String key, IFilterDesigner designer) throws FilterDesignException
+    {
+        float[] filter = mFilters.get(key);
+
+        if(filter != null)
+        {
+            mHitCount.increment();
+            return filter.clone();
+        }
+
+        FutureTask<float[]> task = new FutureTask<>(() -> design(key, designer));
+        FutureTask<float[]> pending = mPendingDesigns.putIfAbsent(key, task);
+
+        if(pending == null)
+        {
+            pending = task;
+            task.run();
+        }
+        else
+        {
+            //Another thread is designing the same filter - wait for that design
+            mHitCount.increment();
+        }
+
+        try
+        {
+            filter = pending.get();
+            return filter != null ? filter.clone() : null;
+        }
+        catch(ExecutionException ee)
+        {
+            if(ee.getCause() instanceof FilterDesignException fde)
+            {
+                throw fde;
+            }
+
+            throw new FilterDesignException("Error designing filter [" + key + "]", ee.getCause());
+        }
+        catch(InterruptedException ie)
+        {
+            Thread.currentThread().interrupt();
+            throw new FilterDesignException("Interrupted while waiting for filter design [" + key + "]", ie);
+        }
+        finally
+        {
+            mPendingDesigns.remove(key, pending);
+        }
+    }
+
+    /**
+     * Designs the filter, records the design time and caches the result.
+     */
+    private float[] design(String key, IFilterDesigner designer) throws FilterDesignException
+    {
+        long start = System.nanoTime();
+        float[] filter = designer.design();
+        long elapsed = System.nanoTime() - start;
+        mDesignCount.increment();
+        mDesignNanoseconds.add(elapsed);
+
+        if(filter != null && mFilters.size() < MAXIMUM_ENTRIES)
+        {
+            mFilters.put(key, filter.clone());
+            scheduleSave();
+        }
+
+        mLog.debug("Designed filter [" + key + "] in " + DECIMAL_FORMAT.format(elapsed / 1E6) + " ms");
+
+        return filter;
+    }
+
+    /**
+     * Schedules a save of the cache so that a burst of new designs (e.g. at startup) is written once.
+     */
+    private void scheduleSave()
+    {
+        if(mCachePath != null && mSaveScheduled.compareAndSet(false, true))
+        {
+            ThreadPool.SCHEDULED.schedule(this::save, SAVE_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Loads the persisted filter designs.  A missing, outdated or corrupt cache file is ignored.
+     */
+    void load()
+    {
+        if(mCachePath == null || !Files.exists(mCachePath))
+        {
+            return;
+        }
+
+        try(DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(mCachePath))))
+        {
+            if(input.readInt() != FILE_MAGIC || input.readInt() != FILE_VERSION)
+            {
+                mLog.info("Discarding filter design cache - unrecognized format or outdated version");
+                return;
+            }
+
+            int count = input.readInt();
+
+            if(count < 0 || count > MAXIMUM_ENTRIES)
+            {
+                throw new IOException("Invalid filter count [" + count + "]");
+            }
+
+            for(int x = 0; x < count; x++)
+            {
+                String key = input.readUTF();
+                int length = input.readInt();
+
+                if(length <= 0 || length > MAXIMUM_FILTER_LENGTH)
+                {
+                    throw new IOException("Invalid filter length [" + length + "]");
+                }
+
+                float[] filter = new float[length];
+
+                for(int y = 0; y < length; y++)
+                {
+                    filter[y] = input.readFloat();
+                }
+
+                mFilters.putIfAbsent(key, filter);
+            }
+
+            mLoadedCount = count;
+            mLog.info("Loaded [" + count + "] cached filter designs");
+        }
+        catch(IOException ioe)
+        {
+            mLog.warn("Unable to load filter design cache [" + mCachePath + "] - filters will be redesigned", ioe);
+            mFilters.clear();
+        }
+    }
+
+    /**
+     * Persists the cached filter designs, replacing the cache file atomically.
+     */
+    void save()
+    {
+        mSaveScheduled.set(false);
+
+        if(mCachePath == null)
+        {
+            return;
+        }
+
+        Path temp = mCachePath.resolveSibling(CACHE_FILE + ".tmp");
+
+        try
+        {
+            //Snapshot the entries so that the count matches the entries written
+            Map<String,float[]> filters = Map.copyOf(mFilters);
+
+            try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))
+            {
+                output.writeInt(FILE_MAGIC);
+                output.writeInt(FILE_VERSION);
+                output.writeInt(filters.size());
+
+                for(Map.Entry<String,float[]> entry : filters.entrySet())
+                {
+                    output.writeUTF(entry.getKey());
+                    output.writeInt(entry.getValue().length);
+
+                    for(float coefficient : entry.getValue())
+                    {
+                        output.writeFloat(coefficient);
+                    }
+                }
+            }
+
+            Files.move(temp, mCachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch(IOException ioe)
+        {
+            mLog.warn("Unable to save filter design cache [" + mCachePath + "]", ioe);
+        }
+    }
+
+    /**
+     * Number of cached filter designs
+     */
+    public int size()
+    {
+        return mFilters.size();
+    }
+
+    /**
+     * Number of filter requests that were served from the cache.
+     */
+    public long getHitCount()
+    {
+        return mHitCount.sum();
+    }
+
+    /**
+     * Number of filters that were designed because they were not cached.
+     */
+    public long getDesignCount()
+    {
+        return mDesignCount.sum();
+    }
+
+    /**
+     * Total time spent designing filters, in milliseconds.
+     */
+    public double getDesignTimeMilliseconds()
+    {
+        return mDesignNanoseconds.sum() / 1E6;
+    }
+
+    /**
+     * Diagnostic report of the cache contents and statistics.
+     */
+    public String getDiagnosticReport()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Filter Design Cache\n");
+        sb.append("\tCache File: ").append(mCachePath).append("\n");
+        sb.append("\tCached Filters: ").append(size()).append(" (").append(mLoadedCount).append(" loaded)\n");
+        sb.append("\tCache Hits: ").append(getHitCount()).append("\n");
+        sb.append("\tFilters Designed: ").append(getDesignCount()).append("\n");
+        sb.append("\tDesign Time: ").append(DECIMAL_FORMAT.format(getDesignTimeMilliseconds())).append(" ms\n");
+        return sb.toString();
+    }
+
+    /**
+     * Filter design function
+     */
+    @FunctionalInterface
+    public interface IFilterDesigner
+    {
+        /**
+         * Designs the filter
+         * @return filter coefficients or null if the filter cannot be designed
+         * @throws FilterDesignException if the filter cannot be designed
+         */
+        float[] design() throws FilterDesignException;
+    }
+}
@@ -61,6 +61,30 @@ public class FIRFilterSpecification
         return sb.toString();
     }
 
+    /**
+     * Key that uniquely identifies the filter that is designed from this specification, for use with the filter
+     * design cache.  The key contains the filter type, order, grid density and the full definition of each
+     * frequency band.
+     */
+    public String getDesignKey()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(mRemezFilterType.name());
+        sb.append(",").append(mOrder);
+        sb.append(",").append(mGridDensity);
+
+        for(FrequencyBand band : mFrequencyBands)
+        {
+            sb.append(",[").append(band.getStart());
+            sb.append(",").append(band.getEnd());
+            sb.append(",").append(band.getAmplitude());
+            sb.append(",").append(band.getRippleDB());
+            sb.append(",").append(band.mWeight).append("]");
+        }
+
+        return sb.toString();
+    }
+
     public void addFrequencyBand(FrequencyBand band)
     {
         mFrequencyBands.add(band);
@@ -0,0 +1,164 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+
+/**
+ * Complex sample decimating FIR filter that filters and decimates the I and Q sample arrays in a single pass.  Only the
+ * retained (decimated) output samples are calculated, which is equivalent to a polyphase decimator where each output
+ * sample is the sum of the polyphase branch outputs.
+ *
+ * This filter is designed to combine a decoder's decimation, baseband and pulse shaping filter stages into a single
+ * stage that is designed at the input sample rate (see FilterFactory.convolve()).  The internal sample buffers and the
+ * output sample arrays are reused across calls and are only reallocated when the incoming buffer length changes, so the
+ * returned sample arrays are only valid until the next call to filter().
+ *
+ * Sub-classes provide the multiply and accumulate implementation.  Filter coefficients are stored in reverse order and
+ * padded with leading zeros to a multiple of the vector lane count so that the sample buffer can be read in full
+ * vector lengths without bounds checks.
+ */
+public abstract class ComplexDecimatingFilter
+{
+    protected final float[] mCoefficients;
+    protected final int mDecimation;
+    protected final int mOverlap;
+    protected float[] mBufferI;
+    protected float[] mBufferQ;
+    private float[] mFilteredI = new float[0];
+    private float[] mFilteredQ = new float[0];
+    private int mSampleCount = -1;
+    private int mOffset;
+
+    /**
+     * Constructs an instance
+     * @param coefficients of the filter in normal order, designed for the input sample rate
+     * @param decimation factor, 1 or greater
+     * @param laneCount of the implementation, used to pad the coefficients array to a multiple of the lane count
+     */
+    protected ComplexDecimatingFilter(float[] coefficients, int decimation, int laneCount)
+    {
+        if(coefficients == null || coefficients.length == 0)
+        {
+            throw new IllegalArgumentException("Filter coefficients cannot be null or empty");
+        }
+
+        if(decimation < 1)
+        {
+            throw new IllegalArgumentException("Decimation [" + decimation + "] must be 1 or greater");
+        }
+
+        int length = laneCount;
+
+        while(length < coefficients.length)
+        {
+            length += laneCount;
+        }
+
+        //Reverse the coefficients and place them at the end of the padded array so that the newest sample in the
+        //buffer window is multiplied by the first coefficient.
+        mCoefficients = new float[length];
+        int padding = length - coefficients.length;
+
+        for(int x = 0; x < coefficients.length; x++)
+        {
+            mCoefficients[padding + x] = coefficients[coefficients.length - 1 - x];
+        }
+
+        mDecimation = decimation;
+        mOverlap = length - 1;
+        mBufferI = new float[mOverlap];
+        mBufferQ = new float[mOverlap];
+    }
+
+    /**
+     * Decimation factor for this filter.
+     */
+    public int getDecimation()
+    {
+        return mDecimation;
+    }
+
+    /**
+     * Filters and decimates the complex samples.
+     * @param samples to filter
+     * @return filtered and decimated samples.  Note: the returned sample arrays are reused on the next invocation.
+     */
+    public ComplexSamples filter(ComplexSamples samples)
+    {
+        return filter(samples.i(), samples.q(), samples.timestamp());
+    }
+
+    /**
+     * Filters and decimates the complex sample arrays.
+     * @param i inphase samples
+     * @param q quadrature samples
+     * @param timestamp for the samples
+     * @return filtered and decimated samples.  Note: the returned sample arrays are reused on the next invocation.
+     */
+    public ComplexSamples filter(float[] i, float[] q, long timestamp)
+    {
+        int sampleCount = i.length;
+
+        //Resize the buffers when the incoming buffer length changes, preserving the residual samples
+        if(sampleCount != mSampleCount)
+        {
+            float[] bufferI = new float[mOverlap + sampleCount];
+            float[] bufferQ = new float[mOverlap + sampleCount];
+            System.arraycopy(mBufferI, mBufferI.length - mOverlap, bufferI, 0, mOverlap);
+            System.arraycopy(mBufferQ, mBufferQ.length - mOverlap, bufferQ, 0, mOverlap);
+            mBufferI = bufferI;
+            mBufferQ = bufferQ;
+            mSampleCount = sampleCount;
+        }
+        else
+        {
+            System.arraycopy(mBufferI, sampleCount, mBufferI, 0, mOverlap);
+            System.arraycopy(mBufferQ, sampleCount, mBufferQ, 0, mOverlap);
+        }
+
+        System.arraycopy(i, 0, mBufferI, mOverlap, sampleCount);
+        System.arraycopy(q, 0, mBufferQ, mOverlap, sampleCount);
+
+        //Number of output samples, carrying the decimation phase across buffers that are not a multiple of decimation
+        int outputCount = sampleCount > mOffset ? (sampleCount - mOffset + mDecimation - 1) / mDecimation : 0;
+
+        if(mFilteredI.length != outputCount)
+        {
+            mFilteredI = new float[outputCount];
+            mFilteredQ = new float[outputCount];
+        }
+
+        filter(mFilteredI, mFilteredQ, mOffset, outputCount);
+
+        mOffset += (outputCount * mDecimation) - sampleCount;
+
+        return new ComplexSamples(mFilteredI, mFilteredQ, timestamp);
+    }
+
+    /**
+     * Calculates the output samples.  The buffer window for each output sample starts at the buffer index of the
+     * newest input sample for that output, since the buffer starts with the residual (overlap) samples.
+     * @param filteredI array to receive the filtered inphase samples
+     * @param filteredQ array to receive the filtered quadrature samples
+     * @param offset of the buffer window start for the first output sample
+     * @param count of output samples to calculate, with each window start advancing by the decimation factor
+     */
+    protected abstract void filter(float[] filteredI, float[] filteredQ, int offset, int count);
+}
@@ -0,0 +1,57 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.vector.calibrate.CalibrationManager;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+
+/**
+ * Factory for creating complex decimating FIR filters
+ */
+public class ComplexDecimatingFilterFactory
+{
+    /**
+     * Creates the implementation using calibration data to select the optimal implementation from scalar and vector
+     * options.
+     * @param coefficients of the filter in normal order, designed for the input sample rate
+     * @param decimation factor, 1 or greater
+     * @return filter instance
+     */
+    public static ComplexDecimatingFilter getFilter(float[] coefficients, int decimation)
+    {
+        Implementation implementation = CalibrationManager.getInstance()
+            .getImplementation(CalibrationType.FILTER_COMPLEX_DECIMATING);
+
+        switch(implementation)
+        {
+            case VECTOR_SIMD_64:
+                return new VectorComplexDecimatingFilter64Bit(coefficients, decimation);
+            case VECTOR_SIMD_128:
+                return new VectorComplexDecimatingFilter128Bit(coefficients, decimation);
+            case VECTOR_SIMD_256:
+                return new VectorComplexDecimatingFilter256Bit(coefficients, decimation);
+            case VECTOR_SIMD_512:
+                return new VectorComplexDecimatingFilter512Bit(coefficients, decimation);
+            case SCALAR:
+            default:
+                return new ScalarComplexDecimatingFilter(coefficients, decimation);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+/**
+ * Scalar implementation of the complex decimating FIR filter.
+ */
+public class ScalarComplexDecimatingFilter extends ComplexDecimatingFilter
+{
+    /**
+     * Constructs an instance
+     * @param coefficients of the filter in normal order, designed for the input sample rate
+     * @param decimation factor, 1 or greater
+     */
+    public ScalarComplexDecimatingFilter(float[] coefficients, int decimation)
+    {
+        super(coefficients, decimation, 1);
+    }
+
+    @Override
+    protected void filter(float[] filteredI, float[] filteredQ, int offset, int count)
+    {
+        float accumulatorI, accumulatorQ, coefficient;
+
+        for(int x = 0; x < count; x++)
+        {
+            int start = offset + (x * mDecimation);
+            accumulatorI = 0.0f;
+            accumulatorQ = 0.0f;
+
+            for(int tap = 0; tap < mCoefficients.length; tap++)
+            {
+                coefficient = mCoefficients[tap];
+                accumulatorI += mBufferI[start + tap] * coefficient;
+                accumulatorQ += mBufferQ[start + tap] * coefficient;
+            }
+
+            filteredI[x] = accumulatorI;
+            filteredQ[x] = accumulatorQ;
+        }
+    }
+}
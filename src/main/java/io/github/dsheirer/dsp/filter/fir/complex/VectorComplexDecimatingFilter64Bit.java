@@ -0,0 +1,69 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.vector.VectorUtilities;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD 64-bit vector implementation of the complex decimating FIR filter.  The I and Q accumulators share each loaded
+ * coefficient vector.
+ */
+public class VectorComplexDecimatingFilter64Bit extends ComplexDecimatingFilter
+{
+    private static final VectorSpecies<Float> VECTOR_SPECIES = FloatVector.SPECIES_64;
+
+    /**
+     * Constructs an instance
+     * @param coefficients of the filter in normal order, designed for the input sample rate
+     * @param decimation factor, 1 or greater
+     */
+    public VectorComplexDecimatingFilter64Bit(float[] coefficients, int decimation)
+    {
+        super(coefficients, decimation, VECTOR_SPECIES.length());
+        VectorUtilities.checkSpecies(VECTOR_SPECIES);
+    }
+
+    @Override
+    protected void filter(float[] filteredI, float[] filteredQ, int offset, int count)
+    {
+        FloatVector accumulatorI, accumulatorQ, coefficients, samplesI, samplesQ;
+
+        for(int x = 0; x < count; x++)
+        {
+            int start = offset + (x * mDecimation);
+            accumulatorI = FloatVector.zero(VECTOR_SPECIES);
+            accumulatorQ = FloatVector.zero(VECTOR_SPECIES);
+
+            for(int tap = 0; tap < mCoefficients.length; tap += VECTOR_SPECIES.length())
+            {
+                coefficients = FloatVector.fromArray(VECTOR_SPECIES, mCoefficients, tap);
+                samplesI = FloatVector.fromArray(VECTOR_SPECIES, mBufferI, start + tap);
+                samplesQ = FloatVector.fromArray(VECTOR_SPECIES, mBufferQ, start + tap);
+                accumulatorI = coefficients.fma(samplesI, accumulatorI);
+                accumulatorQ = coefficients.fma(samplesQ, accumulatorQ);
+            }
+
+            filteredI[x] = accumulatorI.reduceLanes(VectorOperators.ADD);
+            filteredQ[x] = accumulatorQ.reduceLanes(VectorOperators.ADD);
+        }
+    }
+}
@@ -18,6 +18,7 @@
  ******************************************************************************/
 package io.github.dsheirer.dsp.filter.fir.remez;
 
+import io.github.dsheirer.dsp.filter.design.FilterDesignCache;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
 import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
@@ -83,10 +84,14 @@ public class PolyphaseChannelizerFilterFactory
 
         try
         {
-            RemezFIRFilterDesignerWithLagrange designer = new RemezFIRFilterDesignerWithLagrange(specification);
-            filter = designer.getImpulseResponse();
-            double bandEdgeAmplitude = designer.getFrequencyResponse(bandEdgeFrequency);
-            mLog.debug("Coefficient Amplitude at Band Edge is: " + bandEdgeAmplitude + " for frequency: " + passBandStop);
+            filter = FilterDesignCache.getInstance().get("remezLagrange:" + specification.getDesignKey(), () -> {
+                RemezFIRFilterDesignerWithLagrange designer = new RemezFIRFilterDesignerWithLagrange(specification);
+                float[] taps = designer.getImpulseResponse();
+                double bandEdgeAmplitude = designer.getFrequencyResponse(bandEdgeFrequency);
+                mLog.debug("Coefficient Amplitude at Band Edge is: " + bandEdgeAmplitude + " for frequency: " +
+                    passBandStop);
+                return taps;
+            });
         }
         catch(Exception e)
         {
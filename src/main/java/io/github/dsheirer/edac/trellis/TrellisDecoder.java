@@ -0,0 +1,384 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.edac.trellis;
+
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+
+/**
+ * Table-driven Viterbi decoder for the trellis coded modulation (TCM) codes used by P25 and DMR, where the encoder
+ * state is the previous input value and the transmitted output value is defined by a transition matrix indexed by
+ * [state][input].
+ *
+ * The branch metric for every (transmitted symbol, state, input) combination is precomputed at construction, path
+ * metrics are held in primitive arrays, and the survivor predecessors are recorded in a packed traceback buffer, so
+ * that decoding a message allocates nothing other than the decoded output message.  Work buffers grow to fit the
+ * longest message decoded and are then reused.
+ *
+ * Produces the same output as the path-based ViterbiDecoder, including tie-breaking: when candidate paths into a state
+ * have equal metrics, the path from the lowest numbered preceding state survives.
+ *
+ * Soft-decision decoding is supported by providing a weight for each received bit, in which case the branch metric is
+ * the sum of the weights of the bits that differ from the expected output value.  The corrected bit count is always
+ * the Hamming distance between the received symbols and the re-encoded decoded path.
+ *
+ * Note: this class is not thread-safe.  Use one instance per thread.
+ */
+public class TrellisDecoder
+{
+    private static final int[] HAMMING_ERROR_COUNT = new int[]{0,1,1,2,1,2,2,3,1,2,2,3,2,3,3,4};
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 2;
+    private static final int TRACEBACK_BITS = 4;
+    private static final int TRACEBACK_MASK = (1 << TRACEBACK_BITS) - 1;
+
+    private final int mInputBitLength;
+    private final int mOutputBitLength;
+    private final int mStateCount;
+    private final int mOutputValueCount;
+    private final int[] mOutputValues;
+    private final int[] mBranchErrors;
+    private final int[] mSoftBranchCosts;
+    private int[] mMetrics;
+    private int[] mNextMetrics;
+    private int[] mSymbols = new int[0];
+    private int[] mTraceback = new int[0];
+    private int[] mDecodedValues = new int[0];
+    private int mDecodedValueCount;
+
+    /**
+     * Constructs an instance
+     * @param inputBitLength for coding (e.g. 3/4 rate input bit length is 3)
+     * @param outputBitLength for coding (e.g. 3/4 rate output bit length is 4)
+     * @param transitionMatrix of transmitted output values indexed by [state][input], where the state is the previous
+     * input value
+     */
+    public TrellisDecoder(int inputBitLength, int outputBitLength, int[][] transitionMatrix)
+    {
+        if(inputBitLength > TRACEBACK_BITS || outputBitLength > TRACEBACK_BITS)
+        {
+            throw new IllegalArgumentException("Input and output bit lengths must not exceed " + TRACEBACK_BITS);
+        }
+
+        mInputBitLength = inputBitLength;
+        mOutputBitLength = outputBitLength;
+        mStateCount = 1 << inputBitLength;
+        mOutputValueCount = 1 << outputBitLength;
+
+        if(transitionMatrix.length != mStateCount)
+        {
+            throw new IllegalArgumentException("Transition matrix must contain [" + mStateCount + "] states");
+        }
+
+        int branchCount = mStateCount * mStateCount;
+        mOutputValues = new int[branchCount];
+        mBranchErrors = new int[mOutputValueCount * branchCount];
+        mSoftBranchCosts = new int[mOutputValueCount];
+        mMetrics = new int[mStateCount];
+        mNextMetrics = new int[mStateCount];
+
+        for(int state = 0; state < mStateCount; state++)
+        {
+            for(int input = 0; input < mStateCount; input++)
+            {
+                int branch = state * mStateCount + input;
+                mOutputValues[branch] = transitionMatrix[state][input];
+
+                for(int symbol = 0; symbol < mOutputValueCount; symbol++)
+                {
+                    mBranchErrors[symbol * branchCount + branch] =
+                        HAMMING_ERROR_COUNT[(mOutputValues[branch] ^ symbol) & 0xF];
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes the encoded message using hard decisions.
+     * @param encodedMessage containing an integral number of transmitted symbols
+     * @return decoded message with the corrected bit count set
+     */
+    public CorrectedBinaryMessage decode(BinaryMessage encodedMessage)
+    {
+        return decode(encodedMessage, null, null);
+    }
+
+    /**
+     * Decodes the encoded message.
+     * @param encodedMessage containing an integral number of transmitted symbols
+     * @param deinterleave optional map of each deinterleaved bit index to the encoded message bit index, or null
+     * @param bitWeights optional soft-decision weight for each deinterleaved bit, or null for hard decisions
+     * @return decoded message with the corrected bit count set
+     */
+    public CorrectedBinaryMessage decode(BinaryMessage encodedMessage, int[] deinterleave, int[] bitWeights)
+    {
+        int symbolCount = loadSymbols(encodedMessage, deinterleave);
+        int correctedBitCount = decode(mSymbols, symbolCount, bitWeights);
+
+        CorrectedBinaryMessage message = new CorrectedBinaryMessage(mDecodedValueCount * mInputBitLength);
+
+        for(int x = 0; x < mDecodedValueCount; x++)
+        {
+            int value = mDecodedValues[x];
+            int offset = x * mInputBitLength;
+
+            for(int bit = 0; bit < mInputBitLength; bit++)
+            {
+                if((value & (1 << (mInputBitLength - bit - 1))) != 0)
+                {
+                    message.set(offset + bit);
+                }
+            }
+        }
+
+        message.setCorrectedBitCount(correctedBitCount);
+        return message;
+    }
+
+    /**
+     * Decodes the transmitted symbols.  The final symbol is the flushing symbol, so the decoded value count is one
+     * less than the symbol count.  Access the decoded values via getDecodedValue().
+     *
+     * @param symbols transmitted output values
+     * @param symbolCount number of symbols to decode, at least one
+     * @param bitWeights optional soft-decision weight for each received bit, most significant bit of each symbol
+     * first, or null for hard decisions
+     * @return corrected bit count
+     */
+    public int decode(int[] symbols, int symbolCount, int[] bitWeights)
+    {
+        if(symbolCount < 1)
+        {
+            throw new IllegalArgumentException("Symbol count must be at least 1");
+        }
+
+        int stepCount = symbolCount - 1;
+        ensureCapacity(symbolCount);
+
+        int[] metrics = mMetrics;
+        int[] nextMetrics = mNextMetrics;
+        int branchCount = mStateCount * mStateCount;
+
+        metrics[0] = 0;
+
+        for(int state = 1; state < mStateCount; state++)
+        {
+            metrics[state] = UNREACHABLE;
+        }
+
+        for(int step = 0; step < stepCount; step++)
+        {
+            int[] costs = mBranchErrors;
+            int costOffset = (symbols[step] & (mOutputValueCount - 1)) * branchCount;
+
+            if(bitWeights != null)
+            {
+                loadSoftBranchCosts(symbols[step], bitWeights, step);
+            }
+
+            int traceback = 0;
+
+            for(int input = 0; input < mStateCount; input++)
+            {
+                int bestMetric = Integer.MAX_VALUE;
+                int bestState = 0;
+
+                for(int state = 0; state < mStateCount; state++)
+                {
+                    int branch = state * mStateCount + input;
+                    int cost = bitWeights != null ? mSoftBranchCosts[mOutputValues[branch]] :
+                        costs[costOffset + branch];
+                    int metric = metrics[state] + cost;
+
+                    //Strictly less than, so the lowest numbered preceding state wins a tie
+                    if(metric < bestMetric)
+                    {
+                        bestMetric = metric;
+                        bestState = state;
+                    }
+                }
+
+                nextMetrics[input] = bestMetric;
+                traceback |= bestState << (input * TRACEBACK_BITS);
+            }
+
+            mTraceback[step] = traceback;
+
+            int[] swap = metrics;
+            metrics = nextMetrics;
+            nextMetrics = swap;
+        }
+
+        //Flush with an input value of zero and select the lowest metric path
+        int flushSymbol = symbols[stepCount];
+
+        if(bitWeights != null)
+        {
+            loadSoftBranchCosts(flushSymbol, bitWeights, stepCount);
+        }
+
+        int bestMetric = Integer.MAX_VALUE;
+        int finalState = 0;
+
+        for(int state = 0; state < mStateCount; state++)
+        {
+            int branch = state * mStateCount;
+            int cost = bitWeights != null ? mSoftBranchCosts[mOutputValues[branch]] :
+                mBranchErrors[(flushSymbol & (mOutputValueCount - 1)) * branchCount + branch];
+            int metric = metrics[state] + cost;
+
+            if(metric < bestMetric)
+            {
+                bestMetric = metric;
+                finalState = state;
+            }
+        }
+
+        mMetrics = metrics;
+        mNextMetrics = nextMetrics;
+
+        //Traceback the surviving path
+        int state = finalState;
+
+        for(int step = stepCount - 1; step >= 0; step--)
+        {
+            mDecodedValues[step] = state;
+            state = (mTraceback[step] >> (state * TRACEBACK_BITS)) & TRACEBACK_MASK;
+        }
+
+        mDecodedValueCount = stepCount;
+
+        if(bitWeights == null)
+        {
+            return bestMetric;
+        }
+
+        //Soft-decision metrics are weighted, so count the bit errors along the decoded path
+        int errors = 0;
+        int previous = 0;
+
+        for(int step = 0; step < stepCount; step++)
+        {
+            errors += HAMMING_ERROR_COUNT[(mOutputValues[previous * mStateCount + mDecodedValues[step]] ^
+                symbols[step]) & 0xF];
+            previous = mDecodedValues[step];
+        }
+
+        errors += HAMMING_ERROR_COUNT[(mOutputValues[previous * mStateCount] ^ flushSymbol) & 0xF];
+
+        return errors;
+    }
+
+    /**
+     * Number of values decoded by the most recent decode
+     */
+    public int getDecodedValueCount()
+    {
+        return mDecodedValueCount;
+    }
+
+    /**
+     * Decoded input value from the most recent decode
+     * @param index of the value, 0 to decoded value count - 1
+     */
+    public int getDecodedValue(int index)
+    {
+        return mDecodedValues[index];
+    }
+
+    /**
+     * Loads the transmitted symbols from the encoded message into the symbol buffer.
+     * @return symbol count
+     */
+    private int loadSymbols(BinaryMessage encodedMessage, int[] deinterleave)
+    {
+        int size = deinterleave != null ? deinterleave.length : encodedMessage.size();
+
+        //Ensure we have an integral number of transmitted symbols (nibbles) in the message
+        if(size % mOutputBitLength != 0)
+        {
+            throw new IllegalArgumentException("Encoded message must contain an integral number of " +
+                mOutputBitLength + "-bit symbols - message size: " + size);
+        }
+
+        int symbolCount = size / mOutputBitLength;
+        ensureCapacity(symbolCount);
+
+        int index = 0;
+
+        for(int x = 0; x < symbolCount; x++)
+        {
+            int symbol = 0;
+
+            for(int bit = 0; bit < mOutputBitLength; bit++)
+            {
+                symbol <<= 1;
+
+                if(encodedMessage.get(deinterleave != null ? deinterleave[index] : index))
+                {
+                    symbol++;
+                }
+
+                index++;
+            }
+
+            mSymbols[x] = symbol;
+        }
+
+        return symbolCount;
+    }
+
+    /**
+     * Calculates the soft-decision cost of each possible output value for the received symbol.
+     */
+    private void loadSoftBranchCosts(int symbol, int[] bitWeights, int symbolIndex)
+    {
+        int weightOffset = symbolIndex * mOutputBitLength;
+
+        for(int value = 0; value < mOutputValueCount; value++)
+        {
+            int difference = value ^ symbol;
+            int cost = 0;
+
+            for(int bit = 0; bit < mOutputBitLength; bit++)
+            {
+                if((difference & (1 << (mOutputBitLength - bit - 1))) != 0)
+                {
+                    cost += bitWeights[weightOffset + bit];
+                }
+            }
+
+            mSoftBranchCosts[value] = cost;
+        }
+    }
+
+    /**
+     * Resizes the work buffers when the symbol count exceeds the current capacity.
+     */
+    private void ensureCapacity(int symbolCount)
+    {
+        if(mSymbols.length < symbolCount)
+        {
+            int[] symbols = new int[symbolCount];
+            System.arraycopy(mSymbols, 0, symbols, 0, mSymbols.length);
+            mSymbols = symbols;
+            mTraceback = new int[symbolCount];
+            mDecodedValues = new int[symbolCount];
+        }
+    }
+}
@@ -45,6 +45,23 @@ public class ViterbiDecoder_3_4_DMR extends ViterbiDecoder
         78, 79, 92, 93, 94, 95, 108, 109, 110, 111, 124, 125, 126, 127, 140, 141, 142, 143, 156, 157, 158, 159, 172,
         173, 174, 175, 188, 189, 190, 191};
 
+    /**
+     * Inverse of the deinterleave indexes: the interleaved (transmitted) bit index for each deinterleaved bit index,
+     * so that the trellis decoder can read symbols directly from the transmitted message.
+     */
+    private static final int[] DEINTERLEAVED_BIT_SOURCE_INDEXES = new int[DEINTERLEAVE_INDEXES.length];
+
+    static
+    {
+        for(int x = 0; x < DEINTERLEAVE_INDEXES.length; x++)
+        {
+            DEINTERLEAVED_BIT_SOURCE_INDEXES[DEINTERLEAVE_INDEXES[x]] = x;
+        }
+    }
+
+    private static final ThreadLocal<TrellisDecoder> TRELLIS_DECODER =
+        ThreadLocal.withInitial(() -> new TrellisDecoder(3, 4, DMR_3_4_Node.DMR_TRANSITION_MATRIX));
+
     /**
      * Viterbi decoder for Digital Mobile Radio (DMR) 3/4 rate Trellis Coded Modulation (TCM) encoded messages.
      */
@@ -90,13 +107,37 @@ public class ViterbiDecoder_3_4_DMR extends ViterbiDecoder
 
 
     /**
-     * Decodes a 3/4 rate trellis coded modulation (TCM) encoded DMR binary message containing 196 bits that have
-     * already been deinterleaved.
+     * Decodes a 3/4 rate trellis coded modulation (TCM) encoded DMR binary message containing 196 interleaved bits.
      *
-     * @param encodedMessage to decode that has already been deinterleaved.
+     * @param encodedMessage to decode
      * @return decoded message
      */
     public CorrectedBinaryMessage decode(CorrectedBinaryMessage encodedMessage)
+    {
+        return TRELLIS_DECODER.get().decode(encodedMessage, DEINTERLEAVED_BIT_SOURCE_INDEXES, null);
+    }
+
+    /**
+     * Decodes a 3/4 rate trellis coded modulation (TCM) encoded DMR binary message containing 196 interleaved bits
+     * using soft-decision bit weights.
+     *
+     * @param encodedMessage to decode
+     * @param bitWeights containing a weight for each deinterleaved bit that indicates the confidence in the bit value
+     * @return decoded message
+     */
+    public CorrectedBinaryMessage decode(CorrectedBinaryMessage encodedMessage, int[] bitWeights)
+    {
+        return TRELLIS_DECODER.get().decode(encodedMessage, DEINTERLEAVED_BIT_SOURCE_INDEXES, bitWeights);
+    }
+
+    /**
+     * Decodes the message using the path-based Viterbi decoder.  This is the reference implementation for the
+     * table-driven trellis decoder and is retained for verification and benchmarking.
+     *
+     * @param encodedMessage to decode
+     * @return decoded message
+     */
+    public CorrectedBinaryMessage decodeWithPaths(CorrectedBinaryMessage encodedMessage)
     {
         CorrectedBinaryMessage deinterleaved = deinterleave(encodedMessage);
         int[] symbols = getSymbols(deinterleaved);
@@ -25,6 +25,9 @@ import java.util.List;
 
 public class ViterbiDecoder_3_4_P25 extends ViterbiDecoder
 {
+    private static final ThreadLocal<TrellisDecoder> TRELLIS_DECODER =
+        ThreadLocal.withInitial(() -> new TrellisDecoder(3, 4, P25_3_4_Node.TRANSITION_MATRIX));
+
     /**
      * Viterbi decoder for P25 3/4 rate Trellis Coded Modulation (TCM) encoded messages.
      */
@@ -41,6 +44,30 @@ public class ViterbiDecoder_3_4_P25 extends ViterbiDecoder
      * @return decoded message
      */
     public CorrectedBinaryMessage decode(BinaryMessage encodedMessage)
+    {
+        return TRELLIS_DECODER.get().decode(encodedMessage);
+    }
+
+    /**
+     * Decodes a 3/4 rate trellis coded modulation (TCM) encoded P25 binary message using soft-decision bit weights.
+     *
+     * @param encodedMessage to decode that has already been deinterleaved.
+     * @param bitWeights containing a weight for each message bit that indicates the confidence in the bit value
+     * @return decoded message
+     */
+    public CorrectedBinaryMessage decode(BinaryMessage encodedMessage, int[] bitWeights)
+    {
+        return TRELLIS_DECODER.get().decode(encodedMessage, null, bitWeights);
+    }
+
+    /**
+     * Decodes the message using the path-based Viterbi decoder.  This is the reference implementation for the
+     * table-driven trellis decoder and is retained for verification and benchmarking.
+     *
+     * @param encodedMessage to decode that has already been deinterleaved.
+     * @return decoded message
+     */
+    public CorrectedBinaryMessage decodeWithPaths(BinaryMessage encodedMessage)
     {
         int[] symbols = getSymbols(encodedMessage);
 
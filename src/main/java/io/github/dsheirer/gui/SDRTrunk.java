@@ -30,6 +30,7 @@ import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.controller.channel.ChannelAutoStartFrame;
 import io.github.dsheirer.controller.channel.ChannelException;
 import io.github.dsheirer.controller.channel.ChannelSelectionManager;
+import io.github.dsheirer.dsp.filter.design.FilterDesignCache;
 import io.github.dsheirer.eventbus.MyEventBus;
 import io.github.dsheirer.gui.icon.ViewIconManagerRequest;
 import io.github.dsheirer.gui.playlist.ViewPlaylistRequest;
@@ -43,8 +44,10 @@ import io.github.dsheirer.icon.IconModel;
 import io.github.dsheirer.log.ApplicationLog;
 import io.github.dsheirer.map.MapService;
 import io.github.dsheirer.module.log.EventLogManager;
+import io.github.dsheirer.module.log.EventLogWriter;
 import io.github.dsheirer.monitor.DiagnosticMonitor;
 import io.github.dsheirer.monitor.ResourceMonitor;
+import io.github.dsheirer.monitor.metrics.MetricsExporter;
 import io.github.dsheirer.playlist.PlaylistManager;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.properties.SystemProperties;
@@ -125,6 +128,7 @@ public class SDRTrunk implements Listener<TunerEvent>
     private BroadcastStatusPanel mBroadcastStatusPanel;
     private ControllerPanel mControllerPanel;
     private DiagnosticMonitor mDiagnosticMonitor;
+    private MetricsExporter mMetricsExporter;
     private IconModel mIconModel = new IconModel();
     private PlaylistManager mPlaylistManager;
     private SettingsManager mSettingsManager;
@@ -171,6 +175,10 @@ public class SDRTrunk implements Listener<TunerEvent>
         //Log current properties setting
         SystemProperties.getInstance().logCurrentSettings();
 
+        //Warm the filter design cache in the background so that persisted filter designs are available to the tuners
+        //and channels as they start
+        ThreadPool.CACHED.submit(FilterDesignCache::getInstance);
+
         //Register FontAwesome so we can use the fonts in Swing windows
         IconFontSwing.register(FontAwesome.getIconFont());
 
@@ -186,8 +194,10 @@ public class SDRTrunk implements Listener<TunerEvent>
         boolean headless = GraphicsEnvironment.isHeadless();
 
         mDiagnosticMonitor = new DiagnosticMonitor(mUserPreferences, mPlaylistManager.getChannelProcessingManager(),
-                mTunerManager, headless);
+                mTunerManager, aliasModel, headless);
         mDiagnosticMonitor.start();
+        mMetricsExporter = new MetricsExporter();
+        mMetricsExporter.start();
 
         if(!headless)
         {
@@ -624,6 +634,7 @@ public class SDRTrunk implements Listener<TunerEvent>
     {
         mLog.info("Application shutdown started ...");
         mDiagnosticMonitor.stop();
+        mMetricsExporter.stop();
         mUserPreferences.getSwingPreference().setLocation(WINDOW_FRAME_IDENTIFIER, mMainGui.getLocation());
         mUserPreferences.getSwingPreference().setDimension(WINDOW_FRAME_IDENTIFIER, mMainGui.getSize());
         mUserPreferences.getSwingPreference().setMaximized(WINDOW_FRAME_IDENTIFIER,
@@ -633,6 +644,8 @@ public class SDRTrunk implements Listener<TunerEvent>
         mJavaFxWindowManager.shutdown();
         mLog.info("Stopping channels ...");
         mPlaylistManager.getChannelProcessingManager().shutdown();
+        mLog.info("Stopping event log writer ...");
+        EventLogWriter.getInstance().shutdown();
         mAudioRecordingManager.stop();
         mResourceMonitor.stop();
 
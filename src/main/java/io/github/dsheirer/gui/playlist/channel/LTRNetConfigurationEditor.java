@@ -226,6 +226,7 @@ public class LTRNetConfigurationEditor extends ChannelConfigurationEditor
             List<EventLogType> types = new ArrayList<>();
             types.add(EventLogType.CALL_EVENT);
             types.add(EventLogType.DECODED_MESSAGE);
+            types.add(EventLogType.MESSAGE_ARCHIVE);
 
             mEventLogConfigurationEditor = new EventLogConfigurationEditor(types);
             mEventLogConfigurationEditor.setPadding(new Insets(5,5,5,5));
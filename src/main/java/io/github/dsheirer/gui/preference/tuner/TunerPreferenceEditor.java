@@ -21,6 +21,7 @@ package io.github.dsheirer.gui.preference.tuner;
 
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.preference.source.ChannelizerType;
+import io.github.dsheirer.preference.source.TunerPlacement;
 import io.github.dsheirer.preference.source.TunerPreference;
 import javafx.geometry.HPos;
 import javafx.geometry.Insets;
@@ -30,6 +31,7 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.Separator;
+import javafx.scene.control.Spinner;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 
@@ -54,6 +56,12 @@ public class TunerPreferenceEditor extends HBox
     private Label mHelpTextHeterodyneLabel;
     private ChoiceBox<RspDuoSelectionMode> mRspDuoTunerModeChoiceBox;
     private Label mRspDuoModeLabel;
+    private Spinner<Integer> mChannelizerWorkerCountSpinner;
+    private Label mChannelizerWorkerCountLabel;
+    private Spinner<Integer> mDispatchBatchWindowSpinner;
+    private Label mDispatchBatchWindowLabel;
+    private ChoiceBox<TunerPlacement> mTunerPlacementChoiceBox;
+    private Label mTunerPlacementLabel;
 
     public TunerPreferenceEditor(UserPreferences userPreferences)
     {
@@ -76,6 +84,13 @@ public class TunerPreferenceEditor extends HBox
             mEditorPane.add(getPolyphaseLabel(), 0, ++row, 2, 1);
             mEditorPane.add(getHelpTextPolyphaseLabel(), 0, ++row, 2, 3);
             row += 3;
+            GridPane.setHalignment(getChannelizerWorkerCountLabel(), HPos.RIGHT);
+            mEditorPane.add(getChannelizerWorkerCountLabel(), 0, ++row);
+            mEditorPane.add(getChannelizerWorkerCountSpinner(), 1, row);
+            GridPane.setHalignment(getDispatchBatchWindowLabel(), HPos.RIGHT);
+            mEditorPane.add(getDispatchBatchWindowLabel(), 0, ++row);
+            mEditorPane.add(getDispatchBatchWindowSpinner(), 1, row);
+            row++;
             mEditorPane.add(new Label(" "), 0, row);
             mEditorPane.add(getHeterodyneLabel(), 0, ++row, 2, 1);
             mEditorPane.add(getHelpTextHeterodyneLabel(), 0, ++row, 2, 3);
@@ -83,6 +98,8 @@ public class TunerPreferenceEditor extends HBox
             mEditorPane.add(new Separator(Orientation.HORIZONTAL), 0, row, 2, 1);
             mEditorPane.add(getRspDuoModeLabel(), 0, ++row);
             mEditorPane.add(getRspDuoTunerModeChoiceBox(), 1, row);
+            mEditorPane.add(getTunerPlacementLabel(), 0, ++row);
+            mEditorPane.add(getTunerPlacementChoiceBox(), 1, row);
         }
 
         return mEditorPane;
@@ -146,6 +163,76 @@ public class TunerPreferenceEditor extends HBox
         return mHelpTextPolyphaseLabel;
     }
 
+    private Label getChannelizerWorkerCountLabel()
+    {
+        if(mChannelizerWorkerCountLabel == null)
+        {
+            mChannelizerWorkerCountLabel = new Label("Polyphase IFFT Worker Threads (1 = single-threaded)");
+        }
+
+        return mChannelizerWorkerCountLabel;
+    }
+
+    /**
+     * Spinner to select the number of shared polyphase channelizer worker threads.
+     */
+    private Spinner<Integer> getChannelizerWorkerCountSpinner()
+    {
+        if(mChannelizerWorkerCountSpinner == null)
+        {
+            mChannelizerWorkerCountSpinner = new Spinner<>(1, TunerPreference.CHANNELIZER_WORKER_COUNT_MAXIMUM,
+                mTunerPreference.getChannelizerWorkerCount(), 1);
+            mChannelizerWorkerCountSpinner.valueProperty().addListener((observable, oldValue, newValue) -> {
+                mTunerPreference.setChannelizerWorkerCount(newValue);
+
+                Label label = new Label("Please restart the application for this change to take effect");
+                label.setWrapText(true);
+                Alert alert = new Alert(Alert.AlertType.WARNING);
+                alert.setHeaderText("Restart Required");
+                alert.getDialogPane().setContent(label);
+                alert.initOwner(((Node)getChannelizerWorkerCountSpinner()).getScene().getWindow());
+                alert.show();
+            });
+        }
+
+        return mChannelizerWorkerCountSpinner;
+    }
+
+    private Label getDispatchBatchWindowLabel()
+    {
+        if(mDispatchBatchWindowLabel == null)
+        {
+            mDispatchBatchWindowLabel = new Label("Low Latency Dispatch Batching Window ms (0 = fixed interval)");
+        }
+
+        return mDispatchBatchWindowLabel;
+    }
+
+    /**
+     * Spinner to select the low latency sample buffer dispatch batching window.
+     */
+    private Spinner<Integer> getDispatchBatchWindowSpinner()
+    {
+        if(mDispatchBatchWindowSpinner == null)
+        {
+            mDispatchBatchWindowSpinner = new Spinner<>(0, TunerPreference.DISPATCH_BATCH_WINDOW_MAXIMUM,
+                mTunerPreference.getDispatchBatchWindow(), 1);
+            mDispatchBatchWindowSpinner.valueProperty().addListener((observable, oldValue, newValue) -> {
+                mTunerPreference.setDispatchBatchWindow(newValue);
+
+                Label label = new Label("Please restart the application for this change to take effect");
+                label.setWrapText(true);
+                Alert alert = new Alert(Alert.AlertType.WARNING);
+                alert.setHeaderText("Restart Required");
+                alert.getDialogPane().setContent(label);
+                alert.initOwner(((Node)getDispatchBatchWindowSpinner()).getScene().getWindow());
+                alert.show();
+            });
+        }
+
+        return mDispatchBatchWindowSpinner;
+    }
+
     private Label getHeterodyneLabel()
     {
         if(mHeterodyneLabel == null)
@@ -194,6 +281,32 @@ public class TunerPreferenceEditor extends HBox
         return mRspDuoTunerModeChoiceBox;
     }
 
+    private ChoiceBox<TunerPlacement> getTunerPlacementChoiceBox()
+    {
+        if(mTunerPlacementChoiceBox == null)
+        {
+            mTunerPlacementChoiceBox = new ChoiceBox<>();
+            mTunerPlacementChoiceBox.getItems().addAll(TunerPlacement.values());
+            mTunerPlacementChoiceBox.getSelectionModel().select(mTunerPreference.getTunerPlacement());
+            mTunerPlacementChoiceBox.setOnAction(event -> {
+                TunerPlacement selected = mTunerPlacementChoiceBox.getSelectionModel().getSelectedItem();
+                mTunerPreference.setTunerPlacement(selected);
+            });
+        }
+
+        return mTunerPlacementChoiceBox;
+    }
+
+    private Label getTunerPlacementLabel()
+    {
+        if(mTunerPlacementLabel == null)
+        {
+            mTunerPlacementLabel = new Label("Channel Tuner Placement");
+        }
+
+        return mTunerPlacementLabel;
+    }
+
     private Label getRspDuoModeLabel()
     {
         if(mRspDuoModeLabel == null)
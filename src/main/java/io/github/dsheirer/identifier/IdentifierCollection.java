@@ -20,23 +20,20 @@
 package io.github.dsheirer.identifier;
 
 import io.github.dsheirer.identifier.configuration.AliasListConfigurationIdentifier;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * (Immutable) Collection of identifiers with convenient accessor methods
  *
+ * Identifiers are held in an immutable snapshot that is indexed by identifier class, form and role, so the accessor
+ * methods don't scan the collection and the returned lists are immutable and shared by repeated lookups.
+ *
  * @see MutableIdentifierCollection for the mutable version of this class
  */
 public class IdentifierCollection
 {
-    private final static Logger mLog = LoggerFactory.getLogger(IdentifierCollection.class);
-    protected List<Identifier> mIdentifiers = new CopyOnWriteArrayList<>();
+    protected volatile IdentifierIndex mIndex = IdentifierIndex.EMPTY;
     protected AliasListConfigurationIdentifier mAliasListConfigurationIdentifier;
     private int mTimeslot = 0;
 
@@ -64,18 +61,24 @@ public class IdentifierCollection
 
     public IdentifierCollection(Collection<Identifier> identifiers, int timeslot)
     {
-        for(Identifier identifier: identifiers)
-        {
-            if(identifier == null)
-            {
-                throw new IllegalArgumentException("Identifier cannot be null");
-            }
+        this(IdentifierIndex.of(identifiers), timeslot);
+    }
 
-            mIdentifiers.add(identifier);
+    /**
+     * Constructs an identifier collection that shares the immutable identifier snapshot.
+     * @param index of identifiers
+     * @param timeslot for the collection
+     */
+    IdentifierCollection(IdentifierIndex index, int timeslot)
+    {
+        mIndex = index;
+        mTimeslot = timeslot;
 
-            if(identifier instanceof AliasListConfigurationIdentifier)
+        for(Identifier identifier: index.getIdentifiers(Form.ALIAS_LIST))
+        {
+            if(identifier instanceof AliasListConfigurationIdentifier aliasList)
             {
-                mAliasListConfigurationIdentifier = (AliasListConfigurationIdentifier)identifier;
+                mAliasListConfigurationIdentifier = aliasList;
             }
         }
     }
@@ -112,7 +115,7 @@ public class IdentifierCollection
      */
     public List<Identifier> getIdentifiers()
     {
-        return Collections.unmodifiableList(mIdentifiers);
+        return mIndex.getIdentifiers();
     }
 
     /**
@@ -120,89 +123,40 @@ public class IdentifierCollection
      */
     public boolean isEmpty()
     {
-        return mIdentifiers.isEmpty();
+        return mIndex.isEmpty();
     }
 
     /**
      * Get a list of identifiers by identifier class from this collection.
      *
      * @param identifierClass to match
-     * @return list of zero or more identifiers
+     * @return immutable list of zero or more identifiers
      */
     public List<Identifier> getIdentifiers(IdentifierClass identifierClass)
     {
-        List<Identifier> identifiers = new ArrayList<>();
-
-        for(Identifier identifier : mIdentifiers)
-        {
-            if(identifier.getIdentifierClass() == identifierClass)
-            {
-                identifiers.add(identifier);
-            }
-        }
-
-        return identifiers;
+        return mIndex.getIdentifiers(identifierClass);
     }
 
     /**
      * Get a list of identifiers by form from this collection.
      *
      * @param form to match
-     * @return list of zero or more identifiers
+     * @return immutable list of zero or more identifiers
      */
     public List<Identifier> getIdentifiers(Form form)
     {
-        List<Identifier> identifiers = new ArrayList<>();
-
-        for(Identifier identifier : mIdentifiers)
-        {
-            if(identifier.getForm() == form)
-            {
-                identifiers.add(identifier);
-            }
-        }
-
-        return identifiers;
+        return mIndex.getIdentifiers(form);
     }
 
     /**
      * Get a list of identifiers by role from this collection.
      *
      * @param role to match
-     * @return list of zero or more identifiers
+     * @return immutable list of zero or more identifiers
      */
     public List<Identifier> getIdentifiers(Role role)
     {
-        List<Identifier> identifiers = new ArrayList<>();
-
-        for(Identifier identifier : mIdentifiers)
-        {
-            try
-            {
-                if(identifier.getRole() == role)
-                {
-                    identifiers.add(identifier);
-                }
-            }
-            catch(NullPointerException npe)
-            {
-                StringBuilder sb = new StringBuilder();
-                for(Identifier i : mIdentifiers)
-                {
-                    if(i == null)
-                    {
-                        sb.append("Identifier: (null)").append("\n");
-                    }
-                    else
-                    {
-                        sb.append("Identifier: ").append(i).append(" Class:").append(i.getClass()).append("\n");
-                    }
-                }
-                mLog.warn("An identifier in a collection is somehow null ...\n" + sb);
-            }
-        }
-
-        return identifiers;
+        return mIndex.getIdentifiers(role);
     }
 
     /**
@@ -210,21 +164,11 @@ public class IdentifierCollection
      *
      * @param identifierClass to match
      * @param role to match
-     * @return list of zero or more identifiers
+     * @return immutable list of zero or more identifiers
      */
     public List<Identifier> getIdentifiers(IdentifierClass identifierClass, Role role)
     {
-        List<Identifier> identifiers = new ArrayList<>();
-
-        for(Identifier identifier : mIdentifiers)
-        {
-            if(identifier.getIdentifierClass() == identifierClass && identifier.getRole() == role)
-            {
-                identifiers.add(identifier);
-            }
-        }
-
-        return identifiers;
+        return mIndex.getIdentifiers(identifierClass, role);
     }
 
     /**
@@ -232,21 +176,11 @@ public class IdentifierCollection
      *
      * @param identifierClass to match
      * @param form to match
-     * @return list of zero or more identifiers
+     * @return immutable list of zero or more identifiers
      */
     public List<Identifier> getIdentifiers(IdentifierClass identifierClass, Form form)
     {
-        List<Identifier> identifiers = new ArrayList<>();
-
-        for(Identifier identifier : mIdentifiers)
-        {
-            if(identifier.getIdentifierClass() == identifierClass && identifier.getForm() == form)
-            {
-                identifiers.add(identifier);
-            }
-        }
-
-        return identifiers;
+        return mIndex.getIdentifiers(identifierClass, form);
     }
 
     /**
@@ -259,17 +193,7 @@ public class IdentifierCollection
      */
     public Identifier getIdentifier(IdentifierClass identifierClass, Form form, Role role)
     {
-        for(Identifier identifier : mIdentifiers)
-        {
-            if(identifier.getIdentifierClass() == identifierClass &&
-                identifier.getForm() == form &&
-                identifier.getRole() == role)
-            {
-                return identifier;
-            }
-        }
-
-        return null;
+        return mIndex.getIdentifier(identifierClass, form, role);
     }
 
     /**
@@ -279,20 +203,7 @@ public class IdentifierCollection
      */
     public boolean hasIdentifier(Identifier toCheck)
     {
-        if(toCheck == null)
-        {
-            return false;
-        }
-
-        for(Identifier identifier : mIdentifiers)
-        {
-            if(identifier.equals(toCheck))
-            {
-                return true;
-            }
-        }
-
-        return false;
+        return mIndex.contains(toCheck);
     }
 
     /**
@@ -0,0 +1,394 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.identifier;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the identifiers in an identifier collection, indexed by identifier class, form and role.
+ *
+ * Each identifier is assigned a bit position and the index holds a bitmask of positions for each identifier class,
+ * form and role value, so that the class/form/role lookups performed by decoder states, alias lists, call detection
+ * and broadcasters are a mask intersection instead of a scan of the collection.  List lookups are created on first
+ * use from the mask and cached for the life of the snapshot, so repeated lookups don't allocate.
+ *
+ * Changes produce a new snapshot.  Collections larger than 64 identifiers aren't indexed and fall back to scanning.
+ */
+final class IdentifierIndex
+{
+    private static final int MAXIMUM_INDEXED = Long.SIZE;
+    private static final IdentifierClass[] CLASSES = IdentifierClass.values();
+    private static final Form[] FORMS = Form.values();
+    private static final Role[] ROLES = Role.values();
+    private static final int FORM_OFFSET = CLASSES.length;
+    private static final int ROLE_OFFSET = FORM_OFFSET + FORMS.length;
+    private static final int SINGLE_COUNT = ROLE_OFFSET + ROLES.length;
+    private static final int CLASS_FORM_OFFSET = CLASSES.length * ROLES.length;
+    private static final int PAIR_COUNT = CLASS_FORM_OFFSET + CLASSES.length * FORMS.length;
+    static final IdentifierIndex EMPTY = new IdentifierIndex(new Identifier[0]);
+
+    private final Identifier[] mIdentifiers;
+    private final List<Identifier> mIdentifierList;
+    private final boolean mIndexed;
+    private final long[] mClassMasks = new long[CLASSES.length];
+    private final long[] mFormMasks = new long[FORMS.length];
+    private final long[] mRoleMasks = new long[ROLES.length];
+
+    //Lazily created lookup caches.  Cached lists are immutable, so a lookup that races with another thread at worst
+    //creates the list again.
+    private volatile List<Identifier>[] mSingleLists;
+    private volatile List<Identifier>[] mPairLists;
+
+    /**
+     * Constructs an instance
+     * @param identifiers to index, non-null and owned by this index
+     */
+    private IdentifierIndex(Identifier[] identifiers)
+    {
+        mIdentifiers = identifiers;
+        mIdentifierList = List.of(identifiers);
+        mIndexed = identifiers.length <= MAXIMUM_INDEXED;
+
+        if(mIndexed)
+        {
+            for(int x = 0; x < identifiers.length; x++)
+            {
+                Identifier identifier = identifiers[x];
+                long bit = 1L << x;
+
+                //Identifiers that don't specify a class, form or role are only indexed by the values they do specify
+                if(identifier.getIdentifierClass() != null)
+                {
+                    mClassMasks[identifier.getIdentifierClass().ordinal()] |= bit;
+                }
+
+                if(identifier.getForm() != null)
+                {
+                    mFormMasks[identifier.getForm().ordinal()] |= bit;
+                }
+
+                if(identifier.getRole() != null)
+                {
+                    mRoleMasks[identifier.getRole().ordinal()] |= bit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates an index of the identifiers.
+     * @param identifiers to index
+     * @return index
+     * @throws IllegalArgumentException if any of the identifiers are null
+     */
+    static IdentifierIndex of(Collection<Identifier> identifiers)
+    {
+        Identifier[] array = identifiers.toArray(new Identifier[0]);
+
+        for(Identifier identifier: array)
+        {
+            if(identifier == null)
+            {
+                throw new IllegalArgumentException("Identifier cannot be null");
+            }
+        }
+
+        return array.length == 0 ? EMPTY : new IdentifierIndex(array);
+    }
+
+    /**
+     * Creates a new index with the identifier appended.
+     * @param identifier to add
+     * @return new index, or this index if it already contains the identifier
+     */
+    IdentifierIndex add(Identifier identifier)
+    {
+        if(contains(identifier))
+        {
+            return this;
+        }
+
+        Identifier[] identifiers = Arrays.copyOf(mIdentifiers, mIdentifiers.length + 1);
+        identifiers[mIdentifiers.length] = identifier;
+        return new IdentifierIndex(identifiers);
+    }
+
+    /**
+     * Creates a new index without the identifier.
+     * @param identifier to remove
+     * @return new index, or this index if it doesn't contain the identifier
+     */
+    IdentifierIndex remove(Identifier identifier)
+    {
+        for(int x = 0; x < mIdentifiers.length; x++)
+        {
+            if(mIdentifiers[x].equals(identifier))
+            {
+                Identifier[] identifiers = new Identifier[mIdentifiers.length - 1];
+                System.arraycopy(mIdentifiers, 0, identifiers, 0, x);
+                System.arraycopy(mIdentifiers, x + 1, identifiers, x, identifiers.length - x);
+                return new IdentifierIndex(identifiers);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Immutable list of all identifiers in this index, in the order added.
+     */
+    List<Identifier> getIdentifiers()
+    {
+        return mIdentifierList;
+    }
+
+    /**
+     * Indicates if this index has no identifiers
+     */
+    boolean isEmpty()
+    {
+        return mIdentifiers.length == 0;
+    }
+
+    /**
+     * Indicates if this index contains an identifier that is equal to the identifier.
+     */
+    boolean contains(Identifier identifier)
+    {
+        if(identifier == null)
+        {
+            return false;
+        }
+
+        if(mIndexed && identifier.getIdentifierClass() != null && identifier.getForm() != null &&
+            identifier.getRole() != null)
+        {
+            //Only identifiers with the same class, form and role can be equal
+            long mask = mClassMasks[identifier.getIdentifierClass().ordinal()] &
+                mFormMasks[identifier.getForm().ordinal()] & mRoleMasks[identifier.getRole().ordinal()];
+
+            while(mask != 0)
+            {
+                if(mIdentifiers[Long.numberOfTrailingZeros(mask)].equals(identifier))
+                {
+                    return true;
+                }
+
+                mask &= mask - 1;
+            }
+
+            return false;
+        }
+
+        for(Identifier existing: mIdentifiers)
+        {
+            if(existing.equals(identifier))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Immutable list of identifiers that match the identifier class.
+     */
+    List<Identifier> getIdentifiers(IdentifierClass identifierClass)
+    {
+        if(!mIndexed)
+        {
+            return scan(identifierClass, null, null);
+        }
+
+        return getSingle(identifierClass.ordinal(), mClassMasks[identifierClass.ordinal()]);
+    }
+
+    /**
+     * Immutable list of identifiers that match the form.
+     */
+    List<Identifier> getIdentifiers(Form form)
+    {
+        if(!mIndexed)
+        {
+            return scan(null, form, null);
+        }
+
+        return getSingle(FORM_OFFSET + form.ordinal(), mFormMasks[form.ordinal()]);
+    }
+
+    /**
+     * Immutable list of identifiers that match the role.
+     */
+    List<Identifier> getIdentifiers(Role role)
+    {
+        if(!mIndexed)
+        {
+            return scan(null, null, role);
+        }
+
+        return getSingle(ROLE_OFFSET + role.ordinal(), mRoleMasks[role.ordinal()]);
+    }
+
+    /**
+     * Immutable list of identifiers that match the identifier class and role.
+     */
+    List<Identifier> getIdentifiers(IdentifierClass identifierClass, Role role)
+    {
+        if(!mIndexed)
+        {
+            return scan(identifierClass, null, role);
+        }
+
+        return getPair(identifierClass.ordinal() * ROLES.length + role.ordinal(),
+            mClassMasks[identifierClass.ordinal()] & mRoleMasks[role.ordinal()]);
+    }
+
+    /**
+     * Immutable list of identifiers that match the identifier class and form.
+     */
+    List<Identifier> getIdentifiers(IdentifierClass identifierClass, Form form)
+    {
+        if(!mIndexed)
+        {
+            return scan(identifierClass, form, null);
+        }
+
+        return getPair(CLASS_FORM_OFFSET + identifierClass.ordinal() * FORMS.length + form.ordinal(),
+            mClassMasks[identifierClass.ordinal()] & mFormMasks[form.ordinal()]);
+    }
+
+    /**
+     * First identifier that matches the identifier class, form and role.
+     * @return identifier or null
+     */
+    Identifier getIdentifier(IdentifierClass identifierClass, Form form, Role role)
+    {
+        if(!mIndexed)
+        {
+            List<Identifier> identifiers = scan(identifierClass, form, role);
+            return identifiers.isEmpty() ? null : identifiers.get(0);
+        }
+
+        long mask = mClassMasks[identifierClass.ordinal()] & mFormMasks[form.ordinal()] &
+            mRoleMasks[role.ordinal()];
+
+        return mask == 0 ? null : mIdentifiers[Long.numberOfTrailingZeros(mask)];
+    }
+
+    /**
+     * Cached single class, form or role lookup.
+     * @param slot in the single lookup cache
+     * @param mask of matching identifiers
+     */
+    private List<Identifier> getSingle(int slot, long mask)
+    {
+        if(mask == 0)
+        {
+            return List.of();
+        }
+
+        List<Identifier>[] lists = mSingleLists;
+
+        if(lists == null)
+        {
+            lists = createCache(SINGLE_COUNT);
+            mSingleLists = lists;
+        }
+
+        return getCached(lists, slot, mask);
+    }
+
+    /**
+     * Cached class and role, or class and form lookup.
+     * @param slot in the pair lookup cache
+     * @param mask of matching identifiers
+     */
+    private List<Identifier> getPair(int slot, long mask)
+    {
+        if(mask == 0)
+        {
+            return List.of();
+        }
+
+        List<Identifier>[] lists = mPairLists;
+
+        if(lists == null)
+        {
+            lists = createCache(PAIR_COUNT);
+            mPairLists = lists;
+        }
+
+        return getCached(lists, slot, mask);
+    }
+
+    /**
+     * Returns the cached list for the slot, creating it from the mask when it isn't cached.
+     */
+    private List<Identifier> getCached(List<Identifier>[] lists, int slot, long mask)
+    {
+        List<Identifier> list = lists[slot];
+
+        if(list == null)
+        {
+            if(mask == -1L >>> (MAXIMUM_INDEXED - mIdentifiers.length))
+            {
+                list = mIdentifierList;
+            }
+            else
+            {
+                Identifier[] identifiers = new Identifier[Long.bitCount(mask)];
+                int pointer = 0;
+
+                while(mask != 0)
+                {
+                    identifiers[pointer++] = mIdentifiers[Long.numberOfTrailingZeros(mask)];
+                    mask &= mask - 1;
+                }
+
+                list = List.of(identifiers);
+            }
+
+            lists[slot] = list;
+        }
+
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Identifier>[] createCache(int size)
+    {
+        return (List<Identifier>[])new List[size];
+    }
+
+    /**
+     * Scans for identifiers that match each of the non-null class, form and role arguments.  Used for collections that
+     * are too large to index.
+     */
+    private List<Identifier> scan(IdentifierClass identifierClass, Form form, Role role)
+    {
+        return mIdentifierList.stream()
+            .filter(identifier -> identifierClass == null || identifier.getIdentifierClass() == identifierClass)
+            .filter(identifier -> form == null || identifier.getForm() == form)
+            .filter(identifier -> role == null || identifier.getRole() == role)
+            .toList();
+    }
+}
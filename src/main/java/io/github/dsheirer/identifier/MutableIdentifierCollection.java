@@ -31,6 +31,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Identifier collection with methods for changing or updating managed identifiers
+ *
+ * Each change publishes a new immutable identifier snapshot, so lookups and copies never observe a partial update and
+ * copies share the snapshot instead of copying the identifiers.
  */
 public class MutableIdentifierCollection extends IdentifierCollection implements IdentifierUpdateProvider,
     Listener<IdentifierUpdateNotification>
@@ -115,6 +118,40 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
         }
     }
 
+    /**
+     * Publishes a new identifier snapshot that includes the identifier.
+     * @return true if the identifier was added or false if the collection already contains it
+     */
+    private synchronized boolean addToIndex(Identifier identifier)
+    {
+        IdentifierIndex index = mIndex.add(identifier);
+
+        if(index != mIndex)
+        {
+            mIndex = index;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Publishes a new identifier snapshot that excludes the identifier.
+     * @return true if the identifier was removed or false if the collection doesn't contain it
+     */
+    private synchronized boolean removeFromIndex(Identifier identifier)
+    {
+        IdentifierIndex index = mIndex.remove(identifier);
+
+        if(index != mIndex)
+        {
+            mIndex = index;
+            return true;
+        }
+
+        return false;
+    }
+
     /**
      * Adds the identifier to this collection if not already contained in this collection.
      *
@@ -122,9 +159,8 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     private void add(Identifier identifier)
     {
-        if(identifier.isValid() && !mIdentifiers.contains(identifier))
+        if(identifier.isValid() && addToIndex(identifier))
         {
-            mIdentifiers.add(identifier);
             notifyAdd(identifier);
         }
 
@@ -143,9 +179,9 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     private void silentAdd(Identifier identifier)
     {
-        if(identifier.isValid() && !mIdentifiers.contains(identifier))
+        if(identifier.isValid())
         {
-            mIdentifiers.add(identifier);
+            addToIndex(identifier);
         }
 
         //Retain a reference to the alias list identifier separately so that it can be accessed quickly.
@@ -160,7 +196,7 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public void remove(Identifier identifier)
     {
-        if(mIdentifiers.remove(identifier))
+        if(removeFromIndex(identifier))
         {
             notifyRemove(identifier);
         }
@@ -177,7 +213,7 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public void silentRemove(Identifier identifier)
     {
-        mIdentifiers.remove(identifier);
+        removeFromIndex(identifier);
 
         //Remove the reference to the alias list identifier.
         if(identifier instanceof AliasListConfigurationIdentifier)
@@ -281,14 +317,9 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public void remove(IdentifierClass identifierClass)
     {
-        List<Identifier> identifiers = new ArrayList<>(mIdentifiers);
-
-        for(Identifier identifier: identifiers)
+        for(Identifier identifier: getIdentifiers(identifierClass))
         {
-            if(identifier.getIdentifierClass() == identifierClass)
-            {
-                remove(identifier);
-            }
+            remove(identifier);
         }
     }
 
@@ -297,14 +328,9 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public void remove(Form form)
     {
-        List<Identifier> identifiers = new ArrayList<>(mIdentifiers);
-
-        for(Identifier identifier: identifiers)
+        for(Identifier identifier: getIdentifiers(form))
         {
-            if(identifier.getForm() == form)
-            {
-                remove(identifier);
-            }
+            remove(identifier);
         }
     }
 
@@ -313,14 +339,9 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public void remove(Role role)
     {
-        List<Identifier> identifiers = new ArrayList<>(mIdentifiers);
-
-        for(Identifier identifier: identifiers)
+        for(Identifier identifier: getIdentifiers(role))
         {
-            if(identifier.getRole() == role)
-            {
-                remove(identifier);
-            }
+            remove(identifier);
         }
     }
 
@@ -329,13 +350,9 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public void remove(IdentifierClass identifierClass, Form form, Role role)
     {
-        List<Identifier> identifiers = new ArrayList<>(mIdentifiers);
-
-        for(Identifier identifier: identifiers)
+        for(Identifier identifier: getIdentifiers(identifierClass, form))
         {
-            if(identifier.getIdentifierClass() == identifierClass &&
-                identifier.getForm() == form &&
-                identifier.getRole() == role)
+            if(identifier.getRole() == role)
             {
                 remove(identifier);
             }
@@ -347,14 +364,9 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public void remove(IdentifierClass identifierClass, Role role)
     {
-        List<Identifier> identifiers = new ArrayList<>(mIdentifiers);
-
-        for(Identifier identifier: identifiers)
+        for(Identifier identifier: getIdentifiers(identifierClass, role))
         {
-            if(identifier.getIdentifierClass() == identifierClass && identifier.getRole() == role)
-            {
-                remove(identifier);
-            }
+            remove(identifier);
         }
     }
 
@@ -390,7 +402,6 @@ public class MutableIdentifierCollection extends IdentifierCollection implements
      */
     public IdentifierCollection copyOf()
     {
-        IdentifierCollection copy = new IdentifierCollection(getIdentifiers(), getTimeslot());
-        return copy;
+        return new IdentifierCollection(mIndex, getTimeslot());
     }
 }
@@ -19,6 +19,7 @@
 package io.github.dsheirer.module;
 
 import com.google.common.eventbus.EventBus;
+import java.util.function.LongSupplier;
 
 /**
  * Defines the basic component level class for all processing, demodulation and decoding components that can operate
@@ -52,6 +53,12 @@ public abstract class Module
 	 */
 	private EventBus mInterModuleEventBus;
 
+	/**
+	 * Supplier of the capture timestamp of the most recent samples received by the processing chain.  Note: this is
+	 * an externally provided resource, typically provided by the ProcessingChain parent for each module.
+	 */
+	private LongSupplier mSampleTimestampSupplier;
+
 	/**
 	 * Constructs an instance
 	 */
@@ -98,6 +105,37 @@ public abstract class Module
 		return mInterModuleEventBus != null;
 	}
 
+	/**
+	 * Sets the supplier of the capture timestamp of the most recent samples received by the processing chain.
+	 * @param sampleTimestampSupplier providing the timestamp in milliseconds, or null to use the wall clock
+	 */
+	public void setSampleTimestampSupplier(LongSupplier sampleTimestampSupplier)
+	{
+		mSampleTimestampSupplier = sampleTimestampSupplier;
+	}
+
+	/**
+	 * Capture timestamp of the most recent samples received by the processing chain.
+	 * @return timestamp in milliseconds, or 0 if no supplier is assigned or no samples have been received
+	 */
+	protected long getSampleTimestamp()
+	{
+		LongSupplier sampleTimestampSupplier = mSampleTimestampSupplier;
+		return sampleTimestampSupplier != null ? sampleTimestampSupplier.getAsLong() : 0;
+	}
+
+	/**
+	 * Timestamp for messages, decode events and audio produced by this module.  Follows the sample timeline of the
+	 * processing chain, so that a recording replayed faster than real time is stamped the same as a real time replay,
+	 * and uses the wall clock when no sample timestamps are available (e.g. real sample sources).
+	 * @return timestamp in milliseconds since epoch
+	 */
+	protected long getChannelTimestamp()
+	{
+		long sampleTimestamp = getSampleTimestamp();
+		return sampleTimestamp > 0 ? sampleTimestamp : System.currentTimeMillis();
+	}
+
 	/**
 	 * Initialize or reset all internal states to default - prepare to start
 	 * processing or resume processing, potentially with a different source.
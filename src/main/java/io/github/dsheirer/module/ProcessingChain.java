@@ -35,6 +35,7 @@ import io.github.dsheirer.channel.state.IDecoderStateEventListener;
 import io.github.dsheirer.channel.state.IDecoderStateEventProvider;
 import io.github.dsheirer.channel.state.MultiChannelState;
 import io.github.dsheirer.channel.state.SingleChannelState;
+import io.github.dsheirer.channel.state.State;
 import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.controller.channel.ChannelConfigurationChangeNotification;
 import io.github.dsheirer.controller.channel.ChannelEvent;
@@ -54,6 +55,10 @@ import io.github.dsheirer.module.decode.event.IDecodeEventListener;
 import io.github.dsheirer.module.decode.event.IDecodeEventProvider;
 import io.github.dsheirer.module.decode.traffic.TrafficChannelManager;
 import io.github.dsheirer.module.log.EventLogger;
+import io.github.dsheirer.monitor.LatencyMonitor;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.Histogram;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.record.binary.BinaryRecorder;
 import io.github.dsheirer.record.wave.ComplexSamplesWaveRecorder;
 import io.github.dsheirer.sample.Broadcaster;
@@ -79,6 +84,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,7 +123,10 @@ public class ProcessingChain implements Listener<ChannelEvent>
     private Broadcaster<SourceEvent> mSourceEventBroadcaster = new Broadcaster<>();
     private Broadcaster<IMessage> mMessageBroadcaster = new Broadcaster<>();
     private Broadcaster<SquelchStateEvent> mSquelchStateEventBroadcaster = new Broadcaster<>();
+    private Listener<ComplexSamples> mSampleTimestampTracker = new SampleTimestampTracker();
+    private volatile long mLatestSampleTimestamp;
     private AtomicBoolean mRunning = new AtomicBoolean();
+    private AtomicLong mGrantTimestamp = new AtomicLong();
     private DecodeEventHistory mDecodeEventHistory = new DecodeEventHistory(200);
     private MessageHistory mMessageHistory = new MessageHistory(200);
     private AbstractChannelState mChannelState;
@@ -150,6 +159,71 @@ public class ProcessingChain implements Listener<ChannelEvent>
         addModule(mChannelState);
         addModule(mDecodeEventHistory);
         addModule(mMessageHistory);
+
+        Histogram messageLatency = LatencyMonitor.getInstance().getHistogram(LatencyMonitor.END_TO_END_MESSAGE);
+        //Labeled by system and decoder, not channel, so that the label set stays bounded as traffic channels come and
+        //go and so that pooled traffic channel chains that are reused for another channel count correctly.
+        Counter messageCounter = MetricsRegistry.getInstance().counter("sdrtrunk_decoded_messages_total",
+            "Messages decoded by system and decoder", "system", channel.getSystem(), "decoder",
+            channel.getDecodeConfiguration().getDecoderType().getDisplayString());
+        mMessageBroadcaster.addListener(message -> {
+            LatencyMonitor.recordSince(messageLatency, message.getTimestamp());
+            messageCounter.increment();
+        });
+
+        if(channel.isTrafficChannel())
+        {
+            Histogram firstVoiceLatency = LatencyMonitor.getInstance()
+                .getHistogram(LatencyMonitor.TRAFFIC_CHANNEL_FIRST_VOICE);
+            Histogram firstVoiceHistogram = MetricsRegistry.getInstance()
+                .histogram("sdrtrunk_traffic_first_voice_seconds",
+                    "Time from traffic channel grant to the first voice decoded on the traffic channel", 1E-3,
+                    "system", channel.getSystem());
+
+            //Decoder states report call (or encrypted call) state as they process each voice header and voice frame,
+            //ahead of the audio module's codec, squelch and audio segment handling.
+            mDecoderStateEventBroadcaster.addListener(event -> {
+                if(isVoice(event))
+                {
+                    long timestamp = mGrantTimestamp.getAndSet(0);
+
+                    if(timestamp > 0)
+                    {
+                        LatencyMonitor.recordSince(firstVoiceLatency, timestamp);
+                        firstVoiceHistogram.record(System.currentTimeMillis() - timestamp);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Indicates if the decoder state event is produced by a decoder processing voice for a call.
+     */
+    private static boolean isVoice(DecoderStateEvent event)
+    {
+        return (event.getState() == State.CALL || event.getState() == State.ENCRYPTED) &&
+            (event.getEvent() == DecoderStateEvent.Event.START || event.getEvent() == DecoderStateEvent.Event.DECODE ||
+             event.getEvent() == DecoderStateEvent.Event.CONTINUATION);
+    }
+
+    /**
+     * Sets the timestamp of the channel grant that started this traffic channel processing chain so that the elapsed
+     * time until the decoder produces the first voice for the call can be measured.
+     * @param timestamp in milliseconds
+     */
+    public void setGrantTimestamp(long timestamp)
+    {
+        mGrantTimestamp.set(timestamp);
+    }
+
+    /**
+     * Capture timestamp of the most recent complex sample buffer received from the source.
+     * @return timestamp in milliseconds or 0 if no samples have been received
+     */
+    public long getLatestSampleTimestamp()
+    {
+        return mLatestSampleTimestamp;
     }
 
     /**
@@ -430,6 +504,8 @@ public class ProcessingChain implements Listener<ChannelEvent>
      */
     private void registerListeners(Module module)
     {
+        module.setSampleTimestampSupplier(this::getLatestSampleTimestamp);
+
         if(module instanceof IdentifierUpdateListener)
         {
             mIdentifierUpdateNotificationBroadcaster.addListener(((IdentifierUpdateListener)module).getIdentifierUpdateListener());
@@ -502,6 +578,8 @@ public class ProcessingChain implements Listener<ChannelEvent>
      */
     private void unregisterListeners(Module module)
     {
+        module.setSampleTimestampSupplier(null);
+
         if(module instanceof IdentifierUpdateListener)
         {
             mIdentifierUpdateNotificationBroadcaster.removeListener(((IdentifierUpdateListener)module).getIdentifierUpdateListener());
@@ -705,6 +783,9 @@ public class ProcessingChain implements Listener<ChannelEvent>
     {
         if(mRunning.compareAndSet(false, true))
         {
+            //Clear the sample timeline from any previous source until the new source provides samples
+            mLatestSampleTimestamp = 0;
+
             if(mSource != null)
             {
                 //Broadcast the source sample rate so that each of the modules can self-configure
@@ -722,7 +803,7 @@ public class ProcessingChain implements Listener<ChannelEvent>
                 switch(mSource.getSampleType())
                 {
                     case COMPLEX:
-                        ((ComplexSource)mSource).setListener(mBasebandComplexSamplesBroadcaster);
+                        ((ComplexSource)mSource).setListener(mSampleTimestampTracker);
                         break;
                     case REAL:
                         ((RealSource)mSource).setListener(mDemodulatedAudioBufferBroadcaster);
@@ -1027,4 +1108,18 @@ public class ProcessingChain implements Listener<ChannelEvent>
     {
         mIdentifierUpdateNotificationBroadcaster.broadcast(updateNotification);
     }
+
+    /**
+     * Tracks the capture timestamp of each complex sample buffer received from the source for end-to-end latency
+     * measurement and forwards the buffer to the baseband sample broadcaster.
+     */
+    private class SampleTimestampTracker implements Listener<ComplexSamples>
+    {
+        @Override
+        public void receive(ComplexSamples complexSamples)
+        {
+            mLatestSampleTimestamp = complexSamples.timestamp();
+            mBasebandComplexSamplesBroadcaster.broadcast(complexSamples);
+        }
+    }
 }
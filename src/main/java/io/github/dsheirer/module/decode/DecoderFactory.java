@@ -24,11 +24,13 @@ import io.github.dsheirer.alias.action.AliasActionManager;
 import io.github.dsheirer.audio.AbstractAudioModule;
 import io.github.dsheirer.audio.AudioModule;
 import io.github.dsheirer.channel.IChannelDescriptor;
+import io.github.dsheirer.channel.state.DecoderState;
 import io.github.dsheirer.channel.state.State;
 import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.controller.channel.Channel.ChannelType;
 import io.github.dsheirer.controller.channel.map.ChannelMap;
 import io.github.dsheirer.controller.channel.map.ChannelMapModel;
+import io.github.dsheirer.dsp.afsk.AFSK1200Decoder;
 import io.github.dsheirer.filter.AllPassFilter;
 import io.github.dsheirer.filter.FilterSet;
 import io.github.dsheirer.filter.IFilter;
@@ -36,6 +38,7 @@ import io.github.dsheirer.identifier.patch.PatchGroupManager;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.MessageDirection;
 import io.github.dsheirer.module.Module;
+import io.github.dsheirer.module.decode.afsk.SharedAFSK1200DecoderModule;
 import io.github.dsheirer.module.decode.am.AMDecoder;
 import io.github.dsheirer.module.decode.am.AMDecoderState;
 import io.github.dsheirer.module.decode.am.DecodeConfigAM;
@@ -564,6 +567,33 @@ public class DecoderFactory
         state1.setSisterDecoderState(state2);
         state2.setSisterDecoderState(state1);
 
+        applyDMRChannel(state1, state2, decodeConfig, channelDescriptor);
+
+        modules.add(state1);
+        modules.add(state2);
+        modules.add(new DMRAudioModule(userPreferences, aliasList, DMRMessage.TIMESLOT_1));
+        modules.add(new DMRAudioModule(userPreferences, aliasList, DMRMessage.TIMESLOT_2));
+
+        //Add a channel rotation monitor when we have multiple control channel frequencies specified
+        if(channel.getSourceConfiguration() instanceof SourceConfigTunerMultipleFrequency sctmf &&
+            sctmf.hasMultipleFrequencies())
+        {
+            List<State> activeStates = new ArrayList<>();
+            activeStates.add(State.CONTROL);
+            modules.add(new ChannelRotationMonitor(activeStates, sctmf.getFrequencyRotationDelay(), userPreferences));
+        }
+    }
+
+    /**
+     * Applies the channel descriptor and any channel grant event from the configuration to the DMR decoder states.
+     * @param state1 for timeslot 1
+     * @param state2 for timeslot 2
+     * @param decodeConfig for the DMR configuration
+     * @param channelDescriptor for the channel, optional.
+     */
+    private static void applyDMRChannel(DMRDecoderState state1, DMRDecoderState state2, DecodeConfigDMR decodeConfig,
+                                        IChannelDescriptor channelDescriptor)
+    {
         //If an LSN is provided, apply it to both of the decoder states.
         if(channelDescriptor instanceof DMRLsn lsn)
         {
@@ -609,19 +639,56 @@ public class DecoderFactory
                 }
             }
         }
+    }
 
-        modules.add(state1);
-        modules.add(state2);
-        modules.add(new DMRAudioModule(userPreferences, aliasList, DMRMessage.TIMESLOT_1));
-        modules.add(new DMRAudioModule(userPreferences, aliasList, DMRMessage.TIMESLOT_2));
+    /**
+     * Updates the decoder states of a previously constructed traffic channel processing chain with the channel
+     * descriptor for a new channel grant, so that the processing chain can be reused instead of reconstructed.
+     *
+     * Note: the processing chain must be stopped (and therefore reset) before invoking this method.
+     *
+     * @param channel for the traffic channel
+     * @param decoderStates from the processing chain
+     * @param channelDescriptor for the channel grant
+     * @return true if the decoder states were updated or false if the decoder type doesn't support reuse.
+     */
+    public static boolean updateTrafficChannel(Channel channel, List<DecoderState> decoderStates,
+                                               IChannelDescriptor channelDescriptor)
+    {
+        DecodeConfiguration decodeConfig = channel.getDecodeConfiguration();
+        List<DecoderState> primaryStates = new ArrayList<>();
 
-        //Add a channel rotation monitor when we have multiple control channel frequencies specified
-        if(channel.getSourceConfiguration() instanceof SourceConfigTunerMultipleFrequency sctmf &&
-            sctmf.hasMultipleFrequencies())
+        //Auxiliary decoder states are not channel specific
+        for(DecoderState decoderState: decoderStates)
         {
-            List<State> activeStates = new ArrayList<>();
-            activeStates.add(State.CONTROL);
-            modules.add(new ChannelRotationMonitor(activeStates, sctmf.getFrequencyRotationDelay(), userPreferences));
+            if(decoderState.getDecoderType() == decodeConfig.getDecoderType())
+            {
+                primaryStates.add(decoderState);
+            }
+        }
+
+        switch(decodeConfig.getDecoderType())
+        {
+            case NXDN:
+            case P25_PHASE1:
+            case P25_PHASE2:
+                for(DecoderState decoderState: primaryStates)
+                {
+                    decoderState.setCurrentChannel(channelDescriptor);
+                }
+                return !primaryStates.isEmpty();
+            case DMR:
+                //Decoder states are added to the processing chain in timeslot order
+                if(decodeConfig instanceof DecodeConfigDMR configDMR && primaryStates.size() == 2 &&
+                    primaryStates.get(0) instanceof DMRDecoderState state1 &&
+                    primaryStates.get(1) instanceof DMRDecoderState state2)
+                {
+                    applyDMRChannel(state1, state2, configDMR, channelDescriptor);
+                    return true;
+                }
+                return false;
+            default:
+                return false;
         }
     }
 
@@ -637,8 +704,16 @@ public class DecoderFactory
 
         if(config != null)
         {
+            //The AFSK 1200 decoders share a single resampler and tone correlator bank for the channel
+            AFSK1200Decoder sharedAFSKDecoder = null;
+
             for(DecoderType auxDecoder : config.getAuxDecoders())
             {
+                if(sharedAFSKDecoder == null && isSharedAFSK1200Decoder(auxDecoder))
+                {
+                    sharedAFSKDecoder = new AFSK1200Decoder(AFSK1200Decoder.Output.NORMAL);
+                }
+
                 switch(auxDecoder)
                 {
                     case DCS:
@@ -646,30 +721,49 @@ public class DecoderFactory
                         modules.add(new DCSDecoderState());
                         break;
                     case FLEETSYNC2:
-                        modules.add(new Fleetsync2Decoder());
+                        modules.add(new Fleetsync2Decoder(sharedAFSKDecoder));
                         modules.add(new Fleetsync2DecoderState());
                         break;
                     case MDC1200:
-                        modules.add(new MDCDecoder());
+                        modules.add(new MDCDecoder(sharedAFSKDecoder));
                         modules.add(new MDCDecoderState());
                         break;
                     case LJ_1200:
-                        modules.add(new LJ1200Decoder());
+                        modules.add(new LJ1200Decoder(sharedAFSKDecoder));
                         modules.add(new LJ1200DecoderState());
                         break;
                     case TAIT_1200:
-                        modules.add(new Tait1200Decoder());
+                        modules.add(new Tait1200Decoder(sharedAFSKDecoder));
                         modules.add(new Tait1200DecoderState());
                         break;
                     default:
                         throw new IllegalArgumentException("Unrecognized auxiliary decoder type [" + auxDecoder + "]");
                 }
             }
+
+            //Register the shared decoder for the channel audio once, independent of the individual decoders
+            if(sharedAFSKDecoder != null)
+            {
+                modules.add(new SharedAFSK1200DecoderModule(sharedAFSKDecoder));
+            }
         }
 
         return modules;
     }
 
+    /**
+     * Indicates if the auxiliary decoder type is an AFSK 1200 baud decoder that can share the channel's AFSK 1200
+     * decoder with the other auxiliary decoders.
+     */
+    private static boolean isSharedAFSK1200Decoder(DecoderType decoderType)
+    {
+        return switch(decoderType)
+        {
+            case FLEETSYNC2, MDC1200, LJ_1200, TAIT_1200 -> true;
+            default -> false;
+        };
+    }
+
     /**
      * Assembles a filter set containing filters for the primary channel
      * decoder and each of the auxiliary decoders
@@ -18,6 +18,7 @@
  */
 package io.github.dsheirer.module.decode.afsk;
 
+import io.github.dsheirer.bits.IBinarySymbolProcessor;
 import io.github.dsheirer.dsp.afsk.AFSK1200Decoder;
 import io.github.dsheirer.module.decode.Decoder;
 import io.github.dsheirer.sample.Listener;
@@ -28,11 +29,19 @@ import io.github.dsheirer.sample.real.IRealBufferListener;
  *
  * This class handles the AFSK 1200 decoder and incoming sample stream buffer management.
  *
- * Sub-class implementations should invoke getDecoder().setListener() to receive decoded symbol stream.
+ * Sub-class implementations should invoke setSymbolProcessor() to receive decoded symbol stream.
+ *
+ * Decoders that are constructed with a shared AFSK 1200 decoder add their symbol processor to the shared decoder and
+ * don't provide a buffer listener.  The channel's audio is delivered to the shared decoder by a single
+ * SharedAFSK1200DecoderModule so that the audio is resampled and correlated once for all of the sharing decoders.
+ * Disposing a sharing decoder removes its symbol processor from the shared decoder.
  */
 public abstract class AbstractAFSKDecoder extends Decoder implements IRealBufferListener, Listener<float[]>
 {
     private AFSK1200Decoder mAFSK1200Decoder;
+    private AFSK1200Decoder.Output mOutput;
+    private IBinarySymbolProcessor mSymbolProcessor;
+    private boolean mShared;
 
     public AbstractAFSKDecoder(AFSK1200Decoder decoder)
     {
@@ -44,20 +53,65 @@ public abstract class AbstractAFSKDecoder extends Decoder implements IRealBuffer
         mAFSK1200Decoder = new AFSK1200Decoder(output);
     }
 
+    /**
+     * Constructs an instance that shares the AFSK 1200 decoder with other decoders for the same channel.
+     * @param sharedDecoder that resamples and correlates the channel audio
+     * @param output for the symbols delivered to this decoder
+     */
+    public AbstractAFSKDecoder(AFSK1200Decoder sharedDecoder, AFSK1200Decoder.Output output)
+    {
+        mAFSK1200Decoder = sharedDecoder;
+        mOutput = output;
+        mShared = true;
+    }
+
     protected AFSK1200Decoder getDecoder()
     {
         return mAFSK1200Decoder;
     }
 
+    /**
+     * Registers the symbol processor to receive the decoded symbol stream.
+     * @param binarySymbolProcessor to receive symbols
+     */
+    protected void setSymbolProcessor(IBinarySymbolProcessor binarySymbolProcessor)
+    {
+        if(mShared)
+        {
+            mSymbolProcessor = binarySymbolProcessor;
+            mAFSK1200Decoder.addSymbolProcessor(binarySymbolProcessor, mOutput);
+        }
+        else
+        {
+            mAFSK1200Decoder.setSymbolProcessor(binarySymbolProcessor);
+        }
+    }
+
     @Override
     public void receive(float[] realBuffer)
     {
         mAFSK1200Decoder.receive(realBuffer);
     }
 
+    /**
+     * Buffer listener for the demodulated audio, or null when the AFSK 1200 decoder is shared and receives the audio
+     * from the shared decoder module.
+     */
     @Override
     public Listener<float[]> getBufferListener()
     {
-        return this;
+        return mShared ? null : this;
+    }
+
+    @Override
+    public void dispose()
+    {
+        if(mShared && mSymbolProcessor != null)
+        {
+            mAFSK1200Decoder.removeSymbolProcessor(mSymbolProcessor);
+            mSymbolProcessor = null;
+        }
+
+        super.dispose();
     }
 }
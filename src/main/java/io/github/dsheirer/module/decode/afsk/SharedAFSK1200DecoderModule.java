@@ -0,0 +1,75 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.decode.afsk;
+
+import io.github.dsheirer.dsp.afsk.AFSK1200Decoder;
+import io.github.dsheirer.module.Module;
+import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.real.IRealBufferListener;
+
+/**
+ * Feeds the channel's demodulated audio to an AFSK 1200 decoder that is shared by several auxiliary decoders.
+ *
+ * The processing chain registers this module, instead of each of the sharing decoders, as the listener for the
+ * demodulated audio.  The audio is resampled and correlated once for all of the sharing decoders, and removing one of
+ * the sharing decoders from the processing chain doesn't stop the audio for the others.
+ */
+public class SharedAFSK1200DecoderModule extends Module implements IRealBufferListener
+{
+    private final AFSK1200Decoder mAFSK1200Decoder;
+
+    /**
+     * Constructs an instance
+     * @param sharedDecoder that is shared by the auxiliary decoders for the channel
+     */
+    public SharedAFSK1200DecoderModule(AFSK1200Decoder sharedDecoder)
+    {
+        mAFSK1200Decoder = sharedDecoder;
+    }
+
+    @Override
+    public Listener<float[]> getBufferListener()
+    {
+        return mAFSK1200Decoder;
+    }
+
+    @Override
+    public void reset()
+    {
+        //no-op
+    }
+
+    @Override
+    public void start()
+    {
+        //no-op
+    }
+
+    @Override
+    public void stop()
+    {
+        //no-op
+    }
+
+    @Override
+    public void dispose()
+    {
+        mAFSK1200Decoder.dispose();
+    }
+}
@@ -101,7 +101,7 @@ public abstract class AnalogDecoderState extends DecoderState implements ISource
 
         if(mDecodeEvent == null)
         {
-            mDecodeEvent = DecodeEvent.builder(DecodeEventType.CALL, System.currentTimeMillis())
+            mDecodeEvent = DecodeEvent.builder(DecodeEventType.CALL, getChannelTimestamp())
                     .channel(mChannelDescriptor)
                     .details(getDecoderType().name())
                     .identifiers(new IdentifierCollection(getIdentifierCollection().getIdentifiers()))
@@ -122,7 +122,7 @@ public abstract class AnalogDecoderState extends DecoderState implements ISource
         }
 
         getIdentifierCollection().update(getTalkgroupIdentifier());
-        mDecodeEvent.update(System.currentTimeMillis());
+        mDecodeEvent.update(getChannelTimestamp());
         broadcast(mDecodeEvent);
     }
 
@@ -133,7 +133,7 @@ public abstract class AnalogDecoderState extends DecoderState implements ISource
     {
         if(mDecodeEvent != null)
         {
-            mDecodeEvent.end(System.currentTimeMillis());
+            mDecodeEvent.end(getChannelTimestamp());
             broadcast(mDecodeEvent);
             mDecodeEvent = null;
         }
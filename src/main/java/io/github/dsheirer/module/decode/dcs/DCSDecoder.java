@@ -23,7 +23,6 @@ import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
 import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
-import io.github.dsheirer.dsp.filter.fir.remez.RemezFIRFilterDesigner;
 import io.github.dsheirer.module.decode.Decoder;
 import io.github.dsheirer.module.decode.DecoderType;
 import io.github.dsheirer.sample.Listener;
@@ -82,12 +81,7 @@ public class DCSDecoder extends Decoder implements IRealBufferListener, Listener
 
         try
         {
-            RemezFIRFilterDesigner designer = new RemezFIRFilterDesigner(specification);
-
-            if(designer.isValid())
-            {
-                sLowPassFilterCoefficients = designer.getImpulseResponse();
-            }
+            sLowPassFilterCoefficients = FilterFactory.getTaps(specification);
         }
         catch(FilterDesignException fde)
         {
@@ -223,7 +217,8 @@ public class DCSDecoder extends Decoder implements IRealBufferListener, Listener
                         mCode = (Integer.rotateLeft(mCode, 1) + (mSymbol ? 1 : 0)) & CODE_MASK;
                         if(DCSCode.hasValue(mCode))
                         {
-                            getMessageListener().receive(new DCSMessage(DCSCode.fromValue(mCode), System.currentTimeMillis()));
+                            getMessageListener().receive(new DCSMessage(DCSCode.fromValue(mCode),
+                                getChannelTimestamp()));
                         }
 
                         mBaudCounter -= BAUD_LENGTH;
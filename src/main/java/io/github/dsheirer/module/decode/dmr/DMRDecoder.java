@@ -21,11 +21,9 @@ package io.github.dsheirer.module.decode.dmr;
 
 import io.github.dsheirer.alias.AliasList;
 import io.github.dsheirer.dsp.filter.FilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.DecimationFilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
-import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilterFactory;
 import io.github.dsheirer.dsp.psk.demod.DifferentialDemodulatorFactory;
 import io.github.dsheirer.dsp.psk.demod.DifferentialDemodulatorFloat;
 import io.github.dsheirer.message.IMessage;
@@ -52,9 +50,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,17 +82,11 @@ public class DMRDecoder extends FeedbackDecoder implements IByteBufferProvider,
     private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("#.##");
     private static final int SYMBOL_RATE = 4800;
     private static final float MAXIMUM_CARRIER_OFFSET = 5000.0f; //Threshold for retuning the signal.
-    private static final Map<Double,float[]> BASEBAND_FILTERS = new HashMap<>();
     private DifferentialDemodulatorFloat mDemodulator;
     private final DMRMessageFramer mMessageFramer;
     private final DMRSoftSymbolProcessor mSymbolProcessor;
     private final DMRMessageProcessor mMessageProcessor;
-    private IRealFilter mIBasebandFilter;
-    private IRealFilter mQBasebandFilter;
-    private IRealDecimationFilter mDecimationFilterI;
-    private IRealDecimationFilter mDecimationFilterQ;
-    private RealFIRFilter mRRCFilterI;
-    private RealFIRFilter mRRCFilterQ;
+    private ComplexDecimatingFilter mFilter;
 
     /**
      * Constructs an instance
@@ -135,9 +125,6 @@ public class DMRDecoder extends FeedbackDecoder implements IByteBufferProvider,
                     SYMBOL_RATE + " symbol rate)");
         }
 
-        mIBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter(sampleRate));
-        mQBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter(sampleRate));
-
         int decimation = 1;
 
         //Identify decimation that gets us as close to 4.0 Samples Per Symbol as possible (19.2 kHz)
@@ -146,9 +133,6 @@ public class DMRDecoder extends FeedbackDecoder implements IByteBufferProvider,
             decimation *= 2;
         }
 
-        mDecimationFilterI = DecimationFilterFactory.getRealDecimationFilter(decimation);
-        mDecimationFilterQ = DecimationFilterFactory.getRealDecimationFilter(decimation);
-
         float decimatedSampleRate = (float)sampleRate / decimation;
 
         //Set the decimated sample rate to use for PLL error reporting.
@@ -163,9 +147,11 @@ public class DMRDecoder extends FeedbackDecoder implements IByteBufferProvider,
             symbolLength = 2;
         }
 
-        float[] taps = FilterFactory.getRootRaisedCosine(decimatedSampleRate / SYMBOL_RATE, symbolLength, rrcAlpha);
-        mRRCFilterI = new RealFIRFilter(taps);
-        mRRCFilterQ = new RealFIRFilter(taps);
+        //Combine the baseband and pulse shaping filters into a single filter designed at the incoming sample rate.  The
+        //baseband filter also serves as the anti-aliasing filter for decimation.
+        float[] pulseShaping = FilterFactory.getRootRaisedCosine(sampleRate / SYMBOL_RATE, symbolLength, rrcAlpha);
+        float[] taps = FilterFactory.convolve(getBasebandFilter(sampleRate), pulseShaping);
+        mFilter = ComplexDecimatingFilterFactory.getFilter(taps, decimation);
 
         mDemodulator = DifferentialDemodulatorFactory.getFloatDemodulator(decimatedSampleRate, SYMBOL_RATE);
         mSymbolProcessor.setSamplesPerSymbol(mDemodulator.getSamplesPerSymbol());
@@ -183,29 +169,19 @@ public class DMRDecoder extends FeedbackDecoder implements IByteBufferProvider,
 
         mMessageFramer.setTimestamp(samples.timestamp());
 
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
-
-        i = mDecimationFilterI.decimateReal(i);
-        q = mDecimationFilterQ.decimateReal(q);
-
-        i = mRRCFilterI.filter(i);
-        q = mRRCFilterQ.filter(q);
+        //Baseband filter, decimate and pulse shape in a single pass
+        ComplexSamples filtered = mFilter.filter(samples);
 
-        float[] demodulated = mDemodulator.demodulate(i, q);
+        float[] demodulated = mDemodulator.demodulate(filtered.i(), filtered.q());
         mSymbolProcessor.receive(demodulated);
     }
 
     /**
-     * Constructs a baseband filter for this decoder using the current sample rate
+     * Constructs a baseband filter for this decoder using the current sample rate.  Designs are cached by the filter
+     * design cache.
      */
     private float[] getBasebandFilter(double sampleRate)
     {
-        if(BASEBAND_FILTERS.containsKey(sampleRate))
-        {
-            return BASEBAND_FILTERS.get(sampleRate);
-        }
-
         FIRFilterSpecification specification = FIRFilterSpecification
                 .lowPassBuilder()
                 .sampleRate(sampleRate)
@@ -219,7 +195,6 @@ public class DMRDecoder extends FeedbackDecoder implements IByteBufferProvider,
         try
         {
             coefficients = FilterFactory.getTaps(specification);
-            BASEBAND_FILTERS.put(sampleRate, coefficients);
         }
         catch(Exception fde) //FilterDesignException
         {
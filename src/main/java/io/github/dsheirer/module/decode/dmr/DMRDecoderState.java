@@ -287,7 +287,7 @@ public class DMRDecoderState extends TimeslotDecoderState
     protected void resetState()
     {
         super.resetState();
-        closeCurrentCallEvent(System.currentTimeMillis());
+        closeCurrentCallEvent(getChannelTimestamp());
     }
 
     /**
@@ -27,6 +27,8 @@ import io.github.dsheirer.module.decode.dmr.message.CACH;
 import io.github.dsheirer.module.decode.dmr.message.DMRMessage;
 import io.github.dsheirer.module.decode.dmr.message.DMRMessageFactory;
 import io.github.dsheirer.module.decode.dmr.sync.DMRSyncPattern;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.protocol.Protocol;
 import io.github.dsheirer.sample.Listener;
 import java.util.Arrays;
@@ -41,6 +43,8 @@ import java.util.Arrays;
  */
 public class DMRMessageFramer implements Listener<Dibit>
 {
+    private static final Counter SYNC_COUNTER = MetricsRegistry.getInstance().counter("sdrtrunk_framer_sync_total",
+        "Sync patterns detected by the message framer", "protocol", "DMR");
     private static final int DIBIT_CACH_START = 0;
     private static final int DIBIT_BURST_END = 144;
     private Listener<IMessage> mMessageListener;
@@ -304,14 +308,7 @@ public class DMRMessageFramer implements Listener<Dibit>
     private CorrectedBinaryMessage getMessage(Dibit[] buffer)
     {
         CorrectedBinaryMessage message = new CorrectedBinaryMessage(2 * (DMRMessageFramer.DIBIT_BURST_END - DMRMessageFramer.DIBIT_CACH_START));
-
-        Dibit dibit;
-        for(int i = DMRMessageFramer.DIBIT_CACH_START; i < DMRMessageFramer.DIBIT_BURST_END; i++)
-        {
-            dibit = buffer[i];
-            message.add(dibit.getBit1(), dibit.getBit2());
-        }
-
+        message.add(buffer, DMRMessageFramer.DIBIT_CACH_START, DMRMessageFramer.DIBIT_BURST_END);
         return message;
     }
 
@@ -322,6 +319,8 @@ public class DMRMessageFramer implements Listener<Dibit>
      */
     public void syncDetected(DMRSyncPattern pattern)
     {
+        SYNC_COUNTER.increment();
+
         if(mAssemblingBurst)
         {
             if(mBufferAActive && mBufferAPointer < mBufferA.length)
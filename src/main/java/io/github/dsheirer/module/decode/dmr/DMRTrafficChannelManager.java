@@ -58,12 +58,12 @@ import io.github.dsheirer.source.tuner.channel.rotation.DisableChannelRotationMo
 import io.github.dsheirer.source.tuner.channel.rotation.FrequencyLockChangeRequest;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,7 +95,8 @@ public class DMRTrafficChannelManager extends TrafficChannelManager implements I
     public static final String NO_FREQUENCY = "NO FREQUENCY - CHECK PLAYLIST CHANNEL CONFIG LSN CHANNEL MAP";
     public static final long EVENT_TIME_STALE_THRESHOLD = 5000; //5 seconds
 
-    private Queue<Channel> mAvailableTrafficChannels = new ConcurrentLinkedQueue<>();
+    //Released traffic channels are reused first so that their pooled processing chains are reused while warm
+    private Deque<Channel> mAvailableTrafficChannels = new ConcurrentLinkedDeque<>();
     private List<Channel> mAllocatedTrafficChannels;
     private Map<Long,Channel> mAllocatedChannelFrequencyMap = new ConcurrentHashMap<>();
     private ReentrantLock mLock = new ReentrantLock();
@@ -711,6 +712,14 @@ public class DMRTrafficChannelManager extends TrafficChannelManager implements I
         }
     }
 
+    @Override
+    public List<Channel> getNextAvailableTrafficChannels(int count)
+    {
+        List<Channel> channels = new ArrayList<>();
+        mAvailableTrafficChannels.stream().limit(count).forEach(channels::add);
+        return channels;
+    }
+
     @Override
     public void stop()
     {
@@ -852,7 +861,7 @@ public class DMRTrafficChannelManager extends TrafficChannelManager implements I
                             //Add the traffic channel back to the queue to be reused
                             if(!mAvailableTrafficChannels.contains(channel))
                             {
-                                mAvailableTrafficChannels.add(channel);
+                                mAvailableTrafficChannels.push(channel);
                             }
                         }
                         finally
@@ -887,7 +896,7 @@ public class DMRTrafficChannelManager extends TrafficChannelManager implements I
                             //Add the traffic channel back to the queue to be reused
                             if(!mAvailableTrafficChannels.contains(channel))
                             {
-                                mAvailableTrafficChannels.add(channel);
+                                mAvailableTrafficChannels.push(channel);
                             }
                         }
                         finally
@@ -36,13 +36,14 @@ public class Fleetsync2Decoder extends AbstractAFSKDecoder
     private Fleetsync2MessageProcessor mMessageProcessor;
 
     /**
-     * Constructs a decoder for Fleetsync II protocol
+     * Constructs a decoder for the Fleetsync II protocol that shares the AFSK 1200 decoder with the other
+     * auxiliary decoders for the same channel.
      *
-     * @param afsk1200Decoder to use for decoding the symbols
+     * @param sharedDecoder that resamples and correlates the channel audio
      */
-    protected Fleetsync2Decoder(AFSK1200Decoder afsk1200Decoder)
+    public Fleetsync2Decoder(AFSK1200Decoder sharedDecoder)
     {
-        super(afsk1200Decoder);
+        super(sharedDecoder, AFSK1200Decoder.Output.NORMAL);
         init();
     }
 
@@ -61,8 +62,8 @@ public class Fleetsync2Decoder extends AbstractAFSKDecoder
     private void init()
     {
         mMessageFramer = new MessageFramer(SyncPattern.FLEETSYNC2.getPattern(), MESSAGE_LENGTH);
-        getDecoder().setSymbolProcessor(mMessageFramer);
-        mMessageProcessor = new Fleetsync2MessageProcessor();
+        setSymbolProcessor(mMessageFramer);
+        mMessageProcessor = new Fleetsync2MessageProcessor(this::getChannelTimestamp);
         mMessageFramer.addMessageListener(mMessageProcessor);
         mMessageProcessor.setMessageListener(getMessageListener());
     }
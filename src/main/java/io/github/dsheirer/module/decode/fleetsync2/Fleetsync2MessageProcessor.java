@@ -26,6 +26,7 @@ import io.github.dsheirer.module.decode.fleetsync2.message.Fleetsync2Message;
 import io.github.dsheirer.module.decode.fleetsync2.message.LocationReport;
 import io.github.dsheirer.module.decode.fleetsync2.message.Status;
 import io.github.dsheirer.sample.Listener;
+import java.util.function.LongSupplier;
 
 /**
  * Fleetsync message processor converts binary messages into IMessage implementations.
@@ -33,12 +34,15 @@ import io.github.dsheirer.sample.Listener;
 public class Fleetsync2MessageProcessor implements Listener<CorrectedBinaryMessage>
 {
     private Listener<IMessage> mMessageListener;
+    private LongSupplier mTimestampSupplier;
 
     /**
      * Constructs a message processor
+     * @param timestampSupplier providing the channel timestamp for each decoded message
      */
-    public Fleetsync2MessageProcessor()
+    public Fleetsync2MessageProcessor(LongSupplier timestampSupplier)
     {
+        mTimestampSupplier = timestampSupplier;
     }
 
     public void dispose()
@@ -57,13 +61,13 @@ public class Fleetsync2MessageProcessor implements Listener<CorrectedBinaryMessa
         switch(messageType)
         {
             case GPS:
-                broadcast(new LocationReport(message, System.currentTimeMillis()));
+                broadcast(new LocationReport(message, mTimestampSupplier.getAsLong()));
                 break;
             case STATUS:
-                broadcast(new Status(message, System.currentTimeMillis()));
+                broadcast(new Status(message, mTimestampSupplier.getAsLong()));
                 break;
             default:
-                broadcast(new AutomaticNumberIdentification(message, System.currentTimeMillis()));
+                broadcast(new AutomaticNumberIdentification(message, mTimestampSupplier.getAsLong()));
                 break;
         }
     }
@@ -38,9 +38,15 @@ public class LJ1200Decoder extends AbstractAFSKDecoder implements IBinarySymbolP
     private MessageFramer mTransponderMessageFramer;
     private LJ1200MessageProcessor mMessageProcessor;
 
-    protected LJ1200Decoder(AFSK1200Decoder decoder)
+    /**
+     * Constructs a decoder for the LJ1200 protocol that shares the AFSK 1200 decoder with the other
+     * auxiliary decoders for the same channel.
+     *
+     * @param sharedDecoder that resamples and correlates the channel audio
+     */
+    public LJ1200Decoder(AFSK1200Decoder sharedDecoder)
     {
-        super(decoder);
+        super(sharedDecoder, AFSK1200Decoder.Output.NORMAL);
         init();
     }
 
@@ -53,11 +59,11 @@ public class LJ1200Decoder extends AbstractAFSKDecoder implements IBinarySymbolP
 
     private void init()
     {
-        getDecoder().setSymbolProcessor(this);
+        setSymbolProcessor(this);
 
         mTowerMessageFramer = new MessageFramer(SyncPattern.LJ1200.getPattern(), MESSAGE_LENGTH);
         mTransponderMessageFramer = new MessageFramer(SyncPattern.LJ1200_TRANSPONDER.getPattern(), MESSAGE_LENGTH);
-        mMessageProcessor = new LJ1200MessageProcessor();
+        mMessageProcessor = new LJ1200MessageProcessor(this::getChannelTimestamp);
         mTowerMessageFramer.addMessageListener(mMessageProcessor);
         mTransponderMessageFramer.addMessageListener(mMessageProcessor);
         mMessageProcessor.setMessageListener(getMessageListener());
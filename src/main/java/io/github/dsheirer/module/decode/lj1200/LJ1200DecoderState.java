@@ -70,7 +70,7 @@ public class LJ1200DecoderState extends DecoderState
                 ic.remove(IdentifierClass.USER);
                 ic.update(lj.getIdentifiers());
 
-                DecodeEvent event = DecodeEvent.builder(DecodeEventType.DATA_PACKET, System.currentTimeMillis())
+                DecodeEvent event = DecodeEvent.builder(DecodeEventType.DATA_PACKET, getChannelTimestamp())
                     .protocol(Protocol.LOJACK)
                     .identifiers(ic)
                     .channel(getCurrentChannel())
@@ -89,7 +89,7 @@ public class LJ1200DecoderState extends DecoderState
             ic.remove(IdentifierClass.USER);
             ic.update(transponder.getIdentifiers());
 
-            DecodeEvent transponderEvent = DecodeEvent.builder(DecodeEventType.GPS, System.currentTimeMillis())
+            DecodeEvent transponderEvent = DecodeEvent.builder(DecodeEventType.GPS, getChannelTimestamp())
                 .protocol(Protocol.LOJACK)
                 .identifiers(ic)
                 .channel(getCurrentChannel())
@@ -60,8 +60,9 @@ public class LJ1200Message extends Message
     private ESNIdentifier mTransponderIdentifier;
     private List<Identifier> mIdentifiers;
 
-    public LJ1200Message(BinaryMessage message)
+    public LJ1200Message(BinaryMessage message, long timestamp)
     {
+        super(timestamp);
         mMessage = message;
 
         checkCRC();
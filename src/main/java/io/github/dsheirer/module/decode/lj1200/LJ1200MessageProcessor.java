@@ -22,6 +22,7 @@ package io.github.dsheirer.module.decode.lj1200;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.sample.Listener;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,9 +36,15 @@ public class LJ1200MessageProcessor implements Listener<CorrectedBinaryMessage>
     public static int SYNC_TRANSPONDER = 0x2AD5;
 
     private Listener<IMessage> mMessageListener;
+    private LongSupplier mTimestampSupplier;
 
-    public LJ1200MessageProcessor()
+    /**
+     * Constructs an instance
+     * @param timestampSupplier providing the channel timestamp for each decoded message
+     */
+    public LJ1200MessageProcessor(LongSupplier timestampSupplier)
     {
+        mTimestampSupplier = timestampSupplier;
     }
 
     public void dispose()
@@ -54,14 +61,14 @@ public class LJ1200MessageProcessor implements Listener<CorrectedBinaryMessage>
         {
             if(mMessageListener != null)
             {
-                mMessageListener.receive(new LJ1200Message(message));
+                mMessageListener.receive(new LJ1200Message(message, mTimestampSupplier.getAsLong()));
             }
         }
         else if(sync == SYNC_TRANSPONDER)
         {
             if(mMessageListener != null)
             {
-                mMessageListener.receive(new LJ1200TransponderMessage(message));
+                mMessageListener.receive(new LJ1200TransponderMessage(message, mTimestampSupplier.getAsLong()));
             }
         }
     }
@@ -43,8 +43,9 @@ public class LJ1200TransponderMessage extends Message
     private CorrectedBinaryMessage mMessage;
     private CRC mCRC;
 
-    public LJ1200TransponderMessage(CorrectedBinaryMessage message)
+    public LJ1200TransponderMessage(CorrectedBinaryMessage message, long timestamp)
     {
+        super(timestamp);
         mMessage = message;
 
         checkCRC();
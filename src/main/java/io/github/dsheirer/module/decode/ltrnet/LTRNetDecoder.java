@@ -63,7 +63,8 @@ public class LTRNetDecoder extends Decoder implements IRealBufferListener, Liste
                 mLTRMessageFramer.process(bit);
             }
         });
-        mLTRMessageProcessor = new LTRNetMessageProcessor(config.getMessageDirection());
+        mLTRMessageProcessor = new LTRNetMessageProcessor(config.getMessageDirection(),
+            this::getChannelTimestamp);
         mLTRMessageFramer.addMessageListener(mLTRMessageProcessor);
         mLTRMessageProcessor.setMessageListener(getMessageListener());
     }
@@ -32,6 +32,7 @@ import io.github.dsheirer.sample.Listener;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 public class LTRNetMessageProcessor implements Listener<CorrectedBinaryMessage>
 {
@@ -46,16 +47,23 @@ public class LTRNetMessageProcessor implements Listener<CorrectedBinaryMessage>
     private RegistrationRequestEsnLow mRegistrationRequestEsnLowMessage;
 
     private MessageDirection mDirection;
+    private LongSupplier mTimestampSupplier;
 
-    public LTRNetMessageProcessor(MessageDirection direction)
+    /**
+     * Constructs an instance
+     * @param direction of the messages
+     * @param timestampSupplier providing the channel timestamp for each decoded message
+     */
+    public LTRNetMessageProcessor(MessageDirection direction, LongSupplier timestampSupplier)
     {
         mDirection = direction;
+        mTimestampSupplier = timestampSupplier;
     }
 
     @Override
     public void receive(CorrectedBinaryMessage buffer)
     {
-        LtrNetMessage message = LtrNetMessageFactory.create(mDirection, buffer, System.currentTimeMillis());
+        LtrNetMessage message = LtrNetMessageFactory.create(mDirection, buffer, mTimestampSupplier.getAsLong());
 
         if(message.isValid())
         {
@@ -63,7 +63,7 @@ public class LTRStandardDecoder extends Decoder implements IRealBufferListener,
                 mLTRMessageFramer.process(symbol);
             }
         });
-        mLTRMessageProcessor = new LTRStandardMessageProcessor(direction);
+        mLTRMessageProcessor = new LTRStandardMessageProcessor(direction, this::getChannelTimestamp);
         mLTRMessageFramer.addMessageListener(mLTRMessageProcessor);
         mLTRMessageProcessor.setMessageListener(message -> {
             getMessageListener().receive(message);
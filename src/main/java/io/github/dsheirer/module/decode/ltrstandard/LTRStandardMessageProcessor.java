@@ -30,20 +30,24 @@ import io.github.dsheirer.module.decode.ltrstandard.message.Idle;
 import io.github.dsheirer.module.decode.ltrstandard.message.LTRMessage;
 import io.github.dsheirer.module.decode.ltrstandard.message.UnknownMessage;
 import io.github.dsheirer.sample.Listener;
+import java.util.function.LongSupplier;
 
 public class LTRStandardMessageProcessor implements Listener<CorrectedBinaryMessage>
 {
     private MessageDirection mDirection;
     private Listener<IMessage> mMessageListener;
+    private LongSupplier mTimestampSupplier;
 
     /**
      * Processes raw binary messages and converts them to the correct message class
      *
      * @param direction - inbound (ISW) or outbound (OSW)
+     * @param timestampSupplier providing the channel timestamp for each decoded message
      */
-    public LTRStandardMessageProcessor(MessageDirection direction)
+    public LTRStandardMessageProcessor(MessageDirection direction, LongSupplier timestampSupplier)
     {
         mDirection = direction;
+        mTimestampSupplier = timestampSupplier;
     }
 
     @Override
@@ -63,6 +67,7 @@ public class LTRStandardMessageProcessor implements Listener<CorrectedBinaryMess
             if(crc.passes())
             {
                 LTRMessage message;
+                long timestamp = mTimestampSupplier.getAsLong();
 
                 int channel = binaryMessage.getInt(LTRMessage.CHANNEL);
                 int home = binaryMessage.getInt(LTRMessage.HOME_REPEATER);
@@ -73,20 +78,20 @@ public class LTRStandardMessageProcessor implements Listener<CorrectedBinaryMess
                 {
                     if(channel == free && group == 255)
                     {
-                        message = new Idle(binaryMessage, mDirection, crc);
+                        message = new Idle(binaryMessage, mDirection, crc, timestamp);
                     }
                     else
                     {
-                        message = new Call(binaryMessage, mDirection, crc);
+                        message = new Call(binaryMessage, mDirection, crc, timestamp);
                     }
                 }
                 else if(channel == 31 && isValidChannel(home) && isValidFreeChannel(free))
                 {
-                    message = new CallEnd(binaryMessage, mDirection, crc);
+                    message = new CallEnd(binaryMessage, mDirection, crc, timestamp);
                 }
                 else
                 {
-                    message = new UnknownMessage(binaryMessage, mDirection, crc);
+                    message = new UnknownMessage(binaryMessage, mDirection, crc, timestamp);
                 }
 
                 mMessageListener.receive(message);
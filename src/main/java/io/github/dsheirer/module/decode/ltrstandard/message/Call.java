@@ -32,9 +32,9 @@ public class Call extends LTRMessage
 {
     private List<Identifier> mIdentifiers;
 
-    public Call(CorrectedBinaryMessage message, MessageDirection direction, CRC crc)
+    public Call(CorrectedBinaryMessage message, MessageDirection direction, CRC crc, long timestamp)
     {
-        super(message, direction, crc);
+        super(message, direction, crc, timestamp);
     }
 
     @Override
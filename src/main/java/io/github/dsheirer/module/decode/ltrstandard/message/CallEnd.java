@@ -32,9 +32,9 @@ public class CallEnd extends LTRMessage
 {
     private List<Identifier> mIdentifiers;
 
-    public CallEnd(CorrectedBinaryMessage message, MessageDirection direction, CRC crc)
+    public CallEnd(CorrectedBinaryMessage message, MessageDirection direction, CRC crc, long timestamp)
     {
-        super(message, direction, crc);
+        super(message, direction, crc, timestamp);
     }
 
     @Override
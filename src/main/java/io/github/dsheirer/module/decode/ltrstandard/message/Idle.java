@@ -33,9 +33,9 @@ import java.util.List;
  */
 public class Idle extends LTRMessage
 {
-    public Idle(CorrectedBinaryMessage message, MessageDirection direction, CRC crc)
+    public Idle(CorrectedBinaryMessage message, MessageDirection direction, CRC crc, long timestamp)
     {
-        super(message, direction, crc);
+        super(message, direction, crc, timestamp);
     }
 
     @Override
@@ -49,9 +49,11 @@ public abstract class LTRMessage extends Message
      * @param message containing the raw bits
      * @param direction of the messsage, ISW or OSW
      * @param crc error check
+     * @param timestamp of the message
      */
-    public LTRMessage(CorrectedBinaryMessage message, MessageDirection direction, CRC crc)
+    public LTRMessage(CorrectedBinaryMessage message, MessageDirection direction, CRC crc, long timestamp)
     {
+        super(timestamp);
         mMessage = message;
         mMessageDirection = direction;
         mCRC = crc;
@@ -32,9 +32,9 @@ import java.util.List;
  */
 public class UnknownMessage extends LTRMessage
 {
-    public UnknownMessage(CorrectedBinaryMessage message, MessageDirection direction, CRC crc)
+    public UnknownMessage(CorrectedBinaryMessage message, MessageDirection direction, CRC crc, long timestamp)
     {
-        super(message, direction, crc);
+        super(message, direction, crc, timestamp);
     }
 
     @Override
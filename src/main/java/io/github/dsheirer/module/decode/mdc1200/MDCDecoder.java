@@ -43,19 +43,25 @@ public class MDCDecoder extends AbstractAFSKDecoder
         init();
     }
 
-    protected MDCDecoder(AFSK1200Decoder decoder)
+    /**
+     * Constructs a decoder for the MDC1200 protocol that shares the AFSK 1200 decoder with the other
+     * auxiliary decoders for the same channel.
+     *
+     * @param sharedDecoder that resamples and correlates the channel audio
+     */
+    public MDCDecoder(AFSK1200Decoder sharedDecoder)
     {
-        super(decoder);
+        super(sharedDecoder, AFSK1200Decoder.Output.INVERTED);
         init();
     }
 
     private void init()
     {
         mNRZDecoder = new NRZDecoder(NRZDecoder.MODE_INVERTED);
-        getDecoder().setSymbolProcessor(mNRZDecoder);
+        setSymbolProcessor(mNRZDecoder);
         mMessageFramer = new MessageFramer(SyncPattern.MDC1200.getPattern(), MESSAGE_LENGTH);
         mNRZDecoder.setListener(mMessageFramer);
-        mMessageProcessor = new MDCMessageProcessor();
+        mMessageProcessor = new MDCMessageProcessor(this::getChannelTimestamp);
         mMessageFramer.addMessageListener(mMessageProcessor);
         mMessageProcessor.addMessageListener(getMessageListener());
     }
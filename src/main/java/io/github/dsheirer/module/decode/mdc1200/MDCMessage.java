@@ -52,8 +52,9 @@ public class MDCMessage extends Message
     private MDC1200Identifier mFromIdentifier;
     private List<Identifier> mIdentifiers;
 
-    public MDCMessage(CorrectedBinaryMessage message)
+    public MDCMessage(CorrectedBinaryMessage message, long timestamp)
     {
+        super(timestamp);
         mMessage = message;
     }
 
@@ -24,15 +24,22 @@ import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.sample.Broadcaster;
 import io.github.dsheirer.sample.Listener;
+import java.util.function.LongSupplier;
 
 public class MDCMessageProcessor implements Listener<CorrectedBinaryMessage>
 {
     private static int sMESSAGE_LENGTH = 112;
 
     private Broadcaster<IMessage> mBroadcaster = new Broadcaster<>();
+    private LongSupplier mTimestampSupplier;
 
-    public MDCMessageProcessor()
+    /**
+     * Constructs an instance
+     * @param timestampSupplier providing the channel timestamp for each decoded message
+     */
+    public MDCMessageProcessor(LongSupplier timestampSupplier)
     {
+        mTimestampSupplier = timestampSupplier;
     }
 
     public void dispose()
@@ -60,7 +67,7 @@ public class MDCMessageProcessor implements Listener<CorrectedBinaryMessage>
          * Wrap the buffer in a message along with the designated alias list
          * and send it on its merry way
          */
-        MDCMessage message = new MDCMessage(buffer);
+        MDCMessage message = new MDCMessage(buffer, mTimestampSupplier.getAsLong());
 
         mBroadcaster.receive(message);
     }
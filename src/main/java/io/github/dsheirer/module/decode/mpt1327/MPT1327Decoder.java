@@ -70,7 +70,7 @@ public class MPT1327Decoder extends AbstractAFSKDecoder implements IBinarySymbol
         mTrafficMessageFramer = new MessageFramer(sync.getTrafficSyncPattern().getPattern(), MESSAGE_LENGTH);
 
         //Fully decoded and framed messages processor
-        mMessageProcessor = new MPT1327MessageProcessor();
+        mMessageProcessor = new MPT1327MessageProcessor(this::getChannelTimestamp);
         mMessageProcessor.setMessageListener(getMessageListener());
 
         mControlMessageFramer.addMessageListener(mMessageProcessor);
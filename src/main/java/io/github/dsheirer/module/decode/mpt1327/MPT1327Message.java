@@ -114,8 +114,9 @@ public class MPT1327Message extends Message
     private MPT1327Talkgroup mToIdentifier;
     private List<Identifier> mIdentifiers;
 
-    public MPT1327Message(BinaryMessage message)
+    public MPT1327Message(BinaryMessage message, long timestamp)
     {
+        super(timestamp);
         mMessage = message;
 
         checkParity(0, BLOCK_1_START, BLOCK_2_START);
@@ -22,6 +22,7 @@ package io.github.dsheirer.module.decode.mpt1327;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.sample.Listener;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,9 +31,15 @@ public class MPT1327MessageProcessor implements Listener<CorrectedBinaryMessage>
     private final static Logger mLog = LoggerFactory.getLogger(MPT1327MessageProcessor.class);
 
     private Listener<IMessage> mMessageListener;
+    private LongSupplier mTimestampSupplier;
 
-    public MPT1327MessageProcessor()
+    /**
+     * Constructs an instance
+     * @param timestampSupplier providing the channel timestamp for each decoded message
+     */
+    public MPT1327MessageProcessor(LongSupplier timestampSupplier)
     {
+        mTimestampSupplier = timestampSupplier;
     }
 
     public void dispose()
@@ -45,7 +52,7 @@ public class MPT1327MessageProcessor implements Listener<CorrectedBinaryMessage>
     {
         if(mMessageListener != null)
         {
-            mMessageListener.receive(new MPT1327Message(message));
+            mMessageListener.receive(new MPT1327Message(message, mTimestampSupplier.getAsLong()));
         }
     }
 
@@ -355,7 +355,7 @@ public class MPT1327TrafficChannelManager extends TrafficChannelManager implemen
 
                             if(event != null)
                             {
-                                event.end(System.currentTimeMillis());
+                                event.end(getChannelTimestamp());
                                 broadcast(event);
                             }
                         }
@@ -21,9 +21,9 @@ package io.github.dsheirer.module.decode.nxdn;
 
 import com.google.common.eventbus.Subscribe;
 import io.github.dsheirer.dsp.filter.FilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.DecimationFilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilterFactory;
 import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
 import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter;
 import io.github.dsheirer.dsp.fm.FmDemodulatorFactory;
@@ -61,10 +61,7 @@ public class NXDNDecoder extends FeedbackDecoder implements IByteBufferProvider,
     private final NXDNSymbolProcessor mSymbolProcessor;
     private final NXDNMessageFramer mMessageFramer;
     private final NXDNMessageProcessor mMessageProcessor;
-    private IRealDecimationFilter mDecimationFilterI;
-    private IRealDecimationFilter mDecimationFilterQ;
-    private IRealFilter mBasebandFilterI;
-    private IRealFilter mBasebandFilterQ;
+    private ComplexDecimatingFilter mBasebandFilter;
     private IRealFilter mPulseShapingFilter;
     private IDemodulator mDemodulator;
 
@@ -130,8 +127,6 @@ public class NXDNDecoder extends FeedbackDecoder implements IByteBufferProvider,
             samplesPerSymbol /= 2;
         }
 
-        mDecimationFilterI = DecimationFilterFactory.getRealDecimationFilter(decimation);
-        mDecimationFilterQ = DecimationFilterFactory.getRealDecimationFilter(decimation);
         float decimatedSampleRate = (float)sampleRate / decimation;
 
         //Set the decimated sample rate to use for PLL error reporting.
@@ -141,9 +136,10 @@ public class NXDNDecoder extends FeedbackDecoder implements IByteBufferProvider,
         float rrcAlpha = 0.2f;
         float[] rrcTaps = FilterFactory.getRRC(samplesPerSymbol, symbolLength, rrcAlpha);
         mPulseShapingFilter = new RealFIRFilter(rrcTaps);
-        float[] basebandTaps = getBasebandFilter(decimatedSampleRate, mConfig);
-        mBasebandFilterI = FilterFactory.getRealFilter(basebandTaps);
-        mBasebandFilterQ = FilterFactory.getRealFilter(basebandTaps);
+        //Baseband filter is designed at the incoming sample rate and also serves as the anti-aliasing filter for
+        //decimation.  Pulse shaping is applied after FM demodulation, so it can't be combined with the baseband filter.
+        float[] basebandTaps = getBasebandFilter(sampleRate, mConfig);
+        mBasebandFilter = ComplexDecimatingFilterFactory.getFilter(basebandTaps, decimation);
         mDemodulator = FmDemodulatorFactory.getFmDemodulator();
         mSymbolProcessor.setSamplesPerSymbol(samplesPerSymbol);
         mMessageProcessor.setMessageListener(getMessageListener());
@@ -159,13 +155,10 @@ public class NXDNDecoder extends FeedbackDecoder implements IByteBufferProvider,
         //Update the message framer with the timestamp from the incoming sample buffer.
         mMessageFramer.setTimestamp(samples.timestamp());
 
-        float[] i = mDecimationFilterI.decimateReal(samples.i());
-        float[] q = mDecimationFilterQ.decimateReal(samples.q());
+        //Decimate and baseband filter in a single pass
+        ComplexSamples filtered = mBasebandFilter.filter(samples);
 
-        i = mBasebandFilterI.filter(i);
-        q = mBasebandFilterQ.filter(q);
-
-        float[] demodulated = mDemodulator.demodulate(i, q);
+        float[] demodulated = mDemodulator.demodulate(filtered.i(), filtered.q());
         demodulated = mPulseShapingFilter.filter(demodulated);
 
         //Process demodulated samples into symbols and apply message sync detection and framing.
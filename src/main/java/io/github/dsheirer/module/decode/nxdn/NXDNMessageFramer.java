@@ -28,6 +28,8 @@ import io.github.dsheirer.module.decode.nxdn.layer1.sync.NXDNHardSyncDetector;
 import io.github.dsheirer.module.decode.nxdn.layer1.sync.NXDNSyncDetector;
 import io.github.dsheirer.module.decode.nxdn.layer2.LICHTracker;
 import io.github.dsheirer.module.decode.nxdn.layer3.type.TransmissionMode;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.protocol.Protocol;
 import io.github.dsheirer.sample.Listener;
 import java.util.Arrays;
@@ -41,6 +43,8 @@ import java.util.Arrays;
  */
 public class NXDNMessageFramer
 {
+    private static final Counter SYNC_COUNTER = MetricsRegistry.getInstance().counter("sdrtrunk_framer_sync_total",
+        "Sync patterns detected by the message framer", "protocol", "NXDN");
     private static final int FRAME_LENGTH = 192;
     private static final int SYNC_LENGTH = 10;
     private static final int PAYLOAD_LENGTH = FRAME_LENGTH - SYNC_LENGTH;
@@ -180,6 +184,8 @@ public class NXDNMessageFramer
      */
     public void syncDetected()
     {
+        SYNC_COUNTER.increment();
+
         //Ignore false/extra sync when we're already in sync detection
         if(!mSyncDetected)
         {
@@ -57,11 +57,11 @@ import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.source.config.SourceConfigTuner;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
@@ -82,7 +82,8 @@ public class NXDNTrafficChannelManager extends TrafficChannelManager implements
     private final Lock mLock = new ReentrantLock();
     private final Map<Long, Channel> mAllocatedTrafficChannelMap = new HashMap<>();
     private final Map<Long, NXDNChannelEventTracker> mEventTrackerMap = new HashMap<>();
-    private final Queue<Channel> mAvailableTrafficChannelQueue = new LinkedTransferQueue<>();
+    //Released traffic channels are reused first so that their pooled processing chains are reused while warm
+    private final Deque<Channel> mAvailableTrafficChannelQueue = new ConcurrentLinkedDeque<>();
     private final TalkerAliasManager mTalkerAliasManager = new TalkerAliasManager();
     private final TrafficChannelTeardownMonitor mTrafficChannelTeardownMonitor = new TrafficChannelTeardownMonitor();
     private List<Channel> mManagedTrafficChannels;
@@ -202,7 +203,7 @@ public class NXDNTrafficChannelManager extends TrafficChannelManager implements
         if(mDecodeEventListener != null)
         {
             if(decodeEvent.getEventType() == DecodeEventType.DATA_CALL && mDuplicateDetector.isDuplicate(decodeEvent,
-                    System.currentTimeMillis()))
+                    getChannelTimestamp()))
             {
                 return;
             }
@@ -589,7 +590,7 @@ public class NXDNTrafficChannelManager extends TrafficChannelManager implements
         else
         {
             //Return the channel to the traffic channel pool if we didn't start it.
-            mAvailableTrafficChannelQueue.add(trafficChannel);
+            mAvailableTrafficChannelQueue.push(trafficChannel);
         }
     }
 
@@ -661,6 +662,14 @@ public class NXDNTrafficChannelManager extends TrafficChannelManager implements
 
     }
 
+    @Override
+    public List<Channel> getNextAvailableTrafficChannels(int count)
+    {
+        List<Channel> channels = new ArrayList<>();
+        mAvailableTrafficChannelQueue.stream().limit(count).forEach(channels::add);
+        return channels;
+    }
+
     @Override
     public void stop()
     {
@@ -753,7 +762,7 @@ public class NXDNTrafficChannelManager extends TrafficChannelManager implements
                                         //creation and channel allocation and we'll use the tracker to keep that from
                                         //happening.
                                         //removeTracker(frequency);
-                                        mAvailableTrafficChannelQueue.add(channel);
+                                        mAvailableTrafficChannelQueue.push(channel);
                                     });
                             break;
                         case NOTIFICATION_PROCESSING_START_REJECTED:
@@ -763,7 +772,7 @@ public class NXDNTrafficChannelManager extends TrafficChannelManager implements
                                     .findFirst()
                                     .ifPresent(rejectedFrequency -> {
                                         mAllocatedTrafficChannelMap.remove(rejectedFrequency);
-                                        mAvailableTrafficChannelQueue.add(channel);
+                                        mAvailableTrafficChannelQueue.push(channel);
 
                                         //Leave the event in the map so that it doesn't get recreated.  The channel
                                         //processing manager set the 'tuner not available' in the details already
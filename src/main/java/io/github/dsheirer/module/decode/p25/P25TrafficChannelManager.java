@@ -66,12 +66,12 @@ import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.source.config.SourceConfigTuner;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,8 +107,9 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
     public static final String CHANNEL_START_REJECTED = "CHANNEL START REJECTED";
     public static final String MAX_TRAFFIC_CHANNELS_EXCEEDED = "MAX TRAFFIC CHANNELS EXCEEDED";
 
-    private Queue<Channel> mAvailablePhase1TrafficChannelQueue = new LinkedTransferQueue<>();
-    private Queue<Channel> mAvailablePhase2TrafficChannelQueue = new LinkedTransferQueue<>();
+    //Released traffic channels are reused first so that their pooled processing chains are reused while warm
+    private Deque<Channel> mAvailablePhase1TrafficChannelQueue = new ConcurrentLinkedDeque<>();
+    private Deque<Channel> mAvailablePhase2TrafficChannelQueue = new ConcurrentLinkedDeque<>();
     private List<Channel> mManagedPhase1TrafficChannels;
     private List<Channel> mManagedPhase2TrafficChannels;
     private Map<Long,Channel> mAllocatedTrafficChannelMap = new HashMap<>();
@@ -283,7 +284,7 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
         if(mDecodeEventListener != null)
         {
             if(decodeEvent.getEventType() == DecodeEventType.DATA_CALL &&
-                    mDuplicateDetector.isDuplicate(decodeEvent, System.currentTimeMillis()))
+                    mDuplicateDetector.isDuplicate(decodeEvent, getChannelTimestamp()))
             {
                 return;
             }
@@ -1186,11 +1187,11 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
             //Return the channel to the traffic channel pool since we didn't start it.
             if(mManagedPhase1TrafficChannels.contains(trafficChannel))
             {
-                mAvailablePhase1TrafficChannelQueue.add(trafficChannel);
+                mAvailablePhase1TrafficChannelQueue.push(trafficChannel);
             }
             else if(mManagedPhase2TrafficChannels.contains(trafficChannel))
             {
-                mAvailablePhase2TrafficChannelQueue.add(trafficChannel);
+                mAvailablePhase2TrafficChannelQueue.push(trafficChannel);
             }
         }
     }
@@ -1633,6 +1634,15 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
     {
     }
 
+    @Override
+    public List<Channel> getNextAvailableTrafficChannels(int count)
+    {
+        List<Channel> channels = new ArrayList<>();
+        mAvailablePhase1TrafficChannelQueue.stream().limit(count).forEach(channels::add);
+        mAvailablePhase2TrafficChannelQueue.stream().limit(count).forEach(channels::add);
+        return channels;
+    }
+
     @Override
     public void stop()
     {
@@ -1740,7 +1750,7 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
                                     .ifPresent(frequency -> {
                                         mAllocatedTrafficChannelMap.remove(frequency);
                                         removeTracker(frequency, P25P1Message.TIMESLOT_1);
-                                        mAvailablePhase1TrafficChannelQueue.add(channel);
+                                        mAvailablePhase1TrafficChannelQueue.push(channel);
                                     });
                             break;
                         case NOTIFICATION_PROCESSING_START_REJECTED:
@@ -1750,7 +1760,7 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
                                     .findFirst()
                                     .ifPresent(rejectedFrequency -> {
                                         mAllocatedTrafficChannelMap.remove(rejectedFrequency);
-                                        mAvailablePhase1TrafficChannelQueue.add(channel);
+                                        mAvailablePhase1TrafficChannelQueue.push(channel);
 
                                         //Leave the event in the map so that it doesn't get recreated.  The channel
                                         //processing manager set the 'tuner not available' in the details already
@@ -1787,7 +1797,7 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
                                     .findFirst()
                                     .ifPresent(frequency -> {
                                         mAllocatedTrafficChannelMap.remove(frequency);
-                                        mAvailablePhase2TrafficChannelQueue.add(channel);
+                                        mAvailablePhase2TrafficChannelQueue.push(channel);
                                         //Remove tracker from both timeslots
                                         removeTracker(frequency, P25P1Message.TIMESLOT_1);
                                         removeTracker(frequency, P25P1Message.TIMESLOT_2);
@@ -1800,7 +1810,7 @@ public class P25TrafficChannelManager extends TrafficChannelManager implements I
                                     .findFirst()
                                     .ifPresent(rejectedFrequency -> {
                                         mAllocatedTrafficChannelMap.remove(rejectedFrequency);
-                                        mAvailablePhase2TrafficChannelQueue.add(channel);
+                                        mAvailablePhase2TrafficChannelQueue.push(channel);
 
                                         //Leave the tracked event in the map so that it doesn't get recreated.  The channel
                                         //processing manager set the 'tuner not available' in the details already
@@ -21,11 +21,9 @@ package io.github.dsheirer.module.decode.p25.phase1;
 
 import io.github.dsheirer.alias.AliasList;
 import io.github.dsheirer.dsp.filter.FilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.DecimationFilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
-import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilterFactory;
 import io.github.dsheirer.dsp.psk.demod.DifferentialDemodulatorFactory;
 import io.github.dsheirer.dsp.psk.demod.DifferentialDemodulatorFloat;
 import io.github.dsheirer.message.IMessage;
@@ -52,18 +50,17 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * APCO25 Phase 1 decoder.  Decimates incoming sample buffers to as close as possible to 25 kHz for ~5 samples per
- * symbol.  Employs baseband and pulse shaping filters.  Demodulates the complex baseband (I/Q) sample stream using
- * SIMD differential demodulation of the entire sample stream.  The C4FM demodulator (mSymbolProcessor) performs sync
- * detection, timing correction and PLL signal mistune correction.  Message framer performs message framing and message
- * creation.  A registered message listener receives the detected and framed messages.
+ * symbol.  Employs a single complex decimating filter that combines the baseband and pulse shaping filters.
+ * Demodulates the complex baseband (I/Q) sample stream using SIMD differential demodulation of the entire sample
+ * stream.  The C4FM demodulator (mSymbolProcessor) performs sync detection, timing correction and PLL signal mistune
+ * correction.  Message framer performs message framing and message creation.  A registered message listener receives
+ * the detected and framed messages.
  *
  * As a child of the FeedbackDecoder, this decoder provides periodic PLL measurements to the tuner for automatic PPM
  * correction.  It also provides a stream of demodulated soft symbols (in radians) for display to the user.
@@ -74,18 +71,12 @@ public class P25P1DecoderC4FM extends FeedbackDecoder implements IByteBufferProv
     private static final Logger LOGGER = LoggerFactory.getLogger(P25P1DecoderC4FM.class);
     private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("#.##");
     private static final int SYMBOL_RATE = 4800;
-    private static final Map<Double,float[]> BASEBAND_FILTERS = new HashMap<>();
 
     private final P25P1DemodulatorC4FM mSymbolProcessor;
     private final P25P1MessageFramer mMessageFramer = new P25P1MessageFramer();
     private final P25P1MessageProcessor mMessageProcessor = new P25P1MessageProcessor();
     private DifferentialDemodulatorFloat mDemodulator;
-    private IRealDecimationFilter mDecimationFilterI;
-    private IRealDecimationFilter mDecimationFilterQ;
-    private IRealFilter mBasebandFilterI;
-    private IRealFilter mBasebandFilterQ;
-    private IRealFilter mPulseShapingFilterI;
-    private IRealFilter mPulseShapingFilterQ;
+    private ComplexDecimatingFilter mFilter;
 
     @Override
     public DecoderType getDecoderType()
@@ -125,9 +116,6 @@ public class P25P1DecoderC4FM extends FeedbackDecoder implements IByteBufferProv
             decimation *= 2;
         }
 
-        mDecimationFilterI = DecimationFilterFactory.getRealDecimationFilter(decimation);
-        mDecimationFilterQ = DecimationFilterFactory.getRealDecimationFilter(decimation);
-
         float decimatedSampleRate = (float)sampleRate / decimation;
 
         //Set the decimated sample rate to use for PLL error reporting.
@@ -136,13 +124,11 @@ public class P25P1DecoderC4FM extends FeedbackDecoder implements IByteBufferProv
         int symbolLength = 16;
         float rrcAlpha = 0.2f;
 
-        float[] taps = FilterFactory.getRootRaisedCosine(decimatedSampleRate / SYMBOL_RATE,
-                symbolLength, rrcAlpha);
-        mPulseShapingFilterI = new RealFIRFilter(taps);
-        mPulseShapingFilterQ = new RealFIRFilter(taps);
-
-        mBasebandFilterI = FilterFactory.getRealFilter(getBasebandFilter(decimatedSampleRate));
-        mBasebandFilterQ = FilterFactory.getRealFilter(getBasebandFilter(decimatedSampleRate));
+        //Combine the baseband and pulse shaping filters into a single filter designed at the incoming sample rate.  The
+        //baseband filter also serves as the anti-aliasing filter for decimation.
+        float[] pulseShaping = FilterFactory.getRootRaisedCosine(sampleRate / SYMBOL_RATE, symbolLength, rrcAlpha);
+        float[] taps = FilterFactory.convolve(getBasebandFilter(sampleRate), pulseShaping);
+        mFilter = ComplexDecimatingFilterFactory.getFilter(taps, decimation);
         mDemodulator = DifferentialDemodulatorFactory.getFloatDemodulator(decimatedSampleRate, SYMBOL_RATE);
         mSymbolProcessor.setSamplesPerSymbol(mDemodulator.getSamplesPerSymbol());
         mMessageFramer.setListener(mMessageProcessor);
@@ -159,32 +145,22 @@ public class P25P1DecoderC4FM extends FeedbackDecoder implements IByteBufferProv
         //Update the message framer with the timestamp from the incoming sample buffer.
         mMessageFramer.setTimestamp(samples.timestamp());
 
-        float[] i = mDecimationFilterI.decimateReal(samples.i());
-        float[] q = mDecimationFilterQ.decimateReal(samples.q());
-
-        i = mBasebandFilterI.filter(i);
-        q = mBasebandFilterQ.filter(q);
-
-        i = mPulseShapingFilterI.filter(i);
-        q = mPulseShapingFilterQ.filter(q);
+        //Decimate, baseband filter and pulse shape in a single pass
+        ComplexSamples filtered = mFilter.filter(samples);
 
         // PI/4 DQPSK differential demodulation
-        float[] demodulated = mDemodulator.demodulate(i, q);
+        float[] demodulated = mDemodulator.demodulate(filtered.i(), filtered.q());
 
         //Process demodulated samples into symbols and apply message sync detection and framing.
         mSymbolProcessor.process(demodulated);
     }
 
     /**
-     * Constructs a baseband filter for this decoder using the current sample rate
+     * Constructs a baseband filter for this decoder using the current sample rate.  Designs are cached by the filter
+     * design cache.
      */
     private float[] getBasebandFilter(double sampleRate)
     {
-        if(BASEBAND_FILTERS.containsKey(sampleRate))
-        {
-            return BASEBAND_FILTERS.get(sampleRate);
-        }
-
         FIRFilterSpecification specification = FIRFilterSpecification
                 .lowPassBuilder()
                 .sampleRate(sampleRate)
@@ -198,7 +174,6 @@ public class P25P1DecoderC4FM extends FeedbackDecoder implements IByteBufferProv
         try
         {
             coefficients = FilterFactory.getTaps(specification);
-            BASEBAND_FILTERS.put(sampleRate, coefficients);
         }
         catch(Exception fde) //FilterDesignException
         {
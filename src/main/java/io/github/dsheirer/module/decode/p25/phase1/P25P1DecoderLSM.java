@@ -21,11 +21,9 @@ package io.github.dsheirer.module.decode.p25.phase1;
 
 import io.github.dsheirer.alias.AliasList;
 import io.github.dsheirer.dsp.filter.FilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.DecimationFilterFactory;
-import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
-import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilterFactory;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.SyncLossMessage;
 import io.github.dsheirer.module.decode.DecoderType;
@@ -44,17 +42,16 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * APCO25 Phase 1 Linear Simulcast Modulation (LSM) decoder.  Decimates incoming sample buffers to as close as possible
- * to 25 kHz for ~5 samples per symbol.  Employs baseband and pulse shaping filters.  Incorporates an demodulator to
- * process complex baseband (I/Q) sample stream into soft symbols with soft sync detection and message framing. A
- * registered message listener receives the detected and framed messages.
+ * to 25 kHz for ~5 samples per symbol.  Employs a single complex decimating filter that combines the baseband and
+ * pulse shaping filters.  Incorporates an demodulator to process complex baseband (I/Q) sample stream into soft
+ * symbols with soft sync detection and message framing. A registered message listener receives the detected and
+ * framed messages.
  *
  * As a child of the FeedbackDecoder, this decoder provides periodic PLL measurements to the tuner for automatic PPM
  * correction.  It also provides a stream of demodulated soft symbols (in radians) for display to the user.
@@ -64,18 +61,12 @@ public class P25P1DecoderLSM extends FeedbackDecoder implements IByteBufferProvi
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(P25P1DecoderLSM.class);
     private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("#.##");
-    private static final Map<Double,float[]> BASEBAND_FILTERS = new HashMap<>();
     private static final int SYMBOL_RATE = 4800;
 
     private final P25P1DemodulatorLSM mDemodulator;
     private final P25P1MessageFramer mMessageFramer = new P25P1MessageFramer();
     private final P25P1MessageProcessor mMessageProcessor = new P25P1MessageProcessor();
-    private IRealDecimationFilter mDecimationFilterI;
-    private IRealDecimationFilter mDecimationFilterQ;
-    private IRealFilter mBasebandFilterI;
-    private IRealFilter mBasebandFilterQ;
-    private IRealFilter mPulseShapingFilterI;
-    private IRealFilter mPulseShapingFilterQ;
+    private ComplexDecimatingFilter mFilter;
 
     @Override
     public DecoderType getDecoderType()
@@ -116,16 +107,6 @@ public class P25P1DecoderLSM extends FeedbackDecoder implements IByteBufferProvi
             decimation *= 2;
         }
 
-        try
-        {
-            mDecimationFilterI = DecimationFilterFactory.getRealDecimationFilter(decimation);
-            mDecimationFilterQ = DecimationFilterFactory.getRealDecimationFilter(decimation);
-        }
-        catch(Exception e)
-        {
-            LOGGER.error("Error getting decimation filter for sample rate [" + sampleRate + "] decimation [" + decimation + "]");
-        }
-
         float decimatedSampleRate = (float)sampleRate / decimation;
 
         //Set the decimated sample rate to use for PLL error reporting.
@@ -134,11 +115,11 @@ public class P25P1DecoderLSM extends FeedbackDecoder implements IByteBufferProvi
         int symbolLength = 16;
         float rolloff = 0.2f;
 
-        float[] taps = FilterFactory.getRootRaisedCosine(decimatedSampleRate / 4800.0, symbolLength, rolloff);
-        mPulseShapingFilterI = new RealFIRFilter(taps);
-        mPulseShapingFilterQ = new RealFIRFilter(taps);
-        mBasebandFilterI = FilterFactory.getRealFilter(getBasebandFilter(decimatedSampleRate));
-        mBasebandFilterQ = FilterFactory.getRealFilter(getBasebandFilter(decimatedSampleRate));
+        //Combine the baseband and pulse shaping filters into a single filter designed at the incoming sample rate.  The
+        //baseband filter also serves as the anti-aliasing filter for decimation.
+        float[] pulseShaping = FilterFactory.getRootRaisedCosine(sampleRate / 4800.0, symbolLength, rolloff);
+        float[] taps = FilterFactory.convolve(getBasebandFilter(sampleRate), pulseShaping);
+        mFilter = ComplexDecimatingFilterFactory.getFilter(taps, decimation);
         mDemodulator.setSamplesPerSymbol(decimatedSampleRate / (float)SYMBOL_RATE);
         mMessageFramer.setListener(mMessageProcessor);
     }
@@ -153,32 +134,19 @@ public class P25P1DecoderLSM extends FeedbackDecoder implements IByteBufferProvi
         //Update the message framer with the timestamp from the incoming sample buffer.
         mMessageFramer.setTimestamp(samples.timestamp());
 
-        float[] i = samples.i();
-        float[] q = samples.q();
-
-        i = mDecimationFilterI.decimateReal(i);
-        q = mDecimationFilterQ.decimateReal(q);
-
-        i = mBasebandFilterI.filter(i);
-        q = mBasebandFilterQ.filter(q);
-
-        i = mPulseShapingFilterI.filter(i);
-        q = mPulseShapingFilterQ.filter(q);
+        //Decimate, baseband filter and pulse shape in a single pass
+        ComplexSamples filtered = mFilter.filter(samples);
 
         //Demodulate samples into symbols with timing, sync detection, and message framing.
-        mDemodulator.process(i, q);
+        mDemodulator.process(filtered.i(), filtered.q());
     }
 
     /**
-     * Constructs a baseband filter for this decoder using the current sample rate
+     * Constructs a baseband filter for this decoder using the current sample rate.  Designs are cached by the filter
+     * design cache.
      */
     private float[] getBasebandFilter(double sampleRate)
     {
-        if(BASEBAND_FILTERS.containsKey(sampleRate))
-        {
-            return BASEBAND_FILTERS.get(sampleRate);
-        }
-
         FIRFilterSpecification specification = FIRFilterSpecification
                 .lowPassBuilder()
                 .sampleRate(sampleRate)
@@ -192,7 +160,6 @@ public class P25P1DecoderLSM extends FeedbackDecoder implements IByteBufferProvi
         try
         {
             coefficients = FilterFactory.getTaps(specification);
-            BASEBAND_FILTERS.put(sampleRate, coefficients);
         }
         catch(Exception fde) //FilterDesignException
         {
@@ -0,0 +1,101 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.decode.p25.phase1;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.identifier.Identifier;
+import io.github.dsheirer.message.IMessage;
+import io.github.dsheirer.module.decode.p25.phase1.message.tsbk.TSBKMessage;
+import io.github.dsheirer.module.decode.p25.phase1.message.tsbk.TSBKMessageFactory;
+import io.github.dsheirer.module.decode.p25.reference.Direction;
+import io.github.dsheirer.module.log.archive.IMessageArchiveCodec;
+import io.github.dsheirer.module.log.archive.MessageArchiveRecord;
+
+/**
+ * APCO25 Phase 1 message archive codec.  Supports replay of Trunking Signalling Block (TSBK) messages, which are the
+ * bulk of the control channel traffic.
+ *
+ * Context value format: TSBK block number (1-3) in bits 16-23, direction in bit 12 and NAC in bits 0-11.
+ */
+public class P25P1MessageArchiveCodec implements IMessageArchiveCodec
+{
+    private static final int NAC_MASK = 0xFFF;
+    private static final int DIRECTION_OUTBOUND_FLAG = 0x1000;
+    private static final int BLOCK_SHIFT = 16;
+
+    @Override
+    public int getContext(IMessage message)
+    {
+        if(message instanceof TSBKMessage tsbk)
+        {
+            int block = switch(tsbk.getDUID())
+            {
+                case TRUNKING_SIGNALING_BLOCK_1 -> 1;
+                case TRUNKING_SIGNALING_BLOCK_2 -> 2;
+                case TRUNKING_SIGNALING_BLOCK_3 -> 3;
+                default -> 0;
+            };
+
+            int context = block << BLOCK_SHIFT;
+
+            if(tsbk.getDirection() == Direction.OUTBOUND)
+            {
+                context |= DIRECTION_OUTBOUND_FLAG;
+            }
+
+            Identifier nac = tsbk.getNAC();
+
+            if(nac != null && nac.getValue() instanceof Integer value)
+            {
+                context |= (value & NAC_MASK);
+            }
+
+            return context;
+        }
+
+        return 0;
+    }
+
+    @Override
+    public IMessage decode(MessageArchiveRecord record)
+    {
+        P25P1DataUnitID dataUnitID = switch(record.getContext() >> BLOCK_SHIFT)
+        {
+            case 1 -> P25P1DataUnitID.TRUNKING_SIGNALING_BLOCK_1;
+            case 2 -> P25P1DataUnitID.TRUNKING_SIGNALING_BLOCK_2;
+            case 3 -> P25P1DataUnitID.TRUNKING_SIGNALING_BLOCK_3;
+            default -> null;
+        };
+
+        if(dataUnitID == null)
+        {
+            return null;
+        }
+
+        Direction direction = (record.getContext() & DIRECTION_OUTBOUND_FLAG) == DIRECTION_OUTBOUND_FLAG ?
+            Direction.OUTBOUND : Direction.INBOUND;
+        int nac = record.getContext() & NAC_MASK;
+
+        //Replay against a copy so that enrichment by a message processor doesn't modify the archived bits
+        CorrectedBinaryMessage message = new CorrectedBinaryMessage(record.getMessage());
+        message.setCorrectedBitCount(record.getMessage().getCorrectedBitCount());
+
+        return TSBKMessageFactory.createFromDecoded(direction, dataUnitID, message, nac, record.getTimestamp());
+    }
+}
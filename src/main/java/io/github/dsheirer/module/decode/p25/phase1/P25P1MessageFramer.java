@@ -36,6 +36,8 @@ import io.github.dsheirer.module.decode.p25.phase1.message.tsbk.TSBKMessageFacto
 import io.github.dsheirer.module.decode.p25.phase1.sync.P25P1HardSyncDetector;
 import io.github.dsheirer.module.decode.p25.phase1.sync.P25P1SoftSyncDetector;
 import io.github.dsheirer.module.decode.p25.phase1.sync.P25P1SoftSyncDetectorFactory;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.protocol.Protocol;
 import io.github.dsheirer.sample.Listener;
 
@@ -48,6 +50,8 @@ import io.github.dsheirer.sample.Listener;
  */
 public class P25P1MessageFramer
 {
+    private static final Counter SYNC_COUNTER = MetricsRegistry.getInstance().counter("sdrtrunk_framer_sync_total",
+        "Sync patterns detected by the message framer", "protocol", "APCO25 Phase 1");
     private static final int DIBIT_LENGTH_NID = 33; //32 dibits (64 bits) +1 status
     private static final float SYNC_DETECTION_THRESHOLD = 60;
     private final BCH_63_16_23_P25 mBCHDecoder = new BCH_63_16_23_P25();
@@ -55,6 +59,8 @@ public class P25P1MessageFramer
     private static final IntField DUID_FIELD = IntField.length4(12);
     private final NACTracker mNACTracker = new NACTracker();
     private Dibit[] mNIDBuffer = new Dibit[DIBIT_LENGTH_NID];
+    //Reusable NID message - only the decoded NAC, DUID and corrected bit count leave the NID check
+    private final CorrectedBinaryMessage mNID = new CorrectedBinaryMessage((DIBIT_LENGTH_NID - 1) * 2);
     private int mNIDPointer = 0;
     private final P25P1SoftSyncDetector mSoftSyncDetector = P25P1SoftSyncDetectorFactory.getDetector();
     private final P25P1HardSyncDetector mHardSyncDetector = new P25P1HardSyncDetector();
@@ -123,6 +129,8 @@ public class P25P1MessageFramer
      */
     public void syncDetected()
     {
+        SYNC_COUNTER.increment();
+
         //Only allow sync detection processing if we're not currently assembling a message
         if(mMessageAssembler == null)
         {
@@ -814,19 +822,13 @@ public class P25P1MessageFramer
 
     private boolean checkNID()
     {
-        CorrectedBinaryMessage nid = new CorrectedBinaryMessage((DIBIT_LENGTH_NID - 1) * 2);
-
-        Dibit dibit;
-
-        for(int i = 0; i < DIBIT_LENGTH_NID; i++)
-        {
-            if(i != 11)
-            {
-                dibit = mNIDBuffer[i];
-                nid.add(dibit.getBit1(), dibit.getBit2());
-            }
-        }
+        CorrectedBinaryMessage nid = mNID;
+        nid.clear();
+        nid.setCorrectedBitCount(0);
 
+        //Skip the status symbol at dibit index 11
+        nid.add(mNIDBuffer, 0, 11);
+        nid.add(mNIDBuffer, 12, DIBIT_LENGTH_NID);
 
         int trackedNAC = mNACTracker.getTrackedNAC();
         mBCHDecoder.decode(nid, trackedNAC);
@@ -178,6 +178,22 @@ public class TSBKMessageFactory
             return null;
         }
 
+        return createFromDecoded(direction, dataUnitID, message, nac, timestamp);
+    }
+
+    /**
+     * Creates a TSBK message from message bits that have already been deinterleaved, Viterbi decoded and CRC checked,
+     * such as the bits of a previously decoded TSBK message that are replayed from a message archive.
+     * @param direction of the message
+     * @param dataUnitID for the message
+     * @param message bits with the CRC results set as the corrected bit count
+     * @param nac for the message
+     * @param timestamp for the message
+     * @return TSBK message
+     */
+    public static TSBKMessage createFromDecoded(Direction direction, P25P1DataUnitID dataUnitID,
+                                                CorrectedBinaryMessage message, int nac, long timestamp)
+    {
         int errors = message.getCorrectedBitCount();
         Vendor vendor = TSBKMessage.getVendor(message);
         Opcode opcode = TSBKMessage.getOpcode(message, direction, vendor);
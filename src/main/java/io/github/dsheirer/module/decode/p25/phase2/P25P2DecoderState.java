@@ -191,7 +191,8 @@ public class P25P2DecoderState extends TimeslotDecoderState implements Identifie
     protected void resetState()
     {
         super.resetState();
-        mTrafficChannelManager.processP2TrafficCallEnd(getCurrentFrequency(), getTimeslot(), System.currentTimeMillis(), "RESET STATE INVOKED");
+        mTrafficChannelManager.processP2TrafficCallEnd(getCurrentFrequency(), getTimeslot(), getChannelTimestamp(),
+            "RESET STATE INVOKED");
         mEndPttOnFacchCounter = 0;
     }
 
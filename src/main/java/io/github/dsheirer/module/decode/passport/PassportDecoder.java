@@ -53,7 +53,7 @@ public class PassportDecoder extends Decoder implements IRealBufferListener, Lis
                 mPassportMessageFramer.process(bit);
             }
         });
-        mPassportMessageProcessor = new PassportMessageProcessor();
+        mPassportMessageProcessor = new PassportMessageProcessor(this::getChannelTimestamp);
         mPassportMessageFramer.addMessageListener(mPassportMessageProcessor);
         mPassportMessageProcessor.setMessageListener(getMessageListener());
     }
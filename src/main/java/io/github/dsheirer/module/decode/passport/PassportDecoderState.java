@@ -335,7 +335,7 @@ public class PassportDecoderState extends DecoderState
 
         if(mCurrentDecodeEvent != null)
         {
-            mCurrentDecodeEvent.end(System.currentTimeMillis());
+            mCurrentDecodeEvent.end(getChannelTimestamp());
             mCurrentDecodeEvent = null;
         }
     }
@@ -55,16 +55,17 @@ public class PassportMessage extends Message
     private PassportTalkgroup mToIdentifier;
     private List<Identifier> mIdentifiers;
 
-    public PassportMessage(CorrectedBinaryMessage message, PassportMessage idleMessage)
+    public PassportMessage(CorrectedBinaryMessage message, PassportMessage idleMessage, long timestamp)
     {
+        super(timestamp);
         mMessage = CRCPassport.correct(message);
         mIdleMessage = idleMessage;
         mCRC = CRCPassport.check(mMessage);
     }
 
-    public PassportMessage(CorrectedBinaryMessage message)
+    public PassportMessage(CorrectedBinaryMessage message, long timestamp)
     {
-        this(message, null);
+        this(message, null, timestamp);
     }
 
     public CorrectedBinaryMessage getMessage()
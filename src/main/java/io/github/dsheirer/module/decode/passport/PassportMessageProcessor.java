@@ -26,15 +26,22 @@ import io.github.dsheirer.sample.Listener;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 public class PassportMessageProcessor implements Listener<CorrectedBinaryMessage>
 {
     private Listener<IMessage> mMessageListener;
     private IdleMessageFinder mIdleFinder = new IdleMessageFinder();
     private PassportMessage mIdleMessage;
+    private LongSupplier mTimestampSupplier;
 
-    public PassportMessageProcessor()
+    /**
+     * Constructs an instance
+     * @param timestampSupplier providing the channel timestamp for each decoded message
+     */
+    public PassportMessageProcessor(LongSupplier timestampSupplier)
     {
+        mTimestampSupplier = timestampSupplier;
     }
 
     @Override
@@ -46,11 +53,11 @@ public class PassportMessageProcessor implements Listener<CorrectedBinaryMessage
 
             if(mIdleMessage != null)
             {
-                message = new PassportMessage(buffer, mIdleMessage);
+                message = new PassportMessage(buffer, mIdleMessage, mTimestampSupplier.getAsLong());
             }
             else
             {
-                message = new PassportMessage(buffer);
+                message = new PassportMessage(buffer, mTimestampSupplier.getAsLong());
                 mIdleFinder.receive(message);
             }
 
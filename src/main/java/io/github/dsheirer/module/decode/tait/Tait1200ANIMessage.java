@@ -74,8 +74,9 @@ public class Tait1200ANIMessage extends Message
     private TaitIdentifier mToIdentifier;
     private List<Identifier> mIdentifiers;
 
-    public Tait1200ANIMessage(CorrectedBinaryMessage message)
+    public Tait1200ANIMessage(CorrectedBinaryMessage message, long timestamp)
     {
+        super(timestamp);
         mMessage = message;
     }
 
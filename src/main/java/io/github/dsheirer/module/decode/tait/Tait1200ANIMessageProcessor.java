@@ -23,6 +23,7 @@ import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.Message;
 import io.github.dsheirer.sample.Listener;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,9 +31,15 @@ public class Tait1200ANIMessageProcessor implements Listener<CorrectedBinaryMess
 {
     private final static Logger mLog = LoggerFactory.getLogger(Tait1200ANIMessageProcessor.class);
     private Listener<IMessage> mMessageListener;
+    private LongSupplier mTimestampSupplier;
 
-    public Tait1200ANIMessageProcessor()
+    /**
+     * Constructs an instance
+     * @param timestampSupplier providing the channel timestamp for each decoded message
+     */
+    public Tait1200ANIMessageProcessor(LongSupplier timestampSupplier)
     {
+        mTimestampSupplier = timestampSupplier;
     }
 
     public void dispose()
@@ -45,7 +52,7 @@ public class Tait1200ANIMessageProcessor implements Listener<CorrectedBinaryMess
     {
         if(mMessageListener != null)
         {
-            mMessageListener.receive(new Tait1200ANIMessage(buffer));
+            mMessageListener.receive(new Tait1200ANIMessage(buffer, mTimestampSupplier.getAsLong()));
         }
     }
 
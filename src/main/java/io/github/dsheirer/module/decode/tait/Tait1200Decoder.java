@@ -38,9 +38,15 @@ public class Tait1200Decoder extends AbstractAFSKDecoder implements IBinarySymbo
     private Tait1200GPSMessageProcessor mMessageAProcessor;
     private Tait1200ANIMessageProcessor mMessageBProcessor;
 
-    protected Tait1200Decoder(AFSK1200Decoder decoder)
+    /**
+     * Constructs a decoder for the Tait 1200 protocol that shares the AFSK 1200 decoder with the other
+     * auxiliary decoders for the same channel.
+     *
+     * @param sharedDecoder that resamples and correlates the channel audio
+     */
+    public Tait1200Decoder(AFSK1200Decoder sharedDecoder)
     {
-        super(decoder);
+        super(sharedDecoder, AFSK1200Decoder.Output.NORMAL);
         init();
     }
 
@@ -52,13 +58,13 @@ public class Tait1200Decoder extends AbstractAFSKDecoder implements IBinarySymbo
 
     private void init()
     {
-        getDecoder().setSymbolProcessor(this);
+        setSymbolProcessor(this);
 
         mMessageFramerGPS = new MessageFramer(SyncPattern.TAIT_CCDI_GPS_MESSAGE.getPattern(), MESSAGE_LENGTH);
         mMessageFramerANI = new MessageFramer(SyncPattern.TAIT_SELCAL_MESSAGE.getPattern(), MESSAGE_LENGTH);
 
-        mMessageAProcessor = new Tait1200GPSMessageProcessor();
-        mMessageBProcessor = new Tait1200ANIMessageProcessor();
+        mMessageAProcessor = new Tait1200GPSMessageProcessor(this::getChannelTimestamp);
+        mMessageBProcessor = new Tait1200ANIMessageProcessor(this::getChannelTimestamp);
 
         mMessageFramerGPS.addMessageListener(mMessageAProcessor);
         mMessageFramerANI.addMessageListener(mMessageBProcessor);
@@ -121,8 +121,9 @@ public class Tait1200GPSMessage extends Message
     private TaitIdentifier mToIdentifier;
     private List<Identifier> mIdentifiers;
 
-    public Tait1200GPSMessage(BinaryMessage message)
+    public Tait1200GPSMessage(BinaryMessage message, long timestamp)
     {
+        super(timestamp);
         mMessage = message;
     }
 
@@ -22,6 +22,7 @@ package io.github.dsheirer.module.decode.tait;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.sample.Listener;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,9 +31,15 @@ public class Tait1200GPSMessageProcessor implements Listener<CorrectedBinaryMess
     private final static Logger mLog = LoggerFactory.getLogger(Tait1200GPSMessageProcessor.class);
 
     private Listener<IMessage> mMessageListener;
+    private LongSupplier mTimestampSupplier;
 
-    public Tait1200GPSMessageProcessor()
+    /**
+     * Constructs an instance
+     * @param timestampSupplier providing the channel timestamp for each decoded message
+     */
+    public Tait1200GPSMessageProcessor(LongSupplier timestampSupplier)
     {
+        mTimestampSupplier = timestampSupplier;
     }
 
     public void dispose()
@@ -45,7 +52,7 @@ public class Tait1200GPSMessageProcessor implements Listener<CorrectedBinaryMess
     {
         if(mMessageListener != null)
         {
-            mMessageListener.receive(new Tait1200GPSMessage(buffer));
+            mMessageListener.receive(new Tait1200GPSMessage(buffer, mTimestampSupplier.getAsLong()));
         }
     }
 
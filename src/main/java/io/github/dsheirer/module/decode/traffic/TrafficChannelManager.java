@@ -21,6 +21,8 @@ package io.github.dsheirer.module.decode.traffic;
 
 import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.module.Module;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Traffic Channel Manager base class
@@ -57,6 +59,17 @@ public abstract class TrafficChannelManager extends Module
         processControlFrequencyUpdate(previous, frequency, parentChannel);
     }
 
+    /**
+     * Traffic channels that are next in line for allocation, so that processing chains can be constructed for these
+     * channels ahead of a channel grant.
+     * @param count maximum number of traffic channels to provide from each traffic channel pool
+     * @return traffic channels or an empty list if this manager doesn't maintain a traffic channel pool.
+     */
+    public List<Channel> getNextAvailableTrafficChannels(int count)
+    {
+        return Collections.emptyList();
+    }
+
     /**
      * Subclass implementation to receive notification that the control channel frequency has changed when the source
      * is set for multiple frequencies, or in the case of DMR when the REST channel changes.  Subclass should remove
@@ -29,6 +29,7 @@ import io.github.dsheirer.identifier.configuration.AliasListConfigurationIdentif
 import io.github.dsheirer.identifier.configuration.FrequencyConfigurationIdentifier;
 import io.github.dsheirer.module.decode.event.IDecodeEvent;
 import io.github.dsheirer.module.decode.event.IDecodeEventListener;
+import io.github.dsheirer.module.log.config.EventLogConfiguration;
 import io.github.dsheirer.preference.TimestampFormat;
 import io.github.dsheirer.sample.Listener;
 import java.nio.file.Path;
@@ -59,7 +60,21 @@ public class DecodeEventLogger extends EventLogger implements IDecodeEventListen
 
     public DecodeEventLogger(AliasModel aliasModel, Path logDirectory, String fileNameSuffix, long frequency)
     {
-        super(logDirectory, fileNameSuffix, frequency);
+        this(aliasModel, logDirectory, fileNameSuffix, frequency, null);
+    }
+
+    /**
+     * Constructs an instance
+     * @param aliasModel for alias lookups
+     * @param logDirectory for the log file
+     * @param fileNameSuffix for the log file
+     * @param frequency for the log file name
+     * @param eventLogConfiguration with the flush policy for the log file
+     */
+    public DecodeEventLogger(AliasModel aliasModel, Path logDirectory, String fileNameSuffix, long frequency,
+                             EventLogConfiguration eventLogConfiguration)
+    {
+        super(logDirectory, fileNameSuffix, frequency, eventLogConfiguration);
         mAliasModel = aliasModel;
     }
 
@@ -22,6 +22,7 @@ package io.github.dsheirer.module.log;
 import io.github.dsheirer.alias.AliasModel;
 import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.module.Module;
+import io.github.dsheirer.module.log.archive.MessageArchiveLogger;
 import io.github.dsheirer.module.log.config.EventLogConfiguration;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.source.config.SourceConfigTuner;
@@ -32,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class EventLogManager
 {
@@ -67,14 +69,20 @@ public class EventLogManager
                 case DECODED_MESSAGE:
                     if(channel.getChannelType() == Channel.ChannelType.STANDARD)
                     {
-                        loggers.add(getLogger(type, prefix, frequency));
+                        loggers.add(getLogger(type, prefix, frequency, config));
                     }
                     break;
                 case TRAFFIC_CALL_EVENT:
                 case TRAFFIC_DECODED_MESSAGE:
                     if(channel.getChannelType() == Channel.ChannelType.TRAFFIC)
                     {
-                        loggers.add(getLogger(type, prefix, frequency));
+                        loggers.add(getLogger(type, prefix, frequency, config));
+                    }
+                    break;
+                case MESSAGE_ARCHIVE:
+                    if(channel.getChannelType() == Channel.ChannelType.STANDARD)
+                    {
+                        loggers.add(getMessageArchiveLogger(prefix, channel.getName(), frequency, config));
                     }
                     break;
             }
@@ -83,7 +91,39 @@ public class EventLogManager
         return loggers;
     }
 
+    /**
+     * Creates a compressed message archive logger
+     * @param prefix for the archive file names
+     * @param channelName to store in the archive file header
+     * @param frequency for the archive file names
+     * @param config with the archive rotation policy
+     * @return logger
+     */
+    public MessageArchiveLogger getMessageArchiveLogger(String prefix, String channelName, long frequency,
+                                                        EventLogConfiguration config)
+    {
+        Path eventLogDirectory = mUserPreferences.getDirectoryPreference().getDirectoryEventLog();
+        long maxFileSize = config.getArchiveMaxFileSizeMB() * 1024L * 1024L;
+        long maxFileDuration = TimeUnit.HOURS.toMillis(config.getArchiveRotationHours());
+
+        return new MessageArchiveLogger(eventLogDirectory, prefix + EventLogType.MESSAGE_ARCHIVE.getFileSuffix(),
+            frequency, channelName, maxFileSize, maxFileDuration);
+    }
+
     public EventLogger getLogger(EventLogType eventLogType, String prefix, long frequency)
+    {
+        return getLogger(eventLogType, prefix, frequency, null);
+    }
+
+    /**
+     * Creates an event logger
+     * @param eventLogType of logger
+     * @param prefix for the log file name
+     * @param frequency for the log file name
+     * @param config with the flush policy for the log file, or null to use the default flush policy
+     * @return logger or null if the event log type is not supported
+     */
+    public EventLogger getLogger(EventLogType eventLogType, String prefix, long frequency, EventLogConfiguration config)
     {
         StringBuilder sb = new StringBuilder();
 
@@ -96,13 +136,15 @@ public class EventLogManager
         switch(eventLogType)
         {
             case CALL_EVENT:
-                return new DecodeEventLogger(mAliasModel, eventLogDirectory, sb.toString(), frequency);
+                return new DecodeEventLogger(mAliasModel, eventLogDirectory, sb.toString(), frequency, config);
             case DECODED_MESSAGE:
-                return new MessageEventLogger(eventLogDirectory, sb.toString(), MessageEventLogger.Type.DECODED, frequency);
+                return new MessageEventLogger(eventLogDirectory, sb.toString(), MessageEventLogger.Type.DECODED, frequency,
+                    config);
             case TRAFFIC_CALL_EVENT:
-                return new DecodeEventLogger(mAliasModel, eventLogDirectory, sb.toString(), frequency);
+                return new DecodeEventLogger(mAliasModel, eventLogDirectory, sb.toString(), frequency, config);
             case TRAFFIC_DECODED_MESSAGE:
-                return new MessageEventLogger(eventLogDirectory, sb.toString(), MessageEventLogger.Type.DECODED, frequency);
+                return new MessageEventLogger(eventLogDirectory, sb.toString(), MessageEventLogger.Type.DECODED, frequency,
+                    config);
             default:
                 return null;
         }
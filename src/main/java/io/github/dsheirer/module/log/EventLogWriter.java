@@ -0,0 +1,397 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log;
+
+import io.github.dsheirer.controller.NamingThreadFactory;
+import io.github.dsheirer.module.log.config.EventLogConfiguration;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared asynchronous writer service for event log files.
+ *
+ * Each log file has a bounded queue of log entries.  Producer (decoder) threads only enqueue entries and never block
+ * on disk I/O.  A single writer thread drains each file's queue and writes the entries as a batch followed by a single
+ * flush, either when the file's flush interval elapses or as soon as the queued entry count reaches the flush batch
+ * size.  Entries that arrive while a file's queue is full are dropped and counted.  Closing a file blocks until its
+ * queued entries are written and the file is closed.
+ */
+public class EventLogWriter
+{
+    private final static Logger mLog = LoggerFactory.getLogger(EventLogWriter.class);
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+    private static EventLogWriter sInstance;
+    private final ScheduledExecutorService mExecutorService =
+        Executors.newSingleThreadScheduledExecutor(new NamingThreadFactory("sdrtrunk event log writer"));
+    private final List<EventLogFile> mLogFiles = new CopyOnWriteArrayList<>();
+    private final Counter mDroppedLineCounter = MetricsRegistry.getInstance().counter(
+        "sdrtrunk_event_log_dropped_lines_total", "Event log entries dropped due to a full queue");
+
+    /**
+     * Constructs an instance.  Use getInstance() to access the shared instance.
+     */
+    private EventLogWriter()
+    {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.gauge("sdrtrunk_event_log_queue_depth", "Event log entries awaiting write",
+            this::getQueueDepth);
+        registry.gauge("sdrtrunk_event_log_open_files", "Open event log files", mLogFiles::size);
+    }
+
+    /**
+     * Shared instance of the event log writer
+     */
+    public static synchronized EventLogWriter getInstance()
+    {
+        if(sInstance == null)
+        {
+            sInstance = new EventLogWriter();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Creates the log file and registers it for asynchronous batched writing.
+     * @param path for the log file
+     * @param configuration with the flush policy and queue capacity
+     * @return log file to receive log entries
+     * @throws IOException if the file can't be created
+     */
+    public EventLogFile open(Path path, EventLogConfiguration configuration) throws IOException
+    {
+        EventLogFile logFile = new EventLogFile(path, Files.newBufferedWriter(path, StandardCharsets.UTF_8),
+            configuration.getQueueCapacity(), configuration.getFlushBatchSize());
+        long interval = configuration.getFlushIntervalMs();
+        logFile.mScheduledFuture = mExecutorService.scheduleAtFixedRate(logFile::writeBatch, interval, interval,
+            TimeUnit.MILLISECONDS);
+        mLogFiles.add(logFile);
+        return logFile;
+    }
+
+    /**
+     * Writes and closes each of the open log files and stops the writer thread.  This method blocks until the queued
+     * log entries are written, so it should be invoked during application shutdown before the JVM exits.
+     */
+    public void shutdown()
+    {
+        for(EventLogFile logFile: mLogFiles)
+        {
+            logFile.close();
+        }
+
+        mExecutorService.shutdown();
+
+        try
+        {
+            if(!mExecutorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+            {
+                mLog.warn("Timeout waiting for event log writer to stop");
+            }
+        }
+        catch(InterruptedException ie)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Total number of log entries currently queued across all open log files.
+     */
+    public int getQueueDepth()
+    {
+        int depth = 0;
+
+        for(EventLogFile logFile: mLogFiles)
+        {
+            depth += logFile.getQueueDepth();
+        }
+
+        return depth;
+    }
+
+    /**
+     * Total number of log entries dropped across all open log files.
+     */
+    public long getDroppedLineCount()
+    {
+        long dropped = 0;
+
+        for(EventLogFile logFile: mLogFiles)
+        {
+            dropped += logFile.getDroppedLineCount();
+        }
+
+        return dropped;
+    }
+
+    /**
+     * Diagnostic report for the event log writer and each of the open log files.
+     */
+    public String getDiagnosticReport()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Event Log Writer\n");
+        sb.append("\tOpen Files: ").append(mLogFiles.size()).append("\n");
+        sb.append("\tQueue Depth: ").append(getQueueDepth()).append("\n");
+        sb.append("\tDropped Lines (open files): ").append(getDroppedLineCount()).append("\n");
+        sb.append("\tDropped Lines (total): ").append(mDroppedLineCounter.get()).append("\n");
+
+        for(EventLogFile logFile: mLogFiles)
+        {
+            sb.append("\t").append(logFile).append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Event log file with a bounded queue of log entries that are written by the writer thread.
+     */
+    public class EventLogFile
+    {
+        private final Path mPath;
+        private final Writer mWriter;
+        private final ArrayBlockingQueue<String> mQueue;
+        private final int mFlushBatchSize;
+        private final List<String> mBatch = new ArrayList<>();
+        private final AtomicBoolean mWriteRequested = new AtomicBoolean();
+        private final ReentrantReadWriteLock mCloseLock = new ReentrantReadWriteLock();
+        private boolean mClosed;
+        private final AtomicLong mDroppedLineCount = new AtomicLong();
+        private long mWrittenLineCount;
+        private boolean mErrorLogged;
+        private ScheduledFuture<?> mScheduledFuture;
+
+        /**
+         * Constructs an instance
+         * @param path of the log file
+         * @param writer for the log file
+         * @param queueCapacity maximum number of queued log entries
+         * @param flushBatchSize number of queued entries that triggers an immediate write
+         */
+        private EventLogFile(Path path, BufferedWriter writer, int queueCapacity, int flushBatchSize)
+        {
+            mPath = path;
+            mWriter = writer;
+            mQueue = new ArrayBlockingQueue<>(queueCapacity);
+            mFlushBatchSize = flushBatchSize;
+        }
+
+        /**
+         * Queues the log entry for writing.  This method does not block on disk I/O.  The entry is dropped and counted
+         * if the queue is full, and ignored once the file is closed.
+         * @param line to write, without a line terminator
+         */
+        public void write(String line)
+        {
+            //The read lock ensures that an entry can't be queued after close() has queued the final write
+            mCloseLock.readLock().lock();
+
+            try
+            {
+                if(mClosed)
+                {
+                    return;
+                }
+
+                if(!mQueue.offer(line))
+                {
+                    mDroppedLineCount.incrementAndGet();
+                    mDroppedLineCounter.increment();
+                }
+                else if(mQueue.size() >= mFlushBatchSize && mWriteRequested.compareAndSet(false, true))
+                {
+                    mExecutorService.execute(this::writeBatch);
+                }
+            }
+            finally
+            {
+                mCloseLock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Writes the queued log entries as a batch and flushes the file.  Note: this should only be invoked on the
+         * writer thread.
+         */
+        private void writeBatch()
+        {
+            mWriteRequested.set(false);
+            mQueue.drainTo(mBatch);
+
+            if(mBatch.isEmpty())
+            {
+                return;
+            }
+
+            try
+            {
+                for(String line: mBatch)
+                {
+                    mWriter.write(line);
+                    mWriter.write("\n");
+                }
+
+                mWriter.flush();
+                mWrittenLineCount += mBatch.size();
+            }
+            catch(IOException ioe)
+            {
+                if(!mErrorLogged)
+                {
+                    mLog.error("Error writing entries to event log file [" + mPath + "]", ioe);
+                    mErrorLogged = true;
+                }
+            }
+
+            mBatch.clear();
+        }
+
+        /**
+         * Closes this log file after writing any queued log entries.  This method blocks until the final write and
+         * close are performed on the writer thread, or until the close timeout elapses.
+         */
+        public void close()
+        {
+            mCloseLock.writeLock().lock();
+
+            try
+            {
+                if(mClosed)
+                {
+                    return;
+                }
+
+                mClosed = true;
+            }
+            finally
+            {
+                mCloseLock.writeLock().unlock();
+            }
+
+            if(mScheduledFuture != null)
+            {
+                mScheduledFuture.cancel(false);
+            }
+
+            Future<?> future;
+
+            try
+            {
+                future = mExecutorService.submit(this::writeAndClose);
+            }
+            catch(RejectedExecutionException ree)
+            {
+                //The writer thread is stopped - perform the final write and close on this thread.
+                writeAndClose();
+                return;
+            }
+
+            try
+            {
+                future.get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            catch(InterruptedException ie)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch(ExecutionException ee)
+            {
+                mLog.error("Error closing event log file [" + mPath + "]", ee);
+            }
+            catch(TimeoutException te)
+            {
+                mLog.warn("Timeout waiting for event log file [" + mPath + "] to close");
+            }
+        }
+
+        /**
+         * Writes any queued log entries and closes the file.  Note: this should only be invoked on the writer thread,
+         * or after the writer thread is stopped.
+         */
+        private void writeAndClose()
+        {
+            writeBatch();
+
+            try
+            {
+                mWriter.close();
+            }
+            catch(IOException ioe)
+            {
+                mLog.error("Couldn't close event log file [" + mPath + "]", ioe);
+            }
+
+            if(mDroppedLineCount.get() > 0)
+            {
+                mLog.warn("Event log file [" + mPath + "] closed - dropped [" + mDroppedLineCount.get() +
+                    "] log entries due to a full queue");
+            }
+
+            mLogFiles.remove(this);
+        }
+
+        /**
+         * Number of log entries currently queued for writing
+         */
+        public int getQueueDepth()
+        {
+            return mQueue.size();
+        }
+
+        /**
+         * Number of log entries dropped because the queue was full
+         */
+        public long getDroppedLineCount()
+        {
+            return mDroppedLineCount.get();
+        }
+
+        @Override
+        public String toString()
+        {
+            return mPath + " Queue Depth [" + getQueueDepth() + "] Written [" + mWrittenLineCount + "] Dropped [" +
+                getDroppedLineCount() + "]";
+        }
+    }
+}
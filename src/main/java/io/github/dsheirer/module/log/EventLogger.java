@@ -19,12 +19,10 @@
 package io.github.dsheirer.module.log;
 
 import io.github.dsheirer.module.Module;
+import io.github.dsheirer.module.log.config.EventLogConfiguration;
 import io.github.dsheirer.util.TimeStamp;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.io.IOException;
 import java.nio.file.Path;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,13 +35,34 @@ public abstract class EventLogger extends Module
     private String mFileNameSuffix;
     private String mLogFileName;
     private long mFrequency;
-    protected Writer mLogFile;
+    private EventLogConfiguration mEventLogConfiguration;
+    private EventLogWriter.EventLogFile mLogFile;
 
-    public EventLogger(Path logDirectory, String fileNameSuffix, long frequency)
+    /**
+     * Constructs an instance
+     * @param logDirectory for the log file
+     * @param fileNameSuffix for the log file
+     * @param frequency for the log file name
+     * @param eventLogConfiguration with the flush policy for the log file
+     */
+    public EventLogger(Path logDirectory, String fileNameSuffix, long frequency,
+                       EventLogConfiguration eventLogConfiguration)
     {
         mLogDirectory = logDirectory;
         mFileNameSuffix = fileNameSuffix;
         mFrequency = frequency;
+        mEventLogConfiguration = eventLogConfiguration != null ? eventLogConfiguration : new EventLogConfiguration();
+    }
+
+    /**
+     * Constructs an instance using the default flush policy
+     * @param logDirectory for the log file
+     * @param fileNameSuffix for the log file
+     * @param frequency for the log file name
+     */
+    public EventLogger(Path logDirectory, String fileNameSuffix, long frequency)
+    {
+        this(logDirectory, fileNameSuffix, frequency, null);
     }
 
     public String toString()
@@ -77,11 +96,11 @@ public abstract class EventLogger extends Module
                 sb.append(mFileNameSuffix);
 
                 mLogFileName = sb.toString();
-                mLogFile = new OutputStreamWriter(new FileOutputStream(mLogFileName));
+                mLogFile = EventLogWriter.getInstance().open(Path.of(mLogFileName), mEventLogConfiguration);
 
                 write(getHeader());
             }
-            catch(FileNotFoundException e)
+            catch(IOException e)
             {
                 mLog.error("Couldn't create log file in directory:" + mLogDirectory);
             }
@@ -92,32 +111,40 @@ public abstract class EventLogger extends Module
     {
         if(mLogFile != null)
         {
-            try
-            {
-                mLogFile.flush();
-                mLogFile.close();
-                mLogFile = null;
-            }
-            catch(Exception e)
-            {
-                mLog.error("Couldn't close log file:" + mFileNameSuffix);
-            }
+            mLogFile.close();
+            mLogFile = null;
         }
     }
 
+    /**
+     * Queues the log entry for asynchronous writing to the log file.  Does not block on disk I/O.
+     * @param eventLogEntry to write
+     */
     protected void write(String eventLogEntry)
     {
-        try
-        {
-            if(mLogFile != null)
-            {
-                mLogFile.write((eventLogEntry != null ? eventLogEntry : "") + "\n");
-                mLogFile.flush();
-            }
-        }
-        catch(Exception e)
+        EventLogWriter.EventLogFile logFile = mLogFile;
+
+        if(logFile != null)
         {
-            mLog.error("Error writing entry to event log file", e);
+            logFile.write(eventLogEntry != null ? eventLogEntry : "");
         }
     }
+
+    /**
+     * Number of log entries queued and awaiting writing to the log file
+     */
+    public int getQueueDepth()
+    {
+        EventLogWriter.EventLogFile logFile = mLogFile;
+        return logFile != null ? logFile.getQueueDepth() : 0;
+    }
+
+    /**
+     * Number of log entries dropped because the log file queue was full
+     */
+    public long getDroppedLineCount()
+    {
+        EventLogWriter.EventLogFile logFile = mLogFile;
+        return logFile != null ? logFile.getDroppedLineCount() : 0;
+    }
 }
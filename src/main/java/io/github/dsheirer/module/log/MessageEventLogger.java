@@ -19,6 +19,7 @@ package io.github.dsheirer.module.log;
 
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.IMessageListener;
+import io.github.dsheirer.module.log.config.EventLogConfiguration;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.util.TimeStamp;
 
@@ -35,7 +36,21 @@ public class MessageEventLogger extends EventLogger implements IMessageListener,
 
     public MessageEventLogger(Path logDirectory, String fileNameSuffix, Type type, long frequency)
     {
-        super(logDirectory, fileNameSuffix, frequency);
+        this(logDirectory, fileNameSuffix, type, frequency, null);
+    }
+
+    /**
+     * Constructs an instance
+     * @param logDirectory for the log file
+     * @param fileNameSuffix for the log file
+     * @param type of message logging
+     * @param frequency for the log file name
+     * @param eventLogConfiguration with the flush policy for the log file
+     */
+    public MessageEventLogger(Path logDirectory, String fileNameSuffix, Type type, long frequency,
+                              EventLogConfiguration eventLogConfiguration)
+    {
+        super(logDirectory, fileNameSuffix, frequency, eventLogConfiguration);
         mType = type;
     }
 
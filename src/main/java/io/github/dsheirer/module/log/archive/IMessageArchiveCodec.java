@@ -0,0 +1,43 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.message.IMessage;
+
+/**
+ * Protocol-specific support for recreating messages from archived message bits.  The message bits alone are not
+ * always enough to recreate a message, so the codec can capture additional values (e.g. a NAC or a data unit ID) as
+ * a context value that is archived with the message bits.
+ */
+public interface IMessageArchiveCodec
+{
+    /**
+     * Creates the context value to archive with the message bits.
+     * @param message to archive
+     * @return context value
+     */
+    int getContext(IMessage message);
+
+    /**
+     * Recreates the message from the archived record.
+     * @param record to decode
+     * @return message or null if the message can't be recreated from the record.
+     */
+    IMessage decode(MessageArchiveRecord record);
+}
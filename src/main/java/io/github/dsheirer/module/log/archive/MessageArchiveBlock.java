@@ -0,0 +1,156 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.protocol.Protocol;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Block index entry for a compressed block of archived messages.  Describes the time range and the protocols of the
+ * messages contained in the block so that queries can skip blocks without decompressing them.
+ */
+public class MessageArchiveBlock
+{
+    private final Path mPath;
+    private final long mOffset;
+    private final int mCompressedLength;
+    private final int mUncompressedLength;
+    private final int mRecordCount;
+    private final long mFirstTimestamp;
+    private final long mLastTimestamp;
+    private final Set<Protocol> mProtocols;
+
+    /**
+     * Constructs an instance
+     * @param path of the archive file that contains the block
+     * @param offset to the start of the compressed block payload in the archive file
+     * @param compressedLength of the block payload
+     * @param uncompressedLength of the block payload
+     * @param recordCount in the block
+     * @param firstTimestamp earliest message timestamp in the block
+     * @param lastTimestamp latest message timestamp in the block
+     * @param protocols of the messages in the block
+     */
+    public MessageArchiveBlock(Path path, long offset, int compressedLength, int uncompressedLength, int recordCount,
+                               long firstTimestamp, long lastTimestamp, Set<Protocol> protocols)
+    {
+        mPath = path;
+        mOffset = offset;
+        mCompressedLength = compressedLength;
+        mUncompressedLength = uncompressedLength;
+        mRecordCount = recordCount;
+        mFirstTimestamp = firstTimestamp;
+        mLastTimestamp = lastTimestamp;
+        mProtocols = protocols;
+    }
+
+    public Path getPath()
+    {
+        return mPath;
+    }
+
+    public long getOffset()
+    {
+        return mOffset;
+    }
+
+    public int getCompressedLength()
+    {
+        return mCompressedLength;
+    }
+
+    public int getUncompressedLength()
+    {
+        return mUncompressedLength;
+    }
+
+    public int getRecordCount()
+    {
+        return mRecordCount;
+    }
+
+    public long getFirstTimestamp()
+    {
+        return mFirstTimestamp;
+    }
+
+    public long getLastTimestamp()
+    {
+        return mLastTimestamp;
+    }
+
+    public Set<Protocol> getProtocols()
+    {
+        return mProtocols;
+    }
+
+    /**
+     * Indicates if this block may contain messages in the time range and for any of the protocols.
+     * @param start timestamp inclusive
+     * @param end timestamp inclusive
+     * @param protocols to match, or null or empty to match any protocol
+     * @return true if the block should be read
+     */
+    public boolean matches(long start, long end, Collection<Protocol> protocols)
+    {
+        if(mLastTimestamp < start || mFirstTimestamp > end)
+        {
+            return false;
+        }
+
+        if(protocols == null || protocols.isEmpty())
+        {
+            return true;
+        }
+
+        for(Protocol protocol: protocols)
+        {
+            if(mProtocols.contains(protocol))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates the set of protocols from a block protocol bitmask using the protocol table of the archive file.
+     * @param mask of protocol table indices
+     * @param protocolTable from the archive file header
+     * @return set of protocols
+     */
+    static Set<Protocol> fromMask(long mask, Protocol[] protocolTable)
+    {
+        Set<Protocol> protocols = EnumSet.noneOf(Protocol.class);
+
+        for(int x = 0; x < protocolTable.length; x++)
+        {
+            if((mask & (1L << x)) != 0)
+            {
+                protocols.add(protocolTable[x]);
+            }
+        }
+
+        return protocols;
+    }
+}
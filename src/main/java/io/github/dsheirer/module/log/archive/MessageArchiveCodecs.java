@@ -0,0 +1,70 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.message.IMessage;
+import io.github.dsheirer.module.decode.p25.phase1.P25P1MessageArchiveCodec;
+import io.github.dsheirer.protocol.Protocol;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registry of message archive codecs for each protocol that supports replay of archived messages.
+ */
+public class MessageArchiveCodecs
+{
+    private static final Map<Protocol,IMessageArchiveCodec> CODECS = new EnumMap<>(Protocol.class);
+
+    static
+    {
+        CODECS.put(Protocol.APCO25, new P25P1MessageArchiveCodec());
+    }
+
+    /**
+     * Indicates if archived messages for the protocol can be replayed.
+     * @param protocol to check
+     * @return true if there is a codec for the protocol
+     */
+    public static boolean isReplayable(Protocol protocol)
+    {
+        return CODECS.containsKey(protocol);
+    }
+
+    /**
+     * Creates the context value to archive with the message bits.
+     * @param message to archive
+     * @return context value or 0 if there is no codec for the message protocol.
+     */
+    public static int getContext(IMessage message)
+    {
+        IMessageArchiveCodec codec = CODECS.get(message.getProtocol());
+        return codec != null ? codec.getContext(message) : 0;
+    }
+
+    /**
+     * Recreates the message from the archived record.
+     * @param record to decode
+     * @return message or null if there is no codec for the protocol or the codec can't recreate the message.
+     */
+    public static IMessage decode(MessageArchiveRecord record)
+    {
+        IMessageArchiveCodec codec = CODECS.get(record.getProtocol());
+        return codec != null ? codec.decode(record) : null;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Message archive file format constants.
+ *
+ * File header: magic (8 bytes), version (short), frequency (long), channel name (UTF), protocol table count (short)
+ * and protocol table names (UTF each).  Records refer to protocols by protocol table index so that archive files stay
+ * readable when protocols are added to the application.
+ *
+ * Each block: block magic (int), compressed length (int), uncompressed length (int), record count (int), first
+ * timestamp (long), last timestamp (long), protocol table index bitmask (long) and the LZ4 framed compressed payload.
+ *
+ * Each record in the uncompressed payload: timestamp (long), protocol table index (byte), timeslot (byte), flags
+ * (byte), context (int), corrected bit count (int), message bit length (unsigned short) and the message bits as
+ * little-endian bytes.
+ */
+final class MessageArchiveFormat
+{
+    static final byte[] FILE_MAGIC = "SDRTMSGA".getBytes(StandardCharsets.US_ASCII);
+    static final short VERSION = 1;
+    static final int BLOCK_MAGIC = 0x4D424C4B;
+    static final int BLOCK_HEADER_LENGTH = 40;
+    static final int FLAG_VALID = 0x01;
+    static final int MAX_MESSAGE_BIT_LENGTH = 0xFFFF;
+    static final int MAX_PROTOCOL_TABLE_SIZE = Long.SIZE;
+    static final String FILE_EXTENSION = ".mlog";
+
+    private MessageArchiveFormat()
+    {
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.protocol.Protocol;
+import io.github.dsheirer.sample.Listener;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Block index across a set of message archive files, such as the rotated archive files for a channel.  Supports time
+ * range and protocol queries across all of the files, reading only the blocks that match the query.
+ */
+public class MessageArchiveIndex implements AutoCloseable
+{
+    private final static Logger mLog = LoggerFactory.getLogger(MessageArchiveIndex.class);
+    private final Map<Path,MessageArchiveReader> mReaders = new HashMap<>();
+    private final List<MessageArchiveBlock> mBlocks = new ArrayList<>();
+
+    /**
+     * Constructs an instance for the archive files.  Files that can't be opened as message archive files are logged
+     * and ignored.
+     * @param paths of the archive files
+     */
+    public MessageArchiveIndex(Collection<Path> paths)
+    {
+        for(Path path: paths)
+        {
+            try
+            {
+                MessageArchiveReader reader = new MessageArchiveReader(path);
+                mReaders.put(path, reader);
+                mBlocks.addAll(reader.getBlocks());
+            }
+            catch(IOException ioe)
+            {
+                mLog.warn("Unable to open message archive file [" + path + "] - " + ioe.getMessage());
+            }
+        }
+
+        mBlocks.sort(Comparator.comparingLong(MessageArchiveBlock::getFirstTimestamp));
+    }
+
+    /**
+     * Creates an index for the message archive files in the directory whose file names end with the suffix.
+     * @param directory containing archive files
+     * @param fileNameSuffix to match, or null to match all archive files
+     * @return index
+     * @throws IOException if the directory can't be read
+     */
+    public static MessageArchiveIndex open(Path directory, String fileNameSuffix) throws IOException
+    {
+        String suffix = (fileNameSuffix != null ? fileNameSuffix : "") + MessageArchiveFormat.FILE_EXTENSION;
+        List<Path> paths = new ArrayList<>();
+
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory))
+        {
+            for(Path path: stream)
+            {
+                if(Files.isRegularFile(path) && path.getFileName().toString().endsWith(suffix))
+                {
+                    paths.add(path);
+                }
+            }
+        }
+
+        return new MessageArchiveIndex(paths);
+    }
+
+    /**
+     * Archive files contained in this index.
+     */
+    public Collection<MessageArchiveReader> getReaders()
+    {
+        return mReaders.values();
+    }
+
+    /**
+     * Blocks across all archive files that may contain messages in the time range and for any of the protocols.
+     * @param start timestamp inclusive
+     * @param end timestamp inclusive
+     * @param protocols to match, or null or empty to match any protocol
+     * @return matching blocks ordered by first timestamp
+     */
+    public List<MessageArchiveBlock> getBlocks(long start, long end, Collection<Protocol> protocols)
+    {
+        List<MessageArchiveBlock> blocks = new ArrayList<>();
+
+        for(MessageArchiveBlock block: mBlocks)
+        {
+            if(block.matches(start, end, protocols))
+            {
+                blocks.add(block);
+            }
+        }
+
+        return blocks;
+    }
+
+    /**
+     * Reads the records in the time range and for any of the protocols across all archive files and sends them to
+     * the listener, ordered by block first timestamp and by timestamp within each block.
+     * @param start timestamp inclusive
+     * @param end timestamp inclusive
+     * @param protocols to match, or null or empty to match any protocol
+     * @param listener to receive matching records
+     * @return number of records sent to the listener
+     * @throws IOException if there is an error while reading an archive file
+     */
+    public long read(long start, long end, Collection<Protocol> protocols, Listener<MessageArchiveRecord> listener)
+        throws IOException
+    {
+        long count = 0;
+
+        for(MessageArchiveBlock block: getBlocks(start, end, protocols))
+        {
+            for(MessageArchiveRecord record: mReaders.get(block.getPath()).read(block))
+            {
+                if(record.getTimestamp() >= start && record.getTimestamp() <= end &&
+                    (protocols == null || protocols.isEmpty() || protocols.contains(record.getProtocol())))
+                {
+                    listener.receive(record);
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public void close()
+    {
+        for(MessageArchiveReader reader: mReaders.values())
+        {
+            try
+            {
+                reader.close();
+            }
+            catch(IOException ioe)
+            {
+                mLog.warn("Error closing message archive file [" + reader.getPath() + "]", ioe);
+            }
+        }
+
+        mReaders.clear();
+        mBlocks.clear();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.message.IMessage;
+import io.github.dsheirer.message.IMessageListener;
+import io.github.dsheirer.module.Module;
+import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.util.Dispatcher;
+import io.github.dsheirer.util.ThreadPool;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Message archive logger module.  Archives the raw message bits of each decoded message to compressed, rotating
+ * message archive files.  Messages are queued and compressed on a dispatcher thread so that the decoder thread does
+ * not block on compression or disk I/O.  A periodic task writes any partially filled block that has reached the
+ * maximum block age, so that messages from a quiet channel reach the archive file in a timely manner.
+ */
+public class MessageArchiveLogger extends Module implements IMessageListener, Listener<IMessage>
+{
+    private final static Logger mLog = LoggerFactory.getLogger(MessageArchiveLogger.class);
+    private static final long FLUSH_CHECK_INTERVAL_SECONDS = 5;
+    private final Dispatcher<IMessage> mDispatcher = new Dispatcher<>("sdrtrunk message archive", 250);
+    private final AtomicBoolean mRunning = new AtomicBoolean();
+    private final MessageArchiveWriter mWriter;
+    private final long mFrequency;
+    private final String mChannel;
+    private ScheduledFuture<?> mFlushFuture;
+    private volatile boolean mErrorLogged;
+
+    /**
+     * Constructs an instance
+     * @param directory for the archive files
+     * @param fileNameSuffix for each archive file name
+     * @param frequency of the channel
+     * @param channel name
+     * @param maxFileSize in bytes before the archive file is rotated
+     * @param maxFileDuration in milliseconds before the archive file is rotated
+     */
+    public MessageArchiveLogger(Path directory, String fileNameSuffix, long frequency, String channel,
+                                long maxFileSize, long maxFileDuration)
+    {
+        mFrequency = frequency;
+        mChannel = channel;
+        mWriter = new MessageArchiveWriter(directory, fileNameSuffix, frequency, channel, maxFileSize, maxFileDuration);
+        mDispatcher.setListener(this::archive);
+        mDispatcher.setBlocking(true);
+    }
+
+    @Override
+    public Listener<IMessage> getMessageListener()
+    {
+        return this;
+    }
+
+    @Override
+    public void receive(IMessage message)
+    {
+        mDispatcher.receive(message);
+    }
+
+    @Override
+    public void reset()
+    {
+    }
+
+    @Override
+    public void start()
+    {
+        if(mRunning.compareAndSet(false, true))
+        {
+            mDispatcher.start();
+            mFlushFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(this::flushExpiredBlock,
+                FLUSH_CHECK_INTERVAL_SECONDS, FLUSH_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void stop()
+    {
+        if(mRunning.compareAndSet(true, false))
+        {
+            if(mFlushFuture != null)
+            {
+                mFlushFuture.cancel(false);
+                mFlushFuture = null;
+            }
+
+            mDispatcher.flushAndStop();
+
+            try
+            {
+                mWriter.close();
+
+                if(mWriter.getCurrentPath() != null)
+                {
+                    mLog.info("Message archive closed: " + mWriter.getCurrentPath() + " - archived [" +
+                        mWriter.getRecordCount() + "] messages with compression ratio [" +
+                        String.format("%.1f", mWriter.getCompressionRatio()) + "]");
+                }
+            }
+            catch(IOException ioe)
+            {
+                mLog.error("Error closing message archive", ioe);
+            }
+        }
+    }
+
+    /**
+     * Archives the message on the dispatcher thread.
+     */
+    private void archive(IMessage message)
+    {
+        MessageArchiveRecord record = MessageArchiveRecord.create(message, mFrequency, mChannel);
+
+        if(record != null)
+        {
+            try
+            {
+                mWriter.write(record);
+            }
+            catch(IOException ioe)
+            {
+                if(!mErrorLogged)
+                {
+                    mLog.error("Error writing to message archive", ioe);
+                    mErrorLogged = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the current block to the archive file once it reaches the maximum block age.  Invoked periodically on
+     * the scheduled thread pool.
+     */
+    private void flushExpiredBlock()
+    {
+        try
+        {
+            mWriter.flushExpiredBlock();
+        }
+        catch(IOException ioe)
+        {
+            if(!mErrorLogged)
+            {
+                mLog.error("Error writing to message archive", ioe);
+                mErrorLogged = true;
+            }
+        }
+    }
+}
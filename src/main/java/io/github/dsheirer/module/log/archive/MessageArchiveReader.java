@@ -0,0 +1,328 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.protocol.Protocol;
+import io.github.dsheirer.sample.Listener;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reader for a single message archive file.  Builds the block index from the block headers when the file is opened
+ * and only decompresses the blocks that match a time range and protocol query.
+ *
+ * See {@link MessageArchiveFormat} for the file format.
+ */
+public class MessageArchiveReader implements AutoCloseable
+{
+    private final static Logger mLog = LoggerFactory.getLogger(MessageArchiveReader.class);
+    private static final int MAX_FILE_HEADER_LENGTH = 65536;
+
+    private final Path mPath;
+    private final FileChannel mFileChannel;
+    private long mFrequency;
+    private String mChannel;
+    private Protocol[] mProtocolTable;
+    private final List<MessageArchiveBlock> mBlocks = new ArrayList<>();
+
+    /**
+     * Opens the archive file and builds the block index.
+     * @param path of the archive file
+     * @throws IOException if the file can't be read or is not a message archive file
+     */
+    public MessageArchiveReader(Path path) throws IOException
+    {
+        mPath = path;
+        mFileChannel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try
+        {
+            long offset = readFileHeader();
+            buildIndex(offset);
+        }
+        catch(IOException ioe)
+        {
+            mFileChannel.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Archive file
+     */
+    public Path getPath()
+    {
+        return mPath;
+    }
+
+    /**
+     * Frequency of the archived channel
+     */
+    public long getFrequency()
+    {
+        return mFrequency;
+    }
+
+    /**
+     * Name of the archived channel
+     */
+    public String getChannel()
+    {
+        return mChannel;
+    }
+
+    /**
+     * Block index for the archive file
+     */
+    public List<MessageArchiveBlock> getBlocks()
+    {
+        return Collections.unmodifiableList(mBlocks);
+    }
+
+    /**
+     * Blocks that may contain messages in the time range and for any of the protocols
+     * @param start timestamp inclusive
+     * @param end timestamp inclusive
+     * @param protocols to match, or null or empty to match any protocol
+     * @return matching blocks
+     */
+    public List<MessageArchiveBlock> getBlocks(long start, long end, Collection<Protocol> protocols)
+    {
+        List<MessageArchiveBlock> blocks = new ArrayList<>();
+
+        for(MessageArchiveBlock block: mBlocks)
+        {
+            if(block.matches(start, end, protocols))
+            {
+                blocks.add(block);
+            }
+        }
+
+        return blocks;
+    }
+
+    /**
+     * Reads the records in the time range and for any of the protocols and sends them to the listener in timestamp
+     * order within each block.
+     * @param start timestamp inclusive
+     * @param end timestamp inclusive
+     * @param protocols to match, or null or empty to match any protocol
+     * @param listener to receive matching records
+     * @return number of records sent to the listener
+     * @throws IOException if there is an error while reading the archive file
+     */
+    public int read(long start, long end, Collection<Protocol> protocols, Listener<MessageArchiveRecord> listener)
+        throws IOException
+    {
+        int count = 0;
+
+        for(MessageArchiveBlock block: getBlocks(start, end, protocols))
+        {
+            for(MessageArchiveRecord record: read(block))
+            {
+                if(record.getTimestamp() >= start && record.getTimestamp() <= end &&
+                    (protocols == null || protocols.isEmpty() || protocols.contains(record.getProtocol())))
+                {
+                    listener.receive(record);
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Decompresses and reads all records from the block.
+     * @param block from this reader's block index
+     * @return records sorted by timestamp
+     * @throws IOException if there is an error while reading the archive file
+     */
+    public List<MessageArchiveRecord> read(MessageArchiveBlock block) throws IOException
+    {
+        ByteBuffer compressed = ByteBuffer.allocate(block.getCompressedLength());
+        readFully(compressed, block.getOffset());
+
+        byte[] payload;
+
+        try(FramedLZ4CompressorInputStream lz4 = new FramedLZ4CompressorInputStream(
+            new ByteArrayInputStream(compressed.array())))
+        {
+            payload = lz4.readNBytes(block.getUncompressedLength());
+        }
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        List<MessageArchiveRecord> records = new ArrayList<>(block.getRecordCount());
+
+        for(int x = 0; x < block.getRecordCount(); x++)
+        {
+            long timestamp = input.readLong();
+            int protocolIndex = input.readUnsignedByte();
+            int timeslot = input.readUnsignedByte();
+            int flags = input.readUnsignedByte();
+            int context = input.readInt();
+            int correctedBitCount = input.readInt();
+            int bitLength = input.readUnsignedShort();
+            byte[] bytes = new byte[(bitLength + 7) / 8];
+            input.readFully(bytes);
+
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(BitSet.valueOf(bytes), bitLength);
+            message.setCorrectedBitCount(correctedBitCount);
+
+            Protocol protocol = protocolIndex < mProtocolTable.length ? mProtocolTable[protocolIndex] : Protocol.UNKNOWN;
+
+            records.add(new MessageArchiveRecord(timestamp, protocol, timeslot,
+                (flags & MessageArchiveFormat.FLAG_VALID) == MessageArchiveFormat.FLAG_VALID, context, mFrequency,
+                mChannel, message));
+        }
+
+        records.sort((r1, r2) -> Long.compare(r1.getTimestamp(), r2.getTimestamp()));
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        mFileChannel.close();
+    }
+
+    /**
+     * Reads the file header.
+     * @return offset to the first block
+     */
+    private long readFileHeader() throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate((int)Math.min(mFileChannel.size(), MAX_FILE_HEADER_LENGTH));
+        readFully(buffer, 0);
+
+        ByteArrayInputStream bais = new ByteArrayInputStream(buffer.array(), 0, buffer.position());
+        DataInputStream input = new DataInputStream(bais);
+
+        byte[] magic = new byte[MessageArchiveFormat.FILE_MAGIC.length];
+        input.readFully(magic);
+
+        if(!Arrays.equals(magic, MessageArchiveFormat.FILE_MAGIC))
+        {
+            throw new IOException("Not a message archive file: " + mPath);
+        }
+
+        short version = input.readShort();
+
+        if(version != MessageArchiveFormat.VERSION)
+        {
+            throw new IOException("Unsupported message archive version [" + version + "] in file: " + mPath);
+        }
+
+        mFrequency = input.readLong();
+        mChannel = input.readUTF();
+
+        int protocolCount = input.readUnsignedShort();
+        mProtocolTable = new Protocol[protocolCount];
+
+        for(int x = 0; x < protocolCount; x++)
+        {
+            String name = input.readUTF();
+
+            try
+            {
+                mProtocolTable[x] = Protocol.valueOf(name);
+            }
+            catch(IllegalArgumentException iae)
+            {
+                mProtocolTable[x] = Protocol.UNKNOWN;
+            }
+        }
+
+        return buffer.position() - bais.available();
+    }
+
+    /**
+     * Builds the block index by walking the block headers.  Stops at the first incomplete or corrupt block, which
+     * can occur at the end of an archive file that was not closed normally.
+     * @param offset to the first block
+     */
+    private void buildIndex(long offset) throws IOException
+    {
+        long fileSize = mFileChannel.size();
+        ByteBuffer header = ByteBuffer.allocate(MessageArchiveFormat.BLOCK_HEADER_LENGTH);
+
+        while(offset + MessageArchiveFormat.BLOCK_HEADER_LENGTH <= fileSize)
+        {
+            header.clear();
+            readFully(header, offset);
+            header.flip();
+
+            int magic = header.getInt();
+            int compressedLength = header.getInt();
+            int uncompressedLength = header.getInt();
+            int recordCount = header.getInt();
+            long firstTimestamp = header.getLong();
+            long lastTimestamp = header.getLong();
+            long protocolMask = header.getLong();
+
+            long payloadOffset = offset + MessageArchiveFormat.BLOCK_HEADER_LENGTH;
+
+            if(magic != MessageArchiveFormat.BLOCK_MAGIC || compressedLength < 0 ||
+                payloadOffset + compressedLength > fileSize)
+            {
+                mLog.warn("Message archive file [" + mPath + "] has an incomplete block at offset [" + offset +
+                    "] - ignoring the remainder of the file");
+                return;
+            }
+
+            mBlocks.add(new MessageArchiveBlock(mPath, payloadOffset, compressedLength, uncompressedLength,
+                recordCount, firstTimestamp, lastTimestamp, MessageArchiveBlock.fromMask(protocolMask, mProtocolTable)));
+
+            offset = payloadOffset + compressedLength;
+        }
+    }
+
+    /**
+     * Fills the buffer from the file channel starting at the offset.
+     */
+    private void readFully(ByteBuffer buffer, long offset) throws IOException
+    {
+        while(buffer.hasRemaining())
+        {
+            int read = mFileChannel.read(buffer, offset);
+
+            if(read < 0)
+            {
+                throw new IOException("Unexpected end of message archive file: " + mPath);
+            }
+
+            offset += read;
+        }
+    }
+}
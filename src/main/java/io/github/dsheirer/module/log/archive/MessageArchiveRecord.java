@@ -0,0 +1,148 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.message.AbstractMessage;
+import io.github.dsheirer.message.IMessage;
+import io.github.dsheirer.protocol.Protocol;
+
+/**
+ * Single archived message: timestamp, protocol, channel and the raw message bits with the corrected bit count.
+ */
+public class MessageArchiveRecord
+{
+    private final long mTimestamp;
+    private final Protocol mProtocol;
+    private final int mTimeslot;
+    private final boolean mValid;
+    private final int mContext;
+    private final long mFrequency;
+    private final String mChannel;
+    private final CorrectedBinaryMessage mMessage;
+
+    /**
+     * Constructs an instance
+     * @param timestamp of the message
+     * @param protocol of the message
+     * @param timeslot of the message
+     * @param valid indicates if the message passed error detection and correction
+     * @param context protocol-specific value needed to recreate the message from the message bits.  See
+     * {@link IMessageArchiveCodec}
+     * @param frequency of the channel
+     * @param channel name
+     * @param message bits
+     */
+    public MessageArchiveRecord(long timestamp, Protocol protocol, int timeslot, boolean valid, int context,
+                                long frequency, String channel, CorrectedBinaryMessage message)
+    {
+        mTimestamp = timestamp;
+        mProtocol = protocol;
+        mTimeslot = timeslot;
+        mValid = valid;
+        mContext = context;
+        mFrequency = frequency;
+        mChannel = channel;
+        mMessage = message;
+    }
+
+    /**
+     * Creates an archive record from the message.
+     * @param message to archive
+     * @param frequency of the channel
+     * @param channel name
+     * @return record or null if the message does not expose its message bits
+     */
+    public static MessageArchiveRecord create(IMessage message, long frequency, String channel)
+    {
+        if(message instanceof AbstractMessage abstractMessage && abstractMessage.getMessage() != null)
+        {
+            return new MessageArchiveRecord(message.getTimestamp(), message.getProtocol(), message.getTimeslot(),
+                message.isValid(), MessageArchiveCodecs.getContext(message), frequency, channel,
+                abstractMessage.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Timestamp of the message
+     * @return milliseconds since epoch
+     */
+    public long getTimestamp()
+    {
+        return mTimestamp;
+    }
+
+    /**
+     * Protocol of the message
+     */
+    public Protocol getProtocol()
+    {
+        return mProtocol;
+    }
+
+    /**
+     * Timeslot of the message (0-based)
+     */
+    public int getTimeslot()
+    {
+        return mTimeslot;
+    }
+
+    /**
+     * Indicates if the message passed error detection and correction when it was archived.
+     */
+    public boolean isValid()
+    {
+        return mValid;
+    }
+
+    /**
+     * Protocol-specific value needed to recreate the message from the message bits.
+     */
+    public int getContext()
+    {
+        return mContext;
+    }
+
+    /**
+     * Frequency of the channel in hertz
+     */
+    public long getFrequency()
+    {
+        return mFrequency;
+    }
+
+    /**
+     * Channel name
+     */
+    public String getChannel()
+    {
+        return mChannel;
+    }
+
+    /**
+     * Message bits with the corrected bit count.
+     */
+    public CorrectedBinaryMessage getMessage()
+    {
+        return mMessage;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.message.IMessage;
+import io.github.dsheirer.protocol.Protocol;
+import io.github.dsheirer.sample.Listener;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Replays archived messages from a message archive index.  Each archived record is recreated as a message using the
+ * protocol's {@link IMessageArchiveCodec} and sent to the listener, which is normally a protocol message processor
+ * (e.g. P25P1MessageProcessor) so that the replayed messages are enriched and reassembled the same way as they are
+ * when decoded live.
+ */
+public class MessageArchiveReplay
+{
+    private final MessageArchiveIndex mIndex;
+    private long mReplayedCount;
+    private long mSkippedCount;
+
+    /**
+     * Constructs an instance
+     * @param index of the archive files to replay
+     */
+    public MessageArchiveReplay(MessageArchiveIndex index)
+    {
+        mIndex = index;
+    }
+
+    /**
+     * Replays the archived messages in the time range and for any of the protocols.
+     * @param start timestamp inclusive
+     * @param end timestamp inclusive
+     * @param protocols to replay, or null or empty to replay any protocol
+     * @param listener to receive the recreated messages
+     * @return number of messages replayed
+     * @throws IOException if there is an error while reading an archive file
+     */
+    public long replay(long start, long end, Collection<Protocol> protocols, Listener<IMessage> listener)
+        throws IOException
+    {
+        long replayed = mReplayedCount;
+
+        mIndex.read(start, end, protocols, record -> {
+            IMessage message = MessageArchiveCodecs.decode(record);
+
+            if(message != null)
+            {
+                listener.receive(message);
+                mReplayedCount++;
+            }
+            else
+            {
+                mSkippedCount++;
+            }
+        });
+
+        return mReplayedCount - replayed;
+    }
+
+    /**
+     * Total number of messages replayed by this instance.
+     */
+    public long getReplayedCount()
+    {
+        return mReplayedCount;
+    }
+
+    /**
+     * Total number of archived records that were skipped because there is no codec for the protocol or the codec
+     * could not recreate the message.
+     */
+    public long getSkippedCount()
+    {
+        return mSkippedCount;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.protocol.Protocol;
+import io.github.dsheirer.util.TimeStamp;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes archived messages to compressed, rotating message archive files.  Messages are accumulated in a block and
+ * the block is compressed and appended to the archive file when it reaches the maximum record count, size or age.
+ * The archive file is rotated to a new file when it exceeds the maximum file size or duration.
+ *
+ * See {@link MessageArchiveFormat} for the file format.
+ */
+public class MessageArchiveWriter
+{
+    private final static Logger mLog = LoggerFactory.getLogger(MessageArchiveWriter.class);
+    private static final int MAX_BLOCK_RECORD_COUNT = 1024;
+    private static final int MAX_BLOCK_SIZE_BYTES = 65536;
+    private static final long MAX_BLOCK_AGE_MS = 30000;
+
+    private final Path mDirectory;
+    private final String mFileNameSuffix;
+    private final long mFrequency;
+    private final String mChannel;
+    private final long mMaxFileSize;
+    private final long mMaxFileDuration;
+    private final Protocol[] mProtocolTable = Protocol.values();
+
+    private final ByteArrayOutputStream mBlockBuffer = new ByteArrayOutputStream(MAX_BLOCK_SIZE_BYTES);
+    private final DataOutputStream mBlockOutput = new DataOutputStream(mBlockBuffer);
+    private int mBlockRecordCount;
+    private long mBlockFirstTimestamp;
+    private long mBlockLastTimestamp;
+    private long mBlockProtocolMask;
+    private long mBlockCreated;
+
+    private Path mCurrentPath;
+    private DataOutputStream mFileOutput;
+    private long mFileSize;
+    private long mFileCreated;
+    private long mRecordCount;
+    private long mUncompressedByteCount;
+    private long mCompressedByteCount;
+
+    /**
+     * Constructs an instance
+     * @param directory for the archive files
+     * @param fileNameSuffix for each archive file name
+     * @param frequency of the channel
+     * @param channel name
+     * @param maxFileSize in bytes before the archive file is rotated
+     * @param maxFileDuration in milliseconds before the archive file is rotated
+     */
+    public MessageArchiveWriter(Path directory, String fileNameSuffix, long frequency, String channel,
+                                long maxFileSize, long maxFileDuration)
+    {
+        mDirectory = directory;
+        mFileNameSuffix = fileNameSuffix;
+        mFrequency = frequency;
+        mChannel = channel != null ? channel : "";
+        mMaxFileSize = maxFileSize;
+        mMaxFileDuration = maxFileDuration;
+    }
+
+    /**
+     * Adds the record to the current block and writes the block to the archive file when the block is full.
+     * @param record to archive
+     * @throws IOException if there is an error while writing to the archive file
+     */
+    public synchronized void write(MessageArchiveRecord record) throws IOException
+    {
+        int bitLength = record.getMessage().size();
+
+        if(bitLength > MessageArchiveFormat.MAX_MESSAGE_BIT_LENGTH ||
+            record.getProtocol().ordinal() >= MessageArchiveFormat.MAX_PROTOCOL_TABLE_SIZE)
+        {
+            return;
+        }
+
+        if(mBlockRecordCount == 0)
+        {
+            mBlockFirstTimestamp = record.getTimestamp();
+            mBlockLastTimestamp = record.getTimestamp();
+            mBlockCreated = System.currentTimeMillis();
+        }
+        else
+        {
+            mBlockFirstTimestamp = Math.min(mBlockFirstTimestamp, record.getTimestamp());
+            mBlockLastTimestamp = Math.max(mBlockLastTimestamp, record.getTimestamp());
+        }
+
+        mBlockProtocolMask |= (1L << record.getProtocol().ordinal());
+
+        mBlockOutput.writeLong(record.getTimestamp());
+        mBlockOutput.writeByte(record.getProtocol().ordinal());
+        mBlockOutput.writeByte(record.getTimeslot());
+        mBlockOutput.writeByte(record.isValid() ? MessageArchiveFormat.FLAG_VALID : 0);
+        mBlockOutput.writeInt(record.getContext());
+        mBlockOutput.writeInt(record.getMessage().getCorrectedBitCount());
+        mBlockOutput.writeShort(bitLength);
+        mBlockOutput.write(toBytes(record.getMessage(), bitLength));
+        mBlockRecordCount++;
+
+        if(mBlockRecordCount >= MAX_BLOCK_RECORD_COUNT || mBlockBuffer.size() >= MAX_BLOCK_SIZE_BYTES ||
+            (System.currentTimeMillis() - mBlockCreated) >= MAX_BLOCK_AGE_MS)
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Compresses the current block and appends it to the archive file, rotating the archive file beforehand when it
+     * has exceeded the maximum file size or duration.
+     * @throws IOException if there is an error while writing to the archive file
+     */
+    public synchronized void flush() throws IOException
+    {
+        if(mBlockRecordCount == 0)
+        {
+            return;
+        }
+
+        if(mFileOutput != null && (mFileSize >= mMaxFileSize ||
+            (System.currentTimeMillis() - mFileCreated) >= mMaxFileDuration))
+        {
+            closeFile();
+        }
+
+        if(mFileOutput == null)
+        {
+            openFile();
+        }
+
+        mBlockOutput.flush();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(mBlockBuffer.size() / 2);
+
+        try(FramedLZ4CompressorOutputStream lz4 = new FramedLZ4CompressorOutputStream(compressed))
+        {
+            mBlockBuffer.writeTo(lz4);
+        }
+
+        mFileOutput.writeInt(MessageArchiveFormat.BLOCK_MAGIC);
+        mFileOutput.writeInt(compressed.size());
+        mFileOutput.writeInt(mBlockBuffer.size());
+        mFileOutput.writeInt(mBlockRecordCount);
+        mFileOutput.writeLong(mBlockFirstTimestamp);
+        mFileOutput.writeLong(mBlockLastTimestamp);
+        mFileOutput.writeLong(mBlockProtocolMask);
+        compressed.writeTo(mFileOutput);
+        mFileOutput.flush();
+
+        mFileSize += MessageArchiveFormat.BLOCK_HEADER_LENGTH + compressed.size();
+        mRecordCount += mBlockRecordCount;
+        mUncompressedByteCount += mBlockBuffer.size();
+        mCompressedByteCount += compressed.size();
+
+        mBlockBuffer.reset();
+        mBlockRecordCount = 0;
+        mBlockProtocolMask = 0;
+    }
+
+    /**
+     * Flushes the current block when it has reached the maximum block age.  This is invoked periodically so that the
+     * messages from a quiet channel are written to the archive file without waiting for the next message to arrive.
+     * @throws IOException if there is an error while writing to the archive file
+     */
+    public void flushExpiredBlock() throws IOException
+    {
+        flushIfOlderThan(MAX_BLOCK_AGE_MS);
+    }
+
+    /**
+     * Flushes the current block when it contains records and is at least as old as the age.
+     * @param age in milliseconds
+     * @throws IOException if there is an error while writing to the archive file
+     */
+    synchronized void flushIfOlderThan(long age) throws IOException
+    {
+        if(mBlockRecordCount > 0 && (System.currentTimeMillis() - mBlockCreated) >= age)
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Flushes the current block and closes the archive file.
+     * @throws IOException if there is an error while writing to the archive file
+     */
+    public synchronized void close() throws IOException
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            closeFile();
+        }
+    }
+
+    /**
+     * Current archive file, or null if no blocks have been written to a file yet.
+     */
+    public synchronized Path getCurrentPath()
+    {
+        return mCurrentPath;
+    }
+
+    /**
+     * Total number of records written to archive files by this writer.
+     */
+    public synchronized long getRecordCount()
+    {
+        return mRecordCount;
+    }
+
+    /**
+     * Ratio of uncompressed to compressed payload bytes written by this writer.
+     */
+    public synchronized double getCompressionRatio()
+    {
+        return mCompressedByteCount > 0 ? (double)mUncompressedByteCount / (double)mCompressedByteCount : 0.0;
+    }
+
+    /**
+     * Converts the message bits to little-endian bytes, compatible with BitSet.valueOf(byte[]).
+     * @param message to convert
+     * @param bitLength of the message
+     * @return bytes
+     */
+    private static byte[] toBytes(BitSet message, int bitLength)
+    {
+        long[] words = message.toLongArray();
+        byte[] bytes = new byte[(bitLength + 7) / 8];
+
+        for(int x = 0; x < bytes.length && (x >> 3) < words.length; x++)
+        {
+            bytes[x] = (byte)(words[x >> 3] >>> ((x & 7) * 8));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Creates a new timestamped archive file and writes the file header.
+     */
+    private void openFile() throws IOException
+    {
+        String timestamp = TimeStamp.getLongTimeStamp("_");
+        String fileName = mFrequency + "_Hz_" + mFileNameSuffix + MessageArchiveFormat.FILE_EXTENSION;
+        Path path = mDirectory.resolve(timestamp + "_" + fileName);
+
+        //Rotation can occur more than once per second when the maximum file size is small
+        int counter = 1;
+
+        while(Files.exists(path))
+        {
+            path = mDirectory.resolve(timestamp + "_" + counter++ + "_" + fileName);
+        }
+
+        mFileOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        mFileOutput.write(MessageArchiveFormat.FILE_MAGIC);
+        mFileOutput.writeShort(MessageArchiveFormat.VERSION);
+        mFileOutput.writeLong(mFrequency);
+        mFileOutput.writeUTF(mChannel);
+
+        int protocolCount = Math.min(mProtocolTable.length, MessageArchiveFormat.MAX_PROTOCOL_TABLE_SIZE);
+        mFileOutput.writeShort(protocolCount);
+
+        for(int x = 0; x < protocolCount; x++)
+        {
+            mFileOutput.writeUTF(mProtocolTable[x].name());
+        }
+
+        mFileOutput.flush();
+        mFileSize = mFileOutput.size();
+        mFileCreated = System.currentTimeMillis();
+        mCurrentPath = path;
+        mLog.info("Message archive started: " + path);
+    }
+
+    /**
+     * Closes the current archive file.
+     */
+    private void closeFile() throws IOException
+    {
+        if(mFileOutput != null)
+        {
+            try
+            {
+                mFileOutput.close();
+            }
+            finally
+            {
+                mFileOutput = null;
+            }
+        }
+    }
+}
@@ -30,7 +30,18 @@ import java.util.List;
 @JacksonXmlRootElement(localName = "event_log_configuration")
 public class EventLogConfiguration extends Configuration
 {
+    public static final long DEFAULT_FLUSH_INTERVAL_MS = 1000;
+    public static final int DEFAULT_FLUSH_BATCH_SIZE = 100;
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    public static final int DEFAULT_ARCHIVE_MAX_FILE_SIZE_MB = 50;
+    public static final int DEFAULT_ARCHIVE_ROTATION_HOURS = 24;
+
     protected List<EventLogType> mLoggers = new ArrayList<EventLogType>();
+    private long mFlushIntervalMs = DEFAULT_FLUSH_INTERVAL_MS;
+    private int mFlushBatchSize = DEFAULT_FLUSH_BATCH_SIZE;
+    private int mQueueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private int mArchiveMaxFileSizeMB = DEFAULT_ARCHIVE_MAX_FILE_SIZE_MB;
+    private int mArchiveRotationHours = DEFAULT_ARCHIVE_ROTATION_HOURS;
 
     public EventLogConfiguration()
     {
@@ -52,6 +63,97 @@ public class EventLogConfiguration extends Configuration
         mLoggers.add(logger);
     }
 
+    /**
+     * Maximum interval between writes of queued log entries to the log file.
+     */
+    @JacksonXmlProperty(isAttribute = true, localName = "flush_interval_ms")
+    public long getFlushIntervalMs()
+    {
+        return mFlushIntervalMs;
+    }
+
+    /**
+     * Sets the maximum interval between writes of queued log entries to the log file.
+     * @param flushIntervalMs in milliseconds, minimum of 1
+     */
+    public void setFlushIntervalMs(long flushIntervalMs)
+    {
+        mFlushIntervalMs = Math.max(1, flushIntervalMs);
+    }
+
+    /**
+     * Number of queued log entries that triggers a write to the log file ahead of the flush interval.
+     */
+    @JacksonXmlProperty(isAttribute = true, localName = "flush_batch_size")
+    public int getFlushBatchSize()
+    {
+        return mFlushBatchSize;
+    }
+
+    /**
+     * Sets the number of queued log entries that triggers a write to the log file ahead of the flush interval.
+     * @param flushBatchSize minimum of 1
+     */
+    public void setFlushBatchSize(int flushBatchSize)
+    {
+        mFlushBatchSize = Math.max(1, flushBatchSize);
+    }
+
+    /**
+     * Maximum number of log entries that can be queued for each log file.  Entries that arrive while the queue is full
+     * are dropped and counted.
+     */
+    @JacksonXmlProperty(isAttribute = true, localName = "queue_capacity")
+    public int getQueueCapacity()
+    {
+        return mQueueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of log entries that can be queued for each log file.
+     * @param queueCapacity minimum of 1
+     */
+    public void setQueueCapacity(int queueCapacity)
+    {
+        mQueueCapacity = Math.max(1, queueCapacity);
+    }
+
+    /**
+     * Maximum size of a compressed message archive file before the archive is rotated to a new file.
+     */
+    @JacksonXmlProperty(isAttribute = true, localName = "archive_max_file_size_mb")
+    public int getArchiveMaxFileSizeMB()
+    {
+        return mArchiveMaxFileSizeMB;
+    }
+
+    /**
+     * Sets the maximum size of a compressed message archive file before the archive is rotated to a new file.
+     * @param archiveMaxFileSizeMB in megabytes, minimum of 1
+     */
+    public void setArchiveMaxFileSizeMB(int archiveMaxFileSizeMB)
+    {
+        mArchiveMaxFileSizeMB = Math.max(1, archiveMaxFileSizeMB);
+    }
+
+    /**
+     * Maximum duration of a compressed message archive file before the archive is rotated to a new file.
+     */
+    @JacksonXmlProperty(isAttribute = true, localName = "archive_rotation_hours")
+    public int getArchiveRotationHours()
+    {
+        return mArchiveRotationHours;
+    }
+
+    /**
+     * Sets the maximum duration of a compressed message archive file before the archive is rotated to a new file.
+     * @param archiveRotationHours in hours, minimum of 1
+     */
+    public void setArchiveRotationHours(int archiveRotationHours)
+    {
+        mArchiveRotationHours = Math.max(1, archiveRotationHours);
+    }
+
     public void clear()
     {
         mLoggers.clear();
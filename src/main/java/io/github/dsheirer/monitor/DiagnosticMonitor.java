@@ -19,10 +19,17 @@
 
 package io.github.dsheirer.monitor;
 
+import io.github.dsheirer.alias.AliasModel;
+import io.github.dsheirer.audio.DuplicateCallMetrics;
+import io.github.dsheirer.audio.buffer.AudioBlockPool;
+import io.github.dsheirer.audio.convert.MP3EncodingService;
 import io.github.dsheirer.controller.channel.ChannelProcessingManager;
+import io.github.dsheirer.dsp.filter.design.FilterDesignCache;
 import io.github.dsheirer.log.LoggingSuppressor;
+import io.github.dsheirer.module.log.EventLogWriter;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.source.tuner.manager.TunerManager;
+import io.github.dsheirer.util.DispatcherScheduler;
 import io.github.dsheirer.util.ThreadPool;
 import io.github.dsheirer.util.TimeStamp;
 import java.io.IOException;
@@ -56,6 +63,7 @@ public class DiagnosticMonitor
     private UserPreferences mUserPreferences;
     private ChannelProcessingManager mChannelProcessingManager;
     private TunerManager mTunerManager;
+    private AliasModel mAliasModel;
     private ScheduledFuture<?> mBlockedThreadMonitorHandle;
     private BlockedThreadMonitor mMonitor = new BlockedThreadMonitor();
     private boolean mUserAlertedToBlockedThreadCondition = false;
@@ -67,14 +75,16 @@ public class DiagnosticMonitor
      * @param userPreferences for application logging directory lookup.
      * @param channelProcessingManager for accessing running channel information
      * @param tunerManager for accessing allocated tuner channel information
+     * @param aliasModel for accessing alias list lookup cache metrics
      * @param headless to indicate if the thread deadlock monitor should show a user notification.
      */
     public DiagnosticMonitor(UserPreferences userPreferences, ChannelProcessingManager channelProcessingManager,
-                             TunerManager tunerManager, boolean headless)
+                             TunerManager tunerManager, AliasModel aliasModel, boolean headless)
     {
         mUserPreferences = userPreferences;
         mChannelProcessingManager = channelProcessingManager;
         mTunerManager = tunerManager;
+        mAliasModel = aliasModel;
         mHeadless = headless;
     }
 
@@ -188,6 +198,22 @@ public class DiagnosticMonitor
         sb.append(DIVIDER);
         sb.append(mChannelProcessingManager.getChannelMetadataModel().getDiagnosticInformation());
         sb.append(DIVIDER);
+        sb.append(DispatcherScheduler.getInstance().getDiagnosticReport());
+        sb.append(DIVIDER);
+        sb.append(LatencyMonitor.getInstance().getDiagnosticReport());
+        sb.append(DIVIDER);
+        sb.append(FilterDesignCache.getInstance().getDiagnosticReport());
+        sb.append(DIVIDER);
+        sb.append(MP3EncodingService.getInstance().getDiagnosticReport());
+        sb.append(DIVIDER);
+        sb.append(AudioBlockPool.getInstance().getDiagnosticReport());
+        sb.append(DIVIDER);
+        sb.append(DuplicateCallMetrics.getInstance().getDiagnosticReport());
+        sb.append(DIVIDER);
+        sb.append(EventLogWriter.getInstance().getDiagnosticReport());
+        sb.append(DIVIDER);
+        sb.append(mAliasModel.getDiagnosticReport());
+        sb.append(DIVIDER);
         sb.append(getThreadDumpReport());
         sb.append(DIVIDER);
 
@@ -0,0 +1,133 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.monitor;
+
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.Histogram;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application-wide registry of processing latency histograms.  Per-stage histograms measure the age of sample buffers,
+ * relative to their capture timestamp, as they are dispatched to each stage of the sample processing pipeline.
+ * End-to-end histograms measure the age of the samples when they become decoded messages and audio.  The traffic
+ * channel histogram measures the time from a traffic channel grant to the first voice decoded on the traffic
+ * channel.  Each histogram aggregates the measurements across all tuners and channels.
+ *
+ * Histograms are registered with the metrics registry as the sdrtrunk_processing_latency_seconds histogram, labeled
+ * with the stage name, and record latency values in milliseconds.  Latency values that are negative or larger than
+ * the maximum tracked latency, which occur when samples are replayed from a recording with timestamps from the
+ * original capture time, are counted as out of range and otherwise ignored.
+ */
+public class LatencyMonitor
+{
+    public static final String STAGE_CHANNELIZER_INPUT = "Stage: Polyphase Channelizer Input";
+    public static final String STAGE_CHANNEL_OUTPUT = "Stage: Polyphase Channel Output";
+    public static final String STAGE_HETERODYNE_CHANNEL = "Stage: Heterodyne Channel Source";
+    public static final String STAGE_PASS_THROUGH_CHANNEL = "Stage: Pass-Through Channel Source";
+    public static final String END_TO_END_MESSAGE = "End-To-End: Decoded Message";
+    public static final String END_TO_END_AUDIO = "End-To-End: Audio";
+    public static final String TRAFFIC_CHANNEL_FIRST_VOICE = "Traffic Channel: Grant To First Voice";
+    public static final long MAXIMUM_LATENCY_MS = 60_000;
+
+    private static LatencyMonitor sInstance;
+    private static final Counter OUT_OF_RANGE_COUNTER = MetricsRegistry.getInstance().counter(
+        "sdrtrunk_processing_latency_out_of_range_total",
+        "Latency measurements that were negative or exceeded the maximum tracked latency");
+    private final Map<String,Histogram> mHistograms = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an instance.  Use getInstance() to access the application-wide latency monitor.
+     */
+    LatencyMonitor()
+    {
+    }
+
+    /**
+     * Application-wide latency monitor
+     */
+    public static synchronized LatencyMonitor getInstance()
+    {
+        if(sInstance == null)
+        {
+            sInstance = new LatencyMonitor();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Latency histogram for the named stage, created on first access.
+     * @param name of the processing stage
+     * @return histogram that records latency values in milliseconds
+     */
+    public Histogram getHistogram(String name)
+    {
+        return mHistograms.computeIfAbsent(name, stage -> MetricsRegistry.getInstance()
+            .histogram("sdrtrunk_processing_latency_seconds",
+                "Age of samples, from capture, as they reach each processing stage", 1E-3, "stage", stage));
+    }
+
+    /**
+     * Records the latency from the capture timestamp to now in the histogram.  Timestamps that are not set (0) are
+     * ignored and latency values outside of the tracked range are counted as out of range.
+     * @param histogram to receive the latency in milliseconds
+     * @param timestamp of sample capture in milliseconds since epoch
+     */
+    public static void recordSince(Histogram histogram, long timestamp)
+    {
+        if(timestamp > 0)
+        {
+            long latency = System.currentTimeMillis() - timestamp;
+
+            if(latency < 0 || latency > MAXIMUM_LATENCY_MS)
+            {
+                OUT_OF_RANGE_COUNTER.increment();
+            }
+            else
+            {
+                histogram.record(latency);
+            }
+        }
+    }
+
+    /**
+     * Diagnostic report of the per-stage and end-to-end latency histograms
+     */
+    public String getDiagnosticReport()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Processing Latency Report\n\n");
+
+        for(Map.Entry<String,Histogram> entry: new TreeMap<>(mHistograms).entrySet())
+        {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getCount();
+            double mean = count > 0 ? (double)histogram.getSum() / count : 0.0;
+            sb.append(String.format("%-32s Count [%d] Mean [%.1f ms] P50 [%d ms] P90 [%d ms] P99 [%d ms] " +
+                "Max [%d ms]", entry.getKey(), count, mean, histogram.getPercentile(0.5),
+                histogram.getPercentile(0.9), histogram.getPercentile(0.99), histogram.getMaximum())).append("\n");
+        }
+
+        sb.append("Out Of Range: ").append(OUT_OF_RANGE_COUNTER.get()).append("\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.monitor.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing count.  Incrementing the counter is lock-free and does not allocate.
+ */
+public class Counter extends Metric
+{
+    private final LongAdder mCount = new LongAdder();
+
+    /**
+     * Constructs an instance.  Use the metrics registry to create registered counters.
+     */
+    Counter(String name, String help, String... labels)
+    {
+        super(name, help, labels);
+    }
+
+    /**
+     * Increments the count by one
+     */
+    public void increment()
+    {
+        mCount.increment();
+    }
+
+    /**
+     * Increments the count
+     * @param count to add
+     */
+    public void add(long count)
+    {
+        mCount.add(count);
+    }
+
+    /**
+     * Current count
+     */
+    public long get()
+    {
+        return mCount.sum();
+    }
+
+    @Override
+    public String getType()
+    {
+        return "counter";
+    }
+
+    @Override
+    public void write(StringBuilder sb)
+    {
+        sb.append(getName()).append(getLabels()).append(" ").append(get()).append("\n");
+    }
+}
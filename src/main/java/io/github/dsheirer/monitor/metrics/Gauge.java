@@ -0,0 +1,59 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.monitor.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Point in time value that is sampled from a value supplier each time the metrics are exported, so that the
+ * measured component doesn't have to do any work to maintain the value.
+ */
+public class Gauge extends Metric
+{
+    private final DoubleSupplier mSupplier;
+
+    /**
+     * Constructs an instance.  Use the metrics registry to create registered gauges.
+     */
+    Gauge(String name, String help, DoubleSupplier supplier, String... labels)
+    {
+        super(name, help, labels);
+        mSupplier = supplier;
+    }
+
+    /**
+     * Current value
+     */
+    public double get()
+    {
+        return mSupplier.getAsDouble();
+    }
+
+    @Override
+    public String getType()
+    {
+        return "gauge";
+    }
+
+    @Override
+    public void write(StringBuilder sb)
+    {
+        sb.append(getName()).append(getLabels()).append(" ").append(MetricsRegistry.format(get())).append("\n");
+    }
+}
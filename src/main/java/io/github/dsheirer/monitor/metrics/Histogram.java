@@ -0,0 +1,195 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.monitor.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, allocation-free histogram with HDR-style log-linear buckets.  Each power of two range of values is split
+ * into four equal width sub-buckets, so that any recorded value is resolved to within 25% across the full range of
+ * positive long values with a fixed set of 248 buckets.
+ *
+ * Values are recorded in integer units (e.g. nanoseconds) and are scaled to the exported unit (e.g. seconds) when
+ * the histogram is exported.  Only the non-empty buckets are exported, as cumulative Prometheus buckets.
+ */
+public class Histogram extends Metric
+{
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder mCount = new LongAdder();
+    private final LongAdder mSum = new LongAdder();
+    private final AtomicLong mMaximum = new AtomicLong();
+    private final double mScale;
+    private final String mBucketLabelPrefix;
+
+    /**
+     * Constructs an instance.  Use the metrics registry to create registered histograms.
+     * @param scale to multiply recorded values by to convert them to the exported unit (e.g. 1E-9 for nanoseconds
+     * recorded and exported as seconds).
+     */
+    Histogram(String name, String help, double scale, String... labels)
+    {
+        super(name, help, labels);
+        mScale = scale;
+        String formatted = getLabels();
+        mBucketLabelPrefix = formatted.isEmpty() ? "{" : formatted.substring(0, formatted.length() - 1) + ",";
+    }
+
+    /**
+     * Records a value.  Negative values are recorded as zero.
+     * @param value to record
+     */
+    public void record(long value)
+    {
+        value = Math.max(value, 0);
+        mBuckets.incrementAndGet(getBucket(value));
+        mCount.increment();
+        mSum.add(value);
+
+        long maximum = mMaximum.get();
+
+        while(value > maximum && !mMaximum.compareAndSet(maximum, value))
+        {
+            maximum = mMaximum.get();
+        }
+    }
+
+    /**
+     * Number of recorded values
+     */
+    public long getCount()
+    {
+        return mCount.sum();
+    }
+
+    /**
+     * Sum of the recorded values
+     */
+    public long getSum()
+    {
+        return mSum.sum();
+    }
+
+    /**
+     * Largest recorded value
+     */
+    public long getMaximum()
+    {
+        return mMaximum.get();
+    }
+
+    /**
+     * Estimated value at the percentile, reported as the upper limit of the bucket that contains the percentile.
+     * @param percentile in range 0.0 - 1.0
+     * @return value or 0 if no values have been recorded
+     */
+    public long getPercentile(double percentile)
+    {
+        long count = getCount();
+
+        if(count == 0)
+        {
+            return 0;
+        }
+
+        long threshold = (long)Math.ceil(count * Math.clamp(percentile, 0.0, 1.0));
+        long cumulative = 0;
+
+        for(int x = 0; x < BUCKET_COUNT; x++)
+        {
+            cumulative += mBuckets.get(x);
+
+            if(cumulative >= threshold)
+            {
+                return Math.min(getUpperBound(x), getMaximum());
+            }
+        }
+
+        return getMaximum();
+    }
+
+    /**
+     * Bucket index for the value
+     */
+    static int getBucket(long value)
+    {
+        if(value < SUB_BUCKET_COUNT)
+        {
+            return (int)value;
+        }
+
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK;
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Largest value, inclusive, that is recorded in the bucket
+     */
+    static long getUpperBound(int bucket)
+    {
+        if(bucket < SUB_BUCKET_COUNT)
+        {
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long)(SUB_BUCKET_COUNT + (bucket & SUB_BUCKET_MASK)) << shift;
+        return lower + ((1L << shift) - 1);
+    }
+
+    @Override
+    public String getType()
+    {
+        return "histogram";
+    }
+
+    @Override
+    public void write(StringBuilder sb)
+    {
+        //Capture the count first so that the cumulative bucket counts never exceed the exported count
+        long count = getCount();
+        long cumulative = 0;
+
+        for(int x = 0; x < BUCKET_COUNT && cumulative < count; x++)
+        {
+            long bucketCount = mBuckets.get(x);
+
+            if(bucketCount > 0)
+            {
+                cumulative = Math.min(cumulative + bucketCount, count);
+                sb.append(getName()).append("_bucket").append(mBucketLabelPrefix).append("le=\"")
+                    .append(MetricsRegistry.format(getUpperBound(x) * mScale)).append("\"} ").append(cumulative)
+                    .append("\n");
+            }
+        }
+
+        sb.append(getName()).append("_bucket").append(mBucketLabelPrefix).append("le=\"+Inf\"} ").append(count)
+            .append("\n");
+        sb.append(getName()).append("_sum").append(getLabels()).append(" ")
+            .append(MetricsRegistry.format(getSum() * mScale)).append("\n");
+        sb.append(getName()).append("_count").append(getLabels()).append(" ").append(count).append("\n");
+    }
+}
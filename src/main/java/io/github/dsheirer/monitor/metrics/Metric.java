@@ -0,0 +1,121 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.monitor.metrics;
+
+/**
+ * Base class for a named metric with optional labels that is registered with the metrics registry and exported in the
+ * Prometheus text exposition format.
+ */
+public abstract class Metric
+{
+    private final String mName;
+    private final String mHelp;
+    private final String mLabels;
+
+    /**
+     * Constructs an instance
+     * @param name of the metric, using the Prometheus naming convention (e.g. sdrtrunk_tuner_samples_total)
+     * @param help description of the metric
+     * @param labels as alternating label name and label value pairs
+     */
+    protected Metric(String name, String help, String... labels)
+    {
+        if(labels.length % 2 != 0)
+        {
+            throw new IllegalArgumentException("Labels must be provided as name and value pairs");
+        }
+
+        mName = name;
+        mHelp = help;
+        mLabels = formatLabels(labels);
+    }
+
+    /**
+     * Metric name
+     */
+    public String getName()
+    {
+        return mName;
+    }
+
+    /**
+     * Metric description
+     */
+    public String getHelp()
+    {
+        return mHelp;
+    }
+
+    /**
+     * Formatted labels, including the enclosing braces, or an empty string when the metric has no labels.
+     */
+    public String getLabels()
+    {
+        return mLabels;
+    }
+
+    /**
+     * Prometheus metric type: counter, gauge or histogram
+     */
+    public abstract String getType();
+
+    /**
+     * Writes the current sample value(s) of this metric in Prometheus text format.
+     * @param sb to write to
+     */
+    public abstract void write(StringBuilder sb);
+
+    /**
+     * Unique key for the metric name and labels
+     */
+    static String getKey(String name, String... labels)
+    {
+        return name + formatLabels(labels);
+    }
+
+    /**
+     * Formats the label name and value pairs
+     */
+    static String formatLabels(String... labels)
+    {
+        if(labels.length == 0)
+        {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+
+        for(int x = 0; x < labels.length; x += 2)
+        {
+            if(x > 0)
+            {
+                sb.append(",");
+            }
+
+            sb.append(labels[x]).append("=\"");
+            String value = labels[x + 1] != null ? labels[x + 1] : "";
+            sb.append(value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"));
+            sb.append("\"");
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.monitor.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.dsheirer.properties.SystemProperties;
+import io.github.dsheirer.util.DispatcherScheduler;
+import io.github.dsheirer.util.ThreadPool;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports the metrics registry for monitoring of a long running (e.g. 24/7 headless) installation.  Both export
+ * options are disabled by default and are enabled via the system properties file:
+ *
+ * metrics.http.port - local (loopback) HTTP port that serves the metrics in Prometheus text format at /metrics
+ * metrics.log.interval.seconds - interval for logging the metrics to the application log
+ */
+public class MetricsExporter
+{
+    private static final Logger mLog = LoggerFactory.getLogger(MetricsExporter.class);
+    public static final String PROPERTY_HTTP_PORT = "metrics.http.port";
+    public static final String PROPERTY_LOG_INTERVAL_SECONDS = "metrics.log.interval.seconds";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private HttpServer mHttpServer;
+    private ScheduledFuture<?> mLogFuture;
+
+    /**
+     * Constructs an instance
+     */
+    public MetricsExporter()
+    {
+    }
+
+    /**
+     * Registers the application level gauges and starts the configured export options.
+     */
+    public void start()
+    {
+        registerApplicationGauges();
+
+        int port = SystemProperties.getInstance().get(PROPERTY_HTTP_PORT, 0);
+
+        if(port > 0)
+        {
+            try
+            {
+                mHttpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+                mHttpServer.createContext("/metrics", this::handle);
+                mHttpServer.start();
+                mLog.info("Metrics available at http://localhost:" + port + "/metrics");
+            }
+            catch(IOException ioe)
+            {
+                mLog.error("Unable to start metrics HTTP endpoint on port " + port, ioe);
+                mHttpServer = null;
+            }
+        }
+
+        int interval = SystemProperties.getInstance().get(PROPERTY_LOG_INTERVAL_SECONDS, 0);
+
+        if(interval > 0)
+        {
+            mLogFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(() -> mLog.info("Metrics\n" +
+                MetricsRegistry.getInstance().getPrometheusText()), interval, interval, TimeUnit.SECONDS);
+            mLog.info("Metrics logging enabled every " + interval + " seconds");
+        }
+    }
+
+    /**
+     * Stops the export options
+     */
+    public void stop()
+    {
+        if(mHttpServer != null)
+        {
+            mHttpServer.stop(0);
+            mHttpServer = null;
+        }
+
+        if(mLogFuture != null)
+        {
+            mLogFuture.cancel(true);
+            mLogFuture = null;
+        }
+    }
+
+    /**
+     * Handles a metrics scrape request
+     */
+    private void handle(HttpExchange exchange) throws IOException
+    {
+        try(exchange)
+        {
+            if(!"GET".equals(exchange.getRequestMethod()))
+            {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] response = MetricsRegistry.getInstance().getPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, response.length);
+
+            try(OutputStream out = exchange.getResponseBody())
+            {
+                out.write(response);
+            }
+        }
+    }
+
+    /**
+     * Registers gauges for application-wide resources
+     */
+    private static void registerApplicationGauges()
+    {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        registry.gauge("sdrtrunk_jvm_heap_used_bytes", "JVM heap memory in use",
+            () -> memory.getHeapMemoryUsage().getUsed());
+        registry.gauge("sdrtrunk_jvm_heap_max_bytes", "JVM maximum heap memory",
+            () -> memory.getHeapMemoryUsage().getMax());
+        registry.gauge("sdrtrunk_jvm_threads", "JVM live thread count",
+            () -> ManagementFactory.getThreadMXBean().getThreadCount());
+        registry.gauge("sdrtrunk_dispatcher_backlog", "Total queued buffers across all scheduled dispatchers",
+            () -> DispatcherScheduler.getInstance().getTotalBacklog());
+    }
+}
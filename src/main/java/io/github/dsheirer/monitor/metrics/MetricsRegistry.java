@@ -0,0 +1,201 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.monitor.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Application-wide registry of performance metrics (counters, gauges and histograms) for the sample processing
+ * pipeline.  Components obtain their metrics once, when they are created or started, and then update them from the
+ * processing threads without locking or allocation.  The registry exports all metrics in the Prometheus text
+ * exposition format.
+ *
+ * Metrics are uniquely identified by name and labels.  Requesting a counter or histogram that is already registered
+ * returns the existing instance so that, for example, a channel that is restarted continues its existing counts.
+ * Registering a gauge replaces any existing gauge with the same name and labels.
+ */
+public class MetricsRegistry
+{
+    private static MetricsRegistry sInstance;
+    private final Map<String,Metric> mMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an instance.  Use getInstance() to access the application-wide metrics registry.
+     */
+    MetricsRegistry()
+    {
+    }
+
+    /**
+     * Application-wide metrics registry
+     */
+    public static synchronized MetricsRegistry getInstance()
+    {
+        if(sInstance == null)
+        {
+            sInstance = new MetricsRegistry();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Registered counter, created on first access.
+     * @param name of the counter, ending with _total by convention
+     * @param help description of the counter
+     * @param labels as alternating label name and label value pairs
+     * @return counter
+     */
+    public Counter counter(String name, String help, String... labels)
+    {
+        return get(Metric.getKey(name, labels), Counter.class, () -> new Counter(name, help, labels));
+    }
+
+    /**
+     * Registered histogram, created on first access.
+     * @param name of the histogram, ending with the exported unit by convention (e.g. _seconds)
+     * @param help description of the histogram
+     * @param scale to convert recorded values to the exported unit (e.g. 1E-9 for nanoseconds to seconds)
+     * @param labels as alternating label name and label value pairs
+     * @return histogram
+     */
+    public Histogram histogram(String name, String help, double scale, String... labels)
+    {
+        return get(Metric.getKey(name, labels), Histogram.class, () -> new Histogram(name, help, scale, labels));
+    }
+
+    /**
+     * Registers a gauge that samples the supplier each time the metrics are exported, replacing any existing gauge
+     * with the same name and labels.
+     * @param name of the gauge
+     * @param help description of the gauge
+     * @param supplier of the current value
+     * @param labels as alternating label name and label value pairs
+     * @return registered gauge
+     */
+    public Gauge gauge(String name, String help, DoubleSupplier supplier, String... labels)
+    {
+        Gauge gauge = new Gauge(name, help, supplier, labels);
+        mMetrics.put(Metric.getKey(name, labels), gauge);
+        return gauge;
+    }
+
+    /**
+     * Removes the metric with the name and labels from this registry
+     * @param name of the metric
+     * @param labels as alternating label name and label value pairs
+     */
+    public void remove(String name, String... labels)
+    {
+        mMetrics.remove(Metric.getKey(name, labels));
+    }
+
+    /**
+     * Removes the metric from this registry, if it is the currently registered instance for its name and labels.
+     * @param metric to remove
+     */
+    public void remove(Metric metric)
+    {
+        if(metric != null)
+        {
+            mMetrics.remove(metric.getName() + metric.getLabels(), metric);
+        }
+    }
+
+    /**
+     * Current metrics, ordered by name and labels
+     */
+    public List<Metric> getMetrics()
+    {
+        List<Metric> metrics = new ArrayList<>(mMetrics.values());
+        metrics.sort(Comparator.comparing(Metric::getName).thenComparing(Metric::getLabels));
+        return metrics;
+    }
+
+    /**
+     * Exports all metrics in the Prometheus text exposition format (version 0.0.4).
+     */
+    public String getPrometheusText()
+    {
+        StringBuilder sb = new StringBuilder();
+        String previousName = null;
+
+        for(Metric metric: getMetrics())
+        {
+            if(!metric.getName().equals(previousName))
+            {
+                sb.append("# HELP ").append(metric.getName()).append(" ")
+                    .append(metric.getHelp().replace("\\", "\\\\").replace("\n", "\\n")).append("\n");
+                sb.append("# TYPE ").append(metric.getName()).append(" ").append(metric.getType()).append("\n");
+                previousName = metric.getName();
+            }
+
+            metric.write(sb);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Formats a sample value for export
+     */
+    static String format(double value)
+    {
+        if(Double.isNaN(value))
+        {
+            return "NaN";
+        }
+        else if(Double.isInfinite(value))
+        {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        else if(value == Math.rint(value) && Math.abs(value) < 1E15)
+        {
+            return Long.toString((long)value);
+        }
+
+        return Double.toString(value);
+    }
+
+    /**
+     * Returns the metric registered for the key, creating it when necessary.
+     */
+    private <T extends Metric> T get(String key, Class<T> type, Supplier<T> factory)
+    {
+        Metric metric = mMetrics.get(key);
+
+        if(metric == null)
+        {
+            metric = mMetrics.computeIfAbsent(key, k -> factory.get());
+        }
+
+        if(!type.isInstance(metric))
+        {
+            throw new IllegalArgumentException("Metric [" + key + "] is already registered as a " + metric.getType());
+        }
+
+        return type.cast(metric);
+    }
+}
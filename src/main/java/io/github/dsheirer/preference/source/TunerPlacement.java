@@ -0,0 +1,61 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.preference.source;
+
+/**
+ * Tuner placement - identifies the policy used to select a tuner for channels that don't have a preferred tuner, or
+ * when the preferred tuner can't source the channel.
+ */
+public enum TunerPlacement
+{
+    FIRST_FIT("First Fit"),
+    LOAD_BALANCED("Load Balanced");
+
+    private String mLabel;
+
+    TunerPlacement(String label)
+    {
+        mLabel = label;
+    }
+
+    @Override
+    public String toString()
+    {
+        return mLabel;
+    }
+
+    /**
+     * Lookup the enum entry from the value.
+     * @param value to match
+     * @return matched value or (default) FIRST_FIT if the value couldn't be matched.
+     */
+    public static TunerPlacement fromValue(String value)
+    {
+        try
+        {
+            return TunerPlacement.valueOf(value);
+        }
+        catch(Exception e)
+        {
+            //Do nothing
+        }
+
+        return FIRST_FIT;
+    }
+}
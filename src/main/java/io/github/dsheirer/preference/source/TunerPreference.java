@@ -36,9 +36,17 @@ public class TunerPreference extends Preference
     private Preferences mPreferences = Preferences.userNodeForPackage(TunerPreference.class);
     private static final String PREFERENCE_KEY_CHANNELIZER_TYPE = "channelizer.type";
     private static final String PREFERENCE_KEY_RSP_DUO_TUNER_MODE = "rsp.duo.tuner.mode";
+    private static final String PREFERENCE_KEY_CHANNELIZER_WORKER_COUNT = "channelizer.worker.count";
+    private static final String PREFERENCE_KEY_DISPATCH_BATCH_WINDOW = "dispatch.batch.window";
+    private static final String PREFERENCE_KEY_TUNER_PLACEMENT = "tuner.placement";
+    public static final int CHANNELIZER_WORKER_COUNT_MAXIMUM = 16;
+    public static final int DISPATCH_BATCH_WINDOW_MAXIMUM = 50;
 
     private ChannelizerType mChannelizerType;
     private RspDuoSelectionMode mRspDuoSelectionMode;
+    private Integer mChannelizerWorkerCount;
+    private Integer mDispatchBatchWindow;
+    private TunerPlacement mTunerPlacement;
 
     /**
      * Constructs a tuner preference with the update listener
@@ -97,6 +105,88 @@ public class TunerPreference extends Preference
         notifyPreferenceUpdated();
     }
 
+    /**
+     * Number of worker threads shared by the polyphase channelizers for striped IFFT processing.  A value of 1 uses
+     * the single-threaded IFFT processor for each tuner.
+     * @return worker count in range 1 - 16 with a default of 1.
+     */
+    public int getChannelizerWorkerCount()
+    {
+        if(mChannelizerWorkerCount == null)
+        {
+            int count = mPreferences.getInt(PREFERENCE_KEY_CHANNELIZER_WORKER_COUNT, 1);
+            mChannelizerWorkerCount = Math.clamp(count, 1, CHANNELIZER_WORKER_COUNT_MAXIMUM);
+        }
+
+        return mChannelizerWorkerCount;
+    }
+
+    /**
+     * Sets the number of worker threads shared by the polyphase channelizers.
+     * @param count of worker threads in range 1 - 16.
+     */
+    public void setChannelizerWorkerCount(int count)
+    {
+        mChannelizerWorkerCount = Math.clamp(count, 1, CHANNELIZER_WORKER_COUNT_MAXIMUM);
+        mPreferences.putInt(PREFERENCE_KEY_CHANNELIZER_WORKER_COUNT, mChannelizerWorkerCount);
+        notifyPreferenceUpdated();
+    }
+
+    /**
+     * Batching window for low latency (wake-on-enqueue) dispatch of sample buffers through the channelizer and
+     * channel source processing stages.  A value of 0 disables low latency dispatch and buffers are processed at
+     * each stage's fixed processing interval.
+     * @return batching window in milliseconds in range 0 - 50 with a default of 0.
+     */
+    public int getDispatchBatchWindow()
+    {
+        if(mDispatchBatchWindow == null)
+        {
+            int window = mPreferences.getInt(PREFERENCE_KEY_DISPATCH_BATCH_WINDOW, 0);
+            mDispatchBatchWindow = Math.clamp(window, 0, DISPATCH_BATCH_WINDOW_MAXIMUM);
+        }
+
+        return mDispatchBatchWindow;
+    }
+
+    /**
+     * Sets the batching window for low latency dispatch of sample buffers.
+     * @param window in milliseconds in range 0 - 50, where 0 disables low latency dispatch.
+     */
+    public void setDispatchBatchWindow(int window)
+    {
+        mDispatchBatchWindow = Math.clamp(window, 0, DISPATCH_BATCH_WINDOW_MAXIMUM);
+        mPreferences.putInt(PREFERENCE_KEY_DISPATCH_BATCH_WINDOW, mDispatchBatchWindow);
+        notifyPreferenceUpdated();
+    }
+
+    /**
+     * Policy for selecting the tuner that sources a channel when the channel doesn't have a preferred tuner or when
+     * the preferred tuner can't source the channel.
+     * @return placement policy or a default value of FIRST_FIT
+     */
+    public TunerPlacement getTunerPlacement()
+    {
+        if(mTunerPlacement == null)
+        {
+            String placement = mPreferences.get(PREFERENCE_KEY_TUNER_PLACEMENT, TunerPlacement.FIRST_FIT.name());
+            mTunerPlacement = TunerPlacement.fromValue(placement);
+        }
+
+        return mTunerPlacement;
+    }
+
+    /**
+     * Sets the tuner placement policy
+     * @param placement to use
+     */
+    public void setTunerPlacement(TunerPlacement placement)
+    {
+        mTunerPlacement = placement;
+        mPreferences.put(PREFERENCE_KEY_TUNER_PLACEMENT, mTunerPlacement.name());
+        notifyPreferenceUpdated();
+    }
+
     /**
      * RSPduo tuner select mode.
      * @return mode or a default value of DUAL
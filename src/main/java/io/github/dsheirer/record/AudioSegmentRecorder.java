@@ -21,8 +21,9 @@ package io.github.dsheirer.record;
 
 import io.github.dsheirer.audio.AudioFormats;
 import io.github.dsheirer.audio.AudioSegment;
+import io.github.dsheirer.audio.buffer.AudioBufferView;
 import io.github.dsheirer.audio.convert.InputAudioFormat;
-import io.github.dsheirer.audio.convert.MP3AudioConverter;
+import io.github.dsheirer.audio.convert.MP3EncodingService;
 import io.github.dsheirer.audio.convert.MP3Setting;
 import io.github.dsheirer.identifier.IdentifierCollection;
 import io.github.dsheirer.preference.UserPreferences;
@@ -100,6 +101,16 @@ public class AudioSegmentRecorder
     {
         if(audioSegment.hasAudio())
         {
+            //Convert audio to MP3 before creating the file so that an encoding error doesn't leave an empty file
+            InputAudioFormat inputAudioFormat = userPreferences.getMP3Preference().getAudioSampleRate();
+            MP3Setting mp3Setting = userPreferences.getMP3Preference().getMP3Setting();
+
+            boolean normalizeAudio = userPreferences.getMP3Preference().isNormalizeAudioBeforeEncode();
+
+            //Encoding is shared with any other consumers of the audio segment that use the same MP3 settings
+            List<byte[]> mp3Frames = MP3EncodingService.getInstance().getEncodedAudio(audioSegment, inputAudioFormat,
+                mp3Setting, normalizeAudio);
+
             OutputStream outputStream = new FileOutputStream(path.toFile());
 
             //Write ID3 metadata
@@ -109,29 +120,11 @@ public class AudioSegmentRecorder
             byte[] id3Bytes = AudioMetadataUtils.getMP3ID3(metadataMap);
             outputStream.write(id3Bytes);
 
-            //Convert audio to MP3 and write to file
-            InputAudioFormat inputAudioFormat = userPreferences.getMP3Preference().getAudioSampleRate();
-            MP3Setting mp3Setting = userPreferences.getMP3Preference().getMP3Setting();
-
-            boolean normalizeAudio = userPreferences.getMP3Preference().isNormalizeAudioBeforeEncode();
-
-            MP3AudioConverter converter = new MP3AudioConverter(inputAudioFormat, mp3Setting, normalizeAudio);
-            List<byte[]> mp3Frames = converter.convert(audioSegment.getAudioBuffers());
             for(byte[] mp3Frame: mp3Frames)
             {
                 outputStream.write(mp3Frame);
             }
 
-            List<byte[]> lastFrames = converter.flush();
-
-            if(!lastFrames.isEmpty())
-            {
-                for(byte[] lastFrame: lastFrames)
-                {
-                    outputStream.write(lastFrame);
-                }
-            }
-
             outputStream.flush();
             outputStream.close();
         }
@@ -150,9 +143,20 @@ public class AudioSegmentRecorder
         {
             WaveWriter writer = new WaveWriter(AudioFormats.PCM_SIGNED_8000_HZ_16_BIT_MONO, path);
 
-            for(float[] audioBuffer: audioSegment.getAudioBuffers())
+            int bufferCount = audioSegment.getAudioBufferCount();
+            float[] samples = new float[0];
+
+            for(int x = 0; x < bufferCount; x++)
             {
-                writer.writeData(ConversionUtils.convertToSigned16BitSamples(audioBuffer));
+                AudioBufferView view = audioSegment.getAudioBufferView(x);
+
+                if(samples.length < view.length())
+                {
+                    samples = new float[view.length()];
+                }
+
+                view.copyTo(samples, 0);
+                writer.writeData(ConversionUtils.convertToSigned16BitSamples(samples, view.length()));
             }
 
             Map<AudioMetadata,String> metadataMap = AudioMetadataUtils.getMetadataMap(identifierCollection,
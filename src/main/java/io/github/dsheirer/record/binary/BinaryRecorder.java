@@ -73,6 +73,7 @@ public class BinaryRecorder extends Module implements IByteBufferListener
         mBaseRecordingPath = baseRecordingPath;
         mRecordingIdentifier = recordingIdentifier;
         mBufferProcessor.setListener(mBinaryWriter);
+        mBufferProcessor.setBlocking(true);
         mProtocol = protocol;
         mBitRate = bitRate;
         mFrequency = frequency;
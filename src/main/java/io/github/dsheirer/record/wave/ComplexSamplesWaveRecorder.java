@@ -90,6 +90,7 @@ public class ComplexSamplesWaveRecorder extends Module implements IComplexSample
                 mWriter = new BufferWaveWriter(mAudioFormat, mFile);
 
                 mBufferProcessor.setListener(mWriter);
+                mBufferProcessor.setBlocking(true);
                 mBufferProcessor.start();
             }
             catch(IOException io)
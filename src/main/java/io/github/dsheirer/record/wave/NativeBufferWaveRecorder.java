@@ -104,6 +104,7 @@ public class NativeBufferWaveRecorder extends Module implements Listener<INative
                 mWriter = new NativeBufferWaveWriter(mAudioFormat, Paths.get(mFilePath));
                 mBufferProcessor.setListener(mWriter);
                 mStatusListener.update(mRecordingCount, mFilePath, 0);
+                mBufferProcessor.setBlocking(true);
                 mBufferProcessor.start();
             }
             catch(IOException io)
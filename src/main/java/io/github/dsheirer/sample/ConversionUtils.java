@@ -61,11 +61,25 @@ public class ConversionUtils
      */
     public static ByteBuffer convertToSigned16BitSamples(float[] samples)
     {
-        ByteBuffer converted = ByteBuffer.allocate(samples.length * 2);
+        return convertToSigned16BitSamples(samples, samples.length);
+    }
+
+    /**
+     * Converts the leading samples of the float array into a little-endian 16-bit sample byte buffer.
+     *
+     * @param samples - float array of sample data
+     * @param length - number of samples to convert, starting at index 0
+     * @return - little-endian 16-bit sample byte buffer
+     */
+    public static ByteBuffer convertToSigned16BitSamples(float[] samples, int length)
+    {
+        ByteBuffer converted = ByteBuffer.allocate(length * 2);
         converted.order(ByteOrder.LITTLE_ENDIAN);
 
-        for(float sample : samples)
+        for(int x = 0; x < length; x++)
         {
+            float sample = samples[x];
+
             if(sample > 1.0f)
             {
                 converted.putShort(Short.MAX_VALUE);
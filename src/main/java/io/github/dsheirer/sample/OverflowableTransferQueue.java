@@ -18,6 +18,8 @@
  ******************************************************************************/
 package io.github.dsheirer.sample;
 
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.source.Source;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +32,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class OverflowableTransferQueue<E>
 {
     private final static Logger mLog = LoggerFactory.getLogger(OverflowableTransferQueue.class);
+    private static final Counter OVERFLOW_COUNTER = MetricsRegistry.getInstance().counter(
+        "sdrtrunk_buffer_overflow_total", "Transitions of a sample buffer queue into the overflow state");
+    private static final Counter DROPPED_COUNTER = MetricsRegistry.getInstance().counter(
+        "sdrtrunk_buffer_overflow_dropped_total", "Sample buffers dropped while a buffer queue is in overflow");
 
     public enum State {NORMAL, OVERFLOW};
     private IOverflowListener mOverflowListener;
@@ -81,6 +87,7 @@ public class OverflowableTransferQueue<E>
         }
         else
         {
+            DROPPED_COUNTER.increment();
             overflow(e);
         }
     }
@@ -169,6 +176,11 @@ public class OverflowableTransferQueue<E>
     {
         if(mOverflow.compareAndSet(!overflow, overflow))
         {
+            if(overflow)
+            {
+                OVERFLOW_COUNTER.increment();
+            }
+
             if(mOverflowListener != null)
             {
                 mOverflowListener.sourceOverflow(overflow);
@@ -18,6 +18,7 @@
  */
 package io.github.dsheirer.source.tuner;
 
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.preference.source.ChannelizerType;
 import io.github.dsheirer.sample.Broadcaster;
 import io.github.dsheirer.sample.Listener;
@@ -39,6 +40,8 @@ import org.slf4j.LoggerFactory;
 public abstract class Tuner implements ISourceEventProcessor, ITunerErrorListener
 {
     private final static Logger mLog = LoggerFactory.getLogger(Tuner.class);
+    private static final String METRIC_CHANNEL_COUNT = "sdrtrunk_tuner_channels";
+    private static final String METRIC_BUFFER_BACKLOG = "sdrtrunk_tuner_buffer_backlog";
 
     private final Broadcaster<TunerEvent> mTunerEventBroadcaster = new Broadcaster<>();
     private ChannelSourceManager mChannelSourceManager;
@@ -88,7 +91,9 @@ public abstract class Tuner implements ISourceEventProcessor, ITunerErrorListene
         {
             try
             {
+                getTunerController().registerMetrics(getPreferredName());
                 getTunerController().start();
+                registerMetrics();
             }
             catch(SourceException se)
             {
@@ -106,6 +111,20 @@ public abstract class Tuner implements ISourceEventProcessor, ITunerErrorListene
         }
     }
 
+    /**
+     * Registers gauges for the channel count and the sample buffer backlog of this tuner.
+     */
+    private void registerMetrics()
+    {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.gauge(METRIC_CHANNEL_COUNT, "Channels currently sourced from the tuner", () -> {
+            ChannelSourceManager channelSourceManager = getChannelSourceManager();
+            return channelSourceManager != null ? channelSourceManager.getTunerChannelCount() : 0;
+        }, "tuner", getPreferredName());
+        registry.gauge(METRIC_BUFFER_BACKLOG, "Largest queue of sample buffers awaiting channelizer processing",
+            () -> getTunerController().getBufferBacklog(), "tuner", getPreferredName());
+    }
+
     /**
      * Perform shutdown and disposal operations.
      */
@@ -115,6 +134,9 @@ public abstract class Tuner implements ISourceEventProcessor, ITunerErrorListene
         {
             broadcast(new TunerEvent(this, Event.NOTIFICATION_SHUTTING_DOWN));
 
+            MetricsRegistry.getInstance().remove(METRIC_CHANNEL_COUNT, "tuner", getPreferredName());
+            MetricsRegistry.getInstance().remove(METRIC_BUFFER_BACKLOG, "tuner", getPreferredName());
+
             if(getChannelSourceManager() != null)
             {
                 getChannelSourceManager().stopAllChannels();
@@ -20,6 +20,8 @@ package io.github.dsheirer.source.tuner;
 
 import io.github.dsheirer.buffer.INativeBuffer;
 import io.github.dsheirer.buffer.INativeBufferProvider;
+import io.github.dsheirer.monitor.metrics.Counter;
+import io.github.dsheirer.monitor.metrics.MetricsRegistry;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.record.RecorderFactory;
 import io.github.dsheirer.record.wave.IRecordingStatusListener;
@@ -36,9 +38,11 @@ import io.github.dsheirer.source.tuner.configuration.TunerConfiguration;
 import io.github.dsheirer.source.tuner.frequency.FrequencyController;
 import io.github.dsheirer.source.tuner.frequency.FrequencyController.Tunable;
 import io.github.dsheirer.source.tuner.frequency.TunerFrequencyErrorManager;
+import io.github.dsheirer.util.Dispatcher;
 import java.text.DecimalFormat;
 import java.util.SortedSet;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +67,9 @@ public abstract class TunerController implements Tunable, ISourceEventProcessor,
     private ITunerErrorListener mTunerErrorListener;
     private static final DecimalFormat DF = new DecimalFormat("0.000");
     protected TunerFrequencyErrorManager mTunerFrequencyErrorManager;
+    private Counter mSampleCounter;
+    private Counter mBufferCounter;
+    private volatile IntSupplier mChannelBacklogMonitor;
 
     /**
      * Abstract tuner controller class.  The tuner controller manages frequency bandwidth and currently tuned channels
@@ -679,15 +686,78 @@ public abstract class TunerController implements Tunable, ISourceEventProcessor,
         return hasListeners;
     }
 
+    /**
+     * Largest number of buffers queued and awaiting processing by any of the registered buffer listeners that are
+     * dispatchers (e.g. the polyphase channelizer buffer processor).  Used by file-based tuners to apply backpressure
+     * when replaying faster than real time.
+     * @return largest listener backlog or zero if there are no dispatcher listeners
+     */
+    public int getBufferBacklog()
+    {
+        int backlog = 0;
+
+        for(Listener<INativeBuffer> listener: mNativeBufferBroadcaster.getListeners())
+        {
+            if(listener instanceof Dispatcher<?> dispatcher)
+            {
+                backlog = Math.max(backlog, dispatcher.getQueueSize());
+            }
+        }
+
+        return backlog;
+    }
+
+    /**
+     * Sets the monitor that provides the backlog of the channelizer and channel dispatchers that process this tuner's
+     * sample buffers.  Set by the channel manager for this tuner.
+     * @param channelBacklogMonitor providing the largest channel dispatcher backlog, or null to clear
+     */
+    public void setChannelBacklogMonitor(IntSupplier channelBacklogMonitor)
+    {
+        mChannelBacklogMonitor = channelBacklogMonitor;
+    }
+
+    /**
+     * Largest number of elements queued and awaiting processing by the channelizer and channel dispatchers downstream
+     * of this tuner.  Used by file-based tuners to apply backpressure when replaying faster than real time.
+     * @return largest channel dispatcher backlog or zero if there is no channel backlog monitor
+     */
+    public int getChannelBacklog()
+    {
+        IntSupplier channelBacklogMonitor = mChannelBacklogMonitor;
+        return channelBacklogMonitor != null ? channelBacklogMonitor.getAsInt() : 0;
+    }
+
     /**
      * Broadcasts the buffer to any registered listeners
      */
     protected void broadcast(INativeBuffer complexSamples)
     {
+        Counter sampleCounter = mSampleCounter;
+
+        if(sampleCounter != null)
+        {
+            sampleCounter.add(complexSamples.sampleCount());
+            mBufferCounter.increment();
+        }
+
         //Note: unprotected access to the broadcaster ... the broadcaster uses thread-save internal list
         mNativeBufferBroadcaster.broadcast(complexSamples);
     }
 
+    /**
+     * Registers the native buffer sample and buffer count metrics for this tuner controller.
+     * @param tunerName to label the metrics
+     */
+    public void registerMetrics(String tunerName)
+    {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        mBufferCounter = registry.counter("sdrtrunk_tuner_buffers_total", "Native sample buffers produced by the tuner",
+            "tuner", tunerName);
+        mSampleCounter = registry.counter("sdrtrunk_tuner_samples_total", "Complex samples produced by the tuner",
+            "tuner", tunerName);
+    }
+
     /**
      * Implements the Listener<T> interface to receive and distribute complex buffers from subclass implementations
      */
@@ -24,6 +24,7 @@ import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.mixer.ComplexMixer;
 import io.github.dsheirer.dsp.mixer.ComplexMixerFactory;
+import io.github.dsheirer.monitor.LatencyMonitor;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.complex.ComplexSamples;
 import io.github.dsheirer.source.SourceEvent;
@@ -82,6 +83,9 @@ public class HalfBandTunerChannelSource<T extends INativeBuffer> extends TunerCh
 
         //Set dispatcher to process 1/10 of estimated sample arrival rate, 20 times per second (up to 200% per interval)
         mBufferDispatcher = new Dispatcher(threadName, 50, getHeartbeatManager());
+        mBufferDispatcher.setLowLatency(true);
+        mBufferDispatcher.setLatencyHistogram(LatencyMonitor.getInstance()
+            .getHistogram(LatencyMonitor.STAGE_HETERODYNE_CHANNEL), INativeBuffer::getTimestamp);
         mBufferDispatcher.setListener(new NativeBufferProcessor());
 
         //Setup the frequency mixer to the current source frequency
@@ -22,6 +22,7 @@ package io.github.dsheirer.source.tuner.channel;
 import io.github.dsheirer.buffer.INativeBuffer;
 import io.github.dsheirer.dsp.mixer.ComplexMixer;
 import io.github.dsheirer.dsp.mixer.ComplexMixerFactory;
+import io.github.dsheirer.monitor.LatencyMonitor;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.complex.ComplexSamples;
 import io.github.dsheirer.source.ISourceEventListener;
@@ -59,6 +60,9 @@ public class PassThroughChannelSource extends TunerChannelSource implements ISou
         super(listener, tunerChannel, threadName,  tunerController.getTunerFrequencyErrorManager());
         mTunerController = tunerController;
         mBufferDispatcher = new Dispatcher<>(threadName, 50, getHeartbeatManager());
+        mBufferDispatcher.setLowLatency(true);
+        mBufferDispatcher.setLatencyHistogram(LatencyMonitor.getInstance()
+            .getHistogram(LatencyMonitor.STAGE_PASS_THROUGH_CHANNEL), INativeBuffer::getTimestamp);
         mBufferDispatcher.setListener(new BufferProcessor());
         mFrequencyCorrectionMixer = ComplexMixerFactory.getMixer(0,0);
     }
@@ -84,6 +84,16 @@ public abstract class ChannelSourceManager implements ISourceEventProcessor
     public abstract TunerChannelSource getSource(TunerChannel tunerChannel, ChannelSpecification channelSpecification,
                                                  String threadName);
 
+    /**
+     * Processing load of the channelizer that produces the tuner channel sources, as the fraction of a single CPU core
+     * that is spent channelizing the tuner sample stream.
+     * @return load, or zero if this source manager doesn't measure channelizer load.
+     */
+    public double getChannelizerLoad()
+    {
+        return 0.0;
+    }
+
     /**
      * Signals that the complex buffer provider has an error and can no long provider buffers.  The subclass should
      * implement procedures to gracefully shutdown any tuner channel sources that have been provisioned.
@@ -0,0 +1,34 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.source.tuner.manager;
+
+import io.github.dsheirer.source.tuner.channel.TunerChannel;
+import java.util.List;
+
+/**
+ * Places each channel on the first discovered tuner that can source it.
+ */
+public class FirstFitPlacementPolicy implements ITunerPlacementPolicy
+{
+    @Override
+    public List<DiscoveredTuner> order(TunerChannel tunerChannel, List<DiscoveredTuner> candidates)
+    {
+        return candidates;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.source.tuner.manager;
+
+import io.github.dsheirer.source.tuner.channel.TunerChannel;
+import java.util.List;
+
+/**
+ * Policy for selecting the tuner that sources a tuner channel.
+ */
+public interface ITunerPlacementPolicy
+{
+    /**
+     * Orders the candidate tuners for sourcing the tuner channel.  The caller attempts to obtain the channel from each
+     * tuner in the returned order until a tuner can source the channel.
+     * @param tunerChannel requested
+     * @param candidates that are available to source the channel, in discovery order
+     * @return candidates ordered from most to least preferred
+     */
+    List<DiscoveredTuner> order(TunerChannel tunerChannel, List<DiscoveredTuner> candidates);
+}
@@ -0,0 +1,154 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.source.tuner.manager;
+
+import io.github.dsheirer.source.tuner.Tuner;
+import io.github.dsheirer.source.tuner.TunerController;
+import io.github.dsheirer.source.tuner.channel.TunerChannel;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Places each channel on the least loaded tuner that can source it, so that channels are spread across the tuners
+ * instead of concentrating on the first discovered tuner.
+ *
+ * Each candidate tuner is scored from its active channel count, the measured channelizer processing load, the
+ * backlog of sample buffers awaiting channelizer processing, and the remaining usable bandwidth (headroom) once the
+ * channel is added to the tuner's current channel set.  Candidates that can't fit the channel alongside their current
+ * channels are ordered last.  The lowest score is preferred and equally scored tuners retain discovery order.
+ */
+public class LoadBalancedPlacementPolicy implements ITunerPlacementPolicy
+{
+    private static final Logger mLog = LoggerFactory.getLogger(LoadBalancedPlacementPolicy.class);
+    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.00");
+
+    //Score weights, scaled so that one point is roughly the cost of sourcing one additional channel
+    private static final double CHANNEL_WEIGHT = 1.0;
+    private static final double LOAD_WEIGHT = 20.0;
+    private static final double BACKLOG_WEIGHT = 2.0;
+    private static final double HEADROOM_WEIGHT = 4.0;
+
+    @Override
+    public List<DiscoveredTuner> order(TunerChannel tunerChannel, List<DiscoveredTuner> candidates)
+    {
+        List<Candidate> scored = new ArrayList<>();
+
+        for(DiscoveredTuner candidate: candidates)
+        {
+            if(candidate.hasTuner())
+            {
+                scored.add(score(tunerChannel, candidate));
+            }
+        }
+
+        scored.sort(Comparator.comparing(Candidate::fits).reversed().thenComparingDouble(Candidate::score));
+
+        List<DiscoveredTuner> ordered = new ArrayList<>();
+
+        for(Candidate candidate: scored)
+        {
+            ordered.add(candidate.discoveredTuner());
+        }
+
+        if(mLog.isDebugEnabled() && scored.size() > 1 && scored.get(1).fits())
+        {
+            mLog.debug("Tuner placement for channel [" + tunerChannel.getFrequency() + "] candidates " + scored);
+        }
+
+        return ordered;
+    }
+
+    /**
+     * Scores the candidate tuner for sourcing the channel.
+     * @param tunerChannel requested
+     * @param discoveredTuner candidate with an instantiated tuner
+     * @return scored candidate
+     */
+    private static Candidate score(TunerChannel tunerChannel, DiscoveredTuner discoveredTuner)
+    {
+        Tuner tuner = discoveredTuner.getTuner();
+
+        try
+        {
+            TunerController tunerController = tuner.getTunerController();
+            ChannelSourceManager channelSourceManager = tuner.getChannelSourceManager();
+            SortedSet<TunerChannel> channels = new TreeSet<>(channelSourceManager.getTunerChannels());
+
+            boolean fits = CenterFrequencyCalculator.canTune(tunerChannel, tunerController, channels);
+
+            //Fraction of the usable bandwidth that remains after the channel set is expanded to include the channel
+            long minimum = tunerChannel.getMinFrequency();
+            long maximum = tunerChannel.getMaxFrequency();
+
+            for(TunerChannel channel: channels)
+            {
+                minimum = Math.min(minimum, channel.getMinFrequency());
+                maximum = Math.max(maximum, channel.getMaxFrequency());
+            }
+
+            int usableBandwidth = tunerController.getUsableBandwidth();
+            double headroom = usableBandwidth > 0 ?
+                Math.max(0.0, 1.0 - ((double)(maximum - minimum) / usableBandwidth)) : 0.0;
+
+            int channelCount = channelSourceManager.getTunerChannelCount();
+            double load = channelSourceManager.getChannelizerLoad();
+            int backlog = tunerController.getBufferBacklog();
+
+            double score = (channelCount * CHANNEL_WEIGHT) + (load * LOAD_WEIGHT) + (backlog * BACKLOG_WEIGHT) +
+                ((1.0 - headroom) * HEADROOM_WEIGHT);
+
+            return new Candidate(discoveredTuner, fits, score, channelCount, load, backlog, headroom);
+        }
+        catch(Exception e)
+        {
+            mLog.error("Error scoring tuner [" + tuner.getPreferredName() + "] for channel placement", e);
+        }
+
+        //Leave the tuner as a last resort candidate and let the tuner decide if it can source the channel
+        return new Candidate(discoveredTuner, false, Double.MAX_VALUE, 0, 0.0, 0, 0.0);
+    }
+
+    /**
+     * Scored placement candidate
+     * @param discoveredTuner candidate
+     * @param fits indicates if the channel fits within the tuner bandwidth alongside the current channels
+     * @param score for the candidate, lower is better
+     * @param channelCount currently sourced by the tuner
+     * @param load of the channelizer as a fraction of a CPU core
+     * @param backlog of sample buffers awaiting channelizer processing
+     * @param headroom fraction of usable bandwidth remaining with the channel added
+     */
+    private record Candidate(DiscoveredTuner discoveredTuner, boolean fits, double score, int channelCount,
+                             double load, int backlog, double headroom)
+    {
+        @Override
+        public String toString()
+        {
+            return "[" + discoveredTuner.getTuner().getPreferredName() + (fits ? "" : " NO FIT") + " SCORE:" +
+                DECIMAL_FORMAT.format(score) + " CHANNELS:" + channelCount + " LOAD:" + DECIMAL_FORMAT.format(load) +
+                " BACKLOG:" + backlog + " HEADROOM:" + DECIMAL_FORMAT.format(headroom) + "]";
+        }
+    }
+}
@@ -79,6 +79,12 @@ public class PolyphaseChannelSourceManager extends ChannelSourceManager
         mPolyphaseChannelManager.stopAllChannels();
     }
 
+    @Override
+    public double getChannelizerLoad()
+    {
+        return mPolyphaseChannelManager.getLoad();
+    }
+
     /**
      * Indicates if the channel min/max frequencies are within the tunable frequency range of the tuner controller
      *
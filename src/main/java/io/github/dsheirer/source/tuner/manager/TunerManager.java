@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.source.tuner.manager;
 
+import io.github.dsheirer.dsp.filter.channelizer.ChannelizerWorkerPool;
 import io.github.dsheirer.gui.preference.tuner.RspDuoSelectionMode;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.preference.source.ChannelizerType;
@@ -44,6 +45,7 @@ import io.github.dsheirer.source.tuner.sdrplay.api.SDRplay;
 import io.github.dsheirer.source.tuner.sdrplay.api.device.DeviceInfo;
 import io.github.dsheirer.source.tuner.sdrplay.rspDuo.DiscoveredRspDuoTuner1;
 import io.github.dsheirer.source.tuner.ui.DiscoveredTunerModel;
+import io.github.dsheirer.util.DispatcherScheduler;
 import io.github.dsheirer.util.ThreadPool;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -74,6 +76,8 @@ public class TunerManager implements IDiscoveredTunerStatusListener
     private final DiscoveredTunerModel mDiscoveredTunerModel;
     private final TunerConfigurationManager mTunerConfigurationManager;
     private final HotplugEventSupport mHotplugEventSupport = new HotplugEventSupport();
+    private final ITunerPlacementPolicy mFirstFitPlacementPolicy = new FirstFitPlacementPolicy();
+    private final ITunerPlacementPolicy mLoadBalancedPlacementPolicy = new LoadBalancedPlacementPolicy();
     private final Context mLibUsbApplicationContext = new Context();
     private boolean mLibUsbInitialized = false;
     private SDRplay mSDRplay;
@@ -85,6 +89,10 @@ public class TunerManager implements IDiscoveredTunerStatusListener
     public TunerManager(UserPreferences userPreferences)
     {
         mUserPreferences = userPreferences;
+        //Initialize the shared polyphase channelizer worker pool with the user's worker count preference
+        ChannelizerWorkerPool.getInstance(userPreferences);
+        //Initialize the shared dispatcher scheduler with the user's low latency dispatch preference
+        DispatcherScheduler.getInstance(userPreferences);
         mTunerConfigurationManager = new TunerConfigurationManager(userPreferences);
         mDiscoveredTunerModel = new DiscoveredTunerModel(mTunerConfigurationManager);
     }
@@ -600,7 +608,21 @@ public class TunerManager implements IDiscoveredTunerStatusListener
     }
 
     /**
-     * Iterates current available tuners to get a tuner channel source for the specified frequency and bandwidth
+     * Tuner placement policy for channels that are not sourced from a preferred tuner.
+     */
+    private ITunerPlacementPolicy getPlacementPolicy()
+    {
+        return switch(mUserPreferences.getTunerPreference().getTunerPlacement())
+        {
+            case FIRST_FIT -> mFirstFitPlacementPolicy;
+            case LOAD_BALANCED -> mLoadBalancedPlacementPolicy;
+        };
+    }
+
+    /**
+     * Iterates current available tuners to get a tuner channel source for the specified frequency and bandwidth.  The
+     * preferred tuner is attempted first and then the available tuners are attempted in the order determined by the
+     * tuner placement policy preference.
      * @param tunerChannel requested
      * @param channelSpecification from the decoder
      * @param preferredTuner name
@@ -643,7 +665,9 @@ public class TunerManager implements IDiscoveredTunerStatusListener
                         preferredTuner + "] - searching for another tuner");
             }
 
-            Iterator<DiscoveredTuner> it = mDiscoveredTunerModel.getAvailableTuners().iterator();
+            List<DiscoveredTuner> candidates = getPlacementPolicy().order(tunerChannel,
+                mDiscoveredTunerModel.getAvailableTuners());
+            Iterator<DiscoveredTuner> it = candidates.iterator();
 
             while(it.hasNext() && source == null)
             {
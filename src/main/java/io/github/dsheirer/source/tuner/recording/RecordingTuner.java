@@ -44,7 +44,8 @@ public class RecordingTuner extends Tuner
     public RecordingTuner(UserPreferences userPreferences, ITunerErrorListener tunerErrorListener,
                           RecordingTunerConfiguration config)
     {
-        super(new RecordingTunerController(tunerErrorListener, config.getPath(), config.getFrequency()), tunerErrorListener);
+        super(new RecordingTunerController(tunerErrorListener, config.getPath(), config.getFrequency(),
+            config.isMaxSpeedReplay()), tunerErrorListener);
 
         mUserPreferences = userPreferences;
     }
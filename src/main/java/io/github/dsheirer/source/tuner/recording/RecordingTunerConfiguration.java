@@ -33,6 +33,7 @@ public class RecordingTunerConfiguration extends TunerConfiguration
 {
     private static final Logger mLog = LoggerFactory.getLogger(RecordingTunerConfiguration.class);
     private String mPath;
+    private boolean mMaxSpeedReplay;
 
     /**
      * Jackson constructor
@@ -70,6 +71,24 @@ public class RecordingTunerConfiguration extends TunerConfiguration
         mPath = path;
     }
 
+    /**
+     * Indicates if the recording should be replayed as fast as the channelizer can process it, instead of in real time.
+     */
+    @JacksonXmlProperty(isAttribute = true, localName = "max_speed_replay")
+    public boolean isMaxSpeedReplay()
+    {
+        return mMaxSpeedReplay;
+    }
+
+    /**
+     * Sets max speed replay for the recording.
+     * @param maxSpeedReplay true to replay as fast as possible or false for real time replay
+     */
+    public void setMaxSpeedReplay(boolean maxSpeedReplay)
+    {
+        mMaxSpeedReplay = maxSpeedReplay;
+    }
+
     public static RecordingTunerConfiguration create()
     {
         return new RecordingTunerConfiguration("Recording " + System.currentTimeMillis());
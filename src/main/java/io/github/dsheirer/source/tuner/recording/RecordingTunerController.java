@@ -44,14 +44,30 @@ public class RecordingTunerController extends TunerController
     private String mPath;
     private long mCenterFrequency;
     private boolean mRunning;
+    private boolean mMaxSpeedReplay;
 
     /**
      * Constructs an instance
      * @param tunerErrorListener to receive errors from this controller
       */
     public RecordingTunerController(ITunerErrorListener tunerErrorListener, String path, long centerFrequency)
+    {
+        this(tunerErrorListener, path, centerFrequency, false);
+    }
+
+    /**
+     * Constructs an instance
+     * @param tunerErrorListener to receive errors from this controller
+     * @param path to the baseband recording
+     * @param centerFrequency of the recording
+     * @param maxSpeedReplay to replay the recording as fast as the channelizer can consume the sample buffers instead
+     * of in real time.
+     */
+    public RecordingTunerController(ITunerErrorListener tunerErrorListener, String path, long centerFrequency,
+                                    boolean maxSpeedReplay)
     {
         super(tunerErrorListener);
+        mMaxSpeedReplay = maxSpeedReplay;
         mPath = path;
         mCenterFrequency = centerFrequency;
         if(mCenterFrequency == 0)
@@ -83,11 +99,16 @@ public class RecordingTunerController extends TunerController
 
             mComplexWaveSource.setListener(complexSamples -> broadcast(complexSamples));
 
+            if(mMaxSpeedReplay)
+            {
+                mComplexWaveSource.setMaxSpeedReplay(this::getReplayBacklog, this::getChannelBacklog);
+            }
+
             try
             {
                 mComplexWaveSource.open();
                 mComplexWaveSource.start();
-                mLog.info("Tuner Recording Loaded: " + mPath);
+                mLog.info("Tuner Recording Loaded: " + mPath + (mMaxSpeedReplay ? " - max speed replay" : ""));
             }
             catch(IOException | UnsupportedAudioFileException e)
             {
@@ -129,6 +150,28 @@ public class RecordingTunerController extends TunerController
         }
     }
 
+    /**
+     * Backlog of sample buffers awaiting processing by the channelizer, used to pace max speed replay.  Replay is held
+     * until a consumer registers to receive sample buffers so that the start of the recording isn't discarded.
+     */
+    private int getReplayBacklog()
+    {
+        if(!hasBufferListeners())
+        {
+            return Integer.MAX_VALUE;
+        }
+
+        return getBufferBacklog();
+    }
+
+    /**
+     * Indicates if this controller replays the recording as fast as the channelizer can consume the sample buffers.
+     */
+    public boolean isMaxSpeedReplay()
+    {
+        return mMaxSpeedReplay;
+    }
+
     @Override
     public TunerType getTunerType()
     {
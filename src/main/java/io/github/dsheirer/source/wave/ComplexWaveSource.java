@@ -18,9 +18,8 @@
  */
 package io.github.dsheirer.source.wave;
 
-import io.github.dsheirer.buffer.FloatNativeBuffer;
 import io.github.dsheirer.buffer.INativeBuffer;
-import io.github.dsheirer.sample.ConversionUtils;
+import io.github.dsheirer.dsp.filter.channelizer.SampleTimestampManager;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.SampleType;
 import io.github.dsheirer.source.IControllableFileSource;
@@ -30,32 +29,57 @@ import io.github.dsheirer.source.SourceEvent;
 import io.github.dsheirer.util.ThreadPool;
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.concurrent.ScheduledFuture;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.UnsupportedAudioFileException;
 
 public class ComplexWaveSource extends Source implements IControllableFileSource, AutoCloseable
 {
     private final static Logger mLog = LoggerFactory.getLogger(ComplexWaveSource.class);
 
+    /**
+     * Maximum number of buffers that can be awaiting processing by the downstream consumer before max speed replay
+     * pauses to let the consumer catch up.
+     */
+    private static final int MAX_SPEED_BACKLOG_THRESHOLD = 2;
+    private static final long MAX_SPEED_BACKLOG_WAIT_MS = 2;
+
+    /**
+     * Maximum number of channel results buffers that can be queued by any of the channelizer IFFT stage or channel
+     * output processor dispatchers downstream of the replayed tuner before max speed replay pauses.  This keeps the
+     * slowest channel from falling behind and bounds the channel results buffers held by the pipeline.
+     */
+    private static final int MAX_SPEED_CHANNEL_BACKLOG_THRESHOLD = 4;
+
+    /**
+     * Recording file names carry the recording start date and time (see TimeStamp.getTimeStamp("_"))
+     */
+    private static final Pattern RECORDING_TIMESTAMP_PATTERN = Pattern.compile("(\\d{8}_\\d{6})");
+    private static final DateTimeFormatter RECORDING_TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
     private IFrameLocationListener mFrameLocationListener;
     private int mBufferSampleCount = 65536; //Complex samples per buffer
-    private int mBytesPerFrame;
-    private int mFrameCounter = 0;
     private long mFrequency = 0;
     private Listener<INativeBuffer> mListener;
-    private AudioInputStream mInputStream;
+    private MappedComplexWaveReader mReader;
     private File mFile;
     private boolean mAutoReplay;
-    private ScheduledFuture<?> mReplayController;
+    private Future<?> mReplayController;
+    private IntSupplier mBacklogMonitor;
+    private IntSupplier mChannelBacklogMonitor;
+    private SampleTimestampManager mTimestampManager;
 
     /**
      * Constructs an instance with optional auto-replay at near real time.
@@ -83,6 +107,33 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
         this(file, false);
     }
 
+    /**
+     * Enables max speed replay, where sample buffers are replayed as fast as the downstream consumer can process them
+     * rather than at the recording's real-time rate.  Replay pauses whenever the consumer's backlog reaches a small
+     * threshold, or while any of the channel dispatchers downstream of the consumer reaches a threshold.  In this mode,
+     * sample buffer timestamps follow the recording's timeline, starting from the recording start time, instead of the
+     * wall clock.  The processing chains stamp messages, decode events and audio segments from the sample buffer
+     * timestamps, so they carry the same recording timeline as a real-time replay.  This must be set before the
+     * source is opened.
+     *
+     * @param backlogMonitor that provides the number of buffers awaiting processing by the downstream consumer.
+     * @param channelBacklogMonitor that provides the largest backlog of the channel dispatchers downstream of the
+     * consumer.
+     */
+    public void setMaxSpeedReplay(IntSupplier backlogMonitor, IntSupplier channelBacklogMonitor)
+    {
+        mBacklogMonitor = backlogMonitor;
+        mChannelBacklogMonitor = channelBacklogMonitor;
+    }
+
+    /**
+     * Indicates if this source is configured for max speed replay.
+     */
+    public boolean isMaxSpeedReplay()
+    {
+        return mBacklogMonitor != null;
+    }
+
     @Override public SampleType getSampleType()
     {
         return SampleType.COMPLEX;
@@ -111,7 +162,6 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
     public void reset()
     {
         stop();
-        mFrameCounter = 0;
         start();
     }
 
@@ -129,18 +179,18 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
      */
     public AudioFormat getAudioFormat()
     {
-        if(mInputStream == null)
+        if(mReader == null)
         {
             throw new IllegalStateException("Source not opened or started");
         }
 
-        return mInputStream.getFormat();
+        return new AudioFormat(mReader.getSampleRate(), 16, 2, true, false);
     }
 
     @Override
     public void start()
     {
-        if(mInputStream == null)
+        if(mReader == null)
         {
             try
             {
@@ -152,7 +202,11 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
             }
         }
 
-        if(mAutoReplay)
+        if(mAutoReplay && isMaxSpeedReplay())
+        {
+            mReplayController = ThreadPool.CACHED.submit(new MaxSpeedReplayController());
+        }
+        else if(mAutoReplay)
         {
             double sampleRate = getSampleRate();
 
@@ -184,15 +238,20 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
     @Override
     public long getFrameCount() throws IOException
     {
+        if(mReader != null)
+        {
+            return mReader.getFrameCount();
+        }
+
         return 0;
     }
 
     @Override
     public double getSampleRate()
     {
-        if(mInputStream != null)
+        if(mReader != null)
         {
-            return mInputStream.getFormat().getSampleRate();
+            return mReader.getSampleRate();
         }
 
         return 0;
@@ -220,10 +279,10 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
      */
     public void close() throws IOException
     {
-        if(mInputStream != null)
+        if(mReader != null)
         {
-            mInputStream.close();
-            mInputStream = null;
+            mReader.close();
+            mReader = null;
         }
     }
 
@@ -232,20 +291,14 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
      */
     public void open() throws IOException, UnsupportedAudioFileException
     {
-        if(mInputStream == null)
+        if(mReader == null)
         {
-            mInputStream = AudioSystem.getAudioInputStream(mFile);
-
-            AudioFormat format = mInputStream.getFormat();
+            mReader = new MappedComplexWaveReader(mFile);
 
-            mBytesPerFrame = format.getFrameSize();
-
-            if(format.getChannels() != 2 || format.getSampleSizeInBits() != 16)
+            if(isMaxSpeedReplay())
             {
-                throw new IOException("Unsupported Wave Format - EXPECTED: 2 " +
-                        "channels 16-bit samples FOUND: " +
-                        mInputStream.getFormat().getChannels() + " channels " +
-                        mInputStream.getFormat().getSampleSizeInBits() + "-bit samples");
+                mTimestampManager = new SampleTimestampManager(mReader.getSampleRate());
+                mTimestampManager.setReferenceTimestamp(getRecordingStartTimestamp());
             }
 
             /* Broadcast that we're at frame location 0 */
@@ -267,34 +320,133 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
      */
     public void next(int frames, boolean broadcast) throws IOException
     {
-        if(mInputStream != null)
+        read(frames, broadcast);
+    }
+
+    /**
+     * Reads the number of frames and optionally sends the buffer to the listener
+     * @return number of frames read, which is less than requested at the end of the recording
+     */
+    private int read(int frames, boolean broadcast) throws IOException
+    {
+        int framesRead = 0;
+
+        if(mReader != null)
         {
-            byte[] buffer = new byte[mBytesPerFrame * frames];
+            long timestamp = getBufferTimestamp();
+            INativeBuffer buffer = mReader.read(frames, timestamp);
 
-        	/* Fill the buffer with samples from the file */
-            int samplesRead = mInputStream.read(buffer);
+            if(buffer != null)
+            {
+                framesRead = buffer.sampleCount();
+            }
 
-            mFrameCounter += samplesRead;
+            if(mTimestampManager != null)
+            {
+                mTimestampManager.increment(framesRead);
+            }
 
-            broadcast(mFrameCounter);
+            broadcast(mReader.getFramePosition());
 
             if(broadcast && mListener != null)
             {
-                if(samplesRead < 0)
+                if(buffer == null)
                 {
                     throw new IOException("End of file reached");
                 }
 
-                if(samplesRead < buffer.length)
-                {
-                    buffer = Arrays.copyOf(buffer, samplesRead);
-                }
+                mListener.receive(buffer);
+            }
+        }
+
+        return framesRead;
+    }
+
+    /**
+     * Positions the source to the frame so that the next read starts from that frame.  This is a constant time
+     * operation regardless of the frame location within the recording.
+     * @param frame to position to
+     * @throws IOException if the source is not opened
+     */
+    public void seek(long frame) throws IOException
+    {
+        if(mReader == null)
+        {
+            throw new IOException("Source not opened or started");
+        }
+
+        mReader.seek(frame);
+
+        if(mTimestampManager != null)
+        {
+            mTimestampManager.setReferenceTimestamp(getRecordingStartTimestamp() +
+                (long)(frame * 1000.0 / mReader.getSampleRate()));
+        }
+
+        broadcast(frame);
+    }
+
+    /**
+     * Timestamp for a buffer that starts at the current read position.  Uses the wall clock for real-time replay, or
+     * the recording's timeline for max speed replay.
+     * @return timestamp in milliseconds since epoch
+     */
+    private long getBufferTimestamp()
+    {
+        if(mTimestampManager == null)
+        {
+            return System.currentTimeMillis();
+        }
+
+        return mTimestampManager.getCurrentTimestamp();
+    }
+
+    /**
+     * Indicates if any of the channel dispatchers downstream of the consumer has reached the backlog threshold.
+     */
+    private boolean isDownstreamBacklogged()
+    {
+        return mChannelBacklogMonitor != null &&
+            mChannelBacklogMonitor.getAsInt() >= MAX_SPEED_CHANNEL_BACKLOG_THRESHOLD;
+    }
+
+    /**
+     * Start time of the recording.  Uses the date and time embedded in the recording file name when present, otherwise
+     * estimates the start time from the file's last modified time less the recording duration.
+     * @return recording start timestamp in milliseconds since epoch
+     */
+    private long getRecordingStartTimestamp()
+    {
+        Matcher matcher = RECORDING_TIMESTAMP_PATTERN.matcher(mFile.getName());
+        String recordingTimestamp = null;
+
+        //Use the last match since tuner recordings carry the timestamp as a file name suffix
+        while(matcher.find())
+        {
+            recordingTimestamp = matcher.group(1);
+        }
 
-                float[] samples = ConversionUtils.convertFromSigned16BitSamples(buffer);
-                mListener.receive(new FloatNativeBuffer(samples, System.currentTimeMillis(),
-                        mInputStream.getFormat().getSampleRate() / 1000.0f));
+        if(recordingTimestamp != null)
+        {
+            try
+            {
+                return LocalDateTime.parse(recordingTimestamp, RECORDING_TIMESTAMP_FORMATTER)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            }
+            catch(DateTimeParseException dtpe)
+            {
+                mLog.debug("Unable to parse recording start time from file name [" + mFile.getName() + "]");
             }
         }
+
+        long duration = 0;
+
+        if(mReader.getFrameCount() > 0)
+        {
+            duration = (long)(mReader.getFrameCount() * 1000.0 / mReader.getSampleRate());
+        }
+
+        return mFile.lastModified() - duration;
     }
 
     /**
@@ -320,13 +472,11 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
         return mFile;
     }
 
-    private void broadcast(int byteLocation)
+    private void broadcast(long frameLocation)
     {
-        int frameLocation = (int)(byteLocation / mBytesPerFrame);
-
         if(mFrameLocationListener != null)
         {
-            mFrameLocationListener.frameLocationUpdated(frameLocation);
+            mFrameLocationListener.frameLocationUpdated((int)frameLocation);
         }
     }
 
@@ -347,21 +497,7 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
      */
     public static boolean supports(File file)
     {
-        try(AudioInputStream ais = AudioSystem.getAudioInputStream(file))
-        {
-            AudioFormat format = ais.getFormat();
-
-            if(format.getChannels() == 2 && format.getSampleSizeInBits() == 16)
-            {
-                return true;
-            }
-        }
-        catch(Exception e)
-        {
-            //Do nothing, we'll return a default of false
-        }
-
-        return false;
+        return MappedComplexWaveReader.isSupported(file);
     }
 
     public class ReplayController implements Runnable
@@ -393,4 +529,54 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
             }
         }
     }
+
+    /**
+     * Replays the recording as fast as the downstream consumer can process the sample buffers, pausing while the
+     * consumer's backlog is at or above the threshold.  Replay ends at the end of the recording.
+     */
+    public class MaxSpeedReplayController implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            long start = System.currentTimeMillis();
+            long framesRead = 0;
+
+            try
+            {
+                while(!Thread.currentThread().isInterrupted())
+                {
+                    if(mBacklogMonitor.getAsInt() >= MAX_SPEED_BACKLOG_THRESHOLD || isDownstreamBacklogged())
+                    {
+                        TimeUnit.MILLISECONDS.sleep(MAX_SPEED_BACKLOG_WAIT_MS);
+                    }
+                    else
+                    {
+                        framesRead += read(mBufferSampleCount, true);
+                    }
+                }
+            }
+            catch(InterruptedException ie)
+            {
+                //Replay was stopped
+            }
+            catch(IOException ioe)
+            {
+                if(Thread.currentThread().isInterrupted())
+                {
+                    //Replay was stopped and the recording closed
+                    return;
+                }
+
+                double elapsed = (System.currentTimeMillis() - start) / 1000.0;
+                double recorded = framesRead / getSampleRate();
+                mLog.info("Max speed replay of [" + mFile.getName() + "] complete - replayed [" +
+                    (int)recorded + "] seconds of recording in [" + (int)elapsed + "] seconds");
+            }
+            catch(Throwable t)
+            {
+                mLog.error("Error during max speed replay of [" + mFile.getName() + "]", t);
+            }
+        }
+    }
 }
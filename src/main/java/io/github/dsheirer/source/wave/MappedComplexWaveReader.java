@@ -0,0 +1,334 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.source.wave;
+
+import io.github.dsheirer.buffer.INativeBuffer;
+import io.github.dsheirer.buffer.Signed16BitNativeBuffer;
+import io.github.dsheirer.vector.calibrate.CalibrationManager;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import java.io.File;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory-mapped reader for 2-channel (I/Q), 16-bit PCM baseband wave recordings.
+ *
+ * The wave data chunk is mapped into memory once and each read returns a native buffer that is a zero-copy slice of
+ * the mapping, so there is no stream copy and any frame can be positioned to in constant time.  The mapping is
+ * released when this reader is closed, which also releases the file so that it can be moved or deleted.  Buffers
+ * read from this reader are only valid until the reader is closed.  Accessing the samples of a buffer after the
+ * reader is closed throws an IllegalStateException, so consumers should be stopped before the reader is closed.
+ */
+public class MappedComplexWaveReader implements AutoCloseable
+{
+    private static final int BYTES_PER_FRAME = 4;
+    private static final int WAVE_FORMAT_PCM = 1;
+    private static final int WAVE_FORMAT_EXTENSIBLE = 0xFFFE;
+    private static final int FORMAT_CHUNK_MINIMUM_LENGTH = 16;
+    private static final int FORMAT_CHUNK_EXTENSIBLE_LENGTH = 40;
+    private static final int FORMAT_CHUNK_SUBFORMAT_OFFSET = 24;
+    private final File mFile;
+    private final Implementation mInterleavedIteratorImplementation;
+    private final Implementation mNonInterleavedIteratorImplementation;
+    private Arena mArena;
+    private MemorySegment mData;
+    private float mSampleRate;
+    private long mFrameCount;
+    private long mFramePointer;
+
+    /**
+     * Constructs an instance and maps the wave data chunk of the file into memory.
+     * @param file containing 2-channel 16-bit PCM samples
+     * @throws IOException if the file can't be read or is not a supported wave format
+     */
+    public MappedComplexWaveReader(File file) throws IOException
+    {
+        mFile = file;
+        mInterleavedIteratorImplementation = CalibrationManager.getInstance()
+                .getImplementation(CalibrationType.SAMPLE_UNPACKED_INTERLEAVED_ITERATOR);
+        mNonInterleavedIteratorImplementation = CalibrationManager.getInstance()
+                .getImplementation(CalibrationType.SAMPLE_UNPACKED_ITERATOR);
+
+        Arena arena = Arena.ofShared();
+
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            WaveHeader header = readHeader(channel);
+            mSampleRate = header.sampleRate();
+            mFrameCount = header.frameCount();
+            mData = channel.map(FileChannel.MapMode.READ_ONLY, header.dataOffset(), mFrameCount * BYTES_PER_FRAME,
+                arena);
+            mArena = arena;
+        }
+        catch(IOException | RuntimeException e)
+        {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Indicates if the file is a 2-channel 16-bit PCM wave recording that can be read by this reader.  Only the wave
+     * headers are read and the file is not mapped into memory.
+     * @param file to check
+     * @return true if the file is supported
+     */
+    public static boolean isSupported(File file)
+    {
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            readHeader(channel);
+            return true;
+        }
+        catch(IOException ioe)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Parses the RIFF/WAVE headers up to the start of the data chunk.
+     * @param channel to read
+     * @return parsed header
+     * @throws IOException if the file can't be read or is not a supported wave format
+     */
+    private static WaveHeader readHeader(FileChannel channel) throws IOException
+    {
+        long fileSize = channel.size();
+        ByteBuffer header = read(channel, 0, 12);
+
+        if(!"RIFF".equals(getId(header, 0)) || !"WAVE".equals(getId(header, 8)))
+        {
+            throw new IOException("Unsupported file format - not a RIFF/WAVE file");
+        }
+
+        long position = 12;
+        float sampleRate = 0;
+        boolean formatFound = false;
+
+        while(position + 8 <= fileSize)
+        {
+            ByteBuffer chunkHeader = read(channel, position, 8);
+            String chunkId = getId(chunkHeader, 0);
+            long chunkSize = Integer.toUnsignedLong(chunkHeader.getInt(4));
+            long chunkStart = position + 8;
+
+            if(chunkId.equals("fmt "))
+            {
+                if(chunkSize < FORMAT_CHUNK_MINIMUM_LENGTH || chunkStart + chunkSize > fileSize)
+                {
+                    throw new IOException("Unsupported file format - invalid format chunk length [" + chunkSize + "]");
+                }
+
+                //Read the full chunk - any bytes beyond the fields used here are skipped with the rest of the chunk
+                ByteBuffer format = read(channel, chunkStart, (int)Math.min(chunkSize, FORMAT_CHUNK_EXTENSIBLE_LENGTH));
+                int audioFormat = Short.toUnsignedInt(format.getShort(0));
+                int channels = format.getShort(2);
+                int bitsPerSample = format.getShort(14);
+
+                //The extensible format carries the actual sample format in the first two bytes of the sub-format GUID
+                if(audioFormat == WAVE_FORMAT_EXTENSIBLE)
+                {
+                    if(chunkSize < FORMAT_CHUNK_EXTENSIBLE_LENGTH)
+                    {
+                        throw new IOException("Unsupported file format - invalid extensible format chunk length [" +
+                            chunkSize + "]");
+                    }
+
+                    audioFormat = Short.toUnsignedInt(format.getShort(FORMAT_CHUNK_SUBFORMAT_OFFSET));
+                }
+
+                if(audioFormat != WAVE_FORMAT_PCM || channels != 2 || bitsPerSample != 16)
+                {
+                    throw new IOException("Unsupported Wave Format - EXPECTED: 2 channels 16-bit PCM samples " +
+                        "FOUND: " + channels + " channels " + bitsPerSample + "-bit samples format " + audioFormat);
+                }
+
+                sampleRate = format.getInt(4);
+                formatFound = true;
+            }
+            else if(chunkId.equals("data"))
+            {
+                if(!formatFound)
+                {
+                    throw new IOException("Unsupported file format - data chunk precedes format chunk");
+                }
+
+                //Recordings that were not closed cleanly can have an unset or oversized data chunk length
+                long dataSize = fileSize - chunkStart;
+
+                if(chunkSize > 0)
+                {
+                    dataSize = Math.min(chunkSize, dataSize);
+                }
+
+                return new WaveHeader(sampleRate, chunkStart, dataSize / BYTES_PER_FRAME);
+            }
+
+            //Chunks are padded to an even length
+            position = chunkStart + chunkSize + (chunkSize & 1);
+        }
+
+        throw new IOException("Unsupported file format - wave data chunk not found");
+    }
+
+    /**
+     * Reads the byte count from the channel at the position into a little-endian byte buffer.
+     */
+    private static ByteBuffer read(FileChannel channel, long position, int count) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(count).order(ByteOrder.LITTLE_ENDIAN);
+
+        while(buffer.hasRemaining())
+        {
+            if(channel.read(buffer, position + buffer.position()) < 0)
+            {
+                throw new IOException("Unexpected end of file while reading wave header");
+            }
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Four character chunk identifier at the offset
+     */
+    private static String getId(ByteBuffer buffer, int offset)
+    {
+        byte[] id = new byte[4];
+        buffer.get(offset, id);
+        return new String(id, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * File for this reader
+     */
+    public File getFile()
+    {
+        return mFile;
+    }
+
+    /**
+     * Sample rate of the recording
+     */
+    public float getSampleRate()
+    {
+        return mSampleRate;
+    }
+
+    /**
+     * Total number of complex sample frames in the recording
+     */
+    public long getFrameCount()
+    {
+        return mFrameCount;
+    }
+
+    /**
+     * Current frame position of the reader
+     */
+    public long getFramePosition()
+    {
+        return mFramePointer;
+    }
+
+    /**
+     * Indicates if there are frames remaining to be read
+     */
+    public boolean hasRemaining()
+    {
+        return mFramePointer < mFrameCount;
+    }
+
+    /**
+     * Positions the reader to the frame.
+     * @param frame to position to, in the range 0 to frame count
+     * @throws IllegalArgumentException if the frame is outside of the recording
+     */
+    public void seek(long frame)
+    {
+        if(frame < 0 || frame > mFrameCount)
+        {
+            throw new IllegalArgumentException("Frame [" + frame + "] is outside of recording frame range 0 - " +
+                mFrameCount);
+        }
+
+        mFramePointer = frame;
+    }
+
+    /**
+     * Reads up to the requested number of frames from the current position as a zero-copy native buffer and advances
+     * the position.
+     * @param frames requested
+     * @param timestamp for the start of the buffer
+     * @return native buffer, or null if the end of the recording has been reached.
+     * @throws IOException if this reader is closed
+     */
+    public synchronized INativeBuffer read(int frames, long timestamp) throws IOException
+    {
+        if(mData == null)
+        {
+            throw new IOException("Reader is closed");
+        }
+
+        int count = (int)Math.min(frames, mFrameCount - mFramePointer);
+
+        if(count <= 0)
+        {
+            return null;
+        }
+
+        MemorySegment slice = mData.asSlice(mFramePointer * BYTES_PER_FRAME, (long)count * BYTES_PER_FRAME);
+        mFramePointer += count;
+
+        return new Signed16BitNativeBuffer(slice, timestamp, mInterleavedIteratorImplementation,
+            mNonInterleavedIteratorImplementation, mSampleRate / 1000.0f);
+    }
+
+    /**
+     * Closes this reader and releases the mapping and the file.  Buffers previously read from this reader are no
+     * longer valid once this method returns.
+     */
+    @Override
+    public synchronized void close()
+    {
+        mData = null;
+
+        if(mArena != null)
+        {
+            mArena.close();
+            mArena = null;
+        }
+    }
+
+    /**
+     * Parsed wave header details
+     * @param sampleRate of the recording
+     * @param dataOffset file offset to the start of the sample data
+     * @param frameCount number of complex sample frames in the data chunk
+     */
+    private record WaveHeader(float sampleRate, long dataOffset, long frameCount) {}
+}
@@ -18,41 +18,51 @@
  */
 package io.github.dsheirer.util;
 
-import io.github.dsheirer.controller.NamingThreadFactory;
+import io.github.dsheirer.monitor.LatencyMonitor;
+import io.github.dsheirer.monitor.metrics.Histogram;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.source.heartbeat.HeartbeatManager;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedTransferQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Threaded scheduled processor for receiving elements from a separate producer thread and forwarding those buffers to a
- * registered listener on this consumer/dispatcher thread.  Internally uses a single-thread thread pool to effect a
- * timer-based interval for processing to avoid excessive context switching inherent in a blocking queue.  Sizes the
- * thread pool to a single thread to ensure Garbage Collector can efficiently clean objects created on the thread.
+ * registered listener on a consumer/dispatcher thread.  Uses a timer-based interval for processing to avoid excessive
+ * context switching inherent in a blocking queue.  Processing is multiplexed with all other dispatchers onto the shared
+ * DispatcherScheduler thread pool, which guarantees that each dispatcher's queue is processed by only one thread at a
+ * time, in FIFO order.
+ *
+ * Sample pipeline dispatchers can opt in to low latency processing, where each enqueued element wakes the dispatcher
+ * after the batching window configured in the tuner preferences instead of waiting up to one full interval.  An
+ * optional latency histogram measures the age of each element, from its capture timestamp, as it is dispatched.
+ *
+ * Dispatchers whose listener blocks on disk I/O or waits on other threads must be flagged as blocking so that they
+ * are processed on the scheduler's separate blocking pool.
  */
 public class Dispatcher<E> implements Listener<E>
 {
     private final static Logger mLog = LoggerFactory.getLogger(Dispatcher.class);
     private final LinkedTransferQueue<E> mQueue = new LinkedTransferQueue<>();
     private Listener<E> mListener;
+    private Listener<E> mDiscardListener;
     private final AtomicBoolean mRunning = new AtomicBoolean();
     private String mThreadName;
-    private ScheduledExecutorService mExecutorService;
-    private ScheduledFuture<?> mScheduledFuture;
+    private volatile DispatcherScheduler.Registration mRegistration;
     private final long mInterval;
     private HeartbeatManager mHeartbeatManager;
+    private boolean mLowLatency;
+    private boolean mBlocking;
+    private Histogram mLatencyHistogram;
+    private ToLongFunction<E> mTimestampFunction;
 
     /**
      * Constructs an instance of a Dispatcher with integrated heartbeat support.
-     * @param threadName to name the dispatcher thread
+     * @param threadName to name the dispatcher queue
      * @param interval for processing each batch in milliseconds.
      * @param heartbeatManager to receive a heartbeat command at each processing interval.
      */
@@ -64,7 +74,7 @@ public class Dispatcher<E> implements Listener<E>
 
     /**
      * Constructs an instance
-     * @param threadName to name the dispatcher thread
+     * @param threadName to name the dispatcher queue
      * @param interval for processing each batch in milliseconds.
      */
     public Dispatcher(String threadName, long interval)
@@ -74,7 +84,7 @@ public class Dispatcher<E> implements Listener<E>
     }
 
     /**
-     * Sets the thread name.  If this dispatcher is already started, this has no effect.
+     * Sets the thread name, used to identify this dispatcher's queue in backlog reporting.
      * @param threadName to use for this dispatcher.
      */
     public void setThreadName(String threadName)
@@ -82,6 +92,56 @@ public class Dispatcher<E> implements Listener<E>
         mThreadName = threadName;
     }
 
+    /**
+     * Name of this dispatcher
+     */
+    public String getName()
+    {
+        return mThreadName;
+    }
+
+    /**
+     * Enables wake-on-enqueue processing for this dispatcher when low latency dispatch is enabled in the tuner
+     * preferences.  Changes take effect the next time this dispatcher is started.
+     * @param lowLatency true to enable
+     */
+    public void setLowLatency(boolean lowLatency)
+    {
+        mLowLatency = lowLatency;
+    }
+
+    /**
+     * Flags this dispatcher's listener as performing blocking operations (e.g. disk I/O) so that it is processed on
+     * the scheduler's blocking pool instead of the shared sample processing pool.  Changes take effect the next time
+     * this dispatcher is started.
+     * @param blocking true if the listener blocks
+     */
+    public void setBlocking(boolean blocking)
+    {
+        mBlocking = blocking;
+    }
+
+    /**
+     * Indicates if this dispatcher is currently running in wake-on-enqueue low latency mode
+     */
+    public boolean isLowLatency()
+    {
+        DispatcherScheduler.Registration registration = mRegistration;
+        return registration != null && registration.isLowLatency();
+    }
+
+    /**
+     * Sets the histogram to receive the latency of each dispatched element, measured from the element's capture
+     * timestamp.
+     * @param histogram to receive latency measurements in milliseconds
+     * @param timestampFunction to access the capture timestamp in milliseconds for an element
+     */
+    public void setLatencyHistogram(Histogram histogram, ToLongFunction<E> timestampFunction)
+    {
+        mTimestampFunction = timestampFunction;
+        mLatencyHistogram = histogram;
+    }
+
     /**
      * Sets or changes the listener to receive buffers from this processor.
      * @param listener to receive buffers
@@ -91,6 +151,17 @@ public class Dispatcher<E> implements Listener<E>
         mListener = listener;
     }
 
+    /**
+     * Sets the listener to receive elements that are discarded without being dispatched, either because they were
+     * still queued when this dispatcher was stopped or restarted, or because they were dequeued after it stopped.
+     * Dispatchers of reference counted elements use this to release the discarded elements.
+     * @param discardListener to receive discarded elements
+     */
+    public void setDiscardListener(Listener<E> discardListener)
+    {
+        mDiscardListener = discardListener;
+    }
+
     /**
      * Primary input method for adding buffers to this processor.  Note: incoming buffers will be ignored if this
      * processor is in a stopped state.  You must invoke start() to allow incoming buffers and initiate buffer
@@ -103,6 +174,13 @@ public class Dispatcher<E> implements Listener<E>
         if(mRunning.get())
         {
             mQueue.add(e);
+
+            DispatcherScheduler.Registration registration = mRegistration;
+
+            if(registration != null && registration.isLowLatency())
+            {
+                registration.wake();
+            }
         }
     }
 
@@ -113,47 +191,66 @@ public class Dispatcher<E> implements Listener<E>
     {
         if(mRunning.compareAndSet(false, true))
         {
-            if(mScheduledFuture != null)
-            {
-                //Note: this has to be false because downstream implementations may have acquired locks and they must
-                //be able to release those locks or we'll get a deadlock situation.
-                mScheduledFuture.cancel(false);
-            }
-
-            if(mExecutorService != null)
+            if(mRegistration != null)
             {
-                mExecutorService.shutdown();
-                mExecutorService = null;
+                mRegistration.cancel();
             }
 
-            mQueue.clear();
-            mExecutorService = Executors.newSingleThreadScheduledExecutor(new NamingThreadFactory(mThreadName));
+            clear();
 
             Runnable r = (mHeartbeatManager != null ? new ProcessorWithHeartbeat() : new Processor());
-            mScheduledFuture = mExecutorService.scheduleAtFixedRate(r, 0, mInterval, TimeUnit.MILLISECONDS);
+            DispatcherScheduler scheduler = DispatcherScheduler.getInstance();
+            long batchWindow = mLowLatency ? scheduler.getLowLatencyBatchWindow() : 0;
+            mRegistration = scheduler.schedule(this, r, mInterval, batchWindow, mBlocking);
         }
     }
 
     /**
-     * Stops this buffer processor and waits up to two seconds for the processing thread to terminate.
+     * Stops this buffer processor.  A processing batch that is already in progress is allowed to complete.
      */
     public void stop()
     {
         if(mRunning.compareAndSet(true, false))
         {
-            if(mScheduledFuture != null)
+            if(mRegistration != null)
             {
-                //Note: this has to be false because downstream implementations may have acquired locks and they must
-                //be able to release those locks or we'll get a deadlock situation.
-                mScheduledFuture.cancel(false);
-                mScheduledFuture = null;
-                mQueue.clear();
+                mRegistration.cancel();
+                mRegistration = null;
+                clear();
             }
+        }
+    }
 
-            if(mExecutorService != null)
+    /**
+     * Removes all queued elements and passes each to the discard listener.
+     */
+    private void clear()
+    {
+        E element = mQueue.poll();
+
+        while(element != null)
+        {
+            discard(element);
+            element = mQueue.poll();
+        }
+    }
+
+    /**
+     * Passes an element that will not be dispatched to the discard listener, if one is registered.
+     */
+    private void discard(E element)
+    {
+        Listener<E> discardListener = mDiscardListener;
+
+        if(discardListener != null)
+        {
+            try
+            {
+                discardListener.receive(element);
+            }
+            catch(Throwable t)
             {
-                mExecutorService.shutdown();
-                mExecutorService = null;
+                mLog.error("Error while discarding element [" + element.getClass() + "]", t);
             }
         }
     }
@@ -165,18 +262,10 @@ public class Dispatcher<E> implements Listener<E>
     {
         if(mRunning.compareAndSet(true, false))
         {
-            if(mScheduledFuture != null)
-            {
-                //Note: this has to be false because downstream implementations may have acquired locks and they must
-                //be able to release those locks or we'll get a deadlock situation.
-                mScheduledFuture.cancel(false);
-                mScheduledFuture = null;
-            }
-
-            if(mExecutorService != null)
+            if(mRegistration != null)
             {
-                mExecutorService.shutdown();
-                mExecutorService = null;
+                mRegistration.cancel();
+                mRegistration = null;
             }
 
             List<E> elements = new ArrayList<>();
@@ -197,6 +286,10 @@ public class Dispatcher<E> implements Listener<E>
                                 mListener.getClass() + "]", t);
                     }
                 }
+                else
+                {
+                    discard(element);
+                }
             }
         }
     }
@@ -210,7 +303,15 @@ public class Dispatcher<E> implements Listener<E>
     }
 
     /**
-     * Processes elements from the queue.  Note: this should only be invoked on the Processor thread.
+     * Number of elements currently queued and awaiting processing.
+     */
+    public int getQueueSize()
+    {
+        return mQueue.size();
+    }
+
+    /**
+     * Processes elements from the queue.  Note: this should only be invoked by the Processor on the scheduler pool.
      */
     private void process()
     {
@@ -218,8 +319,15 @@ public class Dispatcher<E> implements Listener<E>
 
         mQueue.drainTo(elements);
 
+        Histogram histogram = mLatencyHistogram;
+
         for(E element: elements)
         {
+            if(histogram != null)
+            {
+                LatencyMonitor.recordSince(histogram, mTimestampFunction.applyAsLong(element));
+            }
+
             if(mRunning.get() && mListener != null)
             {
                 try
@@ -232,6 +340,10 @@ public class Dispatcher<E> implements Listener<E>
                             mListener.getClass() + "]", t);
                 }
             }
+            else
+            {
+                discard(element);
+            }
         }
     }
 
@@ -240,16 +352,10 @@ public class Dispatcher<E> implements Listener<E>
      */
     class Processor implements Runnable
     {
-        private final AtomicBoolean mRunning = new AtomicBoolean();
-
         @Override
         public void run()
         {
-            if(mRunning.compareAndSet(false, true))
-            {
-                process();
-                mRunning.set(false);
-            }
+            process();
         }
     }
 
@@ -259,25 +365,18 @@ public class Dispatcher<E> implements Listener<E>
      */
     class ProcessorWithHeartbeat implements Runnable
     {
-        private final AtomicBoolean mRunning = new AtomicBoolean();
-
         @Override
         public void run()
         {
-            if(mRunning.compareAndSet(false, true))
-            {
-                process();
+            process();
 
-                try
-                {
-                    mHeartbeatManager.broadcast();
-                }
-                catch(Throwable t)
-                {
-                    mLog.error("Error broadcasting heartbeat during Dispatcher processing interval", t);
-                }
-
-                mRunning.set(false);
+            try
+            {
+                mHeartbeatManager.broadcast();
+            }
+            catch(Throwable t)
+            {
+                mLog.error("Error broadcasting heartbeat during Dispatcher processing interval", t);
             }
         }
     }
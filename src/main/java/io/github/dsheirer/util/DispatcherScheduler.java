@@ -0,0 +1,388 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.util;
+
+import io.github.dsheirer.controller.NamingThreadFactory;
+import io.github.dsheirer.preference.UserPreferences;
+import io.github.dsheirer.preference.source.TunerPreference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Application-wide scheduler that multiplexes the processing of all Dispatcher queues onto a fixed-size work-stealing
+ * thread pool that is sized to the number of CPU cores, so that the number of threads no longer grows with the number
+ * of channels, tuners and recorders.
+ *
+ * A single timer thread triggers each registered dispatcher at its processing interval and submits the dispatcher's
+ * processor to the pool.  A dispatcher's processor is never submitted again while a previous submission is pending or
+ * running, which preserves strict FIFO ordering for each dispatcher queue even though successive batches may be
+ * processed on different pool threads.  When a dispatcher falls behind, the next timer trigger is skipped rather than
+ * queued, which matches the behavior of the former dedicated single-thread dispatcher executors.
+ *
+ * Dispatchers can also be scheduled in a low latency mode where an enqueued element wakes the dispatcher and the
+ * dispatcher is processed after a short batching window instead of waiting for the next interval.  The interval
+ * trigger remains active for heartbeat support.
+ *
+ * Dispatchers whose listeners block on disk I/O or wait on other threads (e.g. recorders and archive loggers) are
+ * scheduled as blocking and are processed on a separate cached thread pool so that they can't starve the sample
+ * processing dispatchers of pool threads.
+ */
+public class DispatcherScheduler
+{
+    private final static Logger mLog = LoggerFactory.getLogger(DispatcherScheduler.class);
+    private static DispatcherScheduler sInstance;
+    private static volatile TunerPreference sTunerPreference;
+    private final ForkJoinPool mPool;
+    private final ExecutorService mBlockingPool =
+        Executors.newCachedThreadPool(new NamingThreadFactory("sdrtrunk dispatcher blocking thread"));
+    private final ScheduledExecutorService mTimer;
+    private final Set<Registration> mRegistrations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs an instance.  Use getInstance() to access the application-wide scheduler.
+     * @param threadCount for the processing thread pool
+     */
+    DispatcherScheduler(int threadCount)
+    {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("sdrtrunk dispatcher thread " + threadNumber.getAndIncrement());
+            return thread;
+        };
+
+        //Async (FIFO) mode since submitted processors are never joined
+        mPool = new ForkJoinPool(Math.max(1, threadCount), factory, (thread, throwable) ->
+            mLog.error("Error while executing dispatcher processor on thread [" + thread.getName() + "]", throwable),
+            true);
+        mTimer = Executors.newSingleThreadScheduledExecutor(new NamingThreadFactory("sdrtrunk dispatcher timer"));
+    }
+
+    /**
+     * Access the application-wide dispatcher scheduler, using the specified User Preferences instance for the low
+     * latency dispatch settings.
+     *
+     * Note: invoke this method first with a preferences instance to ensure it is the one that is used.
+     */
+    public static synchronized DispatcherScheduler getInstance(UserPreferences userPreferences)
+    {
+        if(sTunerPreference == null)
+        {
+            sTunerPreference = userPreferences.getTunerPreference();
+        }
+
+        return getInstance();
+    }
+
+    /**
+     * Application-wide dispatcher scheduler, sized to the number of available CPU cores.
+     */
+    public static synchronized DispatcherScheduler getInstance()
+    {
+        if(sInstance == null)
+        {
+            sInstance = new DispatcherScheduler(Runtime.getRuntime().availableProcessors());
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Batching window for dispatchers that support low latency processing, from the tuner preferences that were
+     * provided via getInstance(UserPreferences).
+     * @return batching window in milliseconds, or 0 when low latency dispatch is disabled or when no preferences have
+     * been provided (e.g. command line tools and tests).
+     */
+    public long getLowLatencyBatchWindow()
+    {
+        TunerPreference tunerPreference = sTunerPreference;
+        return tunerPreference != null ? tunerPreference.getDispatchBatchWindow() : 0;
+    }
+
+    /**
+     * Schedules the dispatcher's processor to run at the specified interval on the shared processing pool.
+     * @param dispatcher that owns the processor, for backlog reporting
+     * @param processor to run at each interval
+     * @param interval in milliseconds
+     * @return registration that can be used to cancel the scheduled processing
+     */
+    public Registration schedule(Dispatcher<?> dispatcher, Runnable processor, long interval)
+    {
+        return schedule(dispatcher, processor, interval, 0);
+    }
+
+    /**
+     * Schedules the dispatcher's processor to run at the specified interval on the shared processing pool and when
+     * woken by an enqueued element, after the batching window.
+     * @param dispatcher that owns the processor, for backlog reporting
+     * @param processor to run at each interval
+     * @param interval in milliseconds
+     * @param batchWindow in milliseconds to wait after a wake before processing, or 0 to disable wake processing.
+     * @return registration that can be used to cancel the scheduled processing
+     */
+    public Registration schedule(Dispatcher<?> dispatcher, Runnable processor, long interval, long batchWindow)
+    {
+        return schedule(dispatcher, processor, interval, batchWindow, false);
+    }
+
+    /**
+     * Schedules the dispatcher's processor to run at the specified interval and when woken by an enqueued element,
+     * after the batching window.
+     * @param dispatcher that owns the processor, for backlog reporting
+     * @param processor to run at each interval
+     * @param interval in milliseconds
+     * @param batchWindow in milliseconds to wait after a wake before processing, or 0 to disable wake processing.
+     * @param blocking true if the processor blocks on I/O or other threads and should run on the blocking pool
+     * instead of the shared processing pool.
+     * @return registration that can be used to cancel the scheduled processing
+     */
+    public Registration schedule(Dispatcher<?> dispatcher, Runnable processor, long interval, long batchWindow,
+                                 boolean blocking)
+    {
+        Registration registration = new Registration(dispatcher, processor, batchWindow,
+            blocking ? mBlockingPool : mPool);
+        mRegistrations.add(registration);
+        registration.mFuture = mTimer.scheduleAtFixedRate(registration::trigger, 0, Math.max(1, interval),
+            TimeUnit.MILLISECONDS);
+        return registration;
+    }
+
+    /**
+     * Number of dispatchers currently scheduled
+     */
+    public int getScheduledCount()
+    {
+        return mRegistrations.size();
+    }
+
+    /**
+     * Total number of elements queued across all scheduled dispatchers
+     */
+    public long getTotalBacklog()
+    {
+        long total = 0;
+
+        for(Registration registration: mRegistrations)
+        {
+            total += registration.getDispatcher().getQueueSize();
+        }
+
+        return total;
+    }
+
+    /**
+     * Current queue backlog for each scheduled dispatcher, ordered from largest to smallest backlog.
+     */
+    public List<Backlog> getBacklog()
+    {
+        List<Backlog> backlogs = new ArrayList<>();
+
+        for(Registration registration: mRegistrations)
+        {
+            Dispatcher<?> dispatcher = registration.getDispatcher();
+            backlogs.add(new Backlog(dispatcher.getName(), dispatcher.getQueueSize()));
+        }
+
+        backlogs.sort(Comparator.comparingInt(Backlog::size).reversed());
+        return backlogs;
+    }
+
+    /**
+     * Diagnostic report of the processing pool state and the per-dispatcher queue backlog.
+     */
+    public String getDiagnosticReport()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Dispatcher Scheduler Report\n");
+        sb.append("\nPool Threads:        ").append(mPool.getPoolSize()).append(" of ").append(mPool.getParallelism());
+        sb.append("\nActive Threads:      ").append(mPool.getActiveThreadCount());
+        sb.append("\nSteal Count:         ").append(mPool.getStealCount());
+        sb.append("\nQueued Processors:   ").append(mPool.getQueuedSubmissionCount() + mPool.getQueuedTaskCount());
+        sb.append("\nScheduled Queues:    ").append(getScheduledCount());
+        sb.append("\nBlocking Queues:     ").append(mRegistrations.stream().filter(Registration::isBlocking).count());
+        sb.append("\nTotal Queue Backlog: ").append(getTotalBacklog());
+        sb.append("\n\nQueue Backlog:\n");
+
+        for(Backlog backlog: getBacklog())
+        {
+            sb.append("\t").append(backlog.size()).append("\t").append(backlog.name()).append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Dispatcher queue name and current queue size
+     */
+    public record Backlog(String name, int size)
+    {
+    }
+
+    /**
+     * Scheduled dispatcher processor.  Ensures that only one instance of the processor is pending or running on the
+     * processing pool at any time.
+     */
+    public class Registration
+    {
+        private final Dispatcher<?> mDispatcher;
+        private final Runnable mProcessor;
+        private final long mBatchWindow;
+        private final Executor mExecutor;
+        private final AtomicBoolean mPending = new AtomicBoolean();
+        private volatile boolean mCancelled;
+        private ScheduledFuture<?> mFuture;
+
+        private Registration(Dispatcher<?> dispatcher, Runnable processor, long batchWindow, Executor executor)
+        {
+            mDispatcher = dispatcher;
+            mProcessor = processor;
+            mBatchWindow = Math.max(0, batchWindow);
+            mExecutor = executor;
+        }
+
+        /**
+         * Dispatcher for this registration
+         */
+        public Dispatcher<?> getDispatcher()
+        {
+            return mDispatcher;
+        }
+
+        /**
+         * Indicates if this registration is processed on the blocking pool.
+         */
+        public boolean isBlocking()
+        {
+            return mExecutor == mBlockingPool;
+        }
+
+        /**
+         * Indicates if this registration is scheduled for wake-on-enqueue processing.
+         */
+        public boolean isLowLatency()
+        {
+            return mBatchWindow > 0;
+        }
+
+        /**
+         * Wakes the dispatcher to process the queue after the batching window, when processing is not already
+         * pending.  Invoked when an element is enqueued.
+         */
+        public void wake()
+        {
+            if(mBatchWindow > 0 && !mCancelled && mPending.compareAndSet(false, true))
+            {
+                try
+                {
+                    mTimer.schedule(this::submit, mBatchWindow, TimeUnit.MILLISECONDS);
+                }
+                catch(Throwable t)
+                {
+                    mPending.set(false);
+                    mLog.error("Error scheduling dispatcher [" + mDispatcher.getName() + "] wake", t);
+                }
+            }
+        }
+
+        /**
+         * Invoked by the timer at each interval to submit the processor to the pool when it's not already pending.
+         */
+        private void trigger()
+        {
+            if(mPending.compareAndSet(false, true))
+            {
+                submit();
+            }
+        }
+
+        /**
+         * Submits the processor to the pool.  The pending flag must be set by the caller.
+         */
+        private void submit()
+        {
+            try
+            {
+                mExecutor.execute(this::process);
+            }
+            catch(Throwable t)
+            {
+                mPending.set(false);
+                mLog.error("Error submitting dispatcher [" + mDispatcher.getName() + "] for processing", t);
+            }
+        }
+
+        /**
+         * Runs the processor on a pool thread.
+         */
+        private void process()
+        {
+            try
+            {
+                mProcessor.run();
+            }
+            catch(Throwable t)
+            {
+                mLog.error("Error while processing dispatcher [" + mDispatcher.getName() + "]", t);
+            }
+            finally
+            {
+                mPending.set(false);
+            }
+
+            //An element enqueued while processing was pending would not have been able to wake the dispatcher
+            if(mBatchWindow > 0 && mDispatcher.getQueueSize() > 0)
+            {
+                wake();
+            }
+        }
+
+        /**
+         * Cancels the scheduled processing.  A processor that is already running is allowed to complete.
+         */
+        public void cancel()
+        {
+            mCancelled = true;
+
+            //Note: this has to be false because downstream implementations may have acquired locks and they must
+            //be able to release those locks or we'll get a deadlock situation.
+            if(mFuture != null)
+            {
+                mFuture.cancel(false);
+            }
+
+            mRegistrations.remove(this);
+        }
+    }
+}
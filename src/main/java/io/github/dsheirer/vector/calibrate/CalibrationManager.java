@@ -19,12 +19,16 @@
 
 package io.github.dsheirer.vector.calibrate;
 
+import io.github.dsheirer.dsp.afsk.AFSKToneCorrelatorCalibration;
 import io.github.dsheirer.dsp.am.AmDemodulatorCalibration;
 import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.preference.calibration.VectorCalibrationPreference;
 import io.github.dsheirer.vector.calibrate.demodulator.DifferentialDemodulatorCalibration;
 import io.github.dsheirer.vector.calibrate.demodulator.FmDemodulatorCalibration;
+import io.github.dsheirer.vector.calibrate.fft.FFTCalibration;
+import io.github.dsheirer.vector.calibrate.filter.ComplexDecimatingFilterCalibration;
 import io.github.dsheirer.vector.calibrate.filter.FirFilterCalibration;
+import io.github.dsheirer.vector.calibrate.filter.PolyphaseChannelizerFilterCalibration;
 import io.github.dsheirer.vector.calibrate.filter.RealDcRemovalCalibration;
 import io.github.dsheirer.vector.calibrate.filter.RealHalfBand11TapFilterCalibration;
 import io.github.dsheirer.vector.calibrate.filter.RealHalfBand15TapFilterCalibration;
@@ -104,19 +108,23 @@ public class CalibrationManager
             sInstance.add(new PackedSampleConverterCalibration());
             sInstance.add(new UnpackedSampleConverterCalibration());
             sInstance.add(new UnpackedInterleavedSampleConverterCalibration());
+            sInstance.add(new AFSKToneCorrelatorCalibration());
             sInstance.add(new AmDemodulatorCalibration());
+            sInstance.add(new ComplexDecimatingFilterCalibration());
             sInstance.add(new ComplexGainCalibration());
             sInstance.add(new ComplexGainControlCalibration());
             sInstance.add(new ComplexOscillatorCalibration());
             sInstance.add(new ComplexMixerCalibration());
             sInstance.add(new DMRSoftSyncCalibration());
             sInstance.add(new DifferentialDemodulatorCalibration());
+            sInstance.add(new FFTCalibration());
             sInstance.add(new FirFilterCalibration());
             sInstance.add(new FmDemodulatorCalibration());
             sInstance.add(new InterpolatorCalibration());
             sInstance.add(new MagnitudeCalibration());
             sInstance.add(new NXDNSoftSyncCalibration());
             sInstance.add(new P25P1SoftSyncCalibration());
+            sInstance.add(new PolyphaseChannelizerFilterCalibration());
             sInstance.add(new RealDcRemovalCalibration());
             sInstance.add(new RealHalfBand11TapFilterCalibration());
             sInstance.add(new RealHalfBand15TapFilterCalibration());
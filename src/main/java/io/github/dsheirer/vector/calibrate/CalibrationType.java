@@ -32,16 +32,20 @@ public enum CalibrationType
     OSCILLATOR_COMPLEX("Complex Oscillator", 1),
     GAIN_COMPLEX("Complex Gain", 1),
 
+    AFSK_TONE_CORRELATOR("AFSK Tone Correlator Bank", 1),
     AM_DEMODULATOR("AM Demodulator", 1),
     DC_REMOVAL_REAL("Real DC Removal Filter", 1),
     DMR_SOFT_SYNC_DETECTOR("DMR Soft Sync Detector", 1),
     DIFFERENTIAL_DEMODULATOR("DQPSK Demodulator", 1),
+    FFT("Fast Fourier Transform", 1),
+    FILTER_COMPLEX_DECIMATING("Complex Decimating FIR Filter", 1),
     FILTER_FIR("FIR Filter", 1),
     FILTER_HALF_BAND_REAL_11_TAP("Real Half-Band Decimation Filter - 11 Tap", 1),
     FILTER_HALF_BAND_REAL_15_TAP("Real Half-Band Decimation Filter - 15 Tap", 1),
     FILTER_HALF_BAND_REAL_23_TAP("Real Half-Band Decimation Filter - 23 Tap", 1),
     FILTER_HALF_BAND_REAL_63_TAP("Real Half-Band Decimation Filter - 63 Tap", 1),
     FILTER_HALF_BAND_REAL_DEFAULT("Real Half-Band Decimation Filter - Default", 1),
+    FILTER_POLYPHASE_CHANNELIZER("Polyphase Channelizer Filter", 1),
     FM_DEMODULATOR("FM Demodulator", 2),
     GAIN_CONTROL_COMPLEX("Complex Gain Control", 1),
     HILBERT_TRANSFORM("Hilbert Transform", 1),
@@ -0,0 +1,238 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.vector.calibrate.fft;
+
+import io.github.dsheirer.dsp.fft.IFFT;
+import io.github.dsheirer.dsp.fft.JTransformsFFT;
+import io.github.dsheirer.dsp.fft.VectorFFT;
+import io.github.dsheirer.dsp.filter.channelizer.ComplexPolyphaseChannelizerM2;
+import io.github.dsheirer.vector.calibrate.Calibration;
+import io.github.dsheirer.vector.calibrate.CalibrationException;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.incubator.vector.FloatVector;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+
+/**
+ * FFT calibration.  Compares the JTransforms (scalar) FFT against the vector FFT using the polyphase channelizer
+ * channel counts for the sample rates of the common tuners (RTL-SDR, Airspy, SDRPlay and HackRF), e.g. 96, 240, 400
+ * and 800 channels for 2.4, 6, 10 and 20 MHz.  Channel counts that the vector FFT doesn't support always use the
+ * JTransforms implementation and are not measured.
+ */
+public class FFTCalibration extends Calibration
+{
+    private static final double[] SAMPLE_RATES = {2_400_000.0, 2_500_000.0, 3_000_000.0, 6_000_000.0, 8_000_000.0,
+        10_000_000.0, 20_000_000.0};
+    private static final int ITERATION_DURATION_MS = 1000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int TEST_ITERATIONS = 5;
+
+    /**
+     * Constructs an instance
+     */
+    public FFTCalibration()
+    {
+        super(CalibrationType.FFT);
+    }
+
+    @Override public void calibrate() throws CalibrationException
+    {
+        List<Integer> sizes = new ArrayList<>();
+
+        for(double sampleRate: SAMPLE_RATES)
+        {
+            int channelCount = ComplexPolyphaseChannelizerM2.getChannelCount(sampleRate);
+
+            if(VectorFFT.isSupported(channelCount) && !sizes.contains(channelCount))
+            {
+                sizes.add(channelCount);
+            }
+        }
+
+        mLog.info("FFT - CALIBRATING CHANNEL COUNTS: " + sizes);
+
+        IFFT[] scalar = new IFFT[sizes.size()];
+        IFFT[] vector64 = new IFFT[sizes.size()];
+        IFFT[] vector128 = new IFFT[sizes.size()];
+        IFFT[] vector256 = new IFFT[sizes.size()];
+        IFFT[] vector512 = new IFFT[sizes.size()];
+        float[][] samples = new float[sizes.size()][];
+
+        for(int x = 0; x < sizes.size(); x++)
+        {
+            int size = sizes.get(x);
+            scalar[x] = new JTransformsFFT(size);
+            vector64[x] = new VectorFFT(size, FloatVector.SPECIES_64);
+            vector128[x] = new VectorFFT(size, FloatVector.SPECIES_128);
+            vector256[x] = new VectorFFT(size, FloatVector.SPECIES_256);
+            vector512[x] = new VectorFFT(size, FloatVector.SPECIES_512);
+            samples[x] = getFloatSamples(size * 2);
+        }
+
+        Mean scalarMean = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            scalarMean.increment(test(scalar, samples));
+        }
+
+        mLog.info("FFT WARMUP - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        Mean vectorMean64 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean64.increment(test(vector64, samples));
+        }
+
+        mLog.info("FFT WARMUP - VECTOR 64: " + DECIMAL_FORMAT.format(vectorMean64.getResult()));
+
+        Mean vectorMean128 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean128.increment(test(vector128, samples));
+        }
+
+        mLog.info("FFT WARMUP - VECTOR 128: " + DECIMAL_FORMAT.format(vectorMean128.getResult()));
+
+        Mean vectorMean256 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean256.increment(test(vector256, samples));
+        }
+
+        mLog.info("FFT WARMUP - VECTOR 256: " + DECIMAL_FORMAT.format(vectorMean256.getResult()));
+
+        Mean vectorMean512 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean512.increment(test(vector512, samples));
+        }
+
+        mLog.info("FFT WARMUP - VECTOR 512: " + DECIMAL_FORMAT.format(vectorMean512.getResult()));
+
+        //Start tests
+        scalarMean.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            scalarMean.increment(test(scalar, samples));
+        }
+
+        mLog.info("FFT - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        vectorMean64.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean64.increment(test(vector64, samples));
+        }
+
+        mLog.info("FFT - VECTOR 64: " + DECIMAL_FORMAT.format(vectorMean64.getResult()));
+
+        vectorMean128.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean128.increment(test(vector128, samples));
+        }
+
+        mLog.info("FFT - VECTOR 128: " + DECIMAL_FORMAT.format(vectorMean128.getResult()));
+
+        vectorMean256.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean256.increment(test(vector256, samples));
+        }
+
+        mLog.info("FFT - VECTOR 256: " + DECIMAL_FORMAT.format(vectorMean256.getResult()));
+
+        vectorMean512.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean512.increment(test(vector512, samples));
+        }
+
+        mLog.info("FFT - VECTOR 512: " + DECIMAL_FORMAT.format(vectorMean512.getResult()));
+
+        Implementation best = Implementation.SCALAR;
+        double bestScore = scalarMean.getResult();
+
+        if(vectorMean64.getResult() > bestScore)
+        {
+            bestScore = vectorMean64.getResult();
+            best = Implementation.VECTOR_SIMD_64;
+        }
+
+        if(vectorMean128.getResult() > bestScore)
+        {
+            bestScore = vectorMean128.getResult();
+            best = Implementation.VECTOR_SIMD_128;
+        }
+
+        if(vectorMean256.getResult() > bestScore)
+        {
+            bestScore = vectorMean256.getResult();
+            best = Implementation.VECTOR_SIMD_256;
+        }
+
+        if(vectorMean512.getResult() > bestScore)
+        {
+            best = Implementation.VECTOR_SIMD_512;
+        }
+
+        setImplementation(best);
+
+        mLog.info("FFT - SET OPTIMAL IMPLEMENTATION TO:" + getImplementation());
+    }
+
+    /**
+     * Counts the number of times that the set of FFTs can each perform a forward and a scaled inverse transform
+     * within the iteration duration.  The forward/inverse pair keeps the sample values from growing or decaying
+     * across repeated passes.
+     * @param ffts to test, one per size
+     * @param samples to transform, one array per size
+     * @return count of passes
+     */
+    private long test(IFFT[] ffts, float[][] samples)
+    {
+        long count = 0;
+        long start = System.currentTimeMillis();
+
+        while((System.currentTimeMillis() - start) < ITERATION_DURATION_MS)
+        {
+            for(int x = 0; x < ffts.length; x++)
+            {
+                ffts[x].complexForward(samples[x]);
+                ffts[x].complexInverse(samples[x], true);
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+}
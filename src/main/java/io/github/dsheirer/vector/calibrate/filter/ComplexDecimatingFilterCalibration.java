@@ -0,0 +1,204 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.vector.calibrate.filter;
+
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexDecimatingFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ScalarComplexDecimatingFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFilter128Bit;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFilter256Bit;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFilter512Bit;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFilter64Bit;
+import io.github.dsheirer.vector.calibrate.Calibration;
+import io.github.dsheirer.vector.calibrate.CalibrationException;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+
+/**
+ * Calibrates the complex decimating FIR filter using a filter length and decimation that is representative of the
+ * combined decimation, baseband and pulse shaping filter used by the digital decoders.
+ */
+public class ComplexDecimatingFilterCalibration extends Calibration
+{
+    private static final int BUFFER_SIZE = 2048;
+    private static final int FILTER_LENGTH = 181;
+    private static final int DECIMATION = 2;
+    private static final int ITERATION_DURATION_MS = 1000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int TEST_ITERATIONS = 5;
+
+    /**
+     * Constructs an instance
+     */
+    public ComplexDecimatingFilterCalibration()
+    {
+        super(CalibrationType.FILTER_COMPLEX_DECIMATING);
+    }
+
+    @Override public void calibrate() throws CalibrationException
+    {
+        float[] i = getFloatSamples(BUFFER_SIZE);
+        float[] q = getFloatSamples(BUFFER_SIZE);
+        float[] coefficients = getFloatSamples(FILTER_LENGTH);
+
+        ComplexDecimatingFilter scalar = new ScalarComplexDecimatingFilter(coefficients, DECIMATION);
+        ComplexDecimatingFilter vector64 = new VectorComplexDecimatingFilter64Bit(coefficients, DECIMATION);
+        ComplexDecimatingFilter vector128 = new VectorComplexDecimatingFilter128Bit(coefficients, DECIMATION);
+        ComplexDecimatingFilter vector256 = new VectorComplexDecimatingFilter256Bit(coefficients, DECIMATION);
+        ComplexDecimatingFilter vector512 = new VectorComplexDecimatingFilter512Bit(coefficients, DECIMATION);
+
+        Mean scalarMean = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            scalarMean.increment(testFilter(scalar, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER WARMUP - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        Mean vectorMean64 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean64.increment(testFilter(vector64, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER WARMUP - VECTOR 64: " + DECIMAL_FORMAT.format(vectorMean64.getResult()));
+
+        Mean vectorMean128 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean128.increment(testFilter(vector128, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER WARMUP - VECTOR 128: " + DECIMAL_FORMAT.format(vectorMean128.getResult()));
+
+        Mean vectorMean256 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean256.increment(testFilter(vector256, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER WARMUP - VECTOR 256: " + DECIMAL_FORMAT.format(vectorMean256.getResult()));
+
+        Mean vectorMean512 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean512.increment(testFilter(vector512, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER WARMUP - VECTOR 512: " + DECIMAL_FORMAT.format(vectorMean512.getResult()));
+
+        //Start tests
+        scalarMean.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            scalarMean.increment(testFilter(scalar, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        vectorMean64.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean64.increment(testFilter(vector64, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER - VECTOR 64: " + DECIMAL_FORMAT.format(vectorMean64.getResult()));
+
+        vectorMean128.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean128.increment(testFilter(vector128, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER - VECTOR 128: " + DECIMAL_FORMAT.format(vectorMean128.getResult()));
+
+        vectorMean256.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean256.increment(testFilter(vector256, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER - VECTOR 256: " + DECIMAL_FORMAT.format(vectorMean256.getResult()));
+
+        vectorMean512.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean512.increment(testFilter(vector512, i, q));
+        }
+
+        mLog.info("COMPLEX DECIMATING FILTER - VECTOR 512: " + DECIMAL_FORMAT.format(vectorMean512.getResult()));
+
+        Implementation best = Implementation.SCALAR;
+        double bestScore = scalarMean.getResult();
+
+        if(vectorMean64.getResult() > bestScore)
+        {
+            bestScore = vectorMean64.getResult();
+            best = Implementation.VECTOR_SIMD_64;
+        }
+
+        if(vectorMean128.getResult() > bestScore)
+        {
+            bestScore = vectorMean128.getResult();
+            best = Implementation.VECTOR_SIMD_128;
+        }
+
+        if(vectorMean256.getResult() > bestScore)
+        {
+            bestScore = vectorMean256.getResult();
+            best = Implementation.VECTOR_SIMD_256;
+        }
+
+        if(vectorMean512.getResult() > bestScore)
+        {
+            best = Implementation.VECTOR_SIMD_512;
+        }
+
+        setImplementation(best);
+
+        mLog.info("COMPLEX DECIMATING FILTER - SET OPTIMAL IMPLEMENTATION TO:" + getImplementation());
+    }
+
+    /**
+     * Counts the number of sample buffers the filter can process within the iteration duration.
+     */
+    private long testFilter(ComplexDecimatingFilter filter, float[] i, float[] q)
+    {
+        long count = 0;
+        long start = System.currentTimeMillis();
+
+        while((System.currentTimeMillis() - start) < ITERATION_DURATION_MS)
+        {
+            filter.filter(i, q, 0);
+            count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.vector.calibrate.filter;
+
+import io.github.dsheirer.dsp.filter.channelizer.ComplexPolyphaseChannelizerM2;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulator;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorScalar;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector128;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector256;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector512;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector64;
+import io.github.dsheirer.vector.calibrate.Calibration;
+import io.github.dsheirer.vector.calibrate.CalibrationException;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+
+/**
+ * Calibrates the polyphase channelizer filter multiply and accumulate stage using the channel count for a 10 MHz
+ * tuner sample rate and the default taps per channel.
+ */
+public class PolyphaseChannelizerFilterCalibration extends Calibration
+{
+    private static final int SUB_CHANNEL_COUNT = ComplexPolyphaseChannelizerM2.getChannelCount(10_000_000.0) * 2;
+    private static final int TAPS_PER_CHANNEL = 9;
+    private static final int BUFFER_SIZE = SUB_CHANNEL_COUNT * TAPS_PER_CHANNEL;
+    private static final int ITERATION_DURATION_MS = 1000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int TEST_ITERATIONS = 5;
+
+    /**
+     * Constructs an instance
+     */
+    public PolyphaseChannelizerFilterCalibration()
+    {
+        super(CalibrationType.FILTER_POLYPHASE_CHANNELIZER);
+    }
+
+    @Override public void calibrate() throws CalibrationException
+    {
+        float[] samples = getFloatSamples(BUFFER_SIZE);
+        float[] filter = getFloatSamples(BUFFER_SIZE);
+
+        PolyphaseFilterAccumulator scalar = new PolyphaseFilterAccumulatorScalar();
+        PolyphaseFilterAccumulator vector64 = new PolyphaseFilterAccumulatorVector64();
+        PolyphaseFilterAccumulator vector128 = new PolyphaseFilterAccumulatorVector128();
+        PolyphaseFilterAccumulator vector256 = new PolyphaseFilterAccumulatorVector256();
+        PolyphaseFilterAccumulator vector512 = new PolyphaseFilterAccumulatorVector512();
+
+        Mean scalarMean = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            scalarMean.increment(testAccumulator(scalar, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER WARMUP - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        Mean vectorMean64 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean64.increment(testAccumulator(vector64, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER WARMUP - VECTOR 64: " + DECIMAL_FORMAT.format(vectorMean64.getResult()));
+
+        Mean vectorMean128 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean128.increment(testAccumulator(vector128, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER WARMUP - VECTOR 128: " + DECIMAL_FORMAT.format(vectorMean128.getResult()));
+
+        Mean vectorMean256 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean256.increment(testAccumulator(vector256, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER WARMUP - VECTOR 256: " + DECIMAL_FORMAT.format(vectorMean256.getResult()));
+
+        Mean vectorMean512 = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            vectorMean512.increment(testAccumulator(vector512, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER WARMUP - VECTOR 512: " + DECIMAL_FORMAT.format(vectorMean512.getResult()));
+
+        //Start tests
+        scalarMean.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            scalarMean.increment(testAccumulator(scalar, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        vectorMean64.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean64.increment(testAccumulator(vector64, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - VECTOR 64: " + DECIMAL_FORMAT.format(vectorMean64.getResult()));
+
+        vectorMean128.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean128.increment(testAccumulator(vector128, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - VECTOR 128: " + DECIMAL_FORMAT.format(vectorMean128.getResult()));
+
+        vectorMean256.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean256.increment(testAccumulator(vector256, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - VECTOR 256: " + DECIMAL_FORMAT.format(vectorMean256.getResult()));
+
+        vectorMean512.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            vectorMean512.increment(testAccumulator(vector512, samples, filter));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - VECTOR 512: " + DECIMAL_FORMAT.format(vectorMean512.getResult()));
+
+        Implementation best = Implementation.SCALAR;
+        double bestScore = scalarMean.getResult();
+
+        if(vectorMean64.getResult() > bestScore)
+        {
+            bestScore = vectorMean64.getResult();
+            best = Implementation.VECTOR_SIMD_64;
+        }
+
+        if(vectorMean128.getResult() > bestScore)
+        {
+            bestScore = vectorMean128.getResult();
+            best = Implementation.VECTOR_SIMD_128;
+        }
+
+        if(vectorMean256.getResult() > bestScore)
+        {
+            bestScore = vectorMean256.getResult();
+            best = Implementation.VECTOR_SIMD_256;
+        }
+
+        if(vectorMean512.getResult() > bestScore)
+        {
+            best = Implementation.VECTOR_SIMD_512;
+        }
+
+        setImplementation(best);
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - SET OPTIMAL IMPLEMENTATION TO:" + getImplementation());
+    }
+
+    /**
+     * Counts the number of filter accumulation passes the accumulator can complete within the iteration duration.
+     */
+    private long testAccumulator(PolyphaseFilterAccumulator accumulator, float[] samples, float[] filter)
+    {
+        float[] accumulated = new float[SUB_CHANNEL_COUNT];
+        long count = 0;
+        long start = System.currentTimeMillis();
+
+        while((System.currentTimeMillis() - start) < ITERATION_DURATION_MS)
+        {
+            accumulator.accumulate(samples, filter, accumulated, SUB_CHANNEL_COUNT, TAPS_PER_CHANNEL);
+            count++;
+        }
+
+        return count;
+    }
+}
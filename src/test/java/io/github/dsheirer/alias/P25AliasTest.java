@@ -150,6 +150,40 @@ public class P25AliasTest
         assertEquals(0, aliases.size(), "Expected 0 matching aliases");
     }
 
+    /**
+     * Tests talkgroup range lookups at the range boundaries, in the gaps between ranges, and for overlapping ranges
+     * before and after the overlapping alias is removed.
+     */
+    @Test
+    void aliasP25TalkgroupRanges()
+    {
+        AliasList aliasList = new AliasList("Test Alias List");
+
+        Alias aliasRangeA = new Alias("Range A");
+        aliasRangeA.addAliasID(new TalkgroupRange(Protocol.APCO25, 100, 199));
+        aliasList.addAlias(aliasRangeA);
+
+        Alias aliasRangeB = new Alias("Range B");
+        aliasRangeB.addAliasID(new TalkgroupRange(Protocol.APCO25, 300, 399));
+        aliasList.addAlias(aliasRangeB);
+
+        Alias aliasRangeC = new Alias("Range C");
+        aliasRangeC.addAliasID(new TalkgroupRange(Protocol.APCO25, 150, 349));
+        aliasList.addAlias(aliasRangeC);
+
+        assertEquals(0, aliasList.getAliases(APCO25Talkgroup.create(99)).size(), "Expected 0 matching aliases");
+        assertEquals("Range A", aliasList.getAliases(APCO25Talkgroup.create(100)).getFirst().getName());
+        assertEquals("Range A", aliasList.getAliases(APCO25Talkgroup.create(199)).getFirst().getName());
+        assertEquals("Range C", aliasList.getAliases(APCO25Talkgroup.create(250)).getFirst().getName());
+        assertEquals("Range B", aliasList.getAliases(APCO25Talkgroup.create(399)).getFirst().getName());
+        assertEquals(0, aliasList.getAliases(APCO25Talkgroup.create(400)).size(), "Expected 0 matching aliases");
+
+        aliasList.removeAlias(aliasRangeA);
+
+        assertEquals("Range C", aliasList.getAliases(APCO25Talkgroup.create(150)).getFirst().getName());
+        assertEquals(0, aliasList.getAliases(APCO25Talkgroup.create(149)).size(), "Expected 0 matching aliases");
+    }
+
     @Test
     void aliasP25Radio()
     {
@@ -260,4 +294,37 @@ public class P25AliasTest
         List<Alias> aliases = aliasList.getAliases(p25FQTG1);
         assertEquals(0, aliases.size(), "Expected 0 matching aliases");
     }
+
+    /**
+     * Tests that cached talkgroup lookups are invalidated when an alias is added, updated or removed.
+     */
+    @Test
+    void aliasP25TalkgroupLookupCacheInvalidation()
+    {
+        AliasList aliasList = new AliasList("Test Alias List");
+        TalkgroupIdentifier talkgroupIdentifier = APCO25Talkgroup.create(100);
+
+        assertEquals(0, aliasList.getAliases(talkgroupIdentifier).size(), "Expected 0 matching aliases");
+        assertEquals(0, aliasList.getAliases(talkgroupIdentifier).size(), "Expected 0 matching aliases");
+        assertEquals(1, aliasList.getLookupCache().getHitCount(), "Expected cached lookup");
+
+        Alias alias = new Alias();
+        alias.setName("Alias Talkgroup 100");
+        alias.setAliasListName("Test Alias List");
+        alias.addAliasID(new Talkgroup(Protocol.APCO25, 100));
+        aliasList.addAlias(alias);
+
+        List<Alias> aliases = aliasList.getAliases(talkgroupIdentifier);
+        assertEquals(1, aliases.size(), "Expected 1 matching alias after add");
+
+        alias.removeAliasID(alias.getAliasIdentifiers().getFirst());
+        alias.addAliasID(new Talkgroup(Protocol.APCO25, 200));
+        aliasList.updateAlias(alias);
+
+        assertEquals(0, aliasList.getAliases(talkgroupIdentifier).size(), "Expected 0 matching aliases after update");
+        assertEquals(1, aliasList.getAliases(APCO25Talkgroup.create(200)).size(), "Expected 1 matching alias");
+
+        aliasList.removeAlias(alias);
+        assertEquals(0, aliasList.getAliases(APCO25Talkgroup.create(200)).size(), "Expected 0 after removal");
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.alias.index;
+
+import io.github.dsheirer.alias.Alias;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the range alias index lookups and that incremental alias removal produces the same index as building the
+ * index from the remaining ranges.
+ */
+public class RangeAliasIndexTest
+{
+    private static final int VALUE_SPAN = 2000;
+
+    /**
+     * Test: overlapping ranges are owned by the range that was added first.
+     */
+    @Test
+    void firstAddedRangeOwnsOverlap()
+    {
+        Alias first = new Alias("First");
+        Alias second = new Alias("Second");
+        RangeAliasIndex index = new RangeAliasIndex();
+        index.add(100, 200, first);
+        index.add(150, 300, second);
+
+        assertSame(null, index.get(99), "Below ranges");
+        assertSame(first, index.get(100), "Start of first range");
+        assertSame(first, index.get(175), "Overlap");
+        assertSame(second, index.get(201), "Second range after first range");
+        assertSame(second, index.get(300), "End of second range");
+        assertSame(null, index.get(301), "Above ranges");
+
+        assertTrue(index.remove(first), "Remove first");
+        assertFalse(index.remove(first), "Remove first again");
+        assertSame(second, index.get(175), "Overlap reassigned to second range");
+        assertSame(null, index.get(149), "Values only covered by first range");
+        assertEquals(1, index.getSegmentCount(), "Segment count");
+    }
+
+    /**
+     * Test: remove random aliases one at a time from an index of random, overlapping ranges.
+     *
+     * Success: after each removal, every value resolves to the same alias and the segment count matches an index
+     * built by adding the remaining ranges in their original order.
+     */
+    @Test
+    void incrementalRemovalMatchesRebuild()
+    {
+        Random random = new Random(0x5EEDL);
+
+        for(int trial = 0; trial < 20; trial++)
+        {
+            List<Alias> aliases = new ArrayList<>();
+            List<int[]> ranges = new ArrayList<>();
+            List<Alias> rangeAliases = new ArrayList<>();
+            RangeAliasIndex index = new RangeAliasIndex();
+
+            for(int x = 0; x < 30; x++)
+            {
+                aliases.add(new Alias("Alias " + x));
+            }
+
+            for(int x = 0; x < 100; x++)
+            {
+                int min = random.nextInt(VALUE_SPAN);
+                int max = Math.min(VALUE_SPAN - 1, min + random.nextInt(200));
+                Alias alias = aliases.get(random.nextInt(aliases.size()));
+                ranges.add(new int[]{min, max});
+                rangeAliases.add(alias);
+                index.add(min, max, alias);
+            }
+
+            while(!aliases.isEmpty())
+            {
+                Alias removed = aliases.remove(random.nextInt(aliases.size()));
+                index.remove(removed);
+
+                RangeAliasIndex expected = new RangeAliasIndex();
+
+                for(int x = 0; x < ranges.size(); x++)
+                {
+                    if(aliases.contains(rangeAliases.get(x)))
+                    {
+                        expected.add(ranges.get(x)[0], ranges.get(x)[1], rangeAliases.get(x));
+                    }
+                }
+
+                for(int value = -1; value <= VALUE_SPAN; value++)
+                {
+                    assertSame(expected.get(value), index.get(value), "Value " + value);
+                }
+
+                assertEquals(expected.getSegmentCount(), index.getSegmentCount(), "Segment count");
+                assertEquals(expected.getRangeCount(), index.getRangeCount(), "Range count");
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ import io.github.dsheirer.protocol.Protocol;
 import io.github.dsheirer.sample.Listener;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -215,4 +216,77 @@ public class DuplicateCallDetectionTest
         assertFalse(audioSegment1.isDuplicate(), "Audio segment should not be flagged as duplicate.");
         assertFalse(audioSegment2.isDuplicate(), "Audio segment should not be flagged as duplicate.");
     }
+
+    /**
+     * Test: a call completes and monitoring stops, then two calls to the same talkgroup arrive after a gap that is
+     * longer than the idle timeout.
+     *
+     * Success Criteria: the calls that arrive after the gap are monitored, rather than being expired as idle on
+     * arrival, and one of them is flagged as duplicate.
+     */
+    @Test
+    void callsAfterIdleGapAreMonitored()
+    {
+        AliasList aliasList = new AliasList("test");
+        AtomicLong clock = new AtomicLong();
+
+        ICallManagementProvider provider = new TestCallManagementProvider(true, false);
+
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        Listener<AudioSegment> callback = audioSegment -> countDownLatch.countDown();
+
+        DuplicateCallDetector duplicateCallDetector = new DuplicateCallDetector(provider, clock::get);
+        duplicateCallDetector.setDuplicateCallDetectionListener(callback);
+
+        AudioSegment audioSegment1 = new AudioSegment(aliasList, 1);
+        audioSegment1.addIdentifier(SystemConfigurationIdentifier.create("Test System"));
+        audioSegment1.addIdentifier(APCO25Talkgroup.create(1));
+        audioSegment1.addAudio(new float[2]);
+        duplicateCallDetector.receive(audioSegment1);
+
+        try
+        {
+            //Let the detector monitor the call, and then stop monitoring once the call is complete
+            Thread.sleep(100);
+            audioSegment1.completeProperty().set(true);
+            Thread.sleep(100);
+        }
+        catch(InterruptedException e)
+        {
+            e.printStackTrace();
+        }
+
+        //Idle gap of 10 minutes, well beyond the 60 second idle timeout
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        AudioSegment audioSegment2 = new AudioSegment(aliasList, 2);
+        audioSegment2.addIdentifier(SystemConfigurationIdentifier.create("Test System"));
+        audioSegment2.addIdentifier(APCO25Talkgroup.create(2));
+        audioSegment2.addAudio(new float[2]);
+
+        AudioSegment audioSegment3 = new AudioSegment(aliasList, 3);
+        audioSegment3.addIdentifier(SystemConfigurationIdentifier.create("Test System"));
+        audioSegment3.addIdentifier(APCO25Talkgroup.create(2));
+        audioSegment3.addAudio(new float[2]);
+
+        duplicateCallDetector.receive(audioSegment2);
+        duplicateCallDetector.receive(audioSegment3);
+
+        try
+        {
+            //Wait up to 500 ms, but the duplicate detector should fire within 25 ms.
+            countDownLatch.await(500, TimeUnit.MILLISECONDS);
+        }
+        catch(InterruptedException e)
+        {
+            e.printStackTrace();
+        }
+
+        audioSegment2.completeProperty().set(true);
+        audioSegment3.completeProperty().set(true);
+
+        assertFalse(audioSegment1.isDuplicate(), "Audio segment 1 should not be flagged as duplicate");
+        assertTrue(audioSegment2.isDuplicate() || audioSegment3.isDuplicate(),
+            "Audio segments that arrive after an idle gap should be monitored and flagged as duplicate");
+    }
 }
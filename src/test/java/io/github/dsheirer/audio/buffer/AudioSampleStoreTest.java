@@ -0,0 +1,99 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.audio.buffer;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit tests for the audio sample store.
+ */
+public class AudioSampleStoreTest
+{
+    /**
+     * Test: audio buffers with lengths that span block boundaries are appended and read back through views.
+     *
+     * Success Criteria: each view, and each copy, matches the appended buffer.
+     */
+    @Test
+    void viewsMatchAppendedBuffers()
+    {
+        AudioSampleStore store = new AudioSampleStore(new AudioBlockPool(4, AudioBlockPool.SampleFormat.FLOAT_32));
+        Random random = new Random(1);
+        float[][] buffers = new float[12][];
+
+        for(int x = 0; x < buffers.length; x++)
+        {
+            buffers[x] = new float[random.nextInt(AudioBlockPool.BLOCK_SIZE)];
+
+            for(int y = 0; y < buffers[x].length; y++)
+            {
+                buffers[x][y] = random.nextFloat() * 2.0f - 1.0f;
+            }
+
+            store.append(buffers[x]);
+        }
+
+        assertEquals(buffers.length, store.getBufferCount(), "Buffer count");
+
+        for(int x = 0; x < buffers.length; x++)
+        {
+            AudioBufferView view = store.getView(x);
+            assertEquals(buffers[x].length, view.length(), "Buffer " + x + " length");
+            assertArrayEquals(buffers[x], view.toArray(), "Buffer " + x + " samples");
+            assertArrayEquals(buffers[x], store.getBuffer(x), "Buffer " + x + " copy");
+
+            if(view.length() > 0)
+            {
+                assertEquals(buffers[x][view.length() - 1], view.get(view.length() - 1), "Buffer " + x + " sample");
+            }
+        }
+    }
+
+    /**
+     * Test: a view obtained before the store is released is read after the store's blocks are returned to the pool
+     * and reused by another store.
+     *
+     * Success Criteria: reads from the view, and requests for new views, throw an exception instead of returning
+     * samples from the recycled blocks.
+     */
+    @Test
+    void readAfterReleaseFails()
+    {
+        AudioBlockPool pool = new AudioBlockPool(4, AudioBlockPool.SampleFormat.FLOAT_32);
+        AudioSampleStore store = new AudioSampleStore(pool);
+        store.append(new float[]{0.1f, 0.2f, 0.3f});
+        AudioBufferView view = store.getView(0);
+
+        store.release();
+
+        //Reuse the recycled block with different samples
+        AudioSampleStore reuse = new AudioSampleStore(pool);
+        reuse.append(new float[]{0.9f, 0.9f, 0.9f});
+
+        assertThrows(IllegalStateException.class, () -> view.get(0), "Sample read after release");
+        assertThrows(IllegalStateException.class, () -> view.copyTo(new float[3], 0), "Copy after release");
+        assertThrows(IllegalStateException.class, () -> store.getView(0), "View after release");
+        assertThrows(IllegalStateException.class, () -> store.append(new float[1]), "Append after release");
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.bits;
+
+import io.github.dsheirer.dsp.symbol.Dibit;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JUnit tests for binary message field extraction.  Compares the word-level field extraction against a bit at a time
+ * walk of the message bits.
+ */
+public class BinaryMessageTest
+{
+    private static final int MESSAGE_LENGTH = 288;
+    private static final int ITERATIONS = 20_000;
+
+    /**
+     * Test: contiguous integer and long fields at random offsets and widths, including fields that span a 64-bit
+     * word boundary and fields that extend past the end of the message.
+     *
+     * Success Criteria: each field value matches the bit at a time walk of the message bits.
+     */
+    @Test
+    void contiguousFields()
+    {
+        Random random = new Random(18);
+        BinaryMessage message = createMessage(random);
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            int width = 2 + random.nextInt(63);
+            int start = random.nextInt(MESSAGE_LENGTH);
+            int end = start + width - 1;
+            long expected = walk(message, start, end);
+
+            assertEquals(expected, message.getLong(start, end), "getLong(" + start + "," + end + ")");
+            assertEquals(expected, message.getLong(LongField.range(start, end)), "LongField " + start + "-" + end);
+
+            if(width <= 32)
+            {
+                assertEquals((int)expected, message.getInt(start, end), "getInt(" + start + "," + end + ")");
+                assertEquals((int)expected, message.getInt(IntField.range(start, end)),
+                    "IntField " + start + "-" + end);
+            }
+        }
+    }
+
+    /**
+     * Test: every field width, with fields that start just before, on and just after each 64-bit word boundary.
+     *
+     * Success Criteria: each field value matches the bit at a time walk of the message bits.
+     */
+    @Test
+    void fieldsSpanningWordBoundaries()
+    {
+        BinaryMessage message = createMessage(new Random(64));
+
+        for(int boundary = 64; boundary < MESSAGE_LENGTH; boundary += 64)
+        {
+            for(int width = 2; width <= 64; width++)
+            {
+                for(int start = boundary - width; start <= boundary + 1; start++)
+                {
+                    int end = start + width - 1;
+                    long expected = walk(message, start, end);
+                    assertEquals(expected, message.getLong(start, end), "getLong(" + start + "," + end + ")");
+
+                    if(width <= 32)
+                    {
+                        assertEquals((int)expected, message.getInt(start, end), "getInt(" + start + "," + end + ")");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test: fields with a mix of consecutive and non-consecutive bit indices, with and without an offset.
+     *
+     * Success Criteria: each field value matches the bit at a time walk of the message bits.
+     */
+    @Test
+    void fragmentedFields()
+    {
+        Random random = new Random(7);
+        BinaryMessage message = createMessage(random);
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            int[] indices = new int[1 + random.nextInt(32)];
+            int index = random.nextInt(MESSAGE_LENGTH / 2);
+
+            for(int y = 0; y < indices.length; y++)
+            {
+                indices[y] = index;
+                //Mostly consecutive runs with occasional jumps, which may go backward
+                index = random.nextInt(4) == 0 ? random.nextInt(MESSAGE_LENGTH / 2) : index + 1;
+            }
+
+            int offset = random.nextInt(MESSAGE_LENGTH / 2);
+            assertEquals((int)walk(message, indices, 0), message.getInt(indices), "getInt(int[])");
+            assertEquals((int)walk(message, indices, offset), message.getInt(indices, offset), "getInt(int[],offset)");
+            assertEquals(walk(message, indices, offset), message.getLong(indices, offset), "getLong(int[],offset)");
+            assertEquals((int)walk(message, indices, offset),
+                message.getInt(FragmentedIntField.of(indices), offset), "FragmentedIntField");
+        }
+    }
+
+    /**
+     * Test: each of the message mutation methods is applied after a field has been extracted, including adding
+     * dibits.
+     *
+     * Success Criteria: field values extracted after each mutation reflect the mutation.
+     */
+    @Test
+    void extractionAfterMutation()
+    {
+        Random random = new Random(3);
+        BinaryMessage message = new BinaryMessage(MESSAGE_LENGTH);
+        Dibit[] dibits = Dibit.values();
+
+        for(int x = 0; x < 200; x++)
+        {
+            //Extract first so that the packed message bits are created
+            assertEquals(walk(message, 0, 63), message.getLong(0, 63), "Before mutation " + x);
+
+            int index = random.nextInt(64);
+
+            switch(x % 7)
+            {
+                case 0 -> message.set(index);
+                case 1 -> message.clear(index);
+                case 2 -> message.flip(index);
+                case 3 -> message.set(index, 64, random.nextBoolean());
+                case 4 -> message.flip(0, index);
+                case 5 ->
+                {
+                    message.setPointer(index & ~1);
+                    Dibit[] added = new Dibit[4];
+
+                    for(int y = 0; y < added.length; y++)
+                    {
+                        added[y] = dibits[random.nextInt(dibits.length)];
+                    }
+
+                    message.add(added, 0, added.length);
+                }
+                default -> message.clear(index, 64);
+            }
+
+            assertEquals(walk(message, 0, 63), message.getLong(0, 63), "After mutation " + x);
+        }
+    }
+
+    /**
+     * Creates a message with random content
+     */
+    private static BinaryMessage createMessage(Random random)
+    {
+        BinaryMessage message = new BinaryMessage(MESSAGE_LENGTH);
+
+        for(int x = 0; x < MESSAGE_LENGTH; x++)
+        {
+            if(random.nextBoolean())
+            {
+                message.set(x);
+            }
+        }
+
+        return message;
+    }
+
+    /**
+     * Bit at a time extraction of a contiguous field where the start index is the most significant bit
+     */
+    private static long walk(BinaryMessage message, int start, int end)
+    {
+        long value = 0;
+
+        for(int index = start; index <= end; index++)
+        {
+            value = (value << 1) | (message.get(index) ? 1 : 0);
+        }
+
+        return value;
+    }
+
+    /**
+     * Bit at a time extraction of a field from the bit indices where the first index is the most significant bit
+     */
+    private static long walk(BinaryMessage message, int[] indices, int offset)
+    {
+        long value = 0;
+
+        for(int index: indices)
+        {
+            value = (value << 1) | (message.get(index + offset) ? 1 : 0);
+        }
+
+        return value;
+    }
+}
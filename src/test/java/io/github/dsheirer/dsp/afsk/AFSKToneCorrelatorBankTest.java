@@ -0,0 +1,190 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.afsk;
+
+import io.github.dsheirer.buffer.FloatAveragingBuffer;
+import io.github.dsheirer.dsp.oscillator.IRealOscillator;
+import io.github.dsheirer.dsp.oscillator.OscillatorFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that the vector AFSK tone correlator bank implementations match the scalar implementation and that the
+ * scalar bank matches the per-tone correlator that it replaced, with the sample history carried across buffers of
+ * varying length.
+ */
+public class AFSKToneCorrelatorBankTest
+{
+    private static final double[] TONES = {AFSK1200Decoder.MARK, AFSK1200Decoder.SPACE};
+    private static final int[] BUFFER_LENGTHS = {1000, 1000, 333, 1, 7, 64, 2047, 5, 1000};
+    private static final float TOLERANCE = 1E-4f;
+    private static final List<Function<double[],AFSKToneCorrelatorBank>> VECTOR_BANKS = List.of(
+        tones -> new AFSKToneCorrelatorBankVector64(AFSK1200Decoder.SAMPLE_RATE, tones,
+            AFSK1200Decoder.AVERAGING_PERIOD, AFSK1200Decoder.CORRELATION_PERIOD),
+        tones -> new AFSKToneCorrelatorBankVector128(AFSK1200Decoder.SAMPLE_RATE, tones,
+            AFSK1200Decoder.AVERAGING_PERIOD, AFSK1200Decoder.CORRELATION_PERIOD),
+        tones -> new AFSKToneCorrelatorBankVector256(AFSK1200Decoder.SAMPLE_RATE, tones,
+            AFSK1200Decoder.AVERAGING_PERIOD, AFSK1200Decoder.CORRELATION_PERIOD),
+        tones -> new AFSKToneCorrelatorBankVector512(AFSK1200Decoder.SAMPLE_RATE, tones,
+            AFSK1200Decoder.AVERAGING_PERIOD, AFSK1200Decoder.CORRELATION_PERIOD));
+
+    /**
+     * Test: each vector implementation correlates random samples in buffers of varying length against the 1200/1800
+     * Hz tone pair and against a set of three tones.
+     *
+     * Success: every correlation value for every tone matches the scalar implementation within float rounding
+     * tolerance.
+     */
+    @Test
+    void vectorMatchesScalar()
+    {
+        for(double[] tones: new double[][]{TONES, {1200.0, 1800.0, 2400.0}})
+        {
+            for(Function<double[],AFSKToneCorrelatorBank> factory: VECTOR_BANKS)
+            {
+                Random random = new Random(0xAF5CL);
+                AFSKToneCorrelatorBank scalar = getScalarBank(tones);
+                AFSKToneCorrelatorBank vector = factory.apply(tones);
+                String label = vector.getClass().getSimpleName() + " tones:" + tones.length;
+
+                for(int length: BUFFER_LENGTHS)
+                {
+                    float[] samples = randomSamples(random, length);
+                    float[][] expected = copy(scalar.process(samples));
+                    float[][] actual = vector.process(samples);
+
+                    for(int tone = 0; tone < tones.length; tone++)
+                    {
+                        assertValuesEqual(expected[tone], actual[tone], label + " tone:" + tone);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test: the scalar bank and a pair of the former per-tone correlators correlate the same random samples in buffers
+     * of varying length, where each buffer's correlation values depend on the final samples of the previous buffer.
+     *
+     * Success: the bank's correlation values for each tone match the per-tone correlator for that tone.
+     */
+    @Test
+    void matchesPerToneCorrelator()
+    {
+        Random random = new Random(0x1200L);
+        AFSKToneCorrelatorBank bank = getScalarBank(TONES);
+        Correlator mark = new Correlator(AFSK1200Decoder.MARK);
+        Correlator space = new Correlator(AFSK1200Decoder.SPACE);
+
+        for(int length: BUFFER_LENGTHS)
+        {
+            float[] samples = randomSamples(random, length);
+            float[][] actual = bank.process(samples);
+            assertValuesEqual(mark.process(samples), actual[0], "mark length:" + length);
+            assertValuesEqual(space.process(samples), actual[1], "space length:" + length);
+        }
+    }
+
+    private static AFSKToneCorrelatorBank getScalarBank(double[] tones)
+    {
+        return new AFSKToneCorrelatorBankScalar(AFSK1200Decoder.SAMPLE_RATE, tones, AFSK1200Decoder.AVERAGING_PERIOD,
+            AFSK1200Decoder.CORRELATION_PERIOD);
+    }
+
+    private static float[] randomSamples(Random random, int length)
+    {
+        float[] samples = new float[length];
+
+        for(int x = 0; x < length; x++)
+        {
+            samples[x] = random.nextFloat() * 2.0f - 1.0f;
+        }
+
+        return samples;
+    }
+
+    /**
+     * Copies the correlation values, since the bank reuses its correlation value arrays for each buffer
+     */
+    private static float[][] copy(float[][] values)
+    {
+        float[][] copy = new float[values.length][];
+
+        for(int x = 0; x < values.length; x++)
+        {
+            copy[x] = values[x].clone();
+        }
+
+        return copy;
+    }
+
+    private static void assertValuesEqual(float[] expected, float[] actual, String label)
+    {
+        assertEquals(expected.length, actual.length, label + " length");
+
+        for(int x = 0; x < expected.length; x++)
+        {
+            assertEquals(expected[x], actual[x], TOLERANCE, label + " index:" + x);
+        }
+    }
+
+    /**
+     * Per-tone correlator formerly used by the AFSK 1200 decoder, which shifts each sample into a correlation period
+     * length window and correlates the window against the tone's reference samples.
+     */
+    private static class Correlator
+    {
+        private final FloatAveragingBuffer mAveragingBuffer =
+            new FloatAveragingBuffer(AFSK1200Decoder.AVERAGING_PERIOD);
+        private final float[] mReferenceSamples;
+        private final float[] mDemodulatedSamples = new float[AFSK1200Decoder.CORRELATION_PERIOD];
+
+        Correlator(double frequency)
+        {
+            IRealOscillator oscillator = OscillatorFactory.getRealOscillator(frequency, AFSK1200Decoder.SAMPLE_RATE);
+            mReferenceSamples = oscillator.generate(AFSK1200Decoder.CORRELATION_PERIOD);
+        }
+
+        float[] process(float[] samples)
+        {
+            float[] correlationValues = new float[samples.length];
+
+            for(int x = 0; x < samples.length; x++)
+            {
+                System.arraycopy(mDemodulatedSamples, 1, mDemodulatedSamples, 0, mDemodulatedSamples.length - 1);
+                mDemodulatedSamples[mDemodulatedSamples.length - 1] = samples[x];
+
+                float accumulator = 0.0f;
+
+                for(int y = 0; y < mDemodulatedSamples.length; y++)
+                {
+                    accumulator += mDemodulatedSamples[y] * mReferenceSamples[y];
+                }
+
+                correlationValues[x] = mAveragingBuffer.get(Math.abs(accumulator));
+            }
+
+            return correlationValues;
+        }
+    }
+}
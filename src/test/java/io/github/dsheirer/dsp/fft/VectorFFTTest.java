@@ -0,0 +1,112 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.fft;
+
+import java.util.List;
+import java.util.Random;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the vector FFT produces the same forward and inverse transforms as the JTransforms FFT, within float
+ * rounding tolerance, for each vector species.  Sizes include the power-of-two spectral display sizes and the mixed
+ * power-of-two/odd factor channel counts that the polyphase channelizer uses for the common tuner sample rates.
+ */
+public class VectorFFTTest
+{
+    private static final int[] SIZES = {2, 4, 8, 64, 128, 1024, 4096, 6, 10, 96, 100, 120, 200, 240, 320, 400, 480,
+        800, 1600};
+    private static final List<VectorSpecies<Float>> SPECIES = List.of(FloatVector.SPECIES_64, FloatVector.SPECIES_128,
+        FloatVector.SPECIES_256, FloatVector.SPECIES_512);
+
+    /**
+     * Test: forward and scaled/unscaled inverse transforms of random samples match JTransforms.
+     *
+     * Success: every output value is within a tolerance that scales with the transform size.
+     */
+    @Test
+    void matchesJTransforms()
+    {
+        Random random = new Random(0xFF7L);
+
+        for(int size: SIZES)
+        {
+            JTransformsFFT reference = new JTransformsFFT(size);
+            //Rounding error accumulates with the number of terms summed into each output value
+            float tolerance = 2E-5f * size;
+
+            for(VectorSpecies<Float> species: SPECIES)
+            {
+                VectorFFT vector = new VectorFFT(size, species);
+                float[] samples = new float[size * 2];
+
+                for(int x = 0; x < samples.length; x++)
+                {
+                    samples[x] = random.nextFloat() * 2.0f - 1.0f;
+                }
+
+                float[] expected = samples.clone();
+                float[] actual = samples.clone();
+                reference.complexForward(expected);
+                vector.complexForward(actual);
+                assertArrayEquals(expected, actual, tolerance, "Forward size:" + size + " species:" + species);
+
+                reference.complexInverse(expected, false);
+                vector.complexInverse(actual, false);
+                assertArrayEquals(expected, actual, tolerance * size, "Inverse size:" + size + " species:" + species);
+
+                expected = samples.clone();
+                actual = samples.clone();
+                reference.complexInverse(expected, true);
+                vector.complexInverse(actual, true);
+                assertArrayEquals(expected, actual, tolerance / size, "Scaled inverse size:" + size + " species:" +
+                    species);
+            }
+        }
+    }
+
+    /**
+     * Test: supported sizes are even with an odd factor no larger than the maximum.
+     */
+    @Test
+    void supportedSizes()
+    {
+        assertTrue(VectorFFT.isSupported(96));
+        assertTrue(VectorFFT.isSupported(240));
+        assertTrue(VectorFFT.isSupported(400));
+        assertTrue(VectorFFT.isSupported(800));
+        assertTrue(VectorFFT.isSupported(1024));
+        assertFalse(VectorFFT.isSupported(1));
+        assertFalse(VectorFFT.isSupported(75));
+        assertFalse(VectorFFT.isSupported(102)); //2.56 MHz - odd factor 51
+    }
+
+    private static void assertArrayEquals(float[] expected, float[] actual, float tolerance, String message)
+    {
+        for(int x = 0; x < expected.length; x++)
+        {
+            assertEquals(expected[x], actual[x], tolerance, message + " index:" + x);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that a reusable {@link ChannelizerWorkerPool.StripedTask} runs every stripe exactly once per execution and
+ * only returns once all worker stripes are complete.
+ */
+public class ChannelizerWorkerPoolTest
+{
+    private static final int EXECUTIONS = 10_000;
+
+    /**
+     * Test: each execution of a reused striped task runs every stripe once, and all stripes of an execution complete
+     * before execute() returns.
+     */
+    @Test
+    void reusedTaskRunsEveryStripe()
+    {
+        for(int workers = 1; workers <= 4; workers++)
+        {
+            ChannelizerWorkerPool pool = new ChannelizerWorkerPool(workers);
+            AtomicInteger completed = new AtomicInteger();
+            CountingStripe[] stripes = new CountingStripe[workers];
+
+            for(int x = 0; x < stripes.length; x++)
+            {
+                stripes[x] = new CountingStripe(completed);
+            }
+
+            ChannelizerWorkerPool.StripedTask<CountingStripe> task = pool.createTask(stripes);
+
+            try
+            {
+                for(int x = 1; x <= EXECUTIONS; x++)
+                {
+                    task.execute();
+                    assertEquals(x * workers, completed.get(), "Stripes incomplete when execute() returned");
+                }
+
+                for(CountingStripe stripe: task.getStripes())
+                {
+                    assertEquals(EXECUTIONS, stripe.getCount(), "Stripe run count");
+                }
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Stripe that counts its own executions and the executions of all stripes.
+     */
+    private static class CountingStripe implements Runnable
+    {
+        private final AtomicInteger mCompleted;
+        private int mCount;
+
+        CountingStripe(AtomicInteger completed)
+        {
+            mCompleted = completed;
+        }
+
+        int getCount()
+        {
+            return mCount;
+        }
+
+        @Override
+        public void run()
+        {
+            mCount++;
+            mCompleted.incrementAndGet();
+        }
+    }
+}
@@ -19,6 +19,12 @@
 
 package io.github.dsheirer.dsp.filter.channelizer;
 
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulator;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorScalar;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector128;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector256;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector512;
+import io.github.dsheirer.dsp.filter.channelizer.accumulator.PolyphaseFilterAccumulatorVector64;
 import java.util.Arrays;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
@@ -86,6 +92,46 @@ public class ComplexPolyphaseChannelizerM2Test
         }
     }
 
+    /**
+     * Test: for every channel count and input distribution, each scalar and vector filter accumulator implementation
+     * must produce output that is bit-for-bit identical to the fused multiply-accumulate reference.  The smaller channel
+     * counts are not a multiple of the wider vector lengths and exercise the scalar tail handling.
+     *
+     * Success: zero differing output values across all implementations, configurations, and input distributions.
+     */
+    @Test
+    void filterAccumulatorsMatchReference()
+    {
+        Random rng = new Random(0xBEEFL);
+
+        PolyphaseFilterAccumulator[] accumulators = {new PolyphaseFilterAccumulatorScalar(),
+            new PolyphaseFilterAccumulatorVector64(), new PolyphaseFilterAccumulatorVector128(),
+            new PolyphaseFilterAccumulatorVector256(), new PolyphaseFilterAccumulatorVector512()};
+
+        int[] channelCounts = {2, 4, 6, 8, 40, 96, 128, 244, 400};
+
+        for(int channelCount : channelCounts)
+        {
+            Harness harness = new Harness(channelCount, TAPS_PER_CHANNEL, rng);
+
+            for(int mode = 0; mode < 4; mode++)
+            {
+                for(int iteration = 0; iteration < 100; iteration++)
+                {
+                    harness.randomizeSamples(rng, mode);
+
+                    float[] reference = harness.processFused(true);
+
+                    for(PolyphaseFilterAccumulator accumulator : accumulators)
+                    {
+                        float[] accumulated = harness.processAccumulator(accumulator, true);
+                        assertBitIdentical(reference, accumulated, channelCount, mode, iteration);
+                    }
+                }
+            }
+        }
+    }
+
     private static void assertBitIdentical(float[] reference, float[] fused, int channelCount, int mode, int iteration)
     {
         assertEquals(reference.length, fused.length,
@@ -177,6 +223,14 @@ public class ComplexPolyphaseChannelizerM2Test
             return reorder(accumulator, topBlock);
         }
 
+        //Calibrated: multiply-accumulate using one of the scalar or vector filter accumulator implementations.
+        private float[] processAccumulator(PolyphaseFilterAccumulator filterAccumulator, boolean topBlock)
+        {
+            float[] accumulator = new float[mSubChannelCount];
+            filterAccumulator.accumulate(mInlineSamples, mInlineFilter, accumulator, mSubChannelCount, mTapsPerChannel);
+            return reorder(accumulator, topBlock);
+        }
+
         private float[] reorder(float[] accumulator, boolean topBlock)
         {
             float[] processed = new float[mSubChannelCount];
@@ -0,0 +1,276 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.decimate.DecimationFilterFactory;
+import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
+import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
+import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that the vector complex decimating filter implementations match the scalar implementation, that the fused
+ * filter matches the baseband and pulse shaping filters applied in series followed by decimation, and that the fused
+ * P25 Phase 1 C4FM filter has the same frequency response as the former half-band decimation, baseband and pulse
+ * shaping filter cascade.
+ */
+public class ComplexDecimatingFilterTest
+{
+    private static final double SAMPLE_RATE = 50000.0;
+    private static final double SYMBOL_RATE = 4800.0;
+    private static final int[] BUFFER_LENGTHS = {2048, 1000, 333, 2048, 1, 2047};
+    private static final List<BiFunction<float[],Integer,ComplexDecimatingFilter>> VECTOR_FILTERS = List.of(
+        VectorComplexDecimatingFilter64Bit::new, VectorComplexDecimatingFilter128Bit::new,
+        VectorComplexDecimatingFilter256Bit::new, VectorComplexDecimatingFilter512Bit::new);
+
+    /**
+     * Test: each vector implementation filters random samples in buffers of varying length for a range of filter
+     * lengths and decimation factors.
+     *
+     * Success: every output sample matches the scalar implementation within float rounding tolerance.
+     */
+    @Test
+    void vectorMatchesScalar()
+    {
+        Random random = new Random(0xD1CEL);
+
+        for(int tapCount: new int[]{1, 7, 16, 83, 166})
+        {
+            float[] taps = randomSamples(random, tapCount);
+
+            for(int decimation = 1; decimation <= 4; decimation++)
+            {
+                for(BiFunction<float[],Integer,ComplexDecimatingFilter> factory: VECTOR_FILTERS)
+                {
+                    ComplexDecimatingFilter scalar = new ScalarComplexDecimatingFilter(taps, decimation);
+                    ComplexDecimatingFilter vector = factory.apply(taps, decimation);
+                    String label = vector.getClass().getSimpleName() + " taps:" + tapCount + " decimation:" +
+                        decimation;
+
+                    for(int length: BUFFER_LENGTHS)
+                    {
+                        float[] i = randomSamples(random, length);
+                        float[] q = randomSamples(random, length);
+                        ComplexSamples expected = copy(scalar.filter(i, q, 0));
+                        ComplexSamples actual = vector.filter(i, q, 0);
+                        assertSamplesEqual(expected, actual, 1E-4f * tapCount, label);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test: the fused filter, designed by convolving the baseband and pulse shaping filters at the input sample rate,
+     * against the baseband and pulse shaping filters applied in series at the input sample rate followed by keeping
+     * every decimation-th sample.
+     *
+     * Success: every output sample matches within float rounding tolerance.
+     */
+    @Test
+    void matchesFilterCascadeThenDecimate()
+    {
+        Random random = new Random(0xCA5CL);
+        float[] baseband = getBasebandFilter(SAMPLE_RATE);
+        float[] pulseShaping = FilterFactory.getRootRaisedCosine(SAMPLE_RATE / SYMBOL_RATE, 16, 0.2f);
+        int decimation = 2;
+
+        ComplexDecimatingFilter fused = new ScalarComplexDecimatingFilter(FilterFactory.convolve(baseband,
+            pulseShaping), decimation);
+        //Note: the real filter reverses the coefficients array that it is given
+        RealFIRFilter basebandI = new RealFIRFilter(baseband.clone());
+        RealFIRFilter basebandQ = new RealFIRFilter(baseband.clone());
+        RealFIRFilter pulseShapingI = new RealFIRFilter(pulseShaping.clone());
+        RealFIRFilter pulseShapingQ = new RealFIRFilter(pulseShaping.clone());
+
+        int inputIndex = 0;
+
+        for(int length: BUFFER_LENGTHS)
+        {
+            float[] i = randomSamples(random, length);
+            float[] q = randomSamples(random, length);
+            float[] cascadeI = pulseShapingI.filter(basebandI.filter(i));
+            float[] cascadeQ = pulseShapingQ.filter(basebandQ.filter(q));
+            ComplexSamples actual = fused.filter(i, q, 0);
+
+            //Output samples are aligned to input samples 0, D, 2D, ... across buffers
+            int first = (decimation - (inputIndex % decimation)) % decimation;
+            int count = 0;
+
+            for(int x = first; x < length; x += decimation)
+            {
+                assertEquals(cascadeI[x], actual.i()[count], 1E-5f, "I at input sample " + (inputIndex + x));
+                assertEquals(cascadeQ[x], actual.q()[count], 1E-5f, "Q at input sample " + (inputIndex + x));
+                count++;
+            }
+
+            assertEquals(count, actual.i().length, "Output sample count");
+            inputIndex += length;
+        }
+    }
+
+    /**
+     * Test: P25 Phase 1 C4FM 50 kHz channel filtering with complex tones across the passband, transition band and
+     * stopband, comparing the fused filter to the former cascade of a half-band decimation filter followed by the
+     * baseband and pulse shaping filters designed at the decimated sample rate.
+     *
+     * Success: the gain of each tone, relative to the DC gain, matches between the two filter chains.
+     */
+    @Test
+    void matchesFormerDecoderFilterCascadeResponse()
+    {
+        int decimation = 2;
+        double decimatedRate = SAMPLE_RATE / decimation;
+        float[] fusedTaps = FilterFactory.convolve(getBasebandFilter(SAMPLE_RATE),
+            FilterFactory.getRootRaisedCosine(SAMPLE_RATE / SYMBOL_RATE, 16, 0.2f));
+        float[] basebandTaps = getBasebandFilter(decimatedRate);
+        float[] pulseShapingTaps = FilterFactory.getRootRaisedCosine(decimatedRate / SYMBOL_RATE, 16, 0.2f);
+
+        double fusedDcGain = 0;
+        double cascadeDcGain = 0;
+
+        for(double frequency: new double[]{0, 500, 1000, 1500, 2000, 2400, 2800, 3500, 5000, 8000, 11000})
+        {
+            ComplexDecimatingFilter fused = ComplexDecimatingFilterFactory.getFilter(fusedTaps, decimation);
+            IRealDecimationFilter decimationI = DecimationFilterFactory.getRealDecimationFilter(decimation);
+            IRealDecimationFilter decimationQ = DecimationFilterFactory.getRealDecimationFilter(decimation);
+            RealFIRFilter basebandI = new RealFIRFilter(basebandTaps.clone());
+            RealFIRFilter basebandQ = new RealFIRFilter(basebandTaps.clone());
+            RealFIRFilter pulseShapingI = new RealFIRFilter(pulseShapingTaps.clone());
+            RealFIRFilter pulseShapingQ = new RealFIRFilter(pulseShapingTaps.clone());
+
+            double fusedGain = 0;
+            double cascadeGain = 0;
+
+            //Let the filters settle and then measure the tone magnitude in the final buffer
+            for(int buffer = 0; buffer < 8; buffer++)
+            {
+                float[][] tone = getTone(frequency, buffer * 2048, 2048);
+                ComplexSamples fusedSamples = fused.filter(tone[0], tone[1], 0);
+                float[] cascadeI = pulseShapingI.filter(basebandI.filter(decimationI.decimateReal(tone[0])));
+                float[] cascadeQ = pulseShapingQ.filter(basebandQ.filter(decimationQ.decimateReal(tone[1])));
+                fusedGain = getMagnitude(fusedSamples.i(), fusedSamples.q());
+                cascadeGain = getMagnitude(cascadeI, cascadeQ);
+            }
+
+            if(frequency == 0)
+            {
+                fusedDcGain = fusedGain;
+                cascadeDcGain = cascadeGain;
+            }
+
+            assertEquals(cascadeGain / cascadeDcGain, fusedGain / fusedDcGain, 0.02,
+                "Relative gain at " + frequency + " Hz");
+        }
+    }
+
+    /**
+     * P25 Phase 1 C4FM decoder baseband filter design
+     */
+    private static float[] getBasebandFilter(double sampleRate)
+    {
+        FIRFilterSpecification specification = FIRFilterSpecification.lowPassBuilder()
+            .sampleRate(sampleRate)
+            .passBandCutoff(5200)
+            .passBandAmplitude(1.0).passBandRipple(0.01)
+            .stopBandAmplitude(0.0).stopBandStart(6500)
+            .stopBandRipple(0.01).build();
+
+        try
+        {
+            return FilterFactory.getTaps(specification);
+        }
+        catch(Exception e)
+        {
+            throw new IllegalStateException("Unable to design baseband filter", e);
+        }
+    }
+
+    /**
+     * Complex tone samples starting at the sample index
+     * @return I and Q sample arrays
+     */
+    private static float[][] getTone(double frequency, int start, int length)
+    {
+        float[][] tone = new float[2][length];
+
+        for(int x = 0; x < length; x++)
+        {
+            double angle = 2.0 * Math.PI * frequency * (start + x) / SAMPLE_RATE;
+            tone[0][x] = (float)Math.cos(angle);
+            tone[1][x] = (float)Math.sin(angle);
+        }
+
+        return tone;
+    }
+
+    /**
+     * Average magnitude of the complex samples
+     */
+    private static double getMagnitude(float[] i, float[] q)
+    {
+        double magnitude = 0;
+
+        for(int x = 0; x < i.length; x++)
+        {
+            magnitude += Math.sqrt(i[x] * i[x] + q[x] * q[x]);
+        }
+
+        return magnitude / i.length;
+    }
+
+    private static float[] randomSamples(Random random, int length)
+    {
+        float[] samples = new float[length];
+
+        for(int x = 0; x < length; x++)
+        {
+            samples[x] = random.nextFloat() * 2.0f - 1.0f;
+        }
+
+        return samples;
+    }
+
+    /**
+     * Copies the samples, since the filter reuses its output arrays
+     */
+    private static ComplexSamples copy(ComplexSamples samples)
+    {
+        return new ComplexSamples(samples.i().clone(), samples.q().clone(), samples.timestamp());
+    }
+
+    private static void assertSamplesEqual(ComplexSamples expected, ComplexSamples actual, float tolerance,
+                                           String label)
+    {
+        assertEquals(expected.i().length, actual.i().length, label + " output length");
+
+        for(int x = 0; x < expected.i().length; x++)
+        {
+            assertEquals(expected.i()[x], actual.i()[x], tolerance, label + " I[" + x + "]");
+            assertEquals(expected.q()[x], actual.q()[x], tolerance, label + " Q[" + x + "]");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.edac.trellis;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JUnit tests verifying that the table-driven trellis decoder produces the same output as the path-based Viterbi
+ * decoders.
+ */
+public class TrellisDecoderTest
+{
+    private static final int MESSAGE_LENGTH = 196;
+    private static final int ITERATIONS = 2000;
+
+    /**
+     * Creates an encoded message from random input values with a random number of bit errors.
+     */
+    private static CorrectedBinaryMessage encode(Random random, int[][] transitionMatrix, int maximumErrors)
+    {
+        CorrectedBinaryMessage message = new CorrectedBinaryMessage(MESSAGE_LENGTH);
+        int symbolCount = MESSAGE_LENGTH / 4;
+        int state = 0;
+
+        for(int x = 0; x < symbolCount; x++)
+        {
+            //Final symbol flushes the encoder with an input of zero
+            int input = x < symbolCount - 1 ? random.nextInt(transitionMatrix.length) : 0;
+            int symbol = transitionMatrix[state][input];
+            state = input;
+
+            for(int bit = 0; bit < 4; bit++)
+            {
+                if((symbol & (8 >> bit)) != 0)
+                {
+                    message.set(x * 4 + bit);
+                }
+            }
+        }
+
+        int errors = random.nextInt(maximumErrors + 1);
+
+        for(int x = 0; x < errors; x++)
+        {
+            message.flip(random.nextInt(MESSAGE_LENGTH));
+        }
+
+        return message;
+    }
+
+    private static void assertIdentical(CorrectedBinaryMessage expected, CorrectedBinaryMessage actual)
+    {
+        assertEquals(expected.size(), actual.size(), "Decoded message size");
+        assertEquals(expected.toString(), actual.toString(), "Decoded message");
+        assertEquals(expected.getCorrectedBitCount(), actual.getCorrectedBitCount(), "Corrected bit count");
+    }
+
+    @Test
+    void p25HalfRateMatchesPathDecoder()
+    {
+        Random random = new Random(1);
+        ViterbiDecoder_1_2_P25 decoder = new ViterbiDecoder_1_2_P25();
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            CorrectedBinaryMessage encoded = encode(random, P25_1_2_Node.TRANSITION_MATRIX, 40);
+            assertIdentical(decoder.decodeWithPaths(encoded), decoder.decode(encoded));
+        }
+    }
+
+    @Test
+    void p25ThreeQuarterRateMatchesPathDecoder()
+    {
+        Random random = new Random(2);
+        ViterbiDecoder_3_4_P25 decoder = new ViterbiDecoder_3_4_P25();
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            CorrectedBinaryMessage encoded = encode(random, P25_3_4_Node.TRANSITION_MATRIX, 40);
+            assertIdentical(decoder.decodeWithPaths(encoded), decoder.decode(encoded));
+        }
+    }
+
+    @Test
+    void dmrThreeQuarterRateMatchesPathDecoder()
+    {
+        Random random = new Random(3);
+        ViterbiDecoder_3_4_DMR decoder = new ViterbiDecoder_3_4_DMR();
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            //Interleaving only reorders the bits, so a random message exercises the same decode paths
+            CorrectedBinaryMessage encoded = encode(random, DMR_3_4_Node.DMR_TRANSITION_MATRIX, 40);
+            assertIdentical(decoder.decodeWithPaths(encoded), decoder.decode(encoded));
+        }
+    }
+
+    @Test
+    void uniformSoftDecisionWeightsMatchHardDecision()
+    {
+        Random random = new Random(4);
+        ViterbiDecoder_1_2_P25 decoder = new ViterbiDecoder_1_2_P25();
+        int[] weights = new int[MESSAGE_LENGTH];
+        Arrays.fill(weights, 3);
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            CorrectedBinaryMessage encoded = encode(random, P25_1_2_Node.TRANSITION_MATRIX, 40);
+            assertIdentical(decoder.decode(encoded), decoder.decode(encoded, weights));
+        }
+    }
+}
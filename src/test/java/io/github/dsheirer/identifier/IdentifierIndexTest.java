@@ -0,0 +1,260 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.identifier;
+
+import io.github.dsheirer.identifier.string.SimpleStringIdentifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies identifier index snapshot changes and that the class, form and role lookups match a linear scan of the
+ * identifiers in insertion order, for both indexed collections and collections too large to index.
+ */
+public class IdentifierIndexTest
+{
+    private static final IdentifierClass[] CLASSES = {IdentifierClass.USER, IdentifierClass.NETWORK,
+        IdentifierClass.DECODER};
+    private static final Form[] FORMS = {Form.TALKGROUP, Form.RADIO, Form.CHANNEL};
+    private static final Role[] ROLES = {Role.FROM, Role.TO, Role.ANY};
+
+    /**
+     * Test: identifiers are added to and removed from an index, including an identifier that is equal to, but not the
+     * same instance as, an identifier that is already in the index.
+     *
+     * Success: each change produces a new snapshot with the expected identifiers in insertion order, the original
+     * snapshot is unchanged, and changes that have no effect return the same snapshot.
+     */
+    @Test
+    void addRemoveContains()
+    {
+        Identifier a = identifier("A", IdentifierClass.USER, Form.TALKGROUP, Role.TO);
+        Identifier b = identifier("B", IdentifierClass.USER, Form.RADIO, Role.FROM);
+        Identifier c = identifier("C", IdentifierClass.NETWORK, Form.CHANNEL, Role.ANY);
+
+        IdentifierIndex empty = IdentifierIndex.EMPTY;
+        IdentifierIndex ab = empty.add(a).add(b);
+        IdentifierIndex abc = ab.add(c);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of(a, b), ab.getIdentifiers());
+        assertEquals(List.of(a, b, c), abc.getIdentifiers());
+        assertTrue(abc.contains(c));
+        assertFalse(ab.contains(c));
+        assertTrue(abc.contains(identifier("B", IdentifierClass.USER, Form.RADIO, Role.FROM)));
+        assertFalse(abc.contains(identifier("B", IdentifierClass.USER, Form.RADIO, Role.TO)));
+        assertFalse(abc.contains(null));
+
+        assertSame(abc, abc.add(identifier("A", IdentifierClass.USER, Form.TALKGROUP, Role.TO)));
+        assertSame(ab, ab.remove(c));
+
+        IdentifierIndex ac = abc.remove(b);
+        assertEquals(List.of(a, c), ac.getIdentifiers());
+        assertFalse(ac.contains(b));
+        assertEquals(List.of(), ac.getIdentifiers(Form.RADIO));
+        assertEquals(List.of(a, b, c), abc.getIdentifiers());
+
+        assertTrue(abc.remove(a).remove(b).remove(c).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> IdentifierIndex.of(Arrays.asList(a, null)),
+            "Null identifier");
+    }
+
+    /**
+     * Test: every class, form, role, class and role, and class and form lookup is performed twice on indexed
+     * collections of varying size with repeated class, form and role values.
+     *
+     * Success: each lookup matches a linear scan of the identifiers in insertion order and the repeated lookup returns
+     * the cached list.
+     */
+    @Test
+    void lookupsInInsertionOrder()
+    {
+        for(int size: new int[]{1, 5, 27, 63, 64})
+        {
+            List<Identifier> identifiers = identifiers(size);
+            IdentifierIndex index = IdentifierIndex.of(identifiers);
+            assertLookups(identifiers, index, true);
+        }
+    }
+
+    /**
+     * Test: lookups, contains and first match lookups on collections that are larger than the 64 identifiers that
+     * can be indexed.
+     *
+     * Success: each lookup matches a linear scan of the identifiers in insertion order.
+     */
+    @Test
+    void fallbackScanAboveIndexLimit()
+    {
+        for(int size: new int[]{65, 100})
+        {
+            List<Identifier> identifiers = identifiers(size);
+            IdentifierIndex index = IdentifierIndex.of(identifiers);
+            assertLookups(identifiers, index, false);
+
+            for(Identifier identifier: identifiers)
+            {
+                assertTrue(index.contains(identifier), "Size:" + size + " contains " + identifier);
+            }
+
+            IdentifierIndex removed = index.remove(identifiers.get(0));
+            assertFalse(removed.contains(identifiers.get(0)));
+            assertEquals(identifiers.subList(1, size), removed.getIdentifiers());
+        }
+    }
+
+    /**
+     * Test: first match lookups when several identifiers share the same class, form and role, in both indexed and
+     * scanned collections.
+     *
+     * Success: the first matching identifier in insertion order is returned, the next match is returned once the
+     * first is removed, and null is returned when nothing matches.
+     */
+    @Test
+    void getIdentifierReturnsFirstMatch()
+    {
+        for(int size: new int[]{9, 64, 100})
+        {
+            List<Identifier> identifiers = identifiers(size);
+            IdentifierIndex index = IdentifierIndex.of(identifiers);
+
+            for(IdentifierClass identifierClass: CLASSES)
+            {
+                for(Form form: FORMS)
+                {
+                    for(Role role: ROLES)
+                    {
+                        List<Identifier> matches = scan(identifiers, identifier ->
+                            identifier.getIdentifierClass() == identifierClass && identifier.getForm() == form &&
+                            identifier.getRole() == role);
+                        String label = "Size:" + size + " " + identifierClass + "/" + form + "/" + role;
+
+                        if(matches.isEmpty())
+                        {
+                            assertNull(index.getIdentifier(identifierClass, form, role), label);
+                        }
+                        else
+                        {
+                            assertSame(matches.get(0), index.getIdentifier(identifierClass, form, role), label);
+                            Identifier next = matches.size() > 1 ? matches.get(1) : null;
+                            assertSame(next, index.remove(matches.get(0)).getIdentifier(identifierClass, form, role),
+                                label + " after removing first");
+                        }
+                    }
+                }
+            }
+
+            assertNull(index.getIdentifier(IdentifierClass.CONFIGURATION, Form.TALKGROUP, Role.TO));
+        }
+    }
+
+    /**
+     * Asserts that every lookup on the index matches a linear scan of the identifiers.
+     * @param cached true to also assert that repeated lookups return the cached list
+     */
+    private static void assertLookups(List<Identifier> identifiers, IdentifierIndex index, boolean cached)
+    {
+        String size = "Size:" + identifiers.size() + " ";
+        assertEquals(identifiers, index.getIdentifiers(), size + "all");
+
+        for(IdentifierClass identifierClass: IdentifierClass.values())
+        {
+            List<Identifier> expected = scan(identifiers, id -> id.getIdentifierClass() == identifierClass);
+            assertLookup(expected, index.getIdentifiers(identifierClass), index.getIdentifiers(identifierClass),
+                cached, size + identifierClass);
+
+            for(Role role: Role.values())
+            {
+                expected = scan(identifiers, id -> id.getIdentifierClass() == identifierClass && id.getRole() == role);
+                assertLookup(expected, index.getIdentifiers(identifierClass, role),
+                    index.getIdentifiers(identifierClass, role), cached, size + identifierClass + "/" + role);
+            }
+
+            for(Form form: FORMS)
+            {
+                expected = scan(identifiers, id -> id.getIdentifierClass() == identifierClass && id.getForm() == form);
+                assertLookup(expected, index.getIdentifiers(identifierClass, form),
+                    index.getIdentifiers(identifierClass, form), cached, size + identifierClass + "/" + form);
+            }
+        }
+
+        for(Form form: Form.values())
+        {
+            List<Identifier> expected = scan(identifiers, id -> id.getForm() == form);
+            assertLookup(expected, index.getIdentifiers(form), index.getIdentifiers(form), cached, size + form);
+        }
+
+        for(Role role: Role.values())
+        {
+            List<Identifier> expected = scan(identifiers, id -> id.getRole() == role);
+            assertLookup(expected, index.getIdentifiers(role), index.getIdentifiers(role), cached, size + role);
+        }
+    }
+
+    private static void assertLookup(List<Identifier> expected, List<Identifier> actual, List<Identifier> repeated,
+                                     boolean cached, String label)
+    {
+        assertEquals(expected, actual, label);
+
+        if(cached)
+        {
+            assertSame(actual, repeated, label + " cached");
+        }
+        else
+        {
+            assertEquals(expected, repeated, label + " repeated");
+        }
+    }
+
+    private static List<Identifier> scan(List<Identifier> identifiers, Predicate<Identifier> predicate)
+    {
+        return identifiers.stream().filter(predicate).toList();
+    }
+
+    /**
+     * Creates unique identifiers that cycle through the class, form and role values at different rates, so that
+     * every combination repeats several times across larger collections.
+     */
+    private static List<Identifier> identifiers(int count)
+    {
+        List<Identifier> identifiers = new ArrayList<>();
+
+        for(int x = 0; x < count; x++)
+        {
+            identifiers.add(identifier("ID" + x, CLASSES[x % CLASSES.length], FORMS[(x / 2) % FORMS.length],
+                ROLES[(x / 5) % ROLES.length]));
+        }
+
+        return identifiers;
+    }
+
+    private static Identifier identifier(String value, IdentifierClass identifierClass, Form form, Role role)
+    {
+        return new SimpleStringIdentifier(value, identifierClass, form, role);
+    }
+}
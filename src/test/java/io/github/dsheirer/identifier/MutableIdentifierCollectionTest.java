@@ -0,0 +1,129 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.identifier;
+
+import io.github.dsheirer.identifier.string.SimpleStringIdentifier;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies mutable identifier collection updates, removals, change notifications and copies.
+ */
+public class MutableIdentifierCollectionTest
+{
+    private static final Identifier TALKGROUP = identifier("100", Form.TALKGROUP, Role.TO);
+    private static final Identifier RADIO = identifier("200", Form.RADIO, Role.FROM);
+    private static final Identifier CHANNEL = identifier("C1", Form.CHANNEL, Role.ANY);
+
+    /**
+     * Test: identifiers are updated and removed, including an update that replaces the existing identifier with the
+     * same class, form and role and an update with an identifier that is already in the collection.
+     *
+     * Success: the collection holds the expected identifiers in insertion order and a listener is notified of each
+     * change, and only of actual changes.
+     */
+    @Test
+    void updateAndRemove()
+    {
+        MutableIdentifierCollection collection = new MutableIdentifierCollection(1);
+        List<IdentifierUpdateNotification> notifications = new ArrayList<>();
+        collection.setIdentifierUpdateListener(notifications::add);
+
+        collection.update(TALKGROUP);
+        collection.update(RADIO);
+        collection.update(CHANNEL);
+        collection.update(identifier("100", Form.TALKGROUP, Role.TO));
+        assertEquals(List.of(TALKGROUP, RADIO, CHANNEL), collection.getIdentifiers());
+        assertEquals(3, notifications.size());
+
+        Identifier replacement = identifier("300", Form.RADIO, Role.FROM);
+        collection.update(replacement);
+        assertEquals(List.of(TALKGROUP, CHANNEL, replacement), collection.getIdentifiers());
+        assertSame(replacement, collection.getFromIdentifier());
+        assertTrue(notifications.get(3).isRemove());
+        assertSame(RADIO, notifications.get(3).getIdentifier());
+        assertTrue(notifications.get(4).isAdd());
+        assertEquals(1, notifications.get(4).getTimeslot());
+
+        collection.remove(Form.CHANNEL);
+        collection.remove(RADIO);
+        assertEquals(List.of(TALKGROUP, replacement), collection.getIdentifiers());
+        assertFalse(collection.hasIdentifier(CHANNEL));
+        assertEquals(6, notifications.size());
+
+        collection.remove(IdentifierClass.USER, Role.TO);
+        assertEquals(List.of(replacement), collection.getIdentifiers());
+        assertNull(collection.getToIdentifier());
+    }
+
+    /**
+     * Test: a copy of a collection is created and the collection is then changed.
+     *
+     * Success: the copy shares the collection's identifier snapshot and timeslot when created, and is unaffected by
+     * later changes to the collection.
+     */
+    @Test
+    void copyOfSharesSnapshotAndKeepsTimeslot()
+    {
+        MutableIdentifierCollection collection = new MutableIdentifierCollection(List.of(TALKGROUP, RADIO), 1);
+        IdentifierCollection copy = collection.copyOf();
+
+        assertEquals(1, copy.getTimeslot());
+        assertSame(collection.getIdentifiers(), copy.getIdentifiers());
+        assertSame(collection.getIdentifiers(Form.RADIO), copy.getIdentifiers(Form.RADIO));
+
+        collection.update(CHANNEL);
+        collection.remove(TALKGROUP);
+        assertEquals(List.of(RADIO, CHANNEL), collection.getIdentifiers());
+        assertEquals(List.of(TALKGROUP, RADIO), copy.getIdentifiers());
+        assertTrue(copy.hasIdentifier(TALKGROUP));
+        assertFalse(copy.hasIdentifier(CHANNEL));
+    }
+
+    /**
+     * Test: first match lookup in a collection constructed with several identifiers that have the same class, form
+     * and role.
+     *
+     * Success: the first of the matching identifiers in insertion order is returned.
+     */
+    @Test
+    void getIdentifierReturnsFirstMatch()
+    {
+        Identifier first = identifier("101", Form.TALKGROUP, Role.TO);
+        Identifier second = identifier("102", Form.TALKGROUP, Role.TO);
+        IdentifierCollection collection = new IdentifierCollection(List.of(RADIO, first, CHANNEL, second));
+
+        assertSame(first, collection.getIdentifier(IdentifierClass.USER, Form.TALKGROUP, Role.TO));
+        assertSame(first, collection.getToIdentifier());
+        assertEquals(List.of(first, second), collection.getIdentifiers(IdentifierClass.USER, Form.TALKGROUP));
+        assertNull(collection.getIdentifier(IdentifierClass.USER, Form.TALKGROUP, Role.FROM));
+    }
+
+    private static Identifier identifier(String value, Form form, Role role)
+    {
+        return new SimpleStringIdentifier(value, IdentifierClass.USER, form, role);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.module.log.archive;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.protocol.Protocol;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Writes message archives with the message archive writer and reads them back with the message archive reader.
+ */
+public class MessageArchiveTest
+{
+    private static final long FREQUENCY = 851012500;
+    private static final String CHANNEL = "Control";
+    private static final Protocol[] PROTOCOLS = {Protocol.APCO25, Protocol.DMR, Protocol.NXDN};
+
+    @TempDir
+    Path mDirectory;
+
+    /**
+     * Test: archive enough records to span several blocks and read them back.
+     *
+     * Success: the reader returns every record with the same timestamp, protocol, timeslot, flags, context, corrected
+     * bit count and message bits, and the time range query only returns the records in range.
+     */
+    @Test
+    void roundTrip() throws IOException
+    {
+        List<MessageArchiveRecord> records = createRecords(2500, new Random(0x1234L));
+        MessageArchiveWriter writer = new MessageArchiveWriter(mDirectory, "test", FREQUENCY, CHANNEL,
+            Long.MAX_VALUE, Long.MAX_VALUE);
+
+        for(MessageArchiveRecord record: records)
+        {
+            writer.write(record);
+        }
+
+        writer.close();
+        assertEquals(records.size(), writer.getRecordCount(), "Archived record count");
+
+        try(MessageArchiveReader reader = new MessageArchiveReader(writer.getCurrentPath()))
+        {
+            assertEquals(FREQUENCY, reader.getFrequency(), "Frequency");
+            assertEquals(CHANNEL, reader.getChannel(), "Channel");
+
+            List<MessageArchiveRecord> actual = new ArrayList<>();
+            int count = reader.read(Long.MIN_VALUE, Long.MAX_VALUE, null, actual::add);
+            assertEquals(records.size(), count, "Read record count");
+
+            for(int x = 0; x < records.size(); x++)
+            {
+                assertRecordEquals(records.get(x), actual.get(x));
+            }
+
+            long start = records.get(1000).getTimestamp();
+            long end = records.get(1999).getTimestamp();
+            List<MessageArchiveRecord> range = new ArrayList<>();
+            reader.read(start, end, null, range::add);
+            assertEquals(1000, range.size(), "Time range record count");
+            assertRecordEquals(records.get(1000), range.get(0));
+            assertRecordEquals(records.get(1999), range.get(range.size() - 1));
+        }
+    }
+
+    /**
+     * Test: the periodic expired block flush writes a partially filled block while the writer remains open.
+     *
+     * Success: no file exists before the flush and the reader can read the partial block after the flush.
+     */
+    @Test
+    void partialBlockFlush() throws IOException
+    {
+        List<MessageArchiveRecord> records = createRecords(10, new Random(0x5678L));
+        MessageArchiveWriter writer = new MessageArchiveWriter(mDirectory, "partial", FREQUENCY, CHANNEL,
+            Long.MAX_VALUE, Long.MAX_VALUE);
+
+        for(MessageArchiveRecord record: records)
+        {
+            writer.write(record);
+        }
+
+        writer.flushExpiredBlock();
+        assertNull(writer.getCurrentPath(), "Block written before reaching the maximum block age");
+
+        writer.flushIfOlderThan(0);
+        assertNotNull(writer.getCurrentPath(), "Block not written");
+
+        try(MessageArchiveReader reader = new MessageArchiveReader(writer.getCurrentPath()))
+        {
+            List<MessageArchiveRecord> actual = new ArrayList<>();
+            reader.read(Long.MIN_VALUE, Long.MAX_VALUE, null, actual::add);
+            assertEquals(records.size(), actual.size(), "Read record count");
+
+            for(int x = 0; x < records.size(); x++)
+            {
+                assertRecordEquals(records.get(x), actual.get(x));
+            }
+        }
+
+        writer.close();
+    }
+
+    /**
+     * Creates records with increasing timestamps and random message content and lengths.
+     */
+    private static List<MessageArchiveRecord> createRecords(int count, Random random)
+    {
+        List<MessageArchiveRecord> records = new ArrayList<>();
+        long timestamp = 1700000000000L;
+
+        for(int x = 0; x < count; x++)
+        {
+            int length = 1 + random.nextInt(400);
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(length);
+
+            for(int bit = 0; bit < length; bit++)
+            {
+                if(random.nextBoolean())
+                {
+                    message.set(bit);
+                }
+            }
+
+            message.setCorrectedBitCount(random.nextInt(8));
+            timestamp += 1 + random.nextInt(50);
+            records.add(new MessageArchiveRecord(timestamp, PROTOCOLS[x % PROTOCOLS.length], random.nextInt(2),
+                random.nextBoolean(), random.nextInt(), FREQUENCY, CHANNEL, message));
+        }
+
+        return records;
+    }
+
+    private static void assertRecordEquals(MessageArchiveRecord expected, MessageArchiveRecord actual)
+    {
+        assertEquals(expected.getTimestamp(), actual.getTimestamp(), "Timestamp");
+        assertEquals(expected.getProtocol(), actual.getProtocol(), "Protocol");
+        assertEquals(expected.getTimeslot(), actual.getTimeslot(), "Timeslot");
+        assertEquals(expected.isValid(), actual.isValid(), "Valid");
+        assertEquals(expected.getContext(), actual.getContext(), "Context");
+        assertEquals(expected.getMessage().size(), actual.getMessage().size(), "Message length");
+        assertEquals(expected.getMessage().getCorrectedBitCount(), actual.getMessage().getCorrectedBitCount(),
+            "Corrected bit count");
+        assertEquals(expected.getMessage(), actual.getMessage(), "Message bits");
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2026 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.source.wave;
+
+import io.github.dsheirer.buffer.INativeBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies wave header parsing and the closing of the mapping by {@link MappedComplexWaveReader}.
+ */
+public class MappedComplexWaveReaderTest
+{
+    private static final int SAMPLE_RATE = 48000;
+    private static final int FRAMES = 100;
+
+    /**
+     * Test: a standard 16 byte PCM format chunk is parsed.
+     */
+    @Test
+    void pcmFormatChunk() throws IOException
+    {
+        assertReadable(createWave(1, 16, 1));
+    }
+
+    /**
+     * Test: a PCM format chunk with the 2 byte extension size field is skipped using the chunk length.
+     */
+    @Test
+    void pcmFormatChunkWithExtension() throws IOException
+    {
+        assertReadable(createWave(1, 18, 1));
+    }
+
+    /**
+     * Test: a 40 byte WAVE_FORMAT_EXTENSIBLE format chunk with a PCM sub-format is parsed.
+     */
+    @Test
+    void extensibleFormatChunk() throws IOException
+    {
+        assertReadable(createWave(0xFFFE, 40, 1));
+    }
+
+    /**
+     * Test: a WAVE_FORMAT_EXTENSIBLE format chunk with a non-PCM sub-format (IEEE float) is rejected.
+     */
+    @Test
+    void extensibleFormatChunkNonPcm() throws IOException
+    {
+        File file = createWave(0xFFFE, 40, 3);
+
+        try
+        {
+            assertFalse(MappedComplexWaveReader.isSupported(file), "Non-PCM sub-format should not be supported");
+        }
+        finally
+        {
+            Files.delete(file.toPath());
+        }
+    }
+
+    /**
+     * Test: reads after close fail and buffers read before close are no longer accessible.
+     */
+    @Test
+    void closeReleasesMapping() throws IOException
+    {
+        File file = createWave(1, 16, 1);
+
+        try
+        {
+            MappedComplexWaveReader reader = new MappedComplexWaveReader(file);
+            INativeBuffer buffer = reader.read(10, 0);
+            reader.close();
+
+            assertThrows(IOException.class, () -> reader.read(10, 0), "Read after close");
+            assertThrows(IllegalStateException.class, () -> buffer.iterator().next(), "Buffer access after close");
+        }
+        finally
+        {
+            //Succeeds on all platforms only when the mapping has been released
+            Files.delete(file.toPath());
+        }
+    }
+
+    /**
+     * Asserts that the file is supported, parsed with the expected sample rate and frame count, and fully readable.
+     */
+    private static void assertReadable(File file) throws IOException
+    {
+        try
+        {
+            assertTrue(MappedComplexWaveReader.isSupported(file), "Wave file should be supported");
+
+            MappedComplexWaveReader reader = new MappedComplexWaveReader(file);
+
+            try
+            {
+                assertEquals((float)SAMPLE_RATE, reader.getSampleRate(), "Sample rate");
+                assertEquals(FRAMES, reader.getFrameCount(), "Frame count");
+
+                INativeBuffer buffer = reader.read(FRAMES + 10, 0);
+                assertEquals(FRAMES, buffer.sampleCount(), "Frames read");
+                assertNull(reader.read(1, 0), "End of recording");
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        finally
+        {
+            Files.delete(file.toPath());
+        }
+    }
+
+    /**
+     * Creates a temporary 2-channel 16-bit wave file with a format chunk of the specified length.
+     * @param audioFormat for the format chunk
+     * @param formatLength of the format chunk, 16, 18 or 40
+     * @param subFormat for the sub-format GUID of an extensible format chunk
+     * @return file
+     */
+    private static File createWave(int audioFormat, int formatLength, int subFormat) throws IOException
+    {
+        int dataLength = FRAMES * 4;
+        ByteBuffer buffer = ByteBuffer.allocate(12 + 8 + formatLength + 8 + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(buffer.capacity() - 8).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(formatLength);
+        buffer.putShort((short)audioFormat).putShort((short)2).putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 4);
+        buffer.putShort((short)4).putShort((short)16);
+
+        if(formatLength >= 18)
+        {
+            buffer.putShort((short)(formatLength - 18));
+        }
+
+        if(formatLength == 40)
+        {
+            //Valid bits per sample, channel mask and the sub-format GUID
+            buffer.putShort((short)16).putInt(3).putShort((short)subFormat);
+            buffer.put(new byte[14]);
+        }
+
+        buffer.put("data".getBytes()).putInt(dataLength);
+
+        for(int x = 0; x < FRAMES * 2; x++)
+        {
+            buffer.putShort((short)x);
+        }
+
+        File file = File.createTempFile("mapped_wave_test", ".wav");
+        Files.write(file.toPath(), buffer.array());
+        return file;
+    }
+}